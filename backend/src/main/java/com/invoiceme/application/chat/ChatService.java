@@ -1,10 +1,13 @@
 package com.invoiceme.application.chat;
 
+import com.invoiceme.application.customers.GetCustomerSummary.CustomerSummaryDto;
+import com.invoiceme.application.customers.GetCustomerSummary.GetCustomerSummaryHandler;
 import com.invoiceme.domain.invoice.Invoice;
 import com.invoiceme.domain.invoice.InvoiceStatus;
 import com.invoiceme.domain.payment.Payment;
 import com.invoiceme.infrastructure.persistence.CustomerRepository;
 import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceSummaryView;
 import com.invoiceme.infrastructure.persistence.PaymentRepository;
 import org.springframework.stereotype.Service;
 
@@ -28,11 +31,14 @@ public class ChatService {
     private final InvoiceRepository invoiceRepository;
     private final CustomerRepository customerRepository;
     private final PaymentRepository paymentRepository;
+    private final GetCustomerSummaryHandler getCustomerSummaryHandler;
 
-    public ChatService(InvoiceRepository invoiceRepository, CustomerRepository customerRepository, PaymentRepository paymentRepository) {
+    public ChatService(InvoiceRepository invoiceRepository, CustomerRepository customerRepository, PaymentRepository paymentRepository,
+                       GetCustomerSummaryHandler getCustomerSummaryHandler) {
         this.invoiceRepository = invoiceRepository;
         this.customerRepository = customerRepository;
         this.paymentRepository = paymentRepository;
+        this.getCustomerSummaryHandler = getCustomerSummaryHandler;
     }
 
     /**
@@ -118,12 +124,10 @@ public class ChatService {
      */
     private ChatMessageResponse handleOverdueInvoicesQuery(ChatMessageResponse response) {
         LocalDate today = LocalDate.now();
-        List<Invoice> overdueInvoices = invoiceRepository.findByStatusAndDueDateBefore(
-            InvoiceStatus.SENT, today
-        );
+        List<InvoiceSummaryView> overdueInvoices = invoiceRepository.findOverdueSummaries(today);
 
         BigDecimal totalOverdue = overdueInvoices.stream()
-            .map(Invoice::getBalanceRemaining)
+            .map(InvoiceSummaryView::getBalanceRemaining)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         String message;
@@ -139,7 +143,7 @@ public class ChatService {
 
             if (overdueInvoices.size() <= 5) {
                 message += "\n\nOverdue invoices:";
-                for (Invoice invoice : overdueInvoices) {
+                for (InvoiceSummaryView invoice : overdueInvoices) {
                     long daysOverdue = java.time.temporal.ChronoUnit.DAYS.between(invoice.getDueDate(), today);
                     message += String.format(
                         "\n- %s: $%.2f (Due: %s, %d days overdue)",
@@ -166,7 +170,7 @@ public class ChatService {
      * Handle queries about revenue.
      */
     private ChatMessageResponse handleRevenueQuery(String message, ChatMessageResponse response) {
-        List<Invoice> allInvoices = invoiceRepository.findAll();
+        List<InvoiceSummaryView> allInvoices = invoiceRepository.findAllSummaries();
 
         // Check if query is for specific time period
         boolean isThisMonth = message.contains("this month") || message.contains("current month");
@@ -178,7 +182,7 @@ public class ChatService {
 
         if (isThisMonth) {
             YearMonth currentMonth = YearMonth.now();
-            for (Invoice invoice : allInvoices) {
+            for (InvoiceSummaryView invoice : allInvoices) {
                 if (invoice.getStatus() == InvoiceStatus.PAID &&
                     invoice.getPaidAt() != null &&
                     YearMonth.from(invoice.getPaidAt()).equals(currentMonth)) {
@@ -189,7 +193,7 @@ public class ChatService {
             period = " this month";
         } else if (isThisYear) {
             int currentYear = LocalDate.now().getYear();
-            for (Invoice invoice : allInvoices) {
+            for (InvoiceSummaryView invoice : allInvoices) {
                 if (invoice.getStatus() == InvoiceStatus.PAID &&
                     invoice.getPaidAt() != null &&
                     invoice.getPaidAt().getYear() == currentYear) {
@@ -200,7 +204,7 @@ public class ChatService {
             period = " this year";
         } else {
             // Total revenue (all time)
-            for (Invoice invoice : allInvoices) {
+            for (InvoiceSummaryView invoice : allInvoices) {
                 if (invoice.getStatus() == InvoiceStatus.PAID) {
                     totalRevenue = totalRevenue.add(invoice.getTotalAmount());
                     invoiceCount++;
@@ -231,7 +235,7 @@ public class ChatService {
      * Handle queries about draft invoices.
      */
     private ChatMessageResponse handleDraftInvoicesQuery(ChatMessageResponse response) {
-        List<Invoice> drafts = invoiceRepository.findByStatus(InvoiceStatus.DRAFT);
+        List<InvoiceSummaryView> drafts = invoiceRepository.findSummariesByStatus(InvoiceStatus.DRAFT);
 
         String message;
         if (drafts.isEmpty()) {
@@ -244,11 +248,11 @@ public class ChatService {
 
             if (drafts.size() <= 5) {
                 message += "\n\nDraft invoices:";
-                for (Invoice invoice : drafts) {
+                for (InvoiceSummaryView invoice : drafts) {
                     message += String.format(
                         "\n- %s: %s - $%.2f",
                         invoice.getInvoiceNumber(),
-                        invoice.getCustomer().getBusinessName(),
+                        invoice.getCustomerName(),
                         invoice.getTotalAmount()
                     );
                 }
@@ -269,10 +273,10 @@ public class ChatService {
      * Handle queries about sent invoices.
      */
     private ChatMessageResponse handleSentInvoicesQuery(ChatMessageResponse response) {
-        List<Invoice> sentInvoices = invoiceRepository.findByStatus(InvoiceStatus.SENT);
+        List<InvoiceSummaryView> sentInvoices = invoiceRepository.findSummariesByStatus(InvoiceStatus.SENT);
 
         BigDecimal totalOutstanding = sentInvoices.stream()
-            .map(Invoice::getBalanceRemaining)
+            .map(InvoiceSummaryView::getBalanceRemaining)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         String message;
@@ -337,10 +341,10 @@ public class ChatService {
      * Handle queries about invoice status summary.
      */
     private ChatMessageResponse handleInvoiceStatusQuery(ChatMessageResponse response) {
-        List<Invoice> allInvoices = invoiceRepository.findAll();
+        List<InvoiceSummaryView> allInvoices = invoiceRepository.findAllSummaries();
 
         Map<InvoiceStatus, Long> statusCounts = allInvoices.stream()
-            .collect(Collectors.groupingBy(Invoice::getStatus, Collectors.counting()));
+            .collect(Collectors.groupingBy(InvoiceSummaryView::getStatus, Collectors.counting()));
 
         String message = "Here's your invoice status summary:\n";
         message += String.format("- Draft: %d\n", statusCounts.getOrDefault(InvoiceStatus.DRAFT, 0L));
@@ -535,11 +539,11 @@ public class ChatService {
      * Handle queries about total outstanding balance.
      */
     private ChatMessageResponse handleOutstandingBalanceQuery(ChatMessageResponse response) {
-        List<Invoice> sentInvoices = invoiceRepository.findByStatus(InvoiceStatus.SENT);
+        List<InvoiceSummaryView> sentInvoices = invoiceRepository.findSummariesByStatus(InvoiceStatus.SENT);
         LocalDate today = LocalDate.now();
         
         BigDecimal totalOutstanding = sentInvoices.stream()
-            .map(Invoice::getBalanceRemaining)
+            .map(InvoiceSummaryView::getBalanceRemaining)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         // Aging breakdown
@@ -549,7 +553,7 @@ public class ChatService {
         BigDecimal overdue14Amount = BigDecimal.ZERO;
         BigDecimal overdue30Amount = BigDecimal.ZERO;
         
-        for (Invoice invoice : sentInvoices) {
+        for (InvoiceSummaryView invoice : sentInvoices) {
             long daysOverdue = java.time.temporal.ChronoUnit.DAYS.between(invoice.getDueDate(), today);
             BigDecimal balance = invoice.getBalanceRemaining();
             
@@ -603,13 +607,13 @@ public class ChatService {
      * Handle queries about paid invoices.
      */
     private ChatMessageResponse handlePaidInvoicesQuery(String message, ChatMessageResponse response) {
-        List<Invoice> paidInvoices = invoiceRepository.findByStatus(InvoiceStatus.PAID);
+        List<InvoiceSummaryView> paidInvoices = invoiceRepository.findSummariesByStatus(InvoiceStatus.PAID);
         
         // Check for time filtering
         boolean isThisMonth = message.contains("this month") || message.contains("current month");
         boolean isThisYear = message.contains("this year") || message.contains("current year");
         
-        List<Invoice> filteredInvoices = paidInvoices;
+        List<InvoiceSummaryView> filteredInvoices = paidInvoices;
         String period = "";
         
         if (isThisMonth) {
@@ -627,7 +631,7 @@ public class ChatService {
         }
         
         BigDecimal totalPaid = filteredInvoices.stream()
-            .map(Invoice::getTotalAmount)
+            .map(InvoiceSummaryView::getTotalAmount)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         String responseMessage;
@@ -644,11 +648,11 @@ public class ChatService {
             
             if (filteredInvoices.size() <= 5) {
                 responseMessage += "\n\nPaid invoices:";
-                for (Invoice invoice : filteredInvoices) {
+                for (InvoiceSummaryView invoice : filteredInvoices) {
                     responseMessage += String.format(
                         "\n- %s: %s - $%.2f (Paid: %s)",
                         invoice.getInvoiceNumber(),
-                        invoice.getCustomer().getBusinessName(),
+                        invoice.getCustomerName(),
                         invoice.getTotalAmount(),
                         invoice.getPaidAt() != null ? invoice.getPaidAt().toLocalDate() : "Unknown"
                     );
@@ -700,7 +704,7 @@ public class ChatService {
         }
         
         // Get all invoices for this customer
-        List<Invoice> customerInvoices = invoiceRepository.findByCustomerId(customer.getId());
+        List<InvoiceSummaryView> customerInvoices = invoiceRepository.findSummariesByCustomerId(customer.getId());
         
         if (customerInvoices.isEmpty()) {
             response.setResponse(String.format(
@@ -718,20 +722,20 @@ public class ChatService {
         
         // Calculate metrics
         Map<InvoiceStatus, Long> statusCounts = customerInvoices.stream()
-            .collect(Collectors.groupingBy(Invoice::getStatus, Collectors.counting()));
+            .collect(Collectors.groupingBy(InvoiceSummaryView::getStatus, Collectors.counting()));
         
         BigDecimal totalInvoiced = customerInvoices.stream()
-            .map(Invoice::getTotalAmount)
+            .map(InvoiceSummaryView::getTotalAmount)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         BigDecimal totalPaid = customerInvoices.stream()
             .filter(inv -> inv.getStatus() == InvoiceStatus.PAID)
-            .map(Invoice::getTotalAmount)
+            .map(InvoiceSummaryView::getTotalAmount)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         BigDecimal totalOutstanding = customerInvoices.stream()
             .filter(inv -> inv.getStatus() == InvoiceStatus.SENT)
-            .map(Invoice::getBalanceRemaining)
+            .map(InvoiceSummaryView::getBalanceRemaining)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         String responseMessage = String.format(
@@ -760,7 +764,7 @@ public class ChatService {
         // Add recent invoices if not too many
         if (customerInvoices.size() <= 5) {
             responseMessage += "\n\nInvoices:";
-            for (Invoice invoice : customerInvoices) {
+            for (InvoiceSummaryView invoice : customerInvoices) {
                 responseMessage += String.format(
                     "\n- %s: $%.2f (%s)",
                     invoice.getInvoiceNumber(),
@@ -813,39 +817,8 @@ public class ChatService {
             return response;
         }
         
-        // Get comprehensive customer data
-        List<Invoice> customerInvoices = invoiceRepository.findByCustomerId(customer.getId());
-        List<Payment> customerPayments = new ArrayList<>();
-        for (Invoice invoice : customerInvoices) {
-            customerPayments.addAll(paymentRepository.findByInvoiceId(invoice.getId()));
-        }
-        
-        // Calculate detailed metrics
-        long overdueCount = customerInvoices.stream()
-            .filter(inv -> inv.getStatus() == InvoiceStatus.SENT && 
-                          inv.getDueDate().isBefore(LocalDate.now()))
-            .count();
-        
-        BigDecimal totalInvoiced = customerInvoices.stream()
-            .map(Invoice::getTotalAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalPaid = customerInvoices.stream()
-            .filter(inv -> inv.getStatus() == InvoiceStatus.PAID)
-            .map(Invoice::getTotalAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalOutstanding = customerInvoices.stream()
-            .filter(inv -> inv.getStatus() == InvoiceStatus.SENT)
-            .map(Invoice::getBalanceRemaining)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        // Find latest invoice and payment
-        Optional<Invoice> latestInvoice = customerInvoices.stream()
-            .max(Comparator.comparing(Invoice::getCreatedAt));
-        
-        Optional<Payment> latestPayment = customerPayments.stream()
-            .max(Comparator.comparing(Payment::getPaymentDate));
+        // Get comprehensive customer data in one aggregate query
+        CustomerSummaryDto summary = getCustomerSummaryHandler.handle(customer.getId());
         
         String responseMessage = String.format(
             "Customer Summary: %s\n\n" +
@@ -866,17 +839,17 @@ public class ChatService {
             customer.getEmail(),
             customer.getPhone() != null ? customer.getPhone() : "Not provided",
             customer.isActive() ? "Active" : "Inactive",
-            customerInvoices.size(),
-            overdueCount,
-            totalInvoiced,
-            totalPaid,
-            totalOutstanding,
-            latestInvoice.map(inv ->
-                String.format("%s on %s", inv.getInvoiceNumber(), inv.getCreatedAt().toLocalDate()))
-                .orElse("None"),
-            latestPayment.map(pmt ->
-                String.format("$%.2f on %s", pmt.getPaymentAmount(), pmt.getPaymentDate()))
-                .orElse("None")
+            summary.getInvoiceCount(),
+            summary.getOverdueCount(),
+            summary.getTotalInvoiced(),
+            summary.getTotalPaid(),
+            summary.getTotalOutstanding(),
+            summary.getLastInvoiceId() != null
+                ? String.format("%s on %s", summary.getLastInvoiceNumber(), summary.getLastInvoiceIssueDate())
+                : "None",
+            summary.getLastPaymentId() != null
+                ? String.format("$%.2f on %s", summary.getLastPaymentAmount(), summary.getLastPaymentDate())
+                : "None"
         );
         
         response.setResponse(responseMessage);
@@ -893,13 +866,13 @@ public class ChatService {
      * Handle queries about invoice statistics.
      */
     private ChatMessageResponse handleInvoiceStatisticsQuery(String message, ChatMessageResponse response) {
-        List<Invoice> allInvoices = invoiceRepository.findAll();
+        List<InvoiceSummaryView> allInvoices = invoiceRepository.findAllSummaries();
         
         // Check for time filtering
         boolean isThisMonth = message.contains("this month") || message.contains("current month");
         boolean isThisYear = message.contains("this year") || message.contains("current year");
         
-        List<Invoice> filteredInvoices = allInvoices;
+        List<InvoiceSummaryView> filteredInvoices = allInvoices;
         String period = " (all time)";
         
         if (isThisMonth) {
@@ -928,7 +901,7 @@ public class ChatService {
         
         // Calculate average invoice amount
         BigDecimal totalAmount = filteredInvoices.stream()
-            .map(Invoice::getTotalAmount)
+            .map(InvoiceSummaryView::getTotalAmount)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         BigDecimal averageAmount = filteredInvoices.isEmpty() ? 
@@ -936,7 +909,7 @@ public class ChatService {
             totalAmount.divide(BigDecimal.valueOf(filteredInvoices.size()), 2, RoundingMode.HALF_UP);
         
         // Calculate average days to payment for paid invoices in period
-        List<Invoice> filteredPaidInvoices = filteredInvoices.stream()
+        List<InvoiceSummaryView> filteredPaidInvoices = filteredInvoices.stream()
             .filter(inv -> inv.getStatus() == InvoiceStatus.PAID && inv.getPaidAt() != null)
             .collect(Collectors.toList());
         
@@ -1018,9 +991,7 @@ public class ChatService {
         
         // Find the invoice
         String finalInvoiceNumber = invoiceNumber;
-        Optional<Invoice> invoiceOpt = invoiceRepository.findAll().stream()
-            .filter(inv -> inv.getInvoiceNumber().equalsIgnoreCase(finalInvoiceNumber))
-            .findFirst();
+        Optional<Invoice> invoiceOpt = invoiceRepository.findByInvoiceNumberIgnoreCase(finalInvoiceNumber);
         
         if (invoiceOpt.isEmpty()) {
             response.setResponse(String.format(
@@ -1,7 +1,9 @@
 package com.invoiceme.application.customers.CreateCustomer;
 
+import com.invoiceme.application.customers.SuggestCustomers.CustomerTypeaheadIndex;
 import com.invoiceme.domain.customer.Address;
 import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.infrastructure.cache.AfterCommit;
 import com.invoiceme.infrastructure.persistence.CustomerRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,10 +20,13 @@ public class CreateCustomerHandler {
 
     private final CustomerRepository customerRepository;
     private final CreateCustomerValidator validator;
+    private final CustomerTypeaheadIndex typeaheadIndex;
 
-    public CreateCustomerHandler(CustomerRepository customerRepository, CreateCustomerValidator validator) {
+    public CreateCustomerHandler(CustomerRepository customerRepository, CreateCustomerValidator validator,
+                                 CustomerTypeaheadIndex typeaheadIndex) {
         this.customerRepository = customerRepository;
         this.validator = validator;
+        this.typeaheadIndex = typeaheadIndex;
     }
 
     /**
@@ -55,6 +60,8 @@ public class CreateCustomerHandler {
 
         // Save to repository
         Customer savedCustomer = customerRepository.save(customer);
+        AfterCommit.run(() -> typeaheadIndex.put(savedCustomer.getId(), savedCustomer.getBusinessName(),
+            savedCustomer.getContactName(), savedCustomer.getEmail()));
 
         // TODO: Publish CustomerCreatedEvent
         // eventPublisher.publish(new CustomerCreatedEvent(savedCustomer.getId()));
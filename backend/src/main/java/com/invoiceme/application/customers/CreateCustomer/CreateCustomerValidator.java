@@ -26,6 +26,25 @@ public class CreateCustomerValidator {
      * @return list of validation error messages (empty if valid)
      */
     public List<String> validate(CreateCustomerCommand command) {
+        List<String> errors = validateFields(command);
+
+        // Email uniqueness needs the database, so it is checked only for well-formed emails
+        if (command != null && command.getEmail() != null && isValidEmail(command.getEmail())
+                && customerRepository.existsByEmail(command.getEmail())) {
+            errors.add("Email already exists");
+        }
+
+        return errors;
+    }
+
+    /**
+     * Validates the command's fields without consulting the database.
+     * Bulk imports use this and check email uniqueness for a whole chunk at once.
+     *
+     * @param command the command to validate
+     * @return list of validation error messages (empty if valid)
+     */
+    public List<String> validateFields(CreateCustomerCommand command) {
         List<String> errors = new ArrayList<>();
 
         if (command == null) {
@@ -48,8 +67,6 @@ public class CreateCustomerValidator {
             errors.add("Email is required");
         } else if (!isValidEmail(command.getEmail())) {
             errors.add("Email format is invalid");
-        } else if (customerRepository.existsByEmail(command.getEmail())) {
-            errors.add("Email already exists");
         }
 
         // Validate billing address
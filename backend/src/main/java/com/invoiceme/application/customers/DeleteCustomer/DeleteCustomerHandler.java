@@ -1,6 +1,8 @@
 package com.invoiceme.application.customers.DeleteCustomer;
 
+import com.invoiceme.application.customers.SuggestCustomers.CustomerTypeaheadIndex;
 import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.infrastructure.cache.AfterCommit;
 import com.invoiceme.infrastructure.persistence.CustomerRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,9 +15,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteCustomerHandler {
 
     private final CustomerRepository customerRepository;
+    private final CustomerTypeaheadIndex typeaheadIndex;
 
-    public DeleteCustomerHandler(CustomerRepository customerRepository) {
+    public DeleteCustomerHandler(CustomerRepository customerRepository, CustomerTypeaheadIndex typeaheadIndex) {
         this.customerRepository = customerRepository;
+        this.typeaheadIndex = typeaheadIndex;
     }
 
     /**
@@ -45,5 +49,6 @@ public class DeleteCustomerHandler {
 
         // Save updated customer (updatedAt timestamp handled by @PreUpdate)
         customerRepository.save(customer);
+        AfterCommit.run(() -> typeaheadIndex.remove(customer.getId()));
     }
 }
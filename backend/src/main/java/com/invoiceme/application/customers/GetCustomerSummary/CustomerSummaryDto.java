@@ -0,0 +1,208 @@
+package com.invoiceme.application.customers.GetCustomerSummary;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for the customer 360 summary.
+ * Invoiced covers SENT and PAID invoices, paid is the money actually received,
+ * outstanding and overdue are the open balances of SENT invoices (overdue once past due).
+ */
+public class CustomerSummaryDto {
+    private UUID customerId;
+    private long invoiceCount;
+    private Map<InvoiceStatus, Long> invoiceCountsByStatus;
+    private long overdueCount;
+    private BigDecimal totalInvoiced;
+    private BigDecimal totalPaid;
+    private BigDecimal totalOutstanding;
+    private BigDecimal totalOverdue;
+    private UUID lastInvoiceId;
+    private String lastInvoiceNumber;
+    private LocalDate lastInvoiceIssueDate;
+    private BigDecimal lastInvoiceTotal;
+    private InvoiceStatus lastInvoiceStatus;
+    private UUID lastPaymentId;
+    private BigDecimal lastPaymentAmount;
+    private LocalDate lastPaymentDate;
+
+    // Getters and Setters
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+
+    public long getInvoiceCount() {
+        return invoiceCount;
+    }
+
+    public void setInvoiceCount(long invoiceCount) {
+        this.invoiceCount = invoiceCount;
+    }
+
+    public Map<InvoiceStatus, Long> getInvoiceCountsByStatus() {
+        return invoiceCountsByStatus;
+    }
+
+    public void setInvoiceCountsByStatus(Map<InvoiceStatus, Long> invoiceCountsByStatus) {
+        this.invoiceCountsByStatus = invoiceCountsByStatus;
+    }
+
+    public long getOverdueCount() {
+        return overdueCount;
+    }
+
+    public void setOverdueCount(long overdueCount) {
+        this.overdueCount = overdueCount;
+    }
+
+    public BigDecimal getTotalInvoiced() {
+        return totalInvoiced;
+    }
+
+    public void setTotalInvoiced(BigDecimal totalInvoiced) {
+        this.totalInvoiced = totalInvoiced;
+    }
+
+    public BigDecimal getTotalPaid() {
+        return totalPaid;
+    }
+
+    public void setTotalPaid(BigDecimal totalPaid) {
+        this.totalPaid = totalPaid;
+    }
+
+    public BigDecimal getTotalOutstanding() {
+        return totalOutstanding;
+    }
+
+    public void setTotalOutstanding(BigDecimal totalOutstanding) {
+        this.totalOutstanding = totalOutstanding;
+    }
+
+    public BigDecimal getTotalOverdue() {
+        return totalOverdue;
+    }
+
+    public void setTotalOverdue(BigDecimal totalOverdue) {
+        this.totalOverdue = totalOverdue;
+    }
+
+    public UUID getLastInvoiceId() {
+        return lastInvoiceId;
+    }
+
+    public void setLastInvoiceId(UUID lastInvoiceId) {
+        this.lastInvoiceId = lastInvoiceId;
+    }
+
+    public String getLastInvoiceNumber() {
+        return lastInvoiceNumber;
+    }
+
+    public void setLastInvoiceNumber(String lastInvoiceNumber) {
+        this.lastInvoiceNumber = lastInvoiceNumber;
+    }
+
+    public LocalDate getLastInvoiceIssueDate() {
+        return lastInvoiceIssueDate;
+    }
+
+    public void setLastInvoiceIssueDate(LocalDate lastInvoiceIssueDate) {
+        this.lastInvoiceIssueDate = lastInvoiceIssueDate;
+    }
+
+    public BigDecimal getLastInvoiceTotal() {
+        return lastInvoiceTotal;
+    }
+
+    public void setLastInvoiceTotal(BigDecimal lastInvoiceTotal) {
+        this.lastInvoiceTotal = lastInvoiceTotal;
+    }
+
+    public InvoiceStatus getLastInvoiceStatus() {
+        return lastInvoiceStatus;
+    }
+
+    public void setLastInvoiceStatus(InvoiceStatus lastInvoiceStatus) {
+        this.lastInvoiceStatus = lastInvoiceStatus;
+    }
+
+    public UUID getLastPaymentId() {
+        return lastPaymentId;
+    }
+
+    public void setLastPaymentId(UUID lastPaymentId) {
+        this.lastPaymentId = lastPaymentId;
+    }
+
+    public BigDecimal getLastPaymentAmount() {
+        return lastPaymentAmount;
+    }
+
+    public void setLastPaymentAmount(BigDecimal lastPaymentAmount) {
+        this.lastPaymentAmount = lastPaymentAmount;
+    }
+
+    public LocalDate getLastPaymentDate() {
+        return lastPaymentDate;
+    }
+
+    public void setLastPaymentDate(LocalDate lastPaymentDate) {
+        this.lastPaymentDate = lastPaymentDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerSummaryDto that = (CustomerSummaryDto) o;
+        return Objects.equals(customerId, that.customerId) &&
+               invoiceCount == that.invoiceCount &&
+               Objects.equals(invoiceCountsByStatus, that.invoiceCountsByStatus) &&
+               overdueCount == that.overdueCount &&
+               Objects.equals(totalInvoiced, that.totalInvoiced) &&
+               Objects.equals(totalPaid, that.totalPaid) &&
+               Objects.equals(totalOutstanding, that.totalOutstanding) &&
+               Objects.equals(totalOverdue, that.totalOverdue) &&
+               Objects.equals(lastInvoiceId, that.lastInvoiceId) &&
+               Objects.equals(lastInvoiceNumber, that.lastInvoiceNumber) &&
+               Objects.equals(lastInvoiceIssueDate, that.lastInvoiceIssueDate) &&
+               Objects.equals(lastInvoiceTotal, that.lastInvoiceTotal) &&
+               Objects.equals(lastInvoiceStatus, that.lastInvoiceStatus) &&
+               Objects.equals(lastPaymentId, that.lastPaymentId) &&
+               Objects.equals(lastPaymentAmount, that.lastPaymentAmount) &&
+               Objects.equals(lastPaymentDate, that.lastPaymentDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId, invoiceCount, totalInvoiced, totalPaid, totalOutstanding, totalOverdue,
+                            lastInvoiceId, lastPaymentId);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerSummaryDto{" +
+               "customerId=" + customerId +
+               ", invoiceCount=" + invoiceCount +
+               ", invoiceCountsByStatus=" + invoiceCountsByStatus +
+               ", overdueCount=" + overdueCount +
+               ", totalInvoiced=" + totalInvoiced +
+               ", totalPaid=" + totalPaid +
+               ", totalOutstanding=" + totalOutstanding +
+               ", totalOverdue=" + totalOverdue +
+               ", lastInvoiceId=" + lastInvoiceId +
+               ", lastInvoiceNumber='" + lastInvoiceNumber + '\'' +
+               ", lastPaymentId=" + lastPaymentId +
+               '}';
+    }
+}
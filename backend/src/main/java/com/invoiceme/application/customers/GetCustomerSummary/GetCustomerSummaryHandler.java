@@ -0,0 +1,64 @@
+package com.invoiceme.application.customers.GetCustomerSummary;
+
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.CustomerSummaryView;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Returns a customer's invoice and payment totals.
+ * The whole summary comes from one grouped SQL aggregate, so the cost does not
+ * grow with round trips per invoice or payment.
+ */
+@Service
+public class GetCustomerSummaryHandler {
+
+    private final CustomerRepository customerRepository;
+
+    public GetCustomerSummaryHandler(CustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    /**
+     * Builds the summary for a customer.
+     *
+     * @param customerId the customer ID
+     * @return the customer summary
+     * @throws IllegalArgumentException if the customer is not found
+     */
+    @Transactional(readOnly = true)
+    public CustomerSummaryDto handle(UUID customerId) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("Customer ID is required");
+        }
+
+        CustomerSummaryView view = customerRepository.summarize(customerId, LocalDate.now())
+            .orElseThrow(() -> new IllegalArgumentException("Customer not found with ID: " + customerId));
+
+        return mapToDto(view);
+    }
+
+    private CustomerSummaryDto mapToDto(CustomerSummaryView view) {
+        CustomerSummaryDto dto = new CustomerSummaryDto();
+        dto.setCustomerId(view.getCustomerId());
+        dto.setInvoiceCount(view.getInvoiceCount());
+        dto.setInvoiceCountsByStatus(view.getInvoiceCountsByStatus());
+        dto.setOverdueCount(view.getOverdueCount());
+        dto.setTotalInvoiced(view.getTotalInvoiced());
+        dto.setTotalPaid(view.getTotalPaid());
+        dto.setTotalOutstanding(view.getTotalOutstanding());
+        dto.setTotalOverdue(view.getTotalOverdue());
+        dto.setLastInvoiceId(view.getLastInvoiceId());
+        dto.setLastInvoiceNumber(view.getLastInvoiceNumber());
+        dto.setLastInvoiceIssueDate(view.getLastInvoiceIssueDate());
+        dto.setLastInvoiceTotal(view.getLastInvoiceTotal());
+        dto.setLastInvoiceStatus(view.getLastInvoiceStatus());
+        dto.setLastPaymentId(view.getLastPaymentId());
+        dto.setLastPaymentAmount(view.getLastPaymentAmount());
+        dto.setLastPaymentDate(view.getLastPaymentDate());
+        return dto;
+    }
+}
@@ -0,0 +1,157 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import com.invoiceme.application.customers.CreateCustomer.CreateCustomerCommand;
+import com.invoiceme.infrastructure.csv.CsvRecordReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads CSV customer files with a header row.
+ * Columns are recognised by name ("business_name", "contact_name", "email", "phone",
+ * "billing_street" ... "billing_country", "shipping_street" ... "shipping_country");
+ * unprefixed address columns ("street", "city", ...) are taken as the billing address.
+ * Comma and semicolon delimiters and RFC 4180 quoting are supported.
+ */
+class CsvCustomerImportParser implements CustomerImportParser {
+
+    private static final Set<String> BUSINESS_NAME_COLUMNS = Set.of("businessname", "company", "companyname", "business");
+    private static final Set<String> CONTACT_NAME_COLUMNS = Set.of("contactname", "contact", "contactperson");
+    private static final Set<String> EMAIL_COLUMNS = Set.of("email", "emailaddress");
+    private static final Set<String> PHONE_COLUMNS = Set.of("phone", "phonenumber", "telephone");
+    private static final Set<String> STREET_COLUMNS = Set.of("street", "address", "addressline1");
+    private static final Set<String> CITY_COLUMNS = Set.of("city", "town");
+    private static final Set<String> STATE_COLUMNS = Set.of("state", "region", "province");
+    private static final Set<String> POSTAL_CODE_COLUMNS = Set.of("postalcode", "zip", "zipcode", "postcode");
+    private static final Set<String> COUNTRY_COLUMNS = Set.of("country");
+
+    @Override
+    public void parse(InputStream input, Consumer<CustomerImportRow> sink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new IllegalArgumentException("CSV customer file is empty");
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+
+        char delimiter = CsvRecordReader.detectDelimiter(headerLine);
+        Columns columns = Columns.resolve(CsvRecordReader.splitRecord(headerLine, delimiter));
+
+        CsvRecordReader records = new CsvRecordReader(reader, delimiter, 2);
+        List<String> record;
+        while ((record = records.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            sink.accept(CustomerImportRow.of(records.getRecordLineNumber(), toCommand(record, columns)));
+        }
+    }
+
+    private static CreateCustomerCommand toCommand(List<String> record, Columns columns) {
+        CreateCustomerCommand command = new CreateCustomerCommand();
+        command.setBusinessName(value(record, columns.businessName));
+        command.setContactName(value(record, columns.contactName));
+        command.setEmail(value(record, columns.email));
+        command.setPhone(value(record, columns.phone));
+        command.setBillingAddress(address(record, columns.billing));
+        command.setShippingAddress(address(record, columns.shipping));
+        return command;
+    }
+
+    /**
+     * Builds an address, or returns null when none of its columns has a value.
+     */
+    private static CreateCustomerCommand.AddressDto address(List<String> record, int[] columns) {
+        String street = value(record, columns[0]);
+        String city = value(record, columns[1]);
+        String state = value(record, columns[2]);
+        String postalCode = value(record, columns[3]);
+        String country = value(record, columns[4]);
+        if (street == null && city == null && state == null && postalCode == null && country == null) {
+            return null;
+        }
+        return new CreateCustomerCommand.AddressDto(street, city, state, postalCode, country);
+    }
+
+    private static String value(List<String> record, int index) {
+        if (index < 0 || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Column positions resolved from the header row; -1 when a column is absent.
+     * Address columns are ordered street, city, state, postal code, country.
+     */
+    private static final class Columns {
+        private int businessName = -1;
+        private int contactName = -1;
+        private int email = -1;
+        private int phone = -1;
+        private final int[] billing = {-1, -1, -1, -1, -1};
+        private final int[] shipping = {-1, -1, -1, -1, -1};
+
+        static Columns resolve(List<String> header) {
+            Columns columns = new Columns();
+            for (int i = 0; i < header.size(); i++) {
+                String name = normalize(header.get(i));
+                if (columns.businessName < 0 && BUSINESS_NAME_COLUMNS.contains(name)) {
+                    columns.businessName = i;
+                } else if (columns.contactName < 0 && CONTACT_NAME_COLUMNS.contains(name)) {
+                    columns.contactName = i;
+                } else if (columns.email < 0 && EMAIL_COLUMNS.contains(name)) {
+                    columns.email = i;
+                } else if (columns.phone < 0 && PHONE_COLUMNS.contains(name)) {
+                    columns.phone = i;
+                } else if (name.startsWith("shipping")) {
+                    assignAddressColumn(columns.shipping, name.substring("shipping".length()), i);
+                } else if (name.startsWith("billing")) {
+                    assignAddressColumn(columns.billing, name.substring("billing".length()), i);
+                } else {
+                    assignAddressColumn(columns.billing, name, i);
+                }
+            }
+
+            if (columns.businessName < 0) {
+                throw new IllegalArgumentException("CSV customer file has no business name column");
+            }
+            if (columns.email < 0) {
+                throw new IllegalArgumentException("CSV customer file has no email column");
+            }
+            return columns;
+        }
+
+        private static void assignAddressColumn(int[] address, String name, int index) {
+            int field = STREET_COLUMNS.contains(name) ? 0
+                : CITY_COLUMNS.contains(name) ? 1
+                : STATE_COLUMNS.contains(name) ? 2
+                : POSTAL_CODE_COLUMNS.contains(name) ? 3
+                : COUNTRY_COLUMNS.contains(name) ? 4
+                : -1;
+            if (field >= 0 && address[field] < 0) {
+                address[field] = index;
+            }
+        }
+
+        private static String normalize(String header) {
+            StringBuilder name = new StringBuilder(header.length());
+            for (char c : header.toLowerCase(Locale.ROOT).toCharArray()) {
+                if (Character.isLetterOrDigit(c)) {
+                    name.append(c);
+                }
+            }
+            return name.toString();
+        }
+    }
+}
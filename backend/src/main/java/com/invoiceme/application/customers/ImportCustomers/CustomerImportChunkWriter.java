@@ -0,0 +1,88 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import com.invoiceme.application.customers.CreateCustomer.CreateCustomerCommand;
+import com.invoiceme.application.customers.SuggestCustomers.CustomerTypeaheadIndex;
+import com.invoiceme.domain.customer.Address;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.infrastructure.cache.AfterCommit;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Commits one chunk of a customer import in a single transaction.
+ * Checks the chunk's emails against existing customers with one IN query and
+ * inserts the remaining customers as JDBC batches, instead of one existence
+ * query and one insert per customer as CreateCustomerHandler does.
+ */
+@Component
+public class CustomerImportChunkWriter {
+
+    private final CustomerRepository customerRepository;
+    private final CustomerTypeaheadIndex typeaheadIndex;
+
+    public CustomerImportChunkWriter(CustomerRepository customerRepository, CustomerTypeaheadIndex typeaheadIndex) {
+        this.customerRepository = customerRepository;
+        this.typeaheadIndex = typeaheadIndex;
+    }
+
+    /**
+     * Inserts the chunk's customers, skipping those whose email is already taken.
+     * The rows must already have passed field validation and be free of duplicate
+     * emails among themselves.
+     *
+     * @param rows the validated rows
+     * @return the rows rejected because their email already exists
+     * @throws org.springframework.dao.DataIntegrityViolationException if a customer with one
+     *         of the emails was created concurrently; the whole chunk is rolled back
+     */
+    @Transactional
+    public List<CustomerImportError> write(List<CustomerImportRow> rows) {
+        Set<String> existingEmails = new HashSet<>(customerRepository.findExistingEmails(
+            rows.stream().map(row -> row.getCommand().getEmail()).toList()));
+
+        List<CustomerImportError> rejected = new ArrayList<>();
+        List<Customer> customers = new ArrayList<>(rows.size());
+        for (CustomerImportRow row : rows) {
+            String email = row.getCommand().getEmail();
+            if (existingEmails.contains(email)) {
+                rejected.add(new CustomerImportError(row.getRowNumber(), email, "Email already exists"));
+            } else {
+                customers.add(toCustomer(row.getCommand()));
+            }
+        }
+
+        if (!customers.isEmpty()) {
+            customerRepository.persistAll(customers);
+            AfterCommit.run(() -> customers.forEach(customer -> typeaheadIndex.put(customer.getId(),
+                customer.getBusinessName(), customer.getContactName(), customer.getEmail())));
+        }
+        return rejected;
+    }
+
+    private Customer toCustomer(CreateCustomerCommand command) {
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setBusinessName(command.getBusinessName());
+        customer.setContactName(command.getContactName());
+        customer.setEmail(command.getEmail());
+        customer.setPhone(command.getPhone());
+        customer.setBillingAddress(toAddress(command.getBillingAddress()));
+        customer.setShippingAddress(toAddress(command.getShippingAddress()));
+        customer.setActive(true);
+        return customer;
+    }
+
+    private Address toAddress(CreateCustomerCommand.AddressDto dto) {
+        if (dto == null) {
+            return null;
+        }
+        return new Address(dto.getStreet(), dto.getCity(), dto.getState(), dto.getPostalCode(), dto.getCountry());
+    }
+}
@@ -0,0 +1,75 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import java.util.Objects;
+
+/**
+ * A row of a customer import that was not imported, and why.
+ */
+public class CustomerImportError {
+
+    private int rowNumber;
+    private String email;
+    private String message;
+
+    // Constructors
+    public CustomerImportError() {
+    }
+
+    public CustomerImportError(int rowNumber, String email, String message) {
+        this.rowNumber = rowNumber;
+        this.email = email;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    /**
+     * The CSV line number, or the 1-based position in the JSON array.
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public void setRowNumber(int rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerImportError that = (CustomerImportError) o;
+        return rowNumber == that.rowNumber &&
+               Objects.equals(email, that.email) &&
+               Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowNumber, email, message);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerImportError{" +
+               "rowNumber=" + rowNumber +
+               ", email='" + email + '\'' +
+               ", message='" + message + '\'' +
+               '}';
+    }
+}
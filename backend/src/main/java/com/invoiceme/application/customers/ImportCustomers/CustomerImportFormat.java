@@ -0,0 +1,54 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import java.util.Locale;
+
+/**
+ * File formats accepted by the customer import.
+ */
+public enum CustomerImportFormat {
+
+    CSV("csv"),
+    JSON("json");
+
+    private final String fileExtension;
+
+    CustomerImportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Resolves a format from its case-insensitive name.
+     *
+     * @param value the requested format, e.g. "csv"
+     * @return the matching format
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static CustomerImportFormat fromValue(String value) {
+        for (CustomerImportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported customer import format: " + value);
+    }
+
+    /**
+     * Resolves a format from a file name extension.
+     *
+     * @param fileName the uploaded file name
+     * @return the matching format
+     * @throws IllegalArgumentException if the extension is missing or not recognised
+     */
+    public static CustomerImportFormat fromFileName(String fileName) {
+        int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+        if (dot >= 0) {
+            String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+            for (CustomerImportFormat format : values()) {
+                if (format.fileExtension.equals(extension)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Cannot determine customer import format of file: " + fileName);
+    }
+}
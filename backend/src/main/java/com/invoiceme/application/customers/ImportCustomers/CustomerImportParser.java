@@ -0,0 +1,32 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for one customer import format.
+ * Implementations hand each row to the sink as soon as it is read,
+ * so memory use does not depend on the size of the file.
+ */
+interface CustomerImportParser {
+
+    /**
+     * Reads every row of the file.
+     *
+     * @param input the import file; not closed
+     * @param sink receives the rows in file order
+     * @throws IOException if reading the stream fails
+     * @throws IllegalArgumentException if the file is structurally invalid
+     */
+    void parse(InputStream input, Consumer<CustomerImportRow> sink) throws IOException;
+
+    static CustomerImportParser forFormat(CustomerImportFormat format, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new CsvCustomerImportParser();
+            case JSON -> new JsonCustomerImportParser(objectMapper);
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Summary of a customer import.
+ * Row errors are listed up to a fixed limit; {@code rejectedCount} always counts all of them.
+ */
+public class CustomerImportResult {
+
+    private CustomerImportFormat format;
+    private long totalRows;
+    private long importedCount;
+    private long rejectedCount;
+    private List<CustomerImportError> errors;
+    private boolean errorsTruncated;
+
+    // Constructors
+    public CustomerImportResult() {
+    }
+
+    public CustomerImportResult(CustomerImportFormat format, long totalRows, long importedCount,
+                                long rejectedCount, List<CustomerImportError> errors, boolean errorsTruncated) {
+        this.format = format;
+        this.totalRows = totalRows;
+        this.importedCount = importedCount;
+        this.rejectedCount = rejectedCount;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    // Getters and Setters
+    public CustomerImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(CustomerImportFormat format) {
+        this.format = format;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    /**
+     * Rows that were unreadable, invalid, or whose email already exists or repeats an earlier row.
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(long rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public List<CustomerImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<CustomerImportError> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * True when more rows were rejected than are listed in {@code errors}.
+     */
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerImportResult that = (CustomerImportResult) o;
+        return totalRows == that.totalRows &&
+               importedCount == that.importedCount &&
+               rejectedCount == that.rejectedCount &&
+               errorsTruncated == that.errorsTruncated &&
+               format == that.format &&
+               Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(format, totalRows, importedCount, rejectedCount, errors, errorsTruncated);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerImportResult{" +
+               "format=" + format +
+               ", totalRows=" + totalRows +
+               ", importedCount=" + importedCount +
+               ", rejectedCount=" + rejectedCount +
+               ", errors=" + (errors != null ? errors.size() : 0) +
+               ", errorsTruncated=" + errorsTruncated +
+               '}';
+    }
+}
@@ -0,0 +1,46 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import com.invoiceme.application.customers.CreateCustomer.CreateCustomerCommand;
+
+/**
+ * One customer read from an import file, or the reason it could not be read.
+ */
+final class CustomerImportRow {
+
+    private final int rowNumber;
+    private final CreateCustomerCommand command;
+    private final String error;
+
+    private CustomerImportRow(int rowNumber, CreateCustomerCommand command, String error) {
+        this.rowNumber = rowNumber;
+        this.command = command;
+        this.error = error;
+    }
+
+    static CustomerImportRow of(int rowNumber, CreateCustomerCommand command) {
+        return new CustomerImportRow(rowNumber, command, null);
+    }
+
+    static CustomerImportRow unreadable(int rowNumber, String error) {
+        return new CustomerImportRow(rowNumber, null, error);
+    }
+
+    /**
+     * The CSV line number, or the 1-based position in the JSON array.
+     */
+    int getRowNumber() {
+        return rowNumber;
+    }
+
+    CreateCustomerCommand getCommand() {
+        return command;
+    }
+
+    boolean isReadable() {
+        return command != null;
+    }
+
+    String getError() {
+        return error;
+    }
+}
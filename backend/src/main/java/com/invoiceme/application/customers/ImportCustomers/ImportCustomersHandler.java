@@ -0,0 +1,212 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invoiceme.application.customers.CreateCustomer.CreateCustomerValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Handles the ImportCustomersCommand.
+ * Streams the file through the format's parser, validates each row with the same
+ * field rules as CreateCustomerHandler, and commits valid rows chunk by chunk.
+ * Emails repeated inside the file are caught with an in-memory map; emails already
+ * in the database are caught with one IN query per chunk. Memory use is bounded by
+ * the chunk size, the listed errors and the file's distinct emails, not by row content.
+ */
+@Service
+public class ImportCustomersHandler {
+
+    public static final int MAX_CHUNK_SIZE = 5_000;
+
+    /** Row errors listed in the result; further errors are only counted. */
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportCustomersHandler.class);
+
+    private final CreateCustomerValidator validator;
+    private final CustomerImportChunkWriter chunkWriter;
+    private final ObjectMapper objectMapper;
+    private final int defaultChunkSize;
+
+    public ImportCustomersHandler(CreateCustomerValidator validator,
+                                  CustomerImportChunkWriter chunkWriter,
+                                  ObjectMapper objectMapper,
+                                  @Value("${customer.import.chunk-size:500}") int defaultChunkSize) {
+        this.validator = validator;
+        this.chunkWriter = chunkWriter;
+        this.objectMapper = objectMapper;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    /**
+     * Handles importing a customer file.
+     * Chunks committed before a structural error in the file stay committed, and the rows
+     * read before it are still committed before the error is rethrown; importing the file
+     * again is safe because rows whose email exists are rejected, not duplicated.
+     *
+     * @param command the import command
+     * @param input the customer file; not closed
+     * @return the import summary
+     * @throws IllegalArgumentException if the format, chunk size or file structure is invalid
+     * @throws UncheckedIOException if reading the file fails
+     */
+    public CustomerImportResult handle(ImportCustomersCommand command, InputStream input) {
+        CustomerImportFormat format = resolveFormat(command);
+        int chunkSize = resolveChunkSize(command.getChunkSize());
+        long started = System.nanoTime();
+
+        ImportRun run = new ImportRun(chunkSize);
+        try {
+            CustomerImportParser.forFormat(format, objectMapper).parse(input, run::accept);
+        } catch (IOException e) {
+            throw run.flushAfter(new UncheckedIOException("Failed to read customer file", e));
+        } catch (RuntimeException e) {
+            throw run.flushAfter(e);
+        }
+        run.flush();
+
+        CustomerImportResult result = run.toResult(format);
+        logger.info("Imported customer file {} ({}) in {} ms: {} rows, {} imported, {} rejected",
+            command.getFileName(), format, (System.nanoTime() - started) / 1_000_000,
+            result.getTotalRows(), result.getImportedCount(), result.getRejectedCount());
+        return result;
+    }
+
+    private CustomerImportFormat resolveFormat(ImportCustomersCommand command) {
+        if (command.getFormat() != null && !command.getFormat().isBlank()) {
+            return CustomerImportFormat.fromValue(command.getFormat());
+        }
+        return CustomerImportFormat.fromFileName(command.getFileName());
+    }
+
+    /**
+     * Validates the requested chunk size, applying the configured default when absent.
+     *
+     * @param chunkSize the requested chunk size
+     * @return the effective chunk size
+     */
+    private int resolveChunkSize(Integer chunkSize) {
+        if (chunkSize == null) {
+            return defaultChunkSize;
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        return chunkSize;
+    }
+
+    /**
+     * State of one import: the pending chunk, the emails seen so far and the running totals.
+     */
+    private final class ImportRun {
+        private final int chunkSize;
+        private final List<CustomerImportRow> pending;
+        private final Map<String, Integer> firstRowByEmail = new HashMap<>();
+        private final List<CustomerImportError> errors = new ArrayList<>();
+
+        private long totalRows;
+        private long importedCount;
+        private long rejectedCount;
+
+        ImportRun(int chunkSize) {
+            this.chunkSize = chunkSize;
+            this.pending = new ArrayList<>(chunkSize);
+        }
+
+        void accept(CustomerImportRow row) {
+            totalRows++;
+
+            if (!row.isReadable()) {
+                reject(row.getRowNumber(), null, "Unreadable row: " + row.getError());
+                return;
+            }
+
+            String email = row.getCommand().getEmail();
+            List<String> fieldErrors = validator.validateFields(row.getCommand());
+            if (!fieldErrors.isEmpty()) {
+                reject(row.getRowNumber(), email, String.join(", ", fieldErrors));
+                return;
+            }
+
+            Integer firstRow = firstRowByEmail.putIfAbsent(email, row.getRowNumber());
+            if (firstRow != null) {
+                reject(row.getRowNumber(), email, "Duplicate email in file (first used on row " + firstRow + ")");
+                return;
+            }
+
+            pending.add(row);
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Commits the pending chunk. If a customer with one of the emails was created
+         * concurrently, the chunk is retried one row at a time so only that row is rejected.
+         */
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                add(pending.size(), chunkWriter.write(pending));
+            } catch (DataIntegrityViolationException e) {
+                logger.debug("Conflict committing customer import chunk of {} rows, retrying individually", pending.size());
+                for (CustomerImportRow row : pending) {
+                    try {
+                        add(1, chunkWriter.write(List.of(row)));
+                    } catch (DataIntegrityViolationException retryFailure) {
+                        reject(row.getRowNumber(), row.getCommand().getEmail(), "Email already exists");
+                    }
+                }
+            }
+            pending.clear();
+        }
+
+        /**
+         * Flushes what was read before the import failed, keeping the original failure
+         * as the one reported: a flush failure is attached to it as suppressed.
+         *
+         * @param failure the failure that ended the import
+         * @return the failure, to be rethrown
+         */
+        <T extends RuntimeException> T flushAfter(T failure) {
+            try {
+                flush();
+            } catch (RuntimeException flushFailure) {
+                failure.addSuppressed(flushFailure);
+            }
+            return failure;
+        }
+
+        private void add(int attempted, List<CustomerImportError> rejectedRows) {
+            importedCount += attempted - rejectedRows.size();
+            for (CustomerImportError error : rejectedRows) {
+                reject(error.getRowNumber(), error.getEmail(), error.getMessage());
+            }
+        }
+
+        private void reject(int rowNumber, String email, String message) {
+            rejectedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new CustomerImportError(rowNumber, email, message));
+            }
+        }
+
+        CustomerImportResult toResult(CustomerImportFormat format) {
+            return new CustomerImportResult(format, totalRows, importedCount, rejectedCount,
+                errors, rejectedCount > errors.size());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.invoiceme.application.customers.ImportCustomers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invoiceme.application.customers.CreateCustomer.CreateCustomerCommand;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads JSON customer files: a top-level array of objects shaped like the
+ * create-customer request body. The array is walked with a streaming parser,
+ * so only one customer object is materialised at a time.
+ */
+class JsonCustomerImportParser implements CustomerImportParser {
+
+    private final ObjectMapper objectMapper;
+
+    JsonCustomerImportParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void parse(InputStream input, Consumer<CustomerImportRow> sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON customer file must be an array of customers");
+            }
+
+            int rowNumber = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("JSON customer file ends before the array is closed");
+                }
+                rowNumber++;
+                JsonNode node = objectMapper.readTree(parser);
+                if (node == null || !node.isObject()) {
+                    sink.accept(CustomerImportRow.unreadable(rowNumber, "Expected a customer object"));
+                    continue;
+                }
+                try {
+                    sink.accept(CustomerImportRow.of(rowNumber, objectMapper.treeToValue(node, CreateCustomerCommand.class)));
+                } catch (JsonProcessingException e) {
+                    sink.accept(CustomerImportRow.unreadable(rowNumber, e.getOriginalMessage()));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON customer file: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -13,10 +13,14 @@ import java.util.stream.Collectors;
 /**
  * Handles the ListCustomersQuery.
  * Fetches a list of customers with optional filtering and returns them as CustomerDto objects.
+ * Searches run in the database and return one ranked page of matches.
  */
 @Service
 public class ListCustomersHandler {
 
+    static final int DEFAULT_SEARCH_LIMIT = 50;
+    static final int MAX_SEARCH_LIMIT = 200;
+
     private final CustomerRepository customerRepository;
 
     public ListCustomersHandler(CustomerRepository customerRepository) {
@@ -26,49 +30,40 @@ public class ListCustomersHandler {
     /**
      * Handles the query to retrieve a list of customers.
      * Supports filtering by active status and searching by business name, contact name, or email.
+     * Search results are ranked by relevance and paginated with offset and limit.
      *
      * @param query the list customers query
      * @return list of customer DTOs
+     * @throws IllegalArgumentException if offset or limit is out of range
      */
     @Transactional(readOnly = true)
     public List<CustomerDto> handle(ListCustomersQuery query) {
         List<Customer> customers;
+        boolean activeOnly = query != null && Boolean.TRUE.equals(query.getActiveOnly());
 
-        // Determine which customers to fetch based on activeOnly filter
-        if (query != null && Boolean.TRUE.equals(query.getActiveOnly())) {
+        if (query != null && query.getSearchTerm() != null && !query.getSearchTerm().isBlank()) {
+            // Matching and ranking happen in the database (trigram index on PostgreSQL)
+            int offset = query.getOffset() != null ? query.getOffset() : 0;
+            int limit = query.getLimit() != null ? query.getLimit() : DEFAULT_SEARCH_LIMIT;
+            if (offset < 0) {
+                throw new IllegalArgumentException("Offset must not be negative");
+            }
+            if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+                throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+            }
+            customers = customerRepository.search(query.getSearchTerm(), activeOnly, offset, limit);
+        } else if (activeOnly) {
             customers = customerRepository.findByActiveTrue();
         } else {
             customers = customerRepository.findAll();
         }
 
-        // Apply search filter if provided
-        if (query != null && query.getSearchTerm() != null && !query.getSearchTerm().isBlank()) {
-            String searchTerm = query.getSearchTerm().toLowerCase();
-            customers = customers.stream()
-                .filter(customer -> matchesSearchTerm(customer, searchTerm))
-                .collect(Collectors.toList());
-        }
-
         // Map to DTOs
         return customers.stream()
             .map(this::mapToDto)
             .collect(Collectors.toList());
     }
 
-    /**
-     * Checks if a customer matches the search term.
-     * Searches in business name, contact name, and email.
-     *
-     * @param customer the customer to check
-     * @param searchTerm the search term (lowercase)
-     * @return true if customer matches
-     */
-    private boolean matchesSearchTerm(Customer customer, String searchTerm) {
-        return (customer.getBusinessName() != null && customer.getBusinessName().toLowerCase().contains(searchTerm))
-            || (customer.getContactName() != null && customer.getContactName().toLowerCase().contains(searchTerm))
-            || (customer.getEmail() != null && customer.getEmail().toLowerCase().contains(searchTerm));
-    }
-
     /**
      * Maps a Customer entity to CustomerDto.
      *
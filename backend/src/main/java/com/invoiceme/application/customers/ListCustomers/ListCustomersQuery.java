@@ -10,6 +10,8 @@ public class ListCustomersQuery {
 
     private Boolean activeOnly;
     private String searchTerm;
+    private Integer offset;
+    private Integer limit;
 
     // Constructors
     public ListCustomersQuery() {
@@ -37,18 +39,36 @@ public class ListCustomersQuery {
         this.searchTerm = searchTerm;
     }
 
+    public Integer getOffset() {
+        return offset;
+    }
+
+    public void setOffset(Integer offset) {
+        this.offset = offset;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ListCustomersQuery that = (ListCustomersQuery) o;
         return Objects.equals(activeOnly, that.activeOnly) &&
-               Objects.equals(searchTerm, that.searchTerm);
+               Objects.equals(searchTerm, that.searchTerm) &&
+               Objects.equals(offset, that.offset) &&
+               Objects.equals(limit, that.limit);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(activeOnly, searchTerm);
+        return Objects.hash(activeOnly, searchTerm, offset, limit);
     }
 
     @Override
@@ -56,6 +76,8 @@ public class ListCustomersQuery {
         return "ListCustomersQuery{" +
                "activeOnly=" + activeOnly +
                ", searchTerm='" + searchTerm + '\'' +
+               ", offset=" + offset +
+               ", limit=" + limit +
                '}';
     }
 }
@@ -0,0 +1,86 @@
+package com.invoiceme.application.customers.SuggestCustomers;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for customer autocomplete suggestions.
+ * Carries only what the invoice form shows while typing.
+ */
+public class CustomerSuggestionDto {
+
+    private UUID id;
+    private String businessName;
+    private String contactName;
+    private String email;
+
+    // Constructors
+    public CustomerSuggestionDto() {
+    }
+
+    public CustomerSuggestionDto(UUID id, String businessName, String contactName, String email) {
+        this.id = id;
+        this.businessName = businessName;
+        this.contactName = contactName;
+        this.email = email;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getBusinessName() {
+        return businessName;
+    }
+
+    public void setBusinessName(String businessName) {
+        this.businessName = businessName;
+    }
+
+    public String getContactName() {
+        return contactName;
+    }
+
+    public void setContactName(String contactName) {
+        this.contactName = contactName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerSuggestionDto that = (CustomerSuggestionDto) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(businessName, that.businessName) &&
+               Objects.equals(contactName, that.contactName) &&
+               Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, businessName, contactName, email);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerSuggestionDto{" +
+               "id=" + id +
+               ", businessName='" + businessName + '\'' +
+               ", contactName='" + contactName + '\'' +
+               ", email='" + email + '\'' +
+               '}';
+    }
+}
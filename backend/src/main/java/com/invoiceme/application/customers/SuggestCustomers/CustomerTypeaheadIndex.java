@@ -0,0 +1,252 @@
+package com.invoiceme.application.customers.SuggestCustomers;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process typeahead index over active customers' business names, contact names and emails.
+ *
+ * Every field is split into lower-cased word tokens (an email into its local part and domain
+ * labels) kept in a sorted map, so a prefix lookup is a range scan over the tokens that
+ * start with it. Every word of the query must prefix-match a token of the customer. Matches
+ * are ranked by whether the business name, then any field, starts with the whole query, then
+ * by business name. Short, very common prefixes stop collecting candidates after
+ * {@link #MAX_CANDIDATES}, which keeps every lookup bounded.
+ *
+ * Reads and writes may run concurrently; writes to one customer are serialized, and
+ * changes to the token map are serialized across customers.
+ */
+@Component
+public class CustomerTypeaheadIndex {
+
+    static final int MAX_CANDIDATES = 2_000;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Entry>> tokens = new ConcurrentSkipListMap<>();
+    private final Set<UUID> removedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final Object tokenWriteLock = new Object();
+
+    private volatile boolean ready;
+
+    /**
+     * Adds or replaces a customer.
+     *
+     * @param id the customer ID
+     * @param businessName the business name
+     * @param contactName the contact name
+     * @param email the email address
+     */
+    public void put(UUID id, String businessName, String contactName, String email) {
+        Entry entry = new Entry(id, businessName, contactName, email);
+        entries.compute(id, (key, previous) -> {
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(entry);
+            return entry;
+        });
+    }
+
+    /**
+     * Adds a customer unless it is already indexed or was removed since loading started.
+     * Used while loading, so a snapshot row never overrides a newer change applied concurrently.
+     *
+     * @param id the customer ID
+     * @param businessName the business name
+     * @param contactName the contact name
+     * @param email the email address
+     */
+    public void putIfAbsent(UUID id, String businessName, String contactName, String email) {
+        if (!entries.containsKey(id) && !removedWhileLoading.contains(id)) {
+            put(id, businessName, contactName, email);
+        }
+    }
+
+    /**
+     * Removes a customer (e.g. when it is deactivated).
+     *
+     * @param id the customer ID
+     */
+    public void remove(UUID id) {
+        if (!ready) {
+            removedWhileLoading.add(id);
+        }
+        entries.computeIfPresent(id, (key, previous) -> {
+            unlink(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Removes every customer (e.g. after all customers were deleted).
+     */
+    public void clear() {
+        entries.keySet().forEach(this::remove);
+    }
+
+    /**
+     * Returns the best matches for a query.
+     *
+     * @param query the text typed so far
+     * @param limit the maximum number of matches
+     * @return the matches, best first
+     */
+    public List<CustomerSuggestionDto> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        List<String> words = tokenize(normalized);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // The longest word has the narrowest token range; the others are checked per candidate
+        String driver = words.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        Set<Entry> candidates = new LinkedHashSet<>();
+        NavigableMap<String, Set<Entry>> range = tokens.subMap(driver, true, driver + Character.MAX_VALUE, false);
+        collect:
+        for (Set<Entry> postings : range.values()) {
+            for (Entry entry : postings) {
+                if (entry.matchesAll(words)) {
+                    candidates.add(entry);
+                    if (candidates.size() >= MAX_CANDIDATES) {
+                        break collect;
+                    }
+                }
+            }
+        }
+
+        return candidates.stream()
+            .sorted(Comparator.comparingInt((Entry entry) -> entry.rank(normalized))
+                .thenComparing(entry -> entry.sortName)
+                .thenComparing(entry -> entry.id))
+            .limit(limit)
+            .map(Entry::toDto)
+            .toList();
+    }
+
+    /**
+     * @return the number of indexed customers
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return whether the initial load has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Marks the initial load as completed.
+     */
+    public void markReady() {
+        this.ready = true;
+        removedWhileLoading.clear();
+    }
+
+    /*
+     * Postings sets are changed, and empty ones dropped, only under tokenWriteLock: the
+     * skip list's compute methods are not atomic, so a set being dropped by one customer's
+     * unlink could otherwise swallow another customer's concurrent add. Reads take no lock.
+     */
+    private void link(Entry entry) {
+        synchronized (tokenWriteLock) {
+            for (String token : entry.tokens) {
+                tokens.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(entry);
+            }
+        }
+    }
+
+    private void unlink(Entry entry) {
+        synchronized (tokenWriteLock) {
+            for (String token : entry.tokens) {
+                Set<Entry> postings = tokens.get(token);
+                if (postings != null && postings.remove(entry) && postings.isEmpty()) {
+                    tokens.remove(token);
+                }
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> tokenize(String normalized) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static final class Entry {
+
+        private final UUID id;
+        private final String businessName;
+        private final String contactName;
+        private final String email;
+        private final String sortName;
+        private final String[] fields;
+        private final Set<String> tokens;
+
+        private Entry(UUID id, String businessName, String contactName, String email) {
+            this.id = id;
+            this.businessName = businessName;
+            this.contactName = contactName;
+            this.email = email;
+            this.sortName = normalize(businessName);
+            this.fields = new String[] {sortName, normalize(contactName), normalize(email)};
+
+            Set<String> all = new LinkedHashSet<>();
+            for (String field : fields) {
+                all.addAll(tokenize(field));
+            }
+            this.tokens = Set.copyOf(all);
+        }
+
+        private boolean matchesAll(List<String> words) {
+            for (String word : words) {
+                boolean matched = false;
+                for (String token : tokens) {
+                    if (token.startsWith(word)) {
+                        matched = true;
+                        break;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int rank(String query) {
+            if (fields[0].startsWith(query)) {
+                return 0;
+            }
+            if (fields[1].startsWith(query) || fields[2].startsWith(query)) {
+                return 1;
+            }
+            return 2;
+        }
+
+        private CustomerSuggestionDto toDto() {
+            return new CustomerSuggestionDto(id, businessName, contactName, email);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.invoiceme.application.customers.SuggestCustomers;
+
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Fills the {@link CustomerTypeaheadIndex} once the application has started.
+ * Active customers are streamed through a cursor; until loading finishes,
+ * suggestions are answered by the database search instead.
+ */
+@Component
+public class CustomerTypeaheadLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerTypeaheadLoader.class);
+
+    private final CustomerRepository customerRepository;
+    private final CustomerTypeaheadIndex index;
+
+    public CustomerTypeaheadLoader(CustomerRepository customerRepository, CustomerTypeaheadIndex index) {
+        this.customerRepository = customerRepository;
+        this.index = index;
+    }
+
+    /**
+     * Loads every active customer into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long started = System.currentTimeMillis();
+        try (Stream<Object[]> rows = customerRepository.streamActiveSuggestionFields()) {
+            rows.forEach(row -> index.putIfAbsent((UUID) row[0], (String) row[1], (String) row[2], (String) row[3]));
+        }
+        index.markReady();
+        logger.info("Customer typeahead index loaded with {} customers in {} ms",
+                   index.size(), System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,54 @@
+package com.invoiceme.application.customers.SuggestCustomers;
+
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Handles customer autocomplete lookups.
+ * Answers from the in-process {@link CustomerTypeaheadIndex}; while the index is
+ * still loading after startup, falls back to the database search.
+ */
+@Service
+public class SuggestCustomersHandler {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+
+    private final CustomerTypeaheadIndex index;
+    private final CustomerRepository customerRepository;
+
+    public SuggestCustomersHandler(CustomerTypeaheadIndex index, CustomerRepository customerRepository) {
+        this.index = index;
+        this.customerRepository = customerRepository;
+    }
+
+    /**
+     * Returns the active customers best matching the text typed so far.
+     *
+     * @param text the text typed so far
+     * @param limit the maximum number of suggestions (default 10, max 50)
+     * @return the suggestions, best first
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerSuggestionDto> handle(String text, Integer limit) {
+        int max = limit != null ? limit : DEFAULT_LIMIT;
+        if (max < 1 || max > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        if (index.isReady()) {
+            return index.suggest(text, max);
+        }
+        return customerRepository.search(text, true, 0, max).stream()
+            .map(customer -> new CustomerSuggestionDto(customer.getId(), customer.getBusinessName(),
+                customer.getContactName(), customer.getEmail()))
+            .toList();
+    }
+}
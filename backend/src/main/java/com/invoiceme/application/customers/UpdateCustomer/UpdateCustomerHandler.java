@@ -1,7 +1,10 @@
 package com.invoiceme.application.customers.UpdateCustomer;
 
+import com.invoiceme.application.customers.SuggestCustomers.CustomerTypeaheadIndex;
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
 import com.invoiceme.domain.customer.Address;
 import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.infrastructure.cache.AfterCommit;
 import com.invoiceme.infrastructure.persistence.CustomerRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,10 +21,15 @@ public class UpdateCustomerHandler {
 
     private final CustomerRepository customerRepository;
     private final UpdateCustomerValidator validator;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final CustomerTypeaheadIndex typeaheadIndex;
 
-    public UpdateCustomerHandler(CustomerRepository customerRepository, UpdateCustomerValidator validator) {
+    public UpdateCustomerHandler(CustomerRepository customerRepository, UpdateCustomerValidator validator,
+                                 InvoiceDtoCache invoiceDtoCache, CustomerTypeaheadIndex typeaheadIndex) {
         this.customerRepository = customerRepository;
         this.validator = validator;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.typeaheadIndex = typeaheadIndex;
     }
 
     /**
@@ -59,6 +67,17 @@ public class UpdateCustomerHandler {
         // Save updated customer (updatedAt timestamp handled by @PreUpdate)
         Customer updatedCustomer = customerRepository.save(customer);
 
+        // Cached invoice DTOs carry the customer's name
+        invoiceDtoCache.invalidateCustomer(updatedCustomer.getId());
+
+        // Inactive customers are not suggested
+        if (updatedCustomer.isActive()) {
+            AfterCommit.run(() -> typeaheadIndex.put(updatedCustomer.getId(), updatedCustomer.getBusinessName(),
+                updatedCustomer.getContactName(), updatedCustomer.getEmail()));
+        } else {
+            AfterCommit.run(() -> typeaheadIndex.remove(updatedCustomer.getId()));
+        }
+
         return updatedCustomer.getId();
     }
 
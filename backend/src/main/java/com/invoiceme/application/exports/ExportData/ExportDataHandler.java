@@ -0,0 +1,72 @@
+package com.invoiceme.application.exports.ExportData;
+
+import com.invoiceme.infrastructure.persistence.ExportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Handles the ExportDataQuery.
+ * Streams rows from a database cursor straight to the output stream, so memory
+ * use does not grow with the number of rows. The whole export runs in one
+ * read-only REPEATABLE READ transaction and therefore sees a single consistent snapshot.
+ */
+@Service
+public class ExportDataHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportDataHandler.class);
+
+    private final ExportRepository exportRepository;
+
+    public ExportDataHandler(ExportRepository exportRepository) {
+        this.exportRepository = exportRepository;
+    }
+
+    /**
+     * Handles writing every row of the requested dataset.
+     *
+     * @param query the export query
+     * @param outputStream the stream to write to; flushed but not closed
+     * @return the number of rows written
+     * @throws IllegalArgumentException if the dataset or format is missing
+     * @throws UncheckedIOException if writing to the output stream fails
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long handle(ExportDataQuery query, OutputStream outputStream) {
+        if (query.getDataset() == null || query.getFormat() == null) {
+            throw new IllegalArgumentException("Export dataset and format are required");
+        }
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long rows = 0;
+
+        try (Stream<Object[]> stream = exportRepository.stream(query.getDataset())) {
+            ExportRowWriter rowWriter = new ExportRowWriter(query.getFormat(), query.getDataset().getColumns(), writer);
+            rowWriter.writeHeader();
+
+            Iterator<Object[]> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeRow(iterator.next());
+                rows++;
+            }
+
+            rowWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Export of " + query.getDataset() + " failed after " + rows + " rows", e);
+        }
+
+        logger.info("Exported {} {} rows as {}", rows, query.getDataset(), query.getFormat());
+        return rows;
+    }
+}
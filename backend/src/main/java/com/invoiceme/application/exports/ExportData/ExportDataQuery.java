@@ -0,0 +1,63 @@
+package com.invoiceme.application.exports.ExportData;
+
+import com.invoiceme.infrastructure.persistence.ExportDataset;
+
+import java.util.Objects;
+
+/**
+ * Query to export every row of a dataset.
+ * This is a read operation in the CQRS pattern.
+ */
+public class ExportDataQuery {
+
+    private ExportDataset dataset;
+    private ExportFormat format;
+
+    // Constructors
+    public ExportDataQuery() {
+    }
+
+    public ExportDataQuery(ExportDataset dataset, ExportFormat format) {
+        this.dataset = dataset;
+        this.format = format;
+    }
+
+    // Getters and Setters
+    public ExportDataset getDataset() {
+        return dataset;
+    }
+
+    public void setDataset(ExportDataset dataset) {
+        this.dataset = dataset;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ExportFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExportDataQuery that = (ExportDataQuery) o;
+        return dataset == that.dataset &&
+               format == that.format;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataset, format);
+    }
+
+    @Override
+    public String toString() {
+        return "ExportDataQuery{" +
+               "dataset=" + dataset +
+               ", format=" + format +
+               '}';
+    }
+}
@@ -0,0 +1,42 @@
+package com.invoiceme.application.exports.ExportData;
+
+/**
+ * Output formats supported by the export endpoints.
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves a format from its case-insensitive name.
+     *
+     * @param value the requested format, e.g. "csv"
+     * @return the matching format
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static ExportFormat fromValue(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+}
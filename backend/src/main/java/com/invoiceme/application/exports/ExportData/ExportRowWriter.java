@@ -0,0 +1,119 @@
+package com.invoiceme.application.exports.ExportData;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Writes export rows one at a time in CSV or NDJSON.
+ * Holds no rows itself; output goes straight to the underlying writer.
+ */
+class ExportRowWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer writer;
+    private final JsonGenerator json;
+
+    ExportRowWriter(ExportFormat format, List<String> columns, Writer writer) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.writer = writer;
+        if (format == ExportFormat.NDJSON) {
+            this.json = JSON_FACTORY.createGenerator(writer);
+            this.json.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } else {
+            this.json = null;
+        }
+    }
+
+    /**
+     * Writes the CSV header line; NDJSON has no header.
+     */
+    void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(columns.toArray());
+        }
+    }
+
+    /**
+     * Writes one row whose values follow the column order.
+     *
+     * @param values the row values
+     */
+    void writeRow(Object[] values) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(values);
+        } else {
+            writeJsonLine(values);
+        }
+    }
+
+    /**
+     * Flushes any buffered output.
+     */
+    void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvField(toText(values[i]));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeJsonLine(Object[] values) throws IOException {
+        json.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            json.writeFieldName(columns.get(i));
+            Object value = values[i];
+            if (value == null) {
+                json.writeNull();
+            } else if (value instanceof BigDecimal decimal) {
+                json.writeNumber(decimal);
+            } else if (value instanceof Number number) {
+                json.writeNumber(number.longValue());
+            } else {
+                json.writeString(toText(value));
+            }
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static String toText(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+}
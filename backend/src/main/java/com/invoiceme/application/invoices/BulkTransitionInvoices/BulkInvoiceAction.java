@@ -0,0 +1,9 @@
+package com.invoiceme.application.invoices.BulkTransitionInvoices;
+
+/**
+ * State transitions that can be applied to many invoices at once.
+ */
+public enum BulkInvoiceAction {
+    SEND,
+    CANCEL
+}
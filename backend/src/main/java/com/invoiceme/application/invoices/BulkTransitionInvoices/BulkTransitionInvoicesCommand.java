@@ -0,0 +1,148 @@
+package com.invoiceme.application.invoices.BulkTransitionInvoices;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Command to send or cancel many invoices at once.
+ * This is a write operation in the CQRS pattern.
+ * Targets are either an explicit list of invoice IDs or a filter
+ * (status, customer, issue date range); the two cannot be combined.
+ */
+public class BulkTransitionInvoicesCommand {
+
+    public static final int MAX_INVOICE_IDS = 20_000;
+
+    private BulkInvoiceAction action;
+    private List<UUID> invoiceIds;
+    private InvoiceStatus status;
+    private UUID customerId;
+    private LocalDate issueDateFrom;
+    private LocalDate issueDateTo;
+    private String cancellationReason;
+    private Integer chunkSize;
+
+    // Constructors
+    public BulkTransitionInvoicesCommand() {
+        this.invoiceIds = new ArrayList<>();
+    }
+
+    public BulkTransitionInvoicesCommand(BulkInvoiceAction action, List<UUID> invoiceIds) {
+        this.action = action;
+        this.invoiceIds = invoiceIds != null ? invoiceIds : new ArrayList<>();
+    }
+
+    /**
+     * Whether targets are selected by filter rather than by explicit IDs.
+     *
+     * @return true if any filter field is set
+     */
+    public boolean hasFilter() {
+        return status != null || customerId != null || issueDateFrom != null || issueDateTo != null;
+    }
+
+    // Getters and Setters
+    public BulkInvoiceAction getAction() {
+        return action;
+    }
+
+    public void setAction(BulkInvoiceAction action) {
+        this.action = action;
+    }
+
+    public List<UUID> getInvoiceIds() {
+        return invoiceIds;
+    }
+
+    public void setInvoiceIds(List<UUID> invoiceIds) {
+        this.invoiceIds = invoiceIds;
+    }
+
+    public InvoiceStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(InvoiceStatus status) {
+        this.status = status;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+
+    public LocalDate getIssueDateFrom() {
+        return issueDateFrom;
+    }
+
+    public void setIssueDateFrom(LocalDate issueDateFrom) {
+        this.issueDateFrom = issueDateFrom;
+    }
+
+    public LocalDate getIssueDateTo() {
+        return issueDateTo;
+    }
+
+    public void setIssueDateTo(LocalDate issueDateTo) {
+        this.issueDateTo = issueDateTo;
+    }
+
+    public String getCancellationReason() {
+        return cancellationReason;
+    }
+
+    public void setCancellationReason(String cancellationReason) {
+        this.cancellationReason = cancellationReason;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BulkTransitionInvoicesCommand that = (BulkTransitionInvoicesCommand) o;
+        return action == that.action &&
+               Objects.equals(invoiceIds, that.invoiceIds) &&
+               status == that.status &&
+               Objects.equals(customerId, that.customerId) &&
+               Objects.equals(issueDateFrom, that.issueDateFrom) &&
+               Objects.equals(issueDateTo, that.issueDateTo) &&
+               Objects.equals(cancellationReason, that.cancellationReason) &&
+               Objects.equals(chunkSize, that.chunkSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(action, invoiceIds, status, customerId, issueDateFrom, issueDateTo,
+                            cancellationReason, chunkSize);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkTransitionInvoicesCommand{" +
+               "action=" + action +
+               ", invoiceIds=" + (invoiceIds != null ? invoiceIds.size() : 0) +
+               ", status=" + status +
+               ", customerId=" + customerId +
+               ", issueDateFrom=" + issueDateFrom +
+               ", issueDateTo=" + issueDateTo +
+               ", cancellationReason='" + cancellationReason + '\'' +
+               ", chunkSize=" + chunkSize +
+               '}';
+    }
+}
@@ -0,0 +1,174 @@
+package com.invoiceme.application.invoices.BulkTransitionInvoices;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceSearchCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Handles the BulkTransitionInvoicesCommand.
+ * Resolves the target invoices, then sends or cancels them chunk by chunk, each chunk
+ * in its own transaction. A chunk that hits an optimistic locking conflict is retried
+ * one invoice at a time so only the conflicting invoices are reported as failed.
+ */
+@Service
+public class BulkTransitionInvoicesHandler {
+
+    public static final int MAX_CHUNK_SIZE = 1_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkTransitionInvoicesHandler.class);
+
+    private final InvoiceRepository invoiceRepository;
+    private final InvoiceTransitionChunkProcessor chunkProcessor;
+    private final int defaultChunkSize;
+
+    public BulkTransitionInvoicesHandler(InvoiceRepository invoiceRepository,
+                                         InvoiceTransitionChunkProcessor chunkProcessor,
+                                         @Value("${invoice.bulk-transition.chunk-size:200}") int defaultChunkSize) {
+        this.invoiceRepository = invoiceRepository;
+        this.chunkProcessor = chunkProcessor;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    /**
+     * Handles a bulk send or cancel.
+     *
+     * @param command the bulk transition command
+     * @return the per-invoice results
+     * @throws IllegalArgumentException if the action, targets, reason or chunk size are invalid
+     */
+    public BulkTransitionResult handle(BulkTransitionInvoicesCommand command) {
+        if (command.getAction() == null) {
+            throw new IllegalArgumentException("Action is required");
+        }
+        if (command.getAction() == BulkInvoiceAction.CANCEL
+                && (command.getCancellationReason() == null || command.getCancellationReason().trim().isEmpty())) {
+            throw new IllegalArgumentException("Cancellation reason is required");
+        }
+        int chunkSize = resolveChunkSize(command.getChunkSize());
+        List<UUID> invoiceIds = resolveTargets(command);
+
+        List<BulkTransitionItemResult> results = new ArrayList<>(invoiceIds.size());
+        for (int start = 0; start < invoiceIds.size(); start += chunkSize) {
+            List<UUID> chunk = invoiceIds.subList(start, Math.min(start + chunkSize, invoiceIds.size()));
+            results.addAll(processChunk(chunk, command));
+        }
+
+        BulkTransitionResult result = new BulkTransitionResult(command.getAction(), results);
+        logger.info("Bulk {} processed: {} succeeded, {} failed",
+            command.getAction(), result.getSucceededCount(), result.getFailedCount());
+        return result;
+    }
+
+    /**
+     * Processes one chunk, falling back to one transaction per invoice on a version conflict.
+     *
+     * @param chunk the invoice IDs of the chunk
+     * @param command the bulk transition command
+     * @return one result per invoice ID
+     */
+    private List<BulkTransitionItemResult> processChunk(List<UUID> chunk, BulkTransitionInvoicesCommand command) {
+        try {
+            return chunkProcessor.process(chunk, command.getAction(), command.getCancellationReason());
+        } catch (OptimisticLockingFailureException e) {
+            logger.debug("Version conflict in bulk {} chunk of {} invoices, retrying individually",
+                command.getAction(), chunk.size());
+        } catch (RuntimeException e) {
+            logger.warn("Bulk {} chunk of {} invoices failed: {}", command.getAction(), chunk.size(), e.getMessage());
+            return failAll(chunk, "Chunk failed to commit: " + e.getMessage());
+        }
+
+        List<BulkTransitionItemResult> results = new ArrayList<>(chunk.size());
+        for (UUID invoiceId : chunk) {
+            try {
+                results.addAll(chunkProcessor.process(List.of(invoiceId), command.getAction(),
+                    command.getCancellationReason()));
+            } catch (OptimisticLockingFailureException e) {
+                results.add(BulkTransitionItemResult.failed(invoiceId,
+                    "Invoice was modified concurrently, please retry"));
+            } catch (RuntimeException e) {
+                results.add(BulkTransitionItemResult.failed(invoiceId, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private List<BulkTransitionItemResult> failAll(List<UUID> chunk, String error) {
+        List<BulkTransitionItemResult> results = new ArrayList<>(chunk.size());
+        for (UUID invoiceId : chunk) {
+            results.add(BulkTransitionItemResult.failed(invoiceId, error));
+        }
+        return results;
+    }
+
+    /**
+     * Resolves the invoices to transition from either the explicit IDs or the filter.
+     *
+     * @param command the bulk transition command
+     * @return the distinct invoice IDs, in request order or oldest first for filters
+     */
+    private List<UUID> resolveTargets(BulkTransitionInvoicesCommand command) {
+        boolean hasIds = command.getInvoiceIds() != null && !command.getInvoiceIds().isEmpty();
+        if (hasIds && command.hasFilter()) {
+            throw new IllegalArgumentException("Provide either invoice IDs or a filter, not both");
+        }
+
+        if (hasIds) {
+            if (command.getInvoiceIds().size() > BulkTransitionInvoicesCommand.MAX_INVOICE_IDS) {
+                throw new IllegalArgumentException("At most " + BulkTransitionInvoicesCommand.MAX_INVOICE_IDS + " invoice IDs are allowed");
+            }
+            if (command.getInvoiceIds().contains(null)) {
+                throw new IllegalArgumentException("Invoice IDs must not be null");
+            }
+            return new ArrayList<>(new LinkedHashSet<>(command.getInvoiceIds()));
+        }
+
+        if (!command.hasFilter()) {
+            throw new IllegalArgumentException("Invoice IDs or a filter is required");
+        }
+        if (command.getIssueDateFrom() != null && command.getIssueDateTo() != null
+                && command.getIssueDateTo().isBefore(command.getIssueDateFrom())) {
+            throw new IllegalArgumentException("Issue date range end must be on or after its start");
+        }
+
+        InvoiceStatus status = command.getStatus();
+        if (command.getAction() == BulkInvoiceAction.SEND) {
+            if (status != null && status != InvoiceStatus.DRAFT) {
+                throw new IllegalArgumentException("Only DRAFT invoices can be sent");
+            }
+            status = InvoiceStatus.DRAFT;
+        }
+
+        InvoiceSearchCriteria criteria = new InvoiceSearchCriteria();
+        criteria.setStatus(status);
+        criteria.setCustomerId(command.getCustomerId());
+        criteria.setIssueDateFrom(command.getIssueDateFrom());
+        criteria.setIssueDateTo(command.getIssueDateTo());
+        return invoiceRepository.findIds(criteria);
+    }
+
+    /**
+     * Validates the requested chunk size, applying the configured default when absent.
+     *
+     * @param chunkSize the requested chunk size
+     * @return the effective chunk size
+     */
+    private int resolveChunkSize(Integer chunkSize) {
+        if (chunkSize == null) {
+            return defaultChunkSize;
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        return chunkSize;
+    }
+}
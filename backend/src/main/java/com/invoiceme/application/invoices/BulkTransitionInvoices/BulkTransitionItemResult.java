@@ -0,0 +1,81 @@
+package com.invoiceme.application.invoices.BulkTransitionInvoices;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk transition for one invoice.
+ */
+public class BulkTransitionItemResult {
+
+    private UUID invoiceId;
+    private boolean success;
+    private String error;
+
+    // Constructors
+    public BulkTransitionItemResult() {
+    }
+
+    public BulkTransitionItemResult(UUID invoiceId, boolean success, String error) {
+        this.invoiceId = invoiceId;
+        this.success = success;
+        this.error = error;
+    }
+
+    public static BulkTransitionItemResult succeeded(UUID invoiceId) {
+        return new BulkTransitionItemResult(invoiceId, true, null);
+    }
+
+    public static BulkTransitionItemResult failed(UUID invoiceId, String error) {
+        return new BulkTransitionItemResult(invoiceId, false, error);
+    }
+
+    // Getters and Setters
+    public UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    public void setInvoiceId(UUID invoiceId) {
+        this.invoiceId = invoiceId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BulkTransitionItemResult that = (BulkTransitionItemResult) o;
+        return success == that.success &&
+               Objects.equals(invoiceId, that.invoiceId) &&
+               Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(invoiceId, success, error);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkTransitionItemResult{" +
+               "invoiceId=" + invoiceId +
+               ", success=" + success +
+               ", error='" + error + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.invoiceme.application.invoices.BulkTransitionInvoices;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Summary and per-invoice outcomes of a bulk transition, in processing order.
+ */
+public class BulkTransitionResult {
+
+    private BulkInvoiceAction action;
+    private int succeededCount;
+    private int failedCount;
+    private List<BulkTransitionItemResult> results;
+
+    // Constructors
+    public BulkTransitionResult() {
+        this.results = new ArrayList<>();
+    }
+
+    public BulkTransitionResult(BulkInvoiceAction action, List<BulkTransitionItemResult> results) {
+        this.action = action;
+        this.results = results != null ? results : new ArrayList<>();
+        this.succeededCount = (int) this.results.stream().filter(BulkTransitionItemResult::isSuccess).count();
+        this.failedCount = this.results.size() - succeededCount;
+    }
+
+    // Getters and Setters
+    public BulkInvoiceAction getAction() {
+        return action;
+    }
+
+    public void setAction(BulkInvoiceAction action) {
+        this.action = action;
+    }
+
+    public int getSucceededCount() {
+        return succeededCount;
+    }
+
+    public void setSucceededCount(int succeededCount) {
+        this.succeededCount = succeededCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<BulkTransitionItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkTransitionItemResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BulkTransitionResult that = (BulkTransitionResult) o;
+        return succeededCount == that.succeededCount &&
+               failedCount == that.failedCount &&
+               action == that.action &&
+               Objects.equals(results, that.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(action, succeededCount, failedCount, results);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkTransitionResult{" +
+               "action=" + action +
+               ", succeededCount=" + succeededCount +
+               ", failedCount=" + failedCount +
+               ", results=" + results +
+               '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.invoiceme.application.invoices.BulkTransitionInvoices;
+
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.application.payments.ResolvePaymentLink.PaymentLinkCache;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Applies a bulk transition to one chunk of invoices in its own transaction.
+ * Invoices are loaded with a single query, changed through the domain methods,
+ * and flushed together so the versioned UPDATEs go out as JDBC batches.
+ */
+@Component
+public class InvoiceTransitionChunkProcessor {
+
+    private final InvoiceRepository invoiceRepository;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final PaymentLinkCache paymentLinkCache;
+
+    public InvoiceTransitionChunkProcessor(InvoiceRepository invoiceRepository, InvoiceDtoCache invoiceDtoCache,
+                                           PaymentLinkCache paymentLinkCache) {
+        this.invoiceRepository = invoiceRepository;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.paymentLinkCache = paymentLinkCache;
+    }
+
+    /**
+     * Transitions the given invoices and commits.
+     * Domain rule violations are reported per invoice and do not affect the rest of the chunk.
+     *
+     * @param invoiceIds the invoices of this chunk
+     * @param action the transition to apply
+     * @param cancellationReason the reason, when cancelling
+     * @return one result per invoice ID, in the given order
+     * @throws org.springframework.dao.OptimisticLockingFailureException if any invoice was
+     *         modified concurrently; the whole chunk is rolled back
+     */
+    @Transactional
+    public List<BulkTransitionItemResult> process(List<UUID> invoiceIds, BulkInvoiceAction action,
+                                                  String cancellationReason) {
+        Map<UUID, Invoice> invoices = new HashMap<>();
+        for (Invoice invoice : invoiceRepository.findAllWithLineItemsByIdIn(invoiceIds)) {
+            invoices.put(invoice.getId(), invoice);
+        }
+
+        List<BulkTransitionItemResult> results = new ArrayList<>(invoiceIds.size());
+        for (UUID invoiceId : invoiceIds) {
+            Invoice invoice = invoices.get(invoiceId);
+            if (invoice == null) {
+                results.add(BulkTransitionItemResult.failed(invoiceId, "Invoice not found with ID: " + invoiceId));
+                continue;
+            }
+            try {
+                apply(invoice, action, cancellationReason);
+                if (action == BulkInvoiceAction.SEND) {
+                    paymentLinkCache.warm(invoice.getPaymentLink(), invoiceId);
+                } else {
+                    paymentLinkCache.evict(invoice.getPaymentLink());
+                }
+                results.add(BulkTransitionItemResult.succeeded(invoiceId));
+            } catch (IllegalStateException e) {
+                results.add(BulkTransitionItemResult.failed(invoiceId, e.getMessage()));
+            }
+        }
+
+        // Version checks happen here; a stale invoice fails the chunk
+        invoiceRepository.flush();
+        invoiceDtoCache.invalidate(invoices.keySet());
+
+        return results;
+    }
+
+    private void apply(Invoice invoice, BulkInvoiceAction action, String cancellationReason) {
+        switch (action) {
+            case SEND -> invoice.send();
+            case CANCEL -> invoice.cancel(cancellationReason);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.invoiceme.application.invoices.CancelInvoice;
 
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.application.payments.ResolvePaymentLink.PaymentLinkCache;
 import com.invoiceme.domain.invoice.Invoice;
 import com.invoiceme.infrastructure.persistence.InvoiceRepository;
 import org.springframework.stereotype.Service;
@@ -15,9 +17,14 @@ import java.util.UUID;
 public class CancelInvoiceHandler {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final PaymentLinkCache paymentLinkCache;
 
-    public CancelInvoiceHandler(InvoiceRepository invoiceRepository) {
+    public CancelInvoiceHandler(InvoiceRepository invoiceRepository, InvoiceDtoCache invoiceDtoCache,
+                                PaymentLinkCache paymentLinkCache) {
         this.invoiceRepository = invoiceRepository;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.paymentLinkCache = paymentLinkCache;
     }
 
     /**
@@ -48,6 +55,8 @@ public class CancelInvoiceHandler {
 
         // Save changes
         invoiceRepository.save(invoice);
+        invoiceDtoCache.invalidate(invoice.getId());
+        paymentLinkCache.evict(invoice.getPaymentLink());
 
         // TODO: Publish InvoiceCancelledEvent
         // eventPublisher.publish(new InvoiceCancelledEvent(invoice.getId(), command.getCancellationReason()));
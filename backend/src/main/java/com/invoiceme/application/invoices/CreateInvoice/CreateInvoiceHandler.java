@@ -6,12 +6,11 @@ import com.invoiceme.domain.invoice.InvoiceStatus;
 import com.invoiceme.domain.invoice.LineItem;
 import com.invoiceme.infrastructure.persistence.CustomerRepository;
 import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.services.InvoiceNumberAllocator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,18 +21,19 @@ import java.util.UUID;
 @Service
 public class CreateInvoiceHandler {
 
-    private static final DateTimeFormatter INVOICE_NUMBER_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
-
     private final InvoiceRepository invoiceRepository;
     private final CustomerRepository customerRepository;
     private final CreateInvoiceValidator validator;
+    private final InvoiceNumberAllocator invoiceNumberAllocator;
 
     public CreateInvoiceHandler(InvoiceRepository invoiceRepository,
                                 CustomerRepository customerRepository,
-                                CreateInvoiceValidator validator) {
+                                CreateInvoiceValidator validator,
+                                InvoiceNumberAllocator invoiceNumberAllocator) {
         this.invoiceRepository = invoiceRepository;
         this.customerRepository = customerRepository;
         this.validator = validator;
+        this.invoiceNumberAllocator = invoiceNumberAllocator;
     }
 
     /**
@@ -84,7 +84,7 @@ public class CreateInvoiceHandler {
         invoice.calculateTotals();
 
         // Generate invoice number (format: INV-YYYYMM-NNNN)
-        String invoiceNumber = generateInvoiceNumber(command.getIssueDate());
+        String invoiceNumber = invoiceNumberAllocator.allocate(command.getIssueDate());
         invoice.setInvoiceNumber(invoiceNumber);
 
         // Save to repository
@@ -95,21 +95,4 @@ public class CreateInvoiceHandler {
 
         return savedInvoice.getId();
     }
-
-    /**
-     * Generates a unique invoice number in the format: INV-YYYYMM-NNNN
-     *
-     * @param issueDate the issue date of the invoice
-     * @return the generated invoice number
-     */
-    private String generateInvoiceNumber(LocalDate issueDate) {
-        String yearMonth = issueDate.format(INVOICE_NUMBER_DATE_FORMAT);
-
-        // Find the next sequential number for this month
-        // In a production system, this would use a database sequence or atomic counter
-        long count = invoiceRepository.count() + 1;
-        String sequentialNumber = String.format("%04d", count);
-
-        return "INV-" + yearMonth + "-" + sequentialNumber;
-    }
 }
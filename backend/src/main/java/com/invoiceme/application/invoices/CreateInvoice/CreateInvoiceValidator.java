@@ -36,6 +36,35 @@ public class CreateInvoiceValidator {
             errors.add("Customer with ID " + command.getCustomerId() + " does not exist");
         }
 
+        validateInvoiceDetails(command, errors);
+        return errors;
+    }
+
+    /**
+     * Validates the create invoice command without checking that the customer exists.
+     * Used by batch creation, which checks all customers of a batch with a single query.
+     *
+     * @param command the command to validate
+     * @return list of validation error messages (empty if valid)
+     */
+    public List<String> validateFields(CreateInvoiceCommand command) {
+        List<String> errors = new ArrayList<>();
+
+        if (command.getCustomerId() == null) {
+            errors.add("Customer ID is required");
+        }
+
+        validateInvoiceDetails(command, errors);
+        return errors;
+    }
+
+    /**
+     * Validates dates, tax amount and line items.
+     *
+     * @param command the command to validate
+     * @param errors the list to add errors to
+     */
+    private void validateInvoiceDetails(CreateInvoiceCommand command, List<String> errors) {
         // Validate issue date
         if (command.getIssueDate() == null) {
             errors.add("Issue date is required");
@@ -59,8 +88,6 @@ public class CreateInvoiceValidator {
         } else {
             validateLineItems(command.getLineItems(), errors);
         }
-
-        return errors;
     }
 
     /**
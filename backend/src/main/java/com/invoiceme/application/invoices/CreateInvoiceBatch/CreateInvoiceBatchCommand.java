@@ -0,0 +1,69 @@
+package com.invoiceme.application.invoices.CreateInvoiceBatch;
+
+import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command to create many invoices in one request.
+ * This is a write operation in the CQRS pattern.
+ * Invoices are committed in chunks; a failure only rolls back the chunk it occurred in.
+ */
+public class CreateInvoiceBatchCommand {
+
+    public static final int MAX_INVOICES = 20_000;
+
+    private List<CreateInvoiceCommand> invoices;
+    private Integer chunkSize;
+
+    // Constructors
+    public CreateInvoiceBatchCommand() {
+        this.invoices = new ArrayList<>();
+    }
+
+    public CreateInvoiceBatchCommand(List<CreateInvoiceCommand> invoices, Integer chunkSize) {
+        this.invoices = invoices != null ? invoices : new ArrayList<>();
+        this.chunkSize = chunkSize;
+    }
+
+    // Getters and Setters
+    public List<CreateInvoiceCommand> getInvoices() {
+        return invoices;
+    }
+
+    public void setInvoices(List<CreateInvoiceCommand> invoices) {
+        this.invoices = invoices;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CreateInvoiceBatchCommand that = (CreateInvoiceBatchCommand) o;
+        return Objects.equals(invoices, that.invoices) &&
+               Objects.equals(chunkSize, that.chunkSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(invoices, chunkSize);
+    }
+
+    @Override
+    public String toString() {
+        return "CreateInvoiceBatchCommand{" +
+               "invoices=" + (invoices != null ? invoices.size() : 0) +
+               ", chunkSize=" + chunkSize +
+               '}';
+    }
+}
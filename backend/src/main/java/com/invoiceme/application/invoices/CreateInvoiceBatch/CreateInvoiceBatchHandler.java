@@ -0,0 +1,179 @@
+package com.invoiceme.application.invoices.CreateInvoiceBatch;
+
+import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceCommand;
+import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceValidator;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.services.InvoiceNumberAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Handles the CreateInvoiceBatchCommand.
+ * Validates every item up front (customers with a single IN query), pre-assigns
+ * IDs and invoice numbers in bulk, then inserts the valid items in chunks, each
+ * committed in its own transaction. Returns one result per requested invoice.
+ */
+@Service
+public class CreateInvoiceBatchHandler {
+
+    public static final int MAX_CHUNK_SIZE = 5_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(CreateInvoiceBatchHandler.class);
+
+    private final CreateInvoiceValidator validator;
+    private final CustomerRepository customerRepository;
+    private final InvoiceNumberAllocator invoiceNumberAllocator;
+    private final InvoiceBatchChunkWriter chunkWriter;
+    private final int defaultChunkSize;
+
+    public CreateInvoiceBatchHandler(CreateInvoiceValidator validator,
+                                     CustomerRepository customerRepository,
+                                     InvoiceNumberAllocator invoiceNumberAllocator,
+                                     InvoiceBatchChunkWriter chunkWriter,
+                                     @Value("${invoice.batch.chunk-size:500}") int defaultChunkSize) {
+        this.validator = validator;
+        this.customerRepository = customerRepository;
+        this.invoiceNumberAllocator = invoiceNumberAllocator;
+        this.chunkWriter = chunkWriter;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    /**
+     * Handles the creation of a batch of invoices.
+     * Invalid items are reported and skipped; if a chunk fails to commit,
+     * every item of that chunk is reported as failed and later chunks still run.
+     *
+     * @param command the batch command
+     * @return the per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty, too large or the chunk size is invalid
+     */
+    public CreateInvoiceBatchResult handle(CreateInvoiceBatchCommand command) {
+        List<CreateInvoiceCommand> invoices = command.getInvoices();
+        if (invoices == null || invoices.isEmpty()) {
+            throw new IllegalArgumentException("At least one invoice is required");
+        }
+        if (invoices.size() > CreateInvoiceBatchCommand.MAX_INVOICES) {
+            throw new IllegalArgumentException("A batch may contain at most " + CreateInvoiceBatchCommand.MAX_INVOICES + " invoices");
+        }
+        int chunkSize = resolveChunkSize(command.getChunkSize());
+
+        InvoiceBatchItemResult[] results = new InvoiceBatchItemResult[invoices.size()];
+
+        // Validate fields of every item; customers are checked together below
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < invoices.size(); i++) {
+            CreateInvoiceCommand invoice = invoices.get(i);
+            List<String> errors = invoice != null
+                ? validator.validateFields(invoice)
+                : List.of("Invoice is required");
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                results[i] = InvoiceBatchItemResult.failed(i, errors);
+            }
+        }
+
+        // Check all referenced customers with a single IN query
+        Set<UUID> customerIds = new HashSet<>();
+        for (int index : validIndexes) {
+            customerIds.add(invoices.get(index).getCustomerId());
+        }
+        Set<UUID> existingCustomerIds = customerIds.isEmpty()
+            ? Set.of()
+            : new HashSet<>(customerRepository.findExistingIds(customerIds));
+
+        List<Integer> insertableIndexes = new ArrayList<>(validIndexes.size());
+        for (int index : validIndexes) {
+            UUID customerId = invoices.get(index).getCustomerId();
+            if (existingCustomerIds.contains(customerId)) {
+                insertableIndexes.add(index);
+            } else {
+                results[index] = InvoiceBatchItemResult.failed(index,
+                    List.of("Customer with ID " + customerId + " does not exist"));
+            }
+        }
+
+        // Insert in chunks, each in its own transaction
+        for (int start = 0; start < insertableIndexes.size(); start += chunkSize) {
+            List<Integer> chunkIndexes = insertableIndexes.subList(start, Math.min(start + chunkSize, insertableIndexes.size()));
+            List<PreparedInvoice> chunk = prepare(invoices, chunkIndexes);
+            try {
+                chunkWriter.write(chunk);
+                for (PreparedInvoice prepared : chunk) {
+                    results[prepared.getIndex()] = InvoiceBatchItemResult.created(
+                        prepared.getIndex(), prepared.getInvoiceId(), prepared.getInvoiceNumber());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Invoice batch chunk of {} items starting at index {} failed: {}",
+                    chunk.size(), chunkIndexes.get(0), e.getMessage());
+                for (PreparedInvoice prepared : chunk) {
+                    results[prepared.getIndex()] = InvoiceBatchItemResult.failed(prepared.getIndex(),
+                        List.of("Chunk failed to commit: " + e.getMessage()));
+                }
+            }
+        }
+
+        CreateInvoiceBatchResult result = new CreateInvoiceBatchResult(Arrays.asList(results));
+        logger.info("Invoice batch processed: {} created, {} failed", result.getCreatedCount(), result.getFailedCount());
+        return result;
+    }
+
+    /**
+     * Validates the requested chunk size, applying the configured default when absent.
+     *
+     * @param chunkSize the requested chunk size
+     * @return the effective chunk size
+     */
+    private int resolveChunkSize(Integer chunkSize) {
+        if (chunkSize == null) {
+            return defaultChunkSize;
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        return chunkSize;
+    }
+
+    /**
+     * Assigns IDs and invoice numbers to a chunk, reserving numbers per issue month in bulk.
+     *
+     * @param invoices all requested invoices
+     * @param chunkIndexes the request positions that make up this chunk
+     * @return the prepared invoices in request order
+     */
+    private List<PreparedInvoice> prepare(List<CreateInvoiceCommand> invoices, List<Integer> chunkIndexes) {
+        Map<YearMonth, List<Integer>> indexesByMonth = new LinkedHashMap<>();
+        for (int index : chunkIndexes) {
+            YearMonth month = YearMonth.from(invoices.get(index).getIssueDate());
+            indexesByMonth.computeIfAbsent(month, key -> new ArrayList<>()).add(index);
+        }
+
+        Map<Integer, String> numbers = new LinkedHashMap<>();
+        for (Map.Entry<YearMonth, List<Integer>> entry : indexesByMonth.entrySet()) {
+            LocalDate monthDate = entry.getKey().atDay(1);
+            List<String> allocated = invoiceNumberAllocator.allocate(monthDate, entry.getValue().size());
+            for (int i = 0; i < allocated.size(); i++) {
+                numbers.put(entry.getValue().get(i), allocated.get(i));
+            }
+        }
+
+        List<PreparedInvoice> chunk = new ArrayList<>(chunkIndexes.size());
+        for (int index : chunkIndexes) {
+            chunk.add(new PreparedInvoice(index, invoices.get(index), UUID.randomUUID(), numbers.get(index)));
+        }
+        return chunk;
+    }
+}
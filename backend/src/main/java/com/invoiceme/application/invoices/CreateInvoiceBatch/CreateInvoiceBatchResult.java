@@ -0,0 +1,75 @@
+package com.invoiceme.application.invoices.CreateInvoiceBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per-item results of a batch invoice creation, in request order.
+ */
+public class CreateInvoiceBatchResult {
+
+    private int createdCount;
+    private int failedCount;
+    private List<InvoiceBatchItemResult> results;
+
+    // Constructors
+    public CreateInvoiceBatchResult() {
+        this.results = new ArrayList<>();
+    }
+
+    public CreateInvoiceBatchResult(List<InvoiceBatchItemResult> results) {
+        this.results = results != null ? results : new ArrayList<>();
+        this.createdCount = (int) this.results.stream().filter(InvoiceBatchItemResult::isSuccess).count();
+        this.failedCount = this.results.size() - createdCount;
+    }
+
+    // Getters and Setters
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<InvoiceBatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<InvoiceBatchItemResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CreateInvoiceBatchResult that = (CreateInvoiceBatchResult) o;
+        return createdCount == that.createdCount &&
+               failedCount == that.failedCount &&
+               Objects.equals(results, that.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdCount, failedCount, results);
+    }
+
+    @Override
+    public String toString() {
+        return "CreateInvoiceBatchResult{" +
+               "createdCount=" + createdCount +
+               ", failedCount=" + failedCount +
+               ", results=" + results +
+               '}';
+    }
+}
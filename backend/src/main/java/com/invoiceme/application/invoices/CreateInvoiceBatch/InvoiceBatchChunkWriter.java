@@ -0,0 +1,78 @@
+package com.invoiceme.application.invoices.CreateInvoiceBatch;
+
+import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceCommand;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.invoice.LineItem;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts one chunk of a batch in its own transaction.
+ * Customers are attached by reference (no SELECT), and invoices and line items
+ * are flushed together so Hibernate can send them as ordered JDBC batches.
+ */
+@Component
+public class InvoiceBatchChunkWriter {
+
+    private final InvoiceRepository invoiceRepository;
+    private final CustomerRepository customerRepository;
+
+    public InvoiceBatchChunkWriter(InvoiceRepository invoiceRepository,
+                                   CustomerRepository customerRepository) {
+        this.invoiceRepository = invoiceRepository;
+        this.customerRepository = customerRepository;
+    }
+
+    /**
+     * Inserts the chunk's invoices and commits.
+     *
+     * @param chunk the prepared invoices of this chunk
+     */
+    @Transactional
+    public void write(List<PreparedInvoice> chunk) {
+        List<Invoice> invoices = new ArrayList<>(chunk.size());
+        for (PreparedInvoice prepared : chunk) {
+            invoices.add(toInvoice(prepared));
+        }
+        invoiceRepository.persistAll(invoices);
+    }
+
+    /**
+     * Builds a DRAFT invoice the same way CreateInvoiceHandler does.
+     *
+     * @param prepared the prepared batch item
+     * @return the new invoice entity
+     */
+    private Invoice toInvoice(PreparedInvoice prepared) {
+        CreateInvoiceCommand command = prepared.getCommand();
+
+        Invoice invoice = new Invoice();
+        invoice.setId(prepared.getInvoiceId());
+        invoice.setInvoiceNumber(prepared.getInvoiceNumber());
+        invoice.setCustomer(customerRepository.getReferenceById(command.getCustomerId()));
+        invoice.setIssueDate(command.getIssueDate());
+        invoice.setDueDate(command.getDueDate());
+        invoice.setStatus(InvoiceStatus.DRAFT);
+        invoice.setNotes(command.getNotes());
+        invoice.setTaxAmount(command.getTaxAmount() != null ? command.getTaxAmount() : BigDecimal.ZERO);
+
+        for (CreateInvoiceCommand.LineItemDto itemDto : command.getLineItems()) {
+            LineItem lineItem = new LineItem();
+            lineItem.setDescription(itemDto.getDescription());
+            lineItem.setQuantity(itemDto.getQuantity());
+            lineItem.setUnitPrice(itemDto.getUnitPrice());
+            lineItem.calculateLineTotal();
+            invoice.addLineItem(lineItem);
+        }
+
+        invoice.calculateTotals();
+        return invoice;
+    }
+}
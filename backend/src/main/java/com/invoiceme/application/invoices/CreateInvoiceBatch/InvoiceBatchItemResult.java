@@ -0,0 +1,109 @@
+package com.invoiceme.application.invoices.CreateInvoiceBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Outcome of one invoice in a batch, identified by its position in the request.
+ */
+public class InvoiceBatchItemResult {
+
+    private int index;
+    private boolean success;
+    private UUID invoiceId;
+    private String invoiceNumber;
+    private List<String> errors;
+
+    // Constructors
+    public InvoiceBatchItemResult() {
+        this.errors = new ArrayList<>();
+    }
+
+    public InvoiceBatchItemResult(int index, boolean success, UUID invoiceId, String invoiceNumber,
+                                  List<String> errors) {
+        this.index = index;
+        this.success = success;
+        this.invoiceId = invoiceId;
+        this.invoiceNumber = invoiceNumber;
+        this.errors = errors != null ? errors : new ArrayList<>();
+    }
+
+    public static InvoiceBatchItemResult created(int index, UUID invoiceId, String invoiceNumber) {
+        return new InvoiceBatchItemResult(index, true, invoiceId, invoiceNumber, null);
+    }
+
+    public static InvoiceBatchItemResult failed(int index, List<String> errors) {
+        return new InvoiceBatchItemResult(index, false, null, null, errors);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    public void setInvoiceId(UUID invoiceId) {
+        this.invoiceId = invoiceId;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public void setInvoiceNumber(String invoiceNumber) {
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InvoiceBatchItemResult that = (InvoiceBatchItemResult) o;
+        return index == that.index &&
+               success == that.success &&
+               Objects.equals(invoiceId, that.invoiceId) &&
+               Objects.equals(invoiceNumber, that.invoiceNumber) &&
+               Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, success, invoiceId, invoiceNumber, errors);
+    }
+
+    @Override
+    public String toString() {
+        return "InvoiceBatchItemResult{" +
+               "index=" + index +
+               ", success=" + success +
+               ", invoiceId=" + invoiceId +
+               ", invoiceNumber='" + invoiceNumber + '\'' +
+               ", errors=" + errors +
+               '}';
+    }
+}
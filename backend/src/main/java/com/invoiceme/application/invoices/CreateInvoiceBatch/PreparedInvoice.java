@@ -0,0 +1,39 @@
+package com.invoiceme.application.invoices.CreateInvoiceBatch;
+
+import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceCommand;
+
+import java.util.UUID;
+
+/**
+ * A validated batch item with its pre-assigned ID and invoice number.
+ */
+class PreparedInvoice {
+
+    private final int index;
+    private final CreateInvoiceCommand command;
+    private final UUID invoiceId;
+    private final String invoiceNumber;
+
+    PreparedInvoice(int index, CreateInvoiceCommand command, UUID invoiceId, String invoiceNumber) {
+        this.index = index;
+        this.command = command;
+        this.invoiceId = invoiceId;
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    CreateInvoiceCommand getCommand() {
+        return command;
+    }
+
+    UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+}
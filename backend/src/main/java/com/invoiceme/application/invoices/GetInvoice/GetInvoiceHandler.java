@@ -12,14 +12,18 @@ import java.util.stream.Collectors;
 /**
  * Handles the GetInvoiceQuery.
  * Fetches invoice and maps to DTO with read-only transaction.
+ * DTOs are served from {@link InvoiceDtoCache} while the invoice's version is unchanged,
+ * which costs a single-column lookup instead of loading the invoice, customer and line items.
  */
 @Service
 public class GetInvoiceHandler {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceDtoCache invoiceDtoCache;
 
-    public GetInvoiceHandler(InvoiceRepository invoiceRepository) {
+    public GetInvoiceHandler(InvoiceRepository invoiceRepository, InvoiceDtoCache invoiceDtoCache) {
         this.invoiceRepository = invoiceRepository;
+        this.invoiceDtoCache = invoiceDtoCache;
     }
 
     /**
@@ -35,12 +39,22 @@ public class GetInvoiceHandler {
             throw new IllegalArgumentException("Invoice ID is required");
         }
 
+        // Serve the cached DTO if the invoice has not changed since it was built
+        long version = invoiceRepository.findVersionById(query.getInvoiceId())
+            .orElseThrow(() -> new IllegalArgumentException("Invoice not found with ID: " + query.getInvoiceId()));
+        InvoiceDto cached = invoiceDtoCache.get(query.getInvoiceId(), version);
+        if (cached != null) {
+            return cached;
+        }
+
         // Get invoice
         Invoice invoice = invoiceRepository.findById(query.getInvoiceId())
             .orElseThrow(() -> new IllegalArgumentException("Invoice not found with ID: " + query.getInvoiceId()));
 
         // Map to DTO
-        return mapToDto(invoice);
+        InvoiceDto dto = mapToDto(invoice);
+        invoiceDtoCache.put(dto, invoice.getVersion() != null ? invoice.getVersion() : 0L);
+        return dto;
     }
 
     /**
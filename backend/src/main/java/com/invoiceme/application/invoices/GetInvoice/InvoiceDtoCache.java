@@ -0,0 +1,123 @@
+package com.invoiceme.application.invoices.GetInvoice;
+
+import com.invoiceme.infrastructure.cache.AfterCommit;
+import com.invoiceme.infrastructure.cache.BoundedCache;
+import com.invoiceme.infrastructure.cache.CacheStats;
+import com.invoiceme.infrastructure.cache.MonitoredCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-process cache of invoice detail DTOs, keyed by invoice ID.
+ *
+ * An entry is only served while the invoice's {@code @Version} still matches the
+ * version it was built from, and only on the day it was built (the overdue flag
+ * depends on the date). Handlers that change an invoice also invalidate its entry,
+ * once immediately and once after their transaction commits, so memory is freed
+ * early and no reader can re-cache the pre-commit state.
+ *
+ * Cached DTOs are shared between callers and must be treated as read-only.
+ */
+@Component
+public class InvoiceDtoCache implements MonitoredCache {
+
+    private final BoundedCache<UUID, CachedInvoice> cache;
+
+    public InvoiceDtoCache(@Value("${invoice.cache.max-size:10000}") int maxSize,
+                           @Value("${invoice.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new BoundedCache<>("invoice-dto", maxSize, ttlSeconds);
+    }
+
+    /**
+     * Returns the cached DTO if it was built from the given invoice version today.
+     *
+     * @param invoiceId the invoice ID
+     * @param version the invoice's current version
+     * @return the cached DTO, or null on a miss
+     */
+    public InvoiceDto get(UUID invoiceId, long version) {
+        LocalDate today = LocalDate.now();
+        CachedInvoice cached = cache.get(invoiceId,
+            entry -> entry.version == version && entry.builtOn.equals(today));
+        return cached != null ? cached.dto : null;
+    }
+
+    /**
+     * Caches a DTO built from the given invoice version.
+     *
+     * @param dto the invoice DTO
+     * @param version the version of the invoice the DTO was built from
+     */
+    public void put(InvoiceDto dto, long version) {
+        cache.put(dto.getId(), new CachedInvoice(dto, version, LocalDate.now()));
+    }
+
+    /**
+     * Drops the entry of an invoice that is being changed.
+     *
+     * @param invoiceId the invoice ID
+     */
+    public void invalidate(UUID invoiceId) {
+        cache.invalidate(invoiceId);
+        AfterCommit.run(() -> cache.invalidate(invoiceId));
+    }
+
+    /**
+     * Drops the entries of several invoices changed in one transaction (bulk and batch writers).
+     *
+     * @param invoiceIds the invoice IDs
+     */
+    public void invalidate(Collection<UUID> invoiceIds) {
+        List<UUID> ids = List.copyOf(invoiceIds);
+        ids.forEach(cache::invalidate);
+        AfterCommit.run(() -> ids.forEach(cache::invalidate));
+    }
+
+    /**
+     * Drops the entries of all invoices of a customer whose details are being changed.
+     *
+     * @param customerId the customer ID
+     */
+    public void invalidateCustomer(UUID customerId) {
+        cache.invalidateIf((invoiceId, entry) -> customerId.equals(entry.dto.getCustomerId()));
+        AfterCommit.run(() -> cache.invalidateIf((invoiceId, entry) -> customerId.equals(entry.dto.getCustomerId())));
+    }
+
+    /**
+     * Drops every entry, e.g. after invoices were deleted in bulk.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        AfterCommit.run(cache::invalidateAll);
+    }
+
+    /**
+     * @return the cache's current statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public List<CacheStats> cacheStats() {
+        return List.of(stats());
+    }
+
+    private static final class CachedInvoice {
+
+        private final InvoiceDto dto;
+        private final long version;
+        private final LocalDate builtOn;
+
+        private CachedInvoice(InvoiceDto dto, long version, LocalDate builtOn) {
+            this.dto = dto;
+            this.version = version;
+            this.builtOn = builtOn;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.invoiceme.application.invoices.GetInvoiceStats;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Returns invoice counts and totals per status for the dashboard.
+ * The figures come from one grouped SQL aggregate, so the dashboard no longer
+ * needs to download every invoice to compute them.
+ */
+@Service
+public class GetInvoiceStatsHandler {
+
+    private final InvoiceRepository invoiceRepository;
+
+    public GetInvoiceStatsHandler(InvoiceRepository invoiceRepository) {
+        this.invoiceRepository = invoiceRepository;
+    }
+
+    /**
+     * Builds the invoice statistics. Every status is present in the maps, with zero when it has no invoices.
+     *
+     * @return the invoice statistics
+     */
+    @Transactional(readOnly = true)
+    public InvoiceStatsDto handle() {
+        Map<InvoiceStatus, Long> counts = new EnumMap<>(InvoiceStatus.class);
+        Map<InvoiceStatus, BigDecimal> totals = new EnumMap<>(InvoiceStatus.class);
+        for (InvoiceStatus status : InvoiceStatus.values()) {
+            counts.put(status, 0L);
+            totals.put(status, BigDecimal.ZERO);
+        }
+
+        long invoiceCount = 0;
+        for (Object[] row : invoiceRepository.countAndTotalByStatus()) {
+            InvoiceStatus status = (InvoiceStatus) row[0];
+            long count = ((Number) row[1]).longValue();
+            counts.put(status, count);
+            totals.put(status, (BigDecimal) row[2]);
+            invoiceCount += count;
+        }
+
+        InvoiceStatsDto dto = new InvoiceStatsDto();
+        dto.setInvoiceCount(invoiceCount);
+        dto.setInvoiceCountsByStatus(counts);
+        dto.setTotalAmountsByStatus(totals);
+        return dto;
+    }
+}
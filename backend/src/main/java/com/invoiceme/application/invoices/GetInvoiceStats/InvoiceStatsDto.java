@@ -0,0 +1,65 @@
+package com.invoiceme.application.invoices.GetInvoiceStats;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object for invoice counts and total amounts per status across all invoices.
+ */
+public class InvoiceStatsDto {
+    private long invoiceCount;
+    private Map<InvoiceStatus, Long> invoiceCountsByStatus;
+    private Map<InvoiceStatus, BigDecimal> totalAmountsByStatus;
+
+    // Getters and Setters
+    public long getInvoiceCount() {
+        return invoiceCount;
+    }
+
+    public void setInvoiceCount(long invoiceCount) {
+        this.invoiceCount = invoiceCount;
+    }
+
+    public Map<InvoiceStatus, Long> getInvoiceCountsByStatus() {
+        return invoiceCountsByStatus;
+    }
+
+    public void setInvoiceCountsByStatus(Map<InvoiceStatus, Long> invoiceCountsByStatus) {
+        this.invoiceCountsByStatus = invoiceCountsByStatus;
+    }
+
+    public Map<InvoiceStatus, BigDecimal> getTotalAmountsByStatus() {
+        return totalAmountsByStatus;
+    }
+
+    public void setTotalAmountsByStatus(Map<InvoiceStatus, BigDecimal> totalAmountsByStatus) {
+        this.totalAmountsByStatus = totalAmountsByStatus;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InvoiceStatsDto that = (InvoiceStatsDto) o;
+        return invoiceCount == that.invoiceCount &&
+               Objects.equals(invoiceCountsByStatus, that.invoiceCountsByStatus) &&
+               Objects.equals(totalAmountsByStatus, that.totalAmountsByStatus);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(invoiceCount, invoiceCountsByStatus, totalAmountsByStatus);
+    }
+
+    @Override
+    public String toString() {
+        return "InvoiceStatsDto{" +
+               "invoiceCount=" + invoiceCount +
+               ", invoiceCountsByStatus=" + invoiceCountsByStatus +
+               ", totalAmountsByStatus=" + totalAmountsByStatus +
+               '}';
+    }
+}
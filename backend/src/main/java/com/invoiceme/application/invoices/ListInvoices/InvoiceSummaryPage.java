@@ -0,0 +1,68 @@
+package com.invoiceme.application.invoices.ListInvoices;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One keyset page of invoice summaries.
+ * {@code nextCursor} is null when there are no further pages.
+ */
+public class InvoiceSummaryPage {
+
+    private List<InvoiceSummaryDto> items;
+    private String nextCursor;
+
+    // Constructors
+    public InvoiceSummaryPage() {
+        this.items = new ArrayList<>();
+    }
+
+    public InvoiceSummaryPage(List<InvoiceSummaryDto> items, String nextCursor) {
+        this.items = items != null ? items : new ArrayList<>();
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<InvoiceSummaryDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<InvoiceSummaryDto> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InvoiceSummaryPage that = (InvoiceSummaryPage) o;
+        return Objects.equals(items, that.items) &&
+               Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, nextCursor);
+    }
+
+    @Override
+    public String toString() {
+        return "InvoiceSummaryPage{" +
+               "items=" + items +
+               ", nextCursor='" + nextCursor + '\'' +
+               '}';
+    }
+}
@@ -1,16 +1,19 @@
 package com.invoiceme.application.invoices.ListInvoices;
 
-import com.invoiceme.domain.invoice.Invoice;
 import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceSearchCriteria;
+import com.invoiceme.infrastructure.persistence.InvoiceSummaryView;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Handles the ListInvoicesQuery.
- * Fetches invoices and maps to summary DTOs with read-only transaction.
+ * Fetches one keyset page of invoices with all filters applied in SQL
+ * as a column projection, then maps to summary DTOs with read-only transaction.
  */
 @Service
 public class ListInvoicesHandler {
@@ -22,41 +25,109 @@ public class ListInvoicesHandler {
     }
 
     /**
-     * Handles retrieving a list of invoices.
-     * Optionally filtered by status.
+     * Handles retrieving a page of invoices, newest first.
+     * Optionally filtered by status, customer, date ranges and amount.
      *
      * @param query the list invoices query
-     * @return list of invoice summary DTOs
+     * @return the page of invoice summary DTOs with the cursor for the next page
+     * @throws IllegalArgumentException if the cursor, limit or ranges are invalid
      */
     @Transactional(readOnly = true)
-    public List<InvoiceSummaryDto> handle(ListInvoicesQuery query) {
-        List<Invoice> invoices;
-
-        // Filter by status if provided
-        if (query.getStatus() != null) {
-            invoices = invoiceRepository.findByStatus(query.getStatus());
-        } else {
-            invoices = invoiceRepository.findAll();
+    public InvoiceSummaryPage handle(ListInvoicesQuery query) {
+        int limit = resolveLimit(query.getLimit());
+        InvoiceSearchCriteria criteria = toCriteria(query);
+
+        // Fetch one extra row to learn whether another page exists
+        List<InvoiceSummaryView> invoices = invoiceRepository.search(criteria, limit + 1);
+
+        boolean hasNext = invoices.size() > limit;
+        if (hasNext) {
+            invoices = invoices.subList(0, limit);
         }
 
         // Map to summary DTOs
-        return invoices.stream()
-            .map(this::mapToSummaryDto)
+        LocalDate today = LocalDate.now();
+        List<InvoiceSummaryDto> items = invoices.stream()
+            .map(invoice -> mapToSummaryDto(invoice, today))
             .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            InvoiceSummaryView last = invoices.get(invoices.size() - 1);
+            nextCursor = new InvoiceCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new InvoiceSummaryPage(items, nextCursor);
+    }
+
+    /**
+     * Validates the requested page size, applying the default when absent.
+     *
+     * @param limit the requested page size
+     * @return the effective page size
+     */
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return ListInvoicesQuery.DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > ListInvoicesQuery.MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + ListInvoicesQuery.MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    /**
+     * Maps the query to repository search criteria.
+     *
+     * @param query the list invoices query
+     * @return the search criteria
+     */
+    private InvoiceSearchCriteria toCriteria(ListInvoicesQuery query) {
+        if (query.getIssueDateFrom() != null && query.getIssueDateTo() != null
+                && query.getIssueDateTo().isBefore(query.getIssueDateFrom())) {
+            throw new IllegalArgumentException("Issue date range end must be on or after its start");
+        }
+        if (query.getDueDateFrom() != null && query.getDueDateTo() != null
+                && query.getDueDateTo().isBefore(query.getDueDateFrom())) {
+            throw new IllegalArgumentException("Due date range end must be on or after its start");
+        }
+        if (query.getMinAmount() != null && query.getMaxAmount() != null
+                && query.getMaxAmount().compareTo(query.getMinAmount()) < 0) {
+            throw new IllegalArgumentException("Maximum amount must be greater than or equal to minimum amount");
+        }
+
+        InvoiceSearchCriteria criteria = new InvoiceSearchCriteria();
+        criteria.setStatus(query.getStatus());
+        criteria.setCustomerId(query.getCustomerId());
+        criteria.setIssueDateFrom(query.getIssueDateFrom());
+        criteria.setIssueDateTo(query.getIssueDateTo());
+        criteria.setDueDateFrom(query.getDueDateFrom());
+        criteria.setDueDateTo(query.getDueDateTo());
+        criteria.setMinAmount(query.getMinAmount());
+        criteria.setMaxAmount(query.getMaxAmount());
+
+        if (query.getCursor() != null && !query.getCursor().isBlank()) {
+            InvoiceCursor cursor = InvoiceCursor.decode(query.getCursor());
+            criteria.setAfterCreatedAt(cursor.getCreatedAt());
+            criteria.setAfterId(cursor.getId());
+        }
+
+        return criteria;
     }
 
     /**
-     * Maps Invoice entity to InvoiceSummaryDto.
+     * Maps an invoice summary projection to InvoiceSummaryDto.
      *
-     * @param invoice the invoice entity
+     * @param invoice the invoice summary
+     * @param today the date used to derive the overdue flag
      * @return the invoice summary DTO
      */
-    private InvoiceSummaryDto mapToSummaryDto(Invoice invoice) {
+    private InvoiceSummaryDto mapToSummaryDto(InvoiceSummaryView invoice, LocalDate today) {
         return new InvoiceSummaryDto(
             invoice.getId(),
             invoice.getInvoiceNumber(),
-            invoice.getCustomer().getId(),
-            invoice.getCustomer().getBusinessName(),
+            invoice.getCustomerId(),
+            invoice.getCustomerName(),
             invoice.getIssueDate(),
             invoice.getDueDate(),
             invoice.getStatus(),
@@ -64,7 +135,7 @@ public class ListInvoicesHandler {
             invoice.getBalanceRemaining(),
             invoice.getCreatedAt(),
             invoice.getSentAt(),
-            invoice.isOverdue()
+            invoice.isOverdue(today)
         );
     }
 }
@@ -2,16 +2,32 @@ package com.invoiceme.application.invoices.ListInvoices;
 
 import com.invoiceme.domain.invoice.InvoiceStatus;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
- * Query to retrieve a list of invoices.
+ * Query to retrieve a page of invoices.
  * This is a read operation in the CQRS pattern.
- * Optionally filtered by status.
+ * Optionally filtered by status, customer, issue/due date ranges and total amount.
+ * Pages are navigated with the opaque cursor returned by the previous page.
  */
 public class ListInvoicesQuery {
 
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
     private InvoiceStatus status;
+    private UUID customerId;
+    private LocalDate issueDateFrom;
+    private LocalDate issueDateTo;
+    private LocalDate dueDateFrom;
+    private LocalDate dueDateTo;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private String cursor;
+    private Integer limit;
 
     // Constructors
     public ListInvoicesQuery() {
@@ -30,23 +46,114 @@ public class ListInvoicesQuery {
         this.status = status;
     }
 
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+
+    public LocalDate getIssueDateFrom() {
+        return issueDateFrom;
+    }
+
+    public void setIssueDateFrom(LocalDate issueDateFrom) {
+        this.issueDateFrom = issueDateFrom;
+    }
+
+    public LocalDate getIssueDateTo() {
+        return issueDateTo;
+    }
+
+    public void setIssueDateTo(LocalDate issueDateTo) {
+        this.issueDateTo = issueDateTo;
+    }
+
+    public LocalDate getDueDateFrom() {
+        return dueDateFrom;
+    }
+
+    public void setDueDateFrom(LocalDate dueDateFrom) {
+        this.dueDateFrom = dueDateFrom;
+    }
+
+    public LocalDate getDueDateTo() {
+        return dueDateTo;
+    }
+
+    public void setDueDateTo(LocalDate dueDateTo) {
+        this.dueDateTo = dueDateTo;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ListInvoicesQuery that = (ListInvoicesQuery) o;
-        return status == that.status;
+        return status == that.status &&
+               Objects.equals(customerId, that.customerId) &&
+               Objects.equals(issueDateFrom, that.issueDateFrom) &&
+               Objects.equals(issueDateTo, that.issueDateTo) &&
+               Objects.equals(dueDateFrom, that.dueDateFrom) &&
+               Objects.equals(dueDateTo, that.dueDateTo) &&
+               Objects.equals(minAmount, that.minAmount) &&
+               Objects.equals(maxAmount, that.maxAmount) &&
+               Objects.equals(cursor, that.cursor) &&
+               Objects.equals(limit, that.limit);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(status);
+        return Objects.hash(status, customerId, issueDateFrom, issueDateTo, dueDateFrom, dueDateTo,
+                            minAmount, maxAmount, cursor, limit);
     }
 
     @Override
     public String toString() {
         return "ListInvoicesQuery{" +
                "status=" + status +
+               ", customerId=" + customerId +
+               ", issueDateFrom=" + issueDateFrom +
+               ", issueDateTo=" + issueDateTo +
+               ", dueDateFrom=" + dueDateFrom +
+               ", dueDateTo=" + dueDateTo +
+               ", minAmount=" + minAmount +
+               ", maxAmount=" + maxAmount +
+               ", cursor='" + cursor + '\'' +
+               ", limit=" + limit +
                '}';
     }
 }
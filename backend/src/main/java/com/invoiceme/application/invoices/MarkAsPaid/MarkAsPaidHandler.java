@@ -1,5 +1,7 @@
 package com.invoiceme.application.invoices.MarkAsPaid;
 
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.application.payments.ResolvePaymentLink.PaymentLinkCache;
 import com.invoiceme.domain.invoice.Invoice;
 import com.invoiceme.infrastructure.persistence.InvoiceRepository;
 import org.springframework.stereotype.Service;
@@ -15,9 +17,14 @@ import java.util.UUID;
 public class MarkAsPaidHandler {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final PaymentLinkCache paymentLinkCache;
 
-    public MarkAsPaidHandler(InvoiceRepository invoiceRepository) {
+    public MarkAsPaidHandler(InvoiceRepository invoiceRepository, InvoiceDtoCache invoiceDtoCache,
+                             PaymentLinkCache paymentLinkCache) {
         this.invoiceRepository = invoiceRepository;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.paymentLinkCache = paymentLinkCache;
     }
 
     /**
@@ -44,6 +51,8 @@ public class MarkAsPaidHandler {
 
         // Save changes
         invoiceRepository.save(invoice);
+        invoiceDtoCache.invalidate(invoice.getId());
+        paymentLinkCache.evict(invoice.getPaymentLink());
 
         // TODO: Publish InvoicePaidEvent
         // eventPublisher.publish(new InvoicePaidEvent(invoice.getId()));
@@ -1,5 +1,7 @@
 package com.invoiceme.application.invoices.SendInvoice;
 
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.application.payments.ResolvePaymentLink.PaymentLinkCache;
 import com.invoiceme.domain.invoice.Invoice;
 import com.invoiceme.infrastructure.persistence.InvoiceRepository;
 import org.springframework.stereotype.Service;
@@ -15,9 +17,14 @@ import java.util.UUID;
 public class SendInvoiceHandler {
 
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final PaymentLinkCache paymentLinkCache;
 
-    public SendInvoiceHandler(InvoiceRepository invoiceRepository) {
+    public SendInvoiceHandler(InvoiceRepository invoiceRepository, InvoiceDtoCache invoiceDtoCache,
+                              PaymentLinkCache paymentLinkCache) {
         this.invoiceRepository = invoiceRepository;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.paymentLinkCache = paymentLinkCache;
     }
 
     /**
@@ -44,6 +51,8 @@ public class SendInvoiceHandler {
 
         // Save changes
         invoiceRepository.save(invoice);
+        invoiceDtoCache.invalidate(invoice.getId());
+        paymentLinkCache.warm(invoice.getPaymentLink(), invoice.getId());
 
         // TODO: Publish InvoiceSentEvent
         // eventPublisher.publish(new InvoiceSentEvent(invoice.getId(), invoice.getPaymentLink()));
@@ -0,0 +1,65 @@
+package com.invoiceme.application.payments.CloseStatementReviewItem;
+
+import com.invoiceme.domain.payment.StatementReviewStatus;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Command to take a bank statement line out of the review queue,
+ * either as RESOLVED (reconciled by hand) or DISMISSED (not an invoice payment).
+ * This is a write operation in the CQRS pattern.
+ */
+public class CloseStatementReviewItemCommand {
+
+    private UUID reviewItemId;
+    private StatementReviewStatus outcome;
+
+    // Constructors
+    public CloseStatementReviewItemCommand() {
+    }
+
+    public CloseStatementReviewItemCommand(UUID reviewItemId, StatementReviewStatus outcome) {
+        this.reviewItemId = reviewItemId;
+        this.outcome = outcome;
+    }
+
+    // Getters and Setters
+    public UUID getReviewItemId() {
+        return reviewItemId;
+    }
+
+    public void setReviewItemId(UUID reviewItemId) {
+        this.reviewItemId = reviewItemId;
+    }
+
+    public StatementReviewStatus getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(StatementReviewStatus outcome) {
+        this.outcome = outcome;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CloseStatementReviewItemCommand that = (CloseStatementReviewItemCommand) o;
+        return Objects.equals(reviewItemId, that.reviewItemId) &&
+               outcome == that.outcome;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reviewItemId, outcome);
+    }
+
+    @Override
+    public String toString() {
+        return "CloseStatementReviewItemCommand{" +
+               "reviewItemId=" + reviewItemId +
+               ", outcome=" + outcome +
+               '}';
+    }
+}
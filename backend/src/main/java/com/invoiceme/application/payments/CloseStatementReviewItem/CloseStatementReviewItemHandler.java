@@ -0,0 +1,47 @@
+package com.invoiceme.application.payments.CloseStatementReviewItem;
+
+import com.invoiceme.domain.payment.StatementReviewItem;
+import com.invoiceme.infrastructure.persistence.StatementReviewItemRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Handles the CloseStatementReviewItemCommand.
+ */
+@Service
+public class CloseStatementReviewItemHandler {
+
+    private final StatementReviewItemRepository reviewItemRepository;
+
+    public CloseStatementReviewItemHandler(StatementReviewItemRepository reviewItemRepository) {
+        this.reviewItemRepository = reviewItemRepository;
+    }
+
+    /**
+     * Handles closing a review item.
+     *
+     * @param command the close review item command
+     * @return the ID of the closed review item
+     * @throws IllegalArgumentException if the item is not found or the outcome is not RESOLVED or DISMISSED
+     * @throws IllegalStateException if the item is no longer PENDING
+     */
+    @Transactional
+    public UUID handle(CloseStatementReviewItemCommand command) {
+        StatementReviewItem item = reviewItemRepository.findById(command.getReviewItemId())
+            .orElseThrow(() -> new IllegalArgumentException("Review item not found with ID: " + command.getReviewItemId()));
+
+        if (command.getOutcome() == null) {
+            throw new IllegalArgumentException("Review outcome is required");
+        }
+        switch (command.getOutcome()) {
+            case RESOLVED -> item.resolve();
+            case DISMISSED -> item.dismiss();
+            default -> throw new IllegalArgumentException("Review outcome must be RESOLVED or DISMISSED");
+        }
+
+        reviewItemRepository.save(item);
+        return item.getId();
+    }
+}
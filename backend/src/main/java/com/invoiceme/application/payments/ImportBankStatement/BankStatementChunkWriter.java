@@ -0,0 +1,155 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.application.payments.ResolvePaymentLink.PaymentLinkCache;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.payment.Payment;
+import com.invoiceme.domain.payment.PaymentMethod;
+import com.invoiceme.domain.payment.StatementReviewItem;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import com.invoiceme.infrastructure.persistence.StatementReviewItemRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Commits one chunk of a bank statement import in a single transaction.
+ * Applies the same rules as RecordPaymentHandler (payment ID idempotency, domain
+ * validation, balance update and PAID transition), but loads the chunk's invoices
+ * and existing payments with one query each and writes all payments, invoice
+ * updates and review items as JDBC batches.
+ */
+@Component
+public class BankStatementChunkWriter {
+
+    private final InvoiceRepository invoiceRepository;
+    private final PaymentRepository paymentRepository;
+    private final StatementReviewItemRepository reviewItemRepository;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final PaymentLinkCache paymentLinkCache;
+
+    public BankStatementChunkWriter(InvoiceRepository invoiceRepository,
+                                    PaymentRepository paymentRepository,
+                                    StatementReviewItemRepository reviewItemRepository,
+                                    InvoiceDtoCache invoiceDtoCache,
+                                    PaymentLinkCache paymentLinkCache) {
+        this.invoiceRepository = invoiceRepository;
+        this.paymentRepository = paymentRepository;
+        this.reviewItemRepository = reviewItemRepository;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.paymentLinkCache = paymentLinkCache;
+    }
+
+    /**
+     * Records the matched lines as payments and stores the review items.
+     * Lines rejected by the payment rules are added to the review queue instead.
+     *
+     * @param importId the import the chunk belongs to
+     * @param fileName the statement file name
+     * @param matched the lines matched to invoices
+     * @param reviewItems unmatched lines to store as they are
+     * @return the counts for this chunk
+     * @throws org.springframework.dao.OptimisticLockingFailureException if one of the
+     *         invoices was modified concurrently; the whole chunk is rolled back
+     */
+    @Transactional
+    public StatementChunkOutcome write(UUID importId, String fileName,
+                                       List<MatchedStatementLine> matched, List<StatementReviewItem> reviewItems) {
+        StatementChunkOutcome outcome = new StatementChunkOutcome();
+        List<StatementReviewItem> toReview = new ArrayList<>(reviewItems);
+
+        if (!matched.isEmpty()) {
+            Set<UUID> existingPaymentIds = new HashSet<>(paymentRepository.findExistingIds(
+                matched.stream().map(MatchedStatementLine::getPaymentId).toList()));
+            List<String> bankTransactionIds = matched.stream()
+                .map(item -> item.getLine().getBankTransactionId())
+                .filter(id -> id != null)
+                .toList();
+            Set<String> existingReferences = bankTransactionIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(paymentRepository.findExistingTransactionReferences(bankTransactionIds));
+
+            Map<UUID, Invoice> invoices = new HashMap<>();
+            for (Invoice invoice : invoiceRepository.findAllWithCustomerByIdIn(
+                    matched.stream().map(MatchedStatementLine::getInvoiceId).distinct().toList())) {
+                invoices.put(invoice.getId(), invoice);
+            }
+
+            List<Payment> payments = new ArrayList<>(matched.size());
+            for (MatchedStatementLine item : matched) {
+                BankStatementLine line = item.getLine();
+
+                // Same idempotency rule as RecordPaymentHandler, plus the bank's own transaction id
+                if (existingPaymentIds.contains(item.getPaymentId())
+                        || (line.getBankTransactionId() != null && existingReferences.contains(line.getBankTransactionId()))) {
+                    outcome.duplicate();
+                    continue;
+                }
+
+                Invoice invoice = invoices.get(item.getInvoiceId());
+                if (invoice == null || invoice.getStatus() != InvoiceStatus.SENT) {
+                    String reason = invoice == null
+                        ? "Invoice no longer exists"
+                        : "Invoice " + invoice.getInvoiceNumber() + " is " + invoice.getStatus() + " and cannot receive payments";
+                    toReview.add(line.toReviewItem(importId, fileName, reason, invoice != null ? invoice.getId() : null));
+                    continue;
+                }
+
+                Payment payment = toPayment(item, invoice, fileName);
+                try {
+                    payment.validate();
+                } catch (IllegalArgumentException e) {
+                    toReview.add(line.toReviewItem(importId, fileName, e.getMessage(), invoice.getId()));
+                    continue;
+                }
+
+                invoice.applyPayment(payment.getPaymentAmount());
+                payments.add(payment);
+                outcome.recorded(payment.getPaymentAmount());
+            }
+
+            if (!payments.isEmpty()) {
+                paymentRepository.persistAll(payments);
+                invoiceDtoCache.invalidate(payments.stream().map(payment -> payment.getInvoice().getId()).distinct().toList());
+                invoices.values().stream()
+                    .filter(invoice -> invoice.getStatus() == InvoiceStatus.PAID)
+                    .forEach(invoice -> paymentLinkCache.evict(invoice.getPaymentLink()));
+            }
+        }
+
+        if (!toReview.isEmpty()) {
+            reviewItemRepository.saveAll(toReview);
+            outcome.reviewed(toReview.size());
+        }
+        return outcome;
+    }
+
+    private Payment toPayment(MatchedStatementLine item, Invoice invoice, String fileName) {
+        BankStatementLine line = item.getLine();
+        String transactionReference = line.getBankTransactionId() != null ? line.getBankTransactionId() : line.getReference();
+        if (transactionReference != null && transactionReference.length() > 255) {
+            transactionReference = transactionReference.substring(0, 255);
+        }
+
+        Payment payment = new Payment();
+        payment.setId(item.getPaymentId());
+        payment.setInvoice(invoice);
+        payment.setPaymentAmount(line.getAmount());
+        payment.setPaymentDate(line.getBookingDate());
+        payment.setPaymentMethod(PaymentMethod.BANK_TRANSFER);
+        payment.setTransactionReference(transactionReference);
+        payment.setNotes("Imported from bank statement " + (fileName != null ? fileName + " " : "")
+            + "line " + line.getLineNumber() + " (matched by " + item.getMethod().name().toLowerCase().replace('_', ' ') + ")"
+            + (line.getReference() != null ? ": " + line.getReference() : ""));
+        return payment;
+    }
+}
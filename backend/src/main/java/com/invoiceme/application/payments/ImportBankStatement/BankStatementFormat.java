@@ -0,0 +1,58 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import java.util.Locale;
+
+/**
+ * Bank statement file formats accepted by the statement import.
+ */
+public enum BankStatementFormat {
+
+    CSV("csv"),
+    OFX("ofx", "qfx"),
+    CAMT053("xml", "camt", "053");
+
+    private final String[] fileExtensions;
+
+    BankStatementFormat(String... fileExtensions) {
+        this.fileExtensions = fileExtensions;
+    }
+
+    /**
+     * Resolves a format from its case-insensitive name; "camt.053" and "camt053" are equivalent.
+     *
+     * @param value the requested format, e.g. "ofx"
+     * @return the matching format
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static BankStatementFormat fromValue(String value) {
+        String normalized = value == null ? "" : value.replace(".", "").replace("-", "").replace("_", "");
+        for (BankStatementFormat format : values()) {
+            if (format.name().equalsIgnoreCase(normalized)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported bank statement format: " + value);
+    }
+
+    /**
+     * Resolves a format from a file name extension.
+     *
+     * @param fileName the uploaded file name
+     * @return the matching format
+     * @throws IllegalArgumentException if the extension is missing or not recognised
+     */
+    public static BankStatementFormat fromFileName(String fileName) {
+        int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+        if (dot >= 0) {
+            String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+            for (BankStatementFormat format : values()) {
+                for (String candidate : format.fileExtensions) {
+                    if (candidate.equals(extension)) {
+                        return format;
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("Cannot determine bank statement format of file: " + fileName);
+    }
+}
@@ -0,0 +1,166 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Summary of a bank statement import.
+ * Lines in {@code reviewCount} can be listed from the review queue by {@code importId}.
+ */
+public class BankStatementImportResult {
+
+    private UUID importId;
+    private BankStatementFormat format;
+    private long totalLines;
+    private long recordedCount;
+    private BigDecimal recordedAmount;
+    private long duplicateCount;
+    private long reviewCount;
+    private long skippedCount;
+    private long failedCount;
+
+    // Constructors
+    public BankStatementImportResult() {
+    }
+
+    public BankStatementImportResult(UUID importId, BankStatementFormat format, long totalLines,
+                                     long recordedCount, BigDecimal recordedAmount, long duplicateCount,
+                                     long reviewCount, long skippedCount, long failedCount) {
+        this.importId = importId;
+        this.format = format;
+        this.totalLines = totalLines;
+        this.recordedCount = recordedCount;
+        this.recordedAmount = recordedAmount;
+        this.duplicateCount = duplicateCount;
+        this.reviewCount = reviewCount;
+        this.skippedCount = skippedCount;
+        this.failedCount = failedCount;
+    }
+
+    // Getters and Setters
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public void setImportId(UUID importId) {
+        this.importId = importId;
+    }
+
+    public BankStatementFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(BankStatementFormat format) {
+        this.format = format;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public void setTotalLines(long totalLines) {
+        this.totalLines = totalLines;
+    }
+
+    /**
+     * Lines recorded as new payments.
+     */
+    public long getRecordedCount() {
+        return recordedCount;
+    }
+
+    public void setRecordedCount(long recordedCount) {
+        this.recordedCount = recordedCount;
+    }
+
+    public BigDecimal getRecordedAmount() {
+        return recordedAmount;
+    }
+
+    public void setRecordedAmount(BigDecimal recordedAmount) {
+        this.recordedAmount = recordedAmount;
+    }
+
+    /**
+     * Lines already recorded by an earlier import or by hand.
+     */
+    public long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    public void setDuplicateCount(long duplicateCount) {
+        this.duplicateCount = duplicateCount;
+    }
+
+    /**
+     * Lines placed in the review queue.
+     */
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    /**
+     * Debit and zero-amount lines, which never pay an invoice.
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(long skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    /**
+     * Lines that could be written neither as payments nor to the review queue (e.g. the
+     * database failed during the import); importing the file again retries them.
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BankStatementImportResult that = (BankStatementImportResult) o;
+        return totalLines == that.totalLines &&
+               recordedCount == that.recordedCount &&
+               duplicateCount == that.duplicateCount &&
+               reviewCount == that.reviewCount &&
+               skippedCount == that.skippedCount &&
+               failedCount == that.failedCount &&
+               Objects.equals(importId, that.importId) &&
+               format == that.format &&
+               Objects.equals(recordedAmount, that.recordedAmount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(importId, format, totalLines, recordedCount, recordedAmount,
+                            duplicateCount, reviewCount, skippedCount, failedCount);
+    }
+
+    @Override
+    public String toString() {
+        return "BankStatementImportResult{" +
+               "importId=" + importId +
+               ", format=" + format +
+               ", totalLines=" + totalLines +
+               ", recordedCount=" + recordedCount +
+               ", recordedAmount=" + recordedAmount +
+               ", duplicateCount=" + duplicateCount +
+               ", reviewCount=" + reviewCount +
+               ", skippedCount=" + skippedCount +
+               ", failedCount=" + failedCount +
+               '}';
+    }
+}
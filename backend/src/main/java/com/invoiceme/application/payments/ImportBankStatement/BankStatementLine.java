@@ -0,0 +1,122 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import com.invoiceme.domain.payment.StatementReviewItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One transaction read from a bank statement, independent of the file format.
+ * Credits have a positive amount and debits a negative one. A line that could
+ * not be read carries an {@code error} and is sent to the review queue as is.
+ */
+final class BankStatementLine {
+
+    private final int lineNumber;
+    private final LocalDate bookingDate;
+    private final BigDecimal amount;
+    private final String currency;
+    private final String counterpartyName;
+    private final String reference;
+    private final String bankTransactionId;
+    private final String error;
+
+    BankStatementLine(int lineNumber, LocalDate bookingDate, BigDecimal amount, String currency,
+                      String counterpartyName, String reference, String bankTransactionId) {
+        this(lineNumber, bookingDate, amount, currency, counterpartyName, reference, bankTransactionId, null);
+    }
+
+    private BankStatementLine(int lineNumber, LocalDate bookingDate, BigDecimal amount, String currency,
+                              String counterpartyName, String reference, String bankTransactionId, String error) {
+        this.lineNumber = lineNumber;
+        this.bookingDate = bookingDate;
+        this.amount = amount;
+        this.currency = blankToNull(currency);
+        this.counterpartyName = blankToNull(counterpartyName);
+        this.reference = blankToNull(reference);
+        this.bankTransactionId = blankToNull(bankTransactionId);
+        this.error = error;
+    }
+
+    static BankStatementLine unreadable(int lineNumber, String rawContent, String error) {
+        return new BankStatementLine(lineNumber, null, null, null, null, rawContent, null, error);
+    }
+
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    BigDecimal getAmount() {
+        return amount;
+    }
+
+    String getCurrency() {
+        return currency;
+    }
+
+    String getCounterpartyName() {
+        return counterpartyName;
+    }
+
+    String getReference() {
+        return reference;
+    }
+
+    String getBankTransactionId() {
+        return bankTransactionId;
+    }
+
+    String getError() {
+        return error;
+    }
+
+    boolean isReadable() {
+        return error == null;
+    }
+
+    boolean isCredit() {
+        return amount != null && amount.signum() > 0;
+    }
+
+    /**
+     * Creates the review queue entry for this line.
+     *
+     * @param importId the import the line belongs to
+     * @param fileName the statement file name
+     * @param reason why the line was not turned into a payment
+     * @param candidateInvoiceId the most likely invoice, or null
+     * @return the unsaved review item
+     */
+    StatementReviewItem toReviewItem(UUID importId, String fileName, String reason, UUID candidateInvoiceId) {
+        StatementReviewItem item = new StatementReviewItem();
+        item.setImportId(importId);
+        item.setFileName(fileName);
+        item.setLineNumber(lineNumber);
+        item.setBookingDate(bookingDate);
+        item.setAmount(amount);
+        item.setCurrency(currency != null && currency.length() <= 3 ? currency : null);
+        item.setCounterpartyName(truncate(counterpartyName, 255));
+        item.setReference(reference);
+        item.setBankTransactionId(truncate(bankTransactionId, 255));
+        item.setCandidateInvoiceId(candidateInvoiceId);
+        item.setReason(reason);
+        return item;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
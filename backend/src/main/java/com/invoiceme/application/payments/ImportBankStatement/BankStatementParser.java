@@ -0,0 +1,31 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for one bank statement format.
+ * Implementations hand each transaction to the sink as soon as it is read,
+ * so memory use does not depend on the size of the file.
+ */
+interface BankStatementParser {
+
+    /**
+     * Reads every transaction of the statement.
+     *
+     * @param input the statement file; not closed
+     * @param sink receives the transactions in file order
+     * @throws IOException if reading the stream fails
+     * @throws IllegalArgumentException if the file is structurally invalid
+     */
+    void parse(InputStream input, Consumer<BankStatementLine> sink) throws IOException;
+
+    static BankStatementParser forFormat(BankStatementFormat format) {
+        return switch (format) {
+            case CSV -> new CsvBankStatementParser();
+            case OFX -> new OfxBankStatementParser();
+            case CAMT053 -> new Camt053BankStatementParser();
+        };
+    }
+}
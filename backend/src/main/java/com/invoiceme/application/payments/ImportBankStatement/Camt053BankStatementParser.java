@@ -0,0 +1,241 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads ISO 20022 CAMT.053 (BankToCustomerStatement) files with a StAX cursor, so only
+ * the entry ({@code <Ntry>}) being read is held in memory. An entry with several
+ * {@code <TxDtls>} (batch booking) yields one line per transaction detail.
+ * DTDs and external entities are disabled.
+ */
+class Camt053BankStatementParser implements BankStatementParser {
+
+    private static final String ENTRY = "Ntry";
+    private static final String TRANSACTION_DETAILS = "NtryDtls/TxDtls";
+    private static final String NOT_PROVIDED = "NOTPROVIDED";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    @Override
+    public void parse(InputStream input, Consumer<BankStatementLine> sink) {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            read(reader, sink);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Invalid CAMT.053 statement: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // Nothing left to release; the underlying stream is owned by the caller
+                }
+            }
+        }
+    }
+
+    private void read(XMLStreamReader reader, Consumer<BankStatementLine> sink) throws XMLStreamException {
+        Deque<String> path = new ArrayDeque<>();
+        StringBuilder text = new StringBuilder();
+        boolean sawStatement = false;
+
+        Entry entry = null;
+        int entryDepth = -1;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    String name = reader.getLocalName();
+                    path.addLast(name);
+                    text.setLength(0);
+                    sawStatement |= name.equals("BkToCstmrStmt");
+
+                    if (entry == null && name.equals(ENTRY)) {
+                        entry = new Entry(reader.getLocation().getLineNumber());
+                        entryDepth = path.size();
+                    } else if (entry != null) {
+                        String relative = relativePath(path, entryDepth);
+                        if (relative.equals(TRANSACTION_DETAILS)) {
+                            entry.details.add(new Details());
+                        } else if (relative.equals("Amt")) {
+                            entry.currency = reader.getAttributeValue(null, "Ccy");
+                        }
+                    }
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                    if (entry != null) {
+                        text.append(reader.getText());
+                    }
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (entry != null) {
+                        if (path.size() == entryDepth) {
+                            emit(entry, sink);
+                            entry = null;
+                        } else {
+                            collect(entry, relativePath(path, entryDepth), text.toString().trim());
+                        }
+                    }
+                    text.setLength(0);
+                    path.removeLast();
+                }
+                default -> {
+                    // Comments, whitespace and processing instructions are irrelevant
+                }
+            }
+        }
+
+        if (!sawStatement) {
+            throw new IllegalArgumentException("File is not a CAMT.053 statement");
+        }
+    }
+
+    private void collect(Entry entry, String relative, String value) {
+        if (value.isEmpty()) {
+            return;
+        }
+        switch (relative) {
+            case "Amt" -> entry.amount = value;
+            case "CdtDbtInd" -> entry.creditDebit = value;
+            case "BookgDt/Dt", "BookgDt/DtTm" -> entry.bookingDate = value;
+            case "ValDt/Dt", "ValDt/DtTm" -> entry.valueDate = value;
+            case "AcctSvcrRef" -> entry.bankReference = value;
+            case "AddtlNtryInf" -> entry.additionalInfo = value;
+            default -> {
+                if (relative.startsWith(TRANSACTION_DETAILS + "/") && !entry.details.isEmpty()) {
+                    collectDetails(entry.details.get(entry.details.size() - 1),
+                        relative.substring(TRANSACTION_DETAILS.length() + 1), value);
+                }
+            }
+        }
+    }
+
+    private void collectDetails(Details details, String relative, String value) {
+        switch (relative) {
+            case "Refs/AcctSvcrRef" -> details.bankReference = value;
+            case "Refs/EndToEndId" -> {
+                if (!NOT_PROVIDED.equalsIgnoreCase(value)) {
+                    details.endToEndId = value;
+                }
+            }
+            case "Amt", "AmtDtls/TxAmt/Amt" -> {
+                if (details.amount == null) {
+                    details.amount = value;
+                }
+            }
+            case "CdtDbtInd" -> details.creditDebit = value;
+            case "RltdPties/Dbtr/Nm", "RltdPties/Dbtr/Pty/Nm" -> details.debtorName = value;
+            case "RmtInf/Ustrd", "RmtInf/Strd/CdtrRefInf/Ref" -> details.remittance.add(value);
+            case "AddtlTxInf" -> details.additionalInfo = value;
+            default -> {
+                // Other transaction details are not used for matching
+            }
+        }
+    }
+
+    private void emit(Entry entry, Consumer<BankStatementLine> sink) {
+        if (entry.details.size() <= 1) {
+            Details details = entry.details.isEmpty() ? new Details() : entry.details.get(0);
+            sink.accept(toLine(entry, details, entry.amount, entry.creditDebit));
+            return;
+        }
+        for (Details details : entry.details) {
+            String creditDebit = details.creditDebit != null ? details.creditDebit : entry.creditDebit;
+            sink.accept(toLine(entry, details, details.amount, creditDebit));
+        }
+    }
+
+    private BankStatementLine toLine(Entry entry, Details details, String amountValue, String creditDebit) {
+        String reference = !details.remittance.isEmpty()
+            ? String.join(" ", details.remittance)
+            : details.additionalInfo != null ? details.additionalInfo : entry.additionalInfo;
+        String bankTransactionId = details.bankReference != null ? details.bankReference
+            : details.endToEndId != null ? details.endToEndId : entry.bankReference;
+        try {
+            if (amountValue == null) {
+                throw new IllegalArgumentException("Entry amount is missing");
+            }
+            BigDecimal amount = new BigDecimal(amountValue);
+            if ("DBIT".equalsIgnoreCase(creditDebit)) {
+                amount = amount.negate();
+            }
+            String date = entry.bookingDate != null ? entry.bookingDate : entry.valueDate;
+            if (date == null) {
+                throw new IllegalArgumentException("Booking date is missing");
+            }
+            return new BankStatementLine(entry.lineNumber, LocalDate.parse(date.substring(0, 10)), amount,
+                entry.currency, details.debtorName, reference, bankTransactionId);
+        } catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            return BankStatementLine.unreadable(entry.lineNumber, reference, e.getMessage());
+        }
+    }
+
+    private static String relativePath(Deque<String> path, int entryDepth) {
+        StringBuilder relative = new StringBuilder();
+        int depth = 0;
+        for (String element : path) {
+            depth++;
+            if (depth > entryDepth) {
+                if (!relative.isEmpty()) {
+                    relative.append('/');
+                }
+                relative.append(element);
+            }
+        }
+        return relative.toString();
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Values of one {@code <Ntry>} element collected while it is being read.
+     */
+    private static final class Entry {
+        private final int lineNumber;
+        private final List<Details> details = new ArrayList<>(1);
+        private String amount;
+        private String currency;
+        private String creditDebit;
+        private String bookingDate;
+        private String valueDate;
+        private String bankReference;
+        private String additionalInfo;
+
+        Entry(int lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+    }
+
+    /**
+     * Values of one {@code <TxDtls>} element within an entry.
+     */
+    private static final class Details {
+        private final List<String> remittance = new ArrayList<>(1);
+        private String amount;
+        private String creditDebit;
+        private String bankReference;
+        private String endToEndId;
+        private String debtorName;
+        private String additionalInfo;
+    }
+}
@@ -0,0 +1,200 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import com.invoiceme.infrastructure.csv.CsvRecordReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads CSV bank statements with a header row.
+ * Columns are recognised by name (e.g. "date", "amount", "reference", "counterparty",
+ * "transaction_id"); a pair of "credit"/"debit" columns may replace "amount".
+ * Comma and semicolon delimiters and RFC 4180 quoting are supported.
+ * Dates must be ISO (yyyy-MM-dd) or compact (yyyyMMdd).
+ */
+class CsvBankStatementParser implements BankStatementParser {
+
+    private static final Set<String> DATE_COLUMNS = Set.of("date", "bookingdate", "valuedate", "transactiondate", "posteddate");
+    private static final Set<String> AMOUNT_COLUMNS = Set.of("amount", "transactionamount");
+    private static final Set<String> CREDIT_COLUMNS = Set.of("credit", "creditamount", "paidin");
+    private static final Set<String> DEBIT_COLUMNS = Set.of("debit", "debitamount", "paidout");
+    private static final Set<String> CURRENCY_COLUMNS = Set.of("currency", "ccy");
+    private static final Set<String> REFERENCE_COLUMNS = Set.of("reference", "description", "memo", "remittanceinformation",
+        "paymentreference", "details");
+    private static final Set<String> COUNTERPARTY_COLUMNS = Set.of("counterparty", "counterpartyname", "name", "payer",
+        "payername", "debtor", "debtorname");
+    private static final Set<String> TRANSACTION_ID_COLUMNS = Set.of("transactionid", "bankreference", "fitid", "id");
+
+    private static final DateTimeFormatter COMPACT_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Override
+    public void parse(InputStream input, Consumer<BankStatementLine> sink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new IllegalArgumentException("CSV statement is empty");
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+
+        char delimiter = CsvRecordReader.detectDelimiter(headerLine);
+        Columns columns = Columns.resolve(CsvRecordReader.splitRecord(headerLine, delimiter));
+
+        CsvRecordReader records = new CsvRecordReader(reader, delimiter, 2);
+        List<String> record;
+        while ((record = records.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            sink.accept(toLine(records.getRecordLineNumber(), record, columns, delimiter));
+        }
+    }
+
+    private BankStatementLine toLine(int lineNumber, List<String> record, Columns columns, char delimiter) {
+        try {
+            BigDecimal amount;
+            if (columns.amount >= 0) {
+                amount = parseAmount(value(record, columns.amount));
+            } else {
+                BigDecimal credit = parseOptionalAmount(value(record, columns.credit));
+                BigDecimal debit = parseOptionalAmount(value(record, columns.debit));
+                amount = credit.subtract(debit.abs());
+            }
+
+            return new BankStatementLine(
+                lineNumber,
+                parseDate(value(record, columns.date)),
+                amount,
+                value(record, columns.currency),
+                value(record, columns.counterparty),
+                value(record, columns.reference),
+                value(record, columns.transactionId)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return BankStatementLine.unreadable(lineNumber, String.join(String.valueOf(delimiter), record), e.getMessage());
+        }
+    }
+
+    private static String value(List<String> record, int index) {
+        return index >= 0 && index < record.size() ? record.get(index) : null;
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Booking date is missing");
+        }
+        String trimmed = value.trim();
+        return trimmed.length() == 8 && trimmed.chars().allMatch(Character::isDigit)
+            ? LocalDate.parse(trimmed, COMPACT_DATE)
+            : LocalDate.parse(trimmed.length() > 10 ? trimmed.substring(0, 10) : trimmed);
+    }
+
+    private static BigDecimal parseOptionalAmount(String value) {
+        return value == null || value.isBlank() ? BigDecimal.ZERO : parseAmount(value);
+    }
+
+    /**
+     * Parses amounts such as "1234.50", "-1,234.50", "1.234,50" or "€ 99,00".
+     * When both separators occur, the last one is the decimal separator; a lone comma
+     * is a decimal separator only when followed by exactly two digits.
+     */
+    static BigDecimal parseAmount(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Amount is missing");
+        }
+        StringBuilder cleaned = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isDigit(c) || c == '.' || c == ',' || c == '-') {
+                cleaned.append(c);
+            } else if (c == '(') {
+                cleaned.append('-');
+            }
+        }
+        String number = cleaned.toString();
+        int lastComma = number.lastIndexOf(',');
+        int lastDot = number.lastIndexOf('.');
+        if (lastComma >= 0 && lastDot >= 0) {
+            number = lastComma > lastDot
+                ? number.replace(".", "").replace(',', '.')
+                : number.replace(",", "");
+        } else if (lastComma >= 0) {
+            number = number.length() - lastComma == 3 && number.indexOf(',') == lastComma
+                ? number.replace(',', '.')
+                : number.replace(",", "");
+        }
+        try {
+            return new BigDecimal(number);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+    }
+
+    /**
+     * Column positions resolved from the header row; -1 when a column is absent.
+     */
+    private static final class Columns {
+        private int date = -1;
+        private int amount = -1;
+        private int credit = -1;
+        private int debit = -1;
+        private int currency = -1;
+        private int reference = -1;
+        private int counterparty = -1;
+        private int transactionId = -1;
+
+        static Columns resolve(List<String> header) {
+            Columns columns = new Columns();
+            for (int i = 0; i < header.size(); i++) {
+                String name = normalize(header.get(i));
+                if (columns.date < 0 && DATE_COLUMNS.contains(name)) {
+                    columns.date = i;
+                } else if (columns.amount < 0 && AMOUNT_COLUMNS.contains(name)) {
+                    columns.amount = i;
+                } else if (columns.credit < 0 && CREDIT_COLUMNS.contains(name)) {
+                    columns.credit = i;
+                } else if (columns.debit < 0 && DEBIT_COLUMNS.contains(name)) {
+                    columns.debit = i;
+                } else if (columns.currency < 0 && CURRENCY_COLUMNS.contains(name)) {
+                    columns.currency = i;
+                } else if (columns.reference < 0 && REFERENCE_COLUMNS.contains(name)) {
+                    columns.reference = i;
+                } else if (columns.counterparty < 0 && COUNTERPARTY_COLUMNS.contains(name)) {
+                    columns.counterparty = i;
+                } else if (columns.transactionId < 0 && TRANSACTION_ID_COLUMNS.contains(name)) {
+                    columns.transactionId = i;
+                }
+            }
+
+            if (columns.date < 0) {
+                throw new IllegalArgumentException("CSV statement has no date column");
+            }
+            if (columns.amount < 0 && columns.credit < 0) {
+                throw new IllegalArgumentException("CSV statement has no amount or credit column");
+            }
+            return columns;
+        }
+
+        private static String normalize(String header) {
+            StringBuilder name = new StringBuilder(header.length());
+            for (char c : header.toLowerCase(Locale.ROOT).toCharArray()) {
+                if (Character.isLetterOrDigit(c)) {
+                    name.append(c);
+                }
+            }
+            return name.toString();
+        }
+    }
+}
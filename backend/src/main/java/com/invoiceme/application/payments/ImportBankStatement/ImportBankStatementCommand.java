@@ -0,0 +1,77 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import java.util.Objects;
+
+/**
+ * Command to import a bank statement file and record the payments it contains.
+ * This is a write operation in the CQRS pattern; the file content is passed to the
+ * handler as a stream alongside this command.
+ */
+public class ImportBankStatementCommand {
+
+    private String fileName;
+    private String format;
+    private Integer chunkSize;
+
+    // Constructors
+    public ImportBankStatementCommand() {
+    }
+
+    public ImportBankStatementCommand(String fileName, String format, Integer chunkSize) {
+        this.fileName = fileName;
+        this.format = format;
+        this.chunkSize = chunkSize;
+    }
+
+    // Getters and Setters
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Explicit format ("csv", "ofx" or "camt053"); derived from the file name when absent.
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImportBankStatementCommand that = (ImportBankStatementCommand) o;
+        return Objects.equals(fileName, that.fileName) &&
+               Objects.equals(format, that.format) &&
+               Objects.equals(chunkSize, that.chunkSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fileName, format, chunkSize);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportBankStatementCommand{" +
+               "fileName='" + fileName + '\'' +
+               ", format='" + format + '\'' +
+               ", chunkSize=" + chunkSize +
+               '}';
+    }
+}
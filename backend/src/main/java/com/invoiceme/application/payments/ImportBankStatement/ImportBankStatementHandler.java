@@ -0,0 +1,305 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.payment.StatementReviewItem;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Handles the ImportBankStatementCommand.
+ * Streams the statement through the format's parser, matches each credit line
+ * against an in-memory index of open invoices built once per import, and commits
+ * matched payments and review items chunk by chunk. Lines already recorded by an
+ * earlier import are recognised per chunk before matching. Memory use is bounded by the
+ * chunk size and the number of open invoices, not by the size of the file.
+ */
+@Service
+public class ImportBankStatementHandler {
+
+    public static final int MAX_CHUNK_SIZE = 5_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportBankStatementHandler.class);
+
+    private final InvoiceRepository invoiceRepository;
+    private final PaymentRepository paymentRepository;
+    private final BankStatementChunkWriter chunkWriter;
+    private final int defaultChunkSize;
+
+    public ImportBankStatementHandler(InvoiceRepository invoiceRepository,
+                                      PaymentRepository paymentRepository,
+                                      BankStatementChunkWriter chunkWriter,
+                                      @Value("${payment.import.chunk-size:500}") int defaultChunkSize) {
+        this.invoiceRepository = invoiceRepository;
+        this.paymentRepository = paymentRepository;
+        this.chunkWriter = chunkWriter;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    /**
+     * Handles importing a bank statement.
+     * Chunks committed before a structural error in the file stay committed, and the lines
+     * read before it are still committed before the error is rethrown; importing the file
+     * again is safe because payment IDs are derived from the statement lines.
+     *
+     * @param command the import command
+     * @param input the statement file; not closed
+     * @return the import summary
+     * @throws IllegalArgumentException if the format, chunk size or file structure is invalid
+     * @throws UncheckedIOException if reading the file fails
+     */
+    public BankStatementImportResult handle(ImportBankStatementCommand command, InputStream input) {
+        BankStatementFormat format = resolveFormat(command);
+        int chunkSize = resolveChunkSize(command.getChunkSize());
+        long started = System.nanoTime();
+
+        OpenInvoiceIndex index = OpenInvoiceIndex.build(
+            invoiceRepository.findSummariesByStatus(InvoiceStatus.SENT),
+            paymentRepository.findReferencesByInvoiceStatus(InvoiceStatus.SENT));
+
+        ImportRun run = new ImportRun(UUID.randomUUID(), command.getFileName(), index, chunkSize);
+        try {
+            BankStatementParser.forFormat(format).parse(input, run::accept);
+        } catch (IOException e) {
+            throw run.flushAfter(new UncheckedIOException("Failed to read bank statement", e));
+        } catch (RuntimeException e) {
+            throw run.flushAfter(e);
+        }
+        run.flush();
+
+        BankStatementImportResult result = run.toResult(format);
+        logger.info("Imported bank statement {} ({}) in {} ms: {} lines, {} payments recorded, {} duplicates, {} for review, {} skipped, {} failed",
+            command.getFileName(), format, (System.nanoTime() - started) / 1_000_000, result.getTotalLines(),
+            result.getRecordedCount(), result.getDuplicateCount(), result.getReviewCount(), result.getSkippedCount(),
+            result.getFailedCount());
+        return result;
+    }
+
+    private BankStatementFormat resolveFormat(ImportBankStatementCommand command) {
+        if (command.getFormat() != null && !command.getFormat().isBlank()) {
+            return BankStatementFormat.fromValue(command.getFormat());
+        }
+        return BankStatementFormat.fromFileName(command.getFileName());
+    }
+
+    /**
+     * Validates the requested chunk size, applying the configured default when absent.
+     *
+     * @param chunkSize the requested chunk size
+     * @return the effective chunk size
+     */
+    private int resolveChunkSize(Integer chunkSize) {
+        if (chunkSize == null) {
+            return defaultChunkSize;
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        return chunkSize;
+    }
+
+    /**
+     * State of one import: the pending chunk and the running totals.
+     */
+    private final class ImportRun {
+        private final UUID importId;
+        private final String fileName;
+        private final OpenInvoiceIndex index;
+        private final int chunkSize;
+
+        private final Map<UUID, BankStatementLine> pending;
+        private final List<MatchedStatementLine> matched;
+        private final List<StatementReviewItem> reviewItems;
+        private final Set<UUID> seenPaymentIds = new HashSet<>();
+        private final Map<String, Integer> occurrences = new HashMap<>();
+
+        private long totalLines;
+        private long skippedCount;
+        private long duplicateCount;
+        private long recordedCount;
+        private long reviewCount;
+        private long failedCount;
+        private BigDecimal recordedAmount = BigDecimal.ZERO;
+
+        ImportRun(UUID importId, String fileName, OpenInvoiceIndex index, int chunkSize) {
+            this.importId = importId;
+            this.fileName = fileName;
+            this.index = index;
+            this.chunkSize = chunkSize;
+            this.pending = new LinkedHashMap<>(chunkSize * 2);
+            this.matched = new ArrayList<>(chunkSize);
+            this.reviewItems = new ArrayList<>(chunkSize);
+        }
+
+        void accept(BankStatementLine line) {
+            totalLines++;
+
+            if (!line.isReadable()) {
+                reviewItems.add(line.toReviewItem(importId, fileName, "Unreadable line: " + line.getError(), null));
+            } else if (!line.isCredit()) {
+                skippedCount++;
+            } else {
+                UUID paymentId = paymentIdFor(line);
+                if (!seenPaymentIds.add(paymentId)) {
+                    // Same bank transaction listed twice (e.g. overlapping statements concatenated)
+                    duplicateCount++;
+                } else {
+                    pending.put(paymentId, line);
+                }
+            }
+
+            if (pending.size() + reviewItems.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Matches the chunk's credit lines to invoices. Lines whose payment already exists
+         * (an earlier import of the same file, or the bank's transaction id recorded through
+         * the API) are counted as duplicates first: the payment may have paid the invoice
+         * off, and matching the line again would send it to review instead.
+         */
+        private void matchPending() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Set<UUID> existingPaymentIds = new HashSet<>(paymentRepository.findExistingIds(pending.keySet()));
+            List<String> bankTransactionIds = pending.values().stream()
+                .map(BankStatementLine::getBankTransactionId)
+                .filter(Objects::nonNull)
+                .toList();
+            Set<String> existingReferences = bankTransactionIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(paymentRepository.findExistingTransactionReferences(bankTransactionIds));
+
+            for (Map.Entry<UUID, BankStatementLine> entry : pending.entrySet()) {
+                BankStatementLine line = entry.getValue();
+                if (existingPaymentIds.contains(entry.getKey())
+                        || (line.getBankTransactionId() != null && existingReferences.contains(line.getBankTransactionId()))) {
+                    duplicateCount++;
+                    continue;
+                }
+                OpenInvoiceIndex.Match match = index.match(line);
+                if (match.isMatched()) {
+                    matched.add(new MatchedStatementLine(line, match.getInvoiceId(), entry.getKey(), match.getMethod()));
+                } else {
+                    reviewItems.add(line.toReviewItem(importId, fileName, match.getReviewReason(), match.getInvoiceId()));
+                }
+            }
+            pending.clear();
+        }
+
+        /**
+         * Commits the pending chunk. On a version conflict (a payment recorded concurrently
+         * through the API) the chunk is retried one line at a time, so only the lines for
+         * the contended invoices are re-validated against fresh balances. A line that still
+         * cannot be written, as a payment or for review, is counted as failed and the import
+         * carries on with the next one.
+         */
+        void flush() {
+            matchPending();
+            if (matched.isEmpty() && reviewItems.isEmpty()) {
+                return;
+            }
+            try {
+                add(chunkWriter.write(importId, fileName, matched, reviewItems));
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                logger.debug("Conflict committing bank statement chunk of {} lines, retrying individually",
+                    matched.size() + reviewItems.size());
+                writeForReview(reviewItems);
+                for (MatchedStatementLine item : matched) {
+                    try {
+                        add(chunkWriter.write(importId, fileName, List.of(item), List.of()));
+                    } catch (ConcurrencyFailureException | DataIntegrityViolationException retryFailure) {
+                        writeForReview(List.of(item.getLine().toReviewItem(
+                            importId, fileName, "Invoice was modified concurrently during import", item.getInvoiceId())));
+                    } catch (RuntimeException retryFailure) {
+                        failed(1, retryFailure);
+                    }
+                }
+            }
+            matched.clear();
+            reviewItems.clear();
+        }
+
+        /**
+         * Flushes what was read before the import failed, keeping the original failure
+         * as the one reported: a flush failure is attached to it as suppressed.
+         *
+         * @param failure the failure that ended the import
+         * @return the failure, to be rethrown
+         */
+        <T extends RuntimeException> T flushAfter(T failure) {
+            try {
+                flush();
+            } catch (RuntimeException flushFailure) {
+                failure.addSuppressed(flushFailure);
+            }
+            return failure;
+        }
+
+        private void writeForReview(List<StatementReviewItem> items) {
+            if (items.isEmpty()) {
+                return;
+            }
+            try {
+                add(chunkWriter.write(importId, fileName, List.of(), items));
+            } catch (RuntimeException e) {
+                failed(items.size(), e);
+            }
+        }
+
+        private void failed(int lines, RuntimeException e) {
+            logger.warn("Could not write {} lines of bank statement {}: {}", lines, fileName, e.getMessage());
+            failedCount += lines;
+        }
+
+        private void add(StatementChunkOutcome outcome) {
+            recordedCount += outcome.getRecordedCount();
+            recordedAmount = recordedAmount.add(outcome.getRecordedAmount());
+            duplicateCount += outcome.getDuplicateCount();
+            reviewCount += outcome.getReviewCount();
+        }
+
+        /**
+         * Derives a stable payment ID from the bank's transaction id, or from the line's
+         * content and its occurrence count when the bank supplies no id.
+         */
+        private UUID paymentIdFor(BankStatementLine line) {
+            String key;
+            if (line.getBankTransactionId() != null) {
+                key = "txn|" + line.getBankTransactionId();
+            } else {
+                String content = "line|" + line.getBookingDate() + "|" + line.getAmount().stripTrailingZeros().toPlainString()
+                    + "|" + line.getCurrency() + "|" + line.getCounterpartyName() + "|" + line.getReference();
+                key = content + "|" + occurrences.merge(content, 1, Integer::sum);
+            }
+            return UUID.nameUUIDFromBytes(("bank-statement|" + key).getBytes(StandardCharsets.UTF_8));
+        }
+
+        BankStatementImportResult toResult(BankStatementFormat format) {
+            return new BankStatementImportResult(importId, format, totalLines, recordedCount, recordedAmount,
+                duplicateCount, reviewCount, skippedCount, failedCount);
+        }
+    }
+}
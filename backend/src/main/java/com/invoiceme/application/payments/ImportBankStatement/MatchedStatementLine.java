@@ -0,0 +1,38 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import java.util.UUID;
+
+/**
+ * A statement line matched to an invoice, with the payment ID derived from the line
+ * so that importing the same statement twice records each payment only once.
+ */
+final class MatchedStatementLine {
+
+    private final BankStatementLine line;
+    private final UUID invoiceId;
+    private final UUID paymentId;
+    private final OpenInvoiceIndex.MatchMethod method;
+
+    MatchedStatementLine(BankStatementLine line, UUID invoiceId, UUID paymentId, OpenInvoiceIndex.MatchMethod method) {
+        this.line = line;
+        this.invoiceId = invoiceId;
+        this.paymentId = paymentId;
+        this.method = method;
+    }
+
+    BankStatementLine getLine() {
+        return line;
+    }
+
+    UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    UUID getPaymentId() {
+        return paymentId;
+    }
+
+    OpenInvoiceIndex.MatchMethod getMethod() {
+        return method;
+    }
+}
@@ -0,0 +1,154 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads OFX bank statements, both SGML (OFX 1.x, unclosed leaf tags) and XML (OFX 2.x).
+ * The file is scanned tag by tag and each {@code <STMTTRN>} aggregate is emitted as soon
+ * as it ends; the statement's {@code <CURDEF>} supplies the currency.
+ */
+class OfxBankStatementParser implements BankStatementParser {
+
+    private static final String TRANSACTION = "STMTTRN";
+
+    @Override
+    public void parse(InputStream input, Consumer<BankStatementLine> sink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        String currency = null;
+        Map<String, String> transaction = null;
+        int transactionLine = 0;
+        int lineNumber = 1;
+        boolean sawOfx = false;
+
+        StringBuilder tag = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        String openTag = null;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                lineNumber++;
+            }
+            if (c != '<') {
+                text.append((char) c);
+                continue;
+            }
+
+            // Value of the previous leaf tag ends where the next tag starts
+            if (openTag != null) {
+                String value = decode(text.toString().trim());
+                if (transaction != null && !value.isEmpty()) {
+                    transaction.putIfAbsent(openTag, value);
+                } else if ("CURDEF".equals(openTag) && !value.isEmpty()) {
+                    currency = value;
+                }
+            }
+            text.setLength(0);
+
+            tag.setLength(0);
+            while ((c = reader.read()) != -1 && c != '>') {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                tag.append((char) c);
+            }
+            String name = tag.toString().trim().toUpperCase(Locale.ROOT);
+            if (name.startsWith("?") || name.startsWith("!")) {
+                openTag = null;
+                continue;
+            }
+
+            if (name.startsWith("/")) {
+                openTag = null;
+                if (name.equals("/" + TRANSACTION) && transaction != null) {
+                    sink.accept(toLine(transactionLine, transaction, currency));
+                    transaction = null;
+                }
+            } else {
+                sawOfx |= name.equals("OFX");
+                if (name.equals(TRANSACTION)) {
+                    if (transaction != null) {
+                        sink.accept(toLine(transactionLine, transaction, currency));
+                    }
+                    transaction = new HashMap<>();
+                    transactionLine = lineNumber;
+                    openTag = null;
+                } else {
+                    openTag = name;
+                }
+            }
+        }
+
+        if (transaction != null) {
+            sink.accept(toLine(transactionLine, transaction, currency));
+        }
+        if (!sawOfx) {
+            throw new IllegalArgumentException("File is not an OFX statement");
+        }
+    }
+
+    private BankStatementLine toLine(int lineNumber, Map<String, String> transaction, String currency) {
+        try {
+            String memo = transaction.get("MEMO");
+            String reference = memo != null ? memo : transaction.get("REFNUM");
+            return new BankStatementLine(
+                lineNumber,
+                parseDate(transaction.get("DTPOSTED")),
+                parseAmount(transaction.get("TRNAMT")),
+                currency,
+                transaction.get("NAME"),
+                reference,
+                transaction.get("FITID")
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return BankStatementLine.unreadable(lineNumber, transaction.toString(), e.getMessage());
+        }
+    }
+
+    /**
+     * OFX dates are yyyyMMdd optionally followed by time, fraction and time zone.
+     */
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.length() < 8) {
+            throw new IllegalArgumentException("Posting date is missing or invalid: " + value);
+        }
+        return LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Transaction amount is missing");
+        }
+        try {
+            // Some banks emit a decimal comma
+            return new BigDecimal(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid transaction amount: " + value);
+        }
+    }
+
+    private static String decode(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&quot;", "\"")
+            .replace("&apos;", "'")
+            .replace("&nbsp;", " ")
+            .replace("&amp;", "&");
+    }
+}
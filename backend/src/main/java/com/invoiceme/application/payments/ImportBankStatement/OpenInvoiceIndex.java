@@ -0,0 +1,234 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import com.invoiceme.infrastructure.persistence.InvoiceSummaryView;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory lookup of the invoices that can receive payments (status SENT), built once
+ * per import so matching a statement line never touches the database. Remaining
+ * balances are decremented as lines are matched, so two lines cannot both settle
+ * the same balance within one import.
+ */
+final class OpenInvoiceIndex {
+
+    private static final Pattern INVOICE_NUMBER = Pattern.compile("INV-\\d{6}-\\d{4,}", Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, Entry> byInvoiceNumber = new HashMap<>();
+    private final Map<String, Entry> byReference = new HashMap<>();
+    private final Map<String, List<Entry>> byCustomerName = new HashMap<>();
+
+    private OpenInvoiceIndex() {
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param openInvoices summaries of all SENT invoices
+     * @param references (transactionReference, invoiceId) pairs of earlier payments on those invoices
+     * @return the index
+     */
+    static OpenInvoiceIndex build(List<InvoiceSummaryView> openInvoices, List<Object[]> references) {
+        OpenInvoiceIndex index = new OpenInvoiceIndex();
+        Map<UUID, Entry> byId = new HashMap<>(openInvoices.size() * 2);
+        for (InvoiceSummaryView invoice : openInvoices) {
+            Entry entry = new Entry(invoice.getId(), invoice.getInvoiceNumber(), invoice.getBalanceRemaining());
+            byId.put(entry.invoiceId, entry);
+            index.byInvoiceNumber.put(invoice.getInvoiceNumber().toUpperCase(Locale.ROOT), entry);
+            String customerKey = normalizeName(invoice.getCustomerName());
+            if (!customerKey.isEmpty()) {
+                index.byCustomerName.computeIfAbsent(customerKey, key -> new ArrayList<>(2)).add(entry);
+            }
+        }
+
+        Set<String> ambiguousReferences = new LinkedHashSet<>();
+        for (Object[] row : references) {
+            String referenceKey = normalizeReference((String) row[0]);
+            Entry entry = byId.get((UUID) row[1]);
+            if (entry == null || referenceKey.isEmpty()) {
+                continue;
+            }
+            Entry previous = index.byReference.putIfAbsent(referenceKey, entry);
+            if (previous != null && previous != entry) {
+                ambiguousReferences.add(referenceKey);
+            }
+        }
+        // A reference shared by several invoices identifies none of them
+        ambiguousReferences.forEach(index.byReference::remove);
+
+        return index;
+    }
+
+    /**
+     * Finds the invoice a credit line pays: by invoice number quoted in the reference or
+     * counterparty text, then by a reference used on an earlier payment, then by the
+     * counterparty's name together with an exact remaining balance.
+     * A successful match reserves the amount against the invoice's remaining balance.
+     *
+     * @param line a readable credit line
+     * @return the match, or the reason it needs review
+     */
+    Match match(BankStatementLine line) {
+        BigDecimal amount = line.getAmount();
+
+        Set<String> quotedNumbers = findInvoiceNumbers(line.getReference(), line.getCounterpartyName());
+        if (quotedNumbers.size() > 1) {
+            return Match.review("Line references several invoices: " + String.join(", ", quotedNumbers), null);
+        }
+        if (quotedNumbers.size() == 1) {
+            String invoiceNumber = quotedNumbers.iterator().next();
+            Entry entry = byInvoiceNumber.get(invoiceNumber);
+            if (entry == null) {
+                return Match.review("Invoice " + invoiceNumber + " is not open for payment", null);
+            }
+            return reserve(entry, amount, MatchMethod.INVOICE_NUMBER);
+        }
+
+        if (line.getReference() != null) {
+            Entry entry = byReference.get(normalizeReference(line.getReference()));
+            if (entry != null) {
+                return reserve(entry, amount, MatchMethod.TRANSACTION_REFERENCE);
+            }
+        }
+
+        if (line.getCounterpartyName() != null) {
+            List<Entry> candidates = byCustomerName.get(normalizeName(line.getCounterpartyName()));
+            if (candidates != null) {
+                Entry match = null;
+                for (Entry candidate : candidates) {
+                    if (candidate.balance.compareTo(amount) == 0) {
+                        if (match != null) {
+                            return Match.review("Several open invoices of " + line.getCounterpartyName()
+                                + " have a balance of " + amount, null);
+                        }
+                        match = candidate;
+                    }
+                }
+                if (match != null) {
+                    return reserve(match, amount, MatchMethod.AMOUNT_AND_CUSTOMER);
+                }
+                return Match.review("No open invoice of " + line.getCounterpartyName()
+                    + " has a balance of " + amount, candidates.size() == 1 ? candidates.get(0).invoiceId : null);
+            }
+        }
+
+        return Match.review("No open invoice matches this line", null);
+    }
+
+    private Match reserve(Entry entry, BigDecimal amount, MatchMethod method) {
+        if (amount.compareTo(entry.balance) > 0) {
+            return Match.review(String.format("Amount (%.2f) exceeds the remaining balance of %s (%.2f)",
+                amount, entry.invoiceNumber, entry.balance), entry.invoiceId);
+        }
+        entry.balance = entry.balance.subtract(amount);
+        return Match.matched(entry.invoiceId, method);
+    }
+
+    private static Set<String> findInvoiceNumbers(String... texts) {
+        Set<String> numbers = new LinkedHashSet<>(1);
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            Matcher matcher = INVOICE_NUMBER.matcher(text);
+            while (matcher.find()) {
+                numbers.add(matcher.group().toUpperCase(Locale.ROOT));
+            }
+        }
+        return numbers;
+    }
+
+    private static String normalizeReference(String reference) {
+        return reference == null ? "" : reference.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Lower-cased letters and digits only, so "ACME Corp." and "Acme corp" compare equal.
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * How a line was matched to its invoice.
+     */
+    enum MatchMethod {
+        INVOICE_NUMBER,
+        TRANSACTION_REFERENCE,
+        AMOUNT_AND_CUSTOMER
+    }
+
+    /**
+     * Outcome of matching one line: either an invoice or a reason for review.
+     */
+    static final class Match {
+        private final UUID invoiceId;
+        private final MatchMethod method;
+        private final String reviewReason;
+
+        private Match(UUID invoiceId, MatchMethod method, String reviewReason) {
+            this.invoiceId = invoiceId;
+            this.method = method;
+            this.reviewReason = reviewReason;
+        }
+
+        static Match matched(UUID invoiceId, MatchMethod method) {
+            return new Match(invoiceId, method, null);
+        }
+
+        static Match review(String reason, UUID candidateInvoiceId) {
+            return new Match(candidateInvoiceId, null, reason);
+        }
+
+        boolean isMatched() {
+            return method != null;
+        }
+
+        /**
+         * The matched invoice, or for a review the most likely candidate (may be null).
+         */
+        UUID getInvoiceId() {
+            return invoiceId;
+        }
+
+        MatchMethod getMethod() {
+            return method;
+        }
+
+        String getReviewReason() {
+            return reviewReason;
+        }
+    }
+
+    private static final class Entry {
+        private final UUID invoiceId;
+        private final String invoiceNumber;
+        private BigDecimal balance;
+
+        Entry(UUID invoiceId, String invoiceNumber, BigDecimal balance) {
+            this.invoiceId = invoiceId;
+            this.invoiceNumber = invoiceNumber;
+            this.balance = balance;
+        }
+    }
+}
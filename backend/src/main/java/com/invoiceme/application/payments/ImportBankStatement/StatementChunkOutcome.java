@@ -0,0 +1,43 @@
+package com.invoiceme.application.payments.ImportBankStatement;
+
+import java.math.BigDecimal;
+
+/**
+ * Counts of what one committed chunk of an import did.
+ */
+final class StatementChunkOutcome {
+
+    private int recordedCount;
+    private BigDecimal recordedAmount = BigDecimal.ZERO;
+    private int duplicateCount;
+    private int reviewCount;
+
+    void recorded(BigDecimal amount) {
+        recordedCount++;
+        recordedAmount = recordedAmount.add(amount);
+    }
+
+    void duplicate() {
+        duplicateCount++;
+    }
+
+    void reviewed(int count) {
+        reviewCount += count;
+    }
+
+    int getRecordedCount() {
+        return recordedCount;
+    }
+
+    BigDecimal getRecordedAmount() {
+        return recordedAmount;
+    }
+
+    int getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    int getReviewCount() {
+        return reviewCount;
+    }
+}
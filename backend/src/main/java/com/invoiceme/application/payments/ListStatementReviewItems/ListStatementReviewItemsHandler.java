@@ -0,0 +1,86 @@
+package com.invoiceme.application.payments.ListStatementReviewItems;
+
+import com.invoiceme.domain.payment.StatementReviewItem;
+import com.invoiceme.domain.payment.StatementReviewStatus;
+import com.invoiceme.infrastructure.persistence.StatementReviewItemRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Handles the ListStatementReviewItemsQuery.
+ * Retrieves bank statement lines waiting for (or closed after) manual review.
+ */
+@Service
+public class ListStatementReviewItemsHandler {
+
+    private final StatementReviewItemRepository reviewItemRepository;
+
+    public ListStatementReviewItemsHandler(StatementReviewItemRepository reviewItemRepository) {
+        this.reviewItemRepository = reviewItemRepository;
+    }
+
+    /**
+     * Handles retrieving review items.
+     *
+     * @param query the list review items query
+     * @return list of review item DTOs, oldest first
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public List<StatementReviewItemDto> handle(ListStatementReviewItemsQuery query) {
+        Pageable page = PageRequest.of(0, resolveLimit(query.getLimit()));
+
+        List<StatementReviewItem> items;
+        if (query.getImportId() != null) {
+            items = reviewItemRepository.findByImportIdOrderByLineNumberAsc(query.getImportId(), page);
+        } else {
+            StatementReviewStatus status = query.getStatus() != null ? query.getStatus() : StatementReviewStatus.PENDING;
+            items = reviewItemRepository.findByStatusOrderByCreatedAtAscLineNumberAsc(status, page);
+        }
+
+        return items.stream()
+            .map(this::mapToDto)
+            .collect(Collectors.toList());
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return ListStatementReviewItemsQuery.DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > ListStatementReviewItemsQuery.MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + ListStatementReviewItemsQuery.MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    /**
+     * Maps StatementReviewItem entity to StatementReviewItemDto.
+     *
+     * @param item the review item entity
+     * @return the review item DTO
+     */
+    private StatementReviewItemDto mapToDto(StatementReviewItem item) {
+        StatementReviewItemDto dto = new StatementReviewItemDto();
+        dto.setId(item.getId());
+        dto.setImportId(item.getImportId());
+        dto.setFileName(item.getFileName());
+        dto.setLineNumber(item.getLineNumber());
+        dto.setBookingDate(item.getBookingDate());
+        dto.setAmount(item.getAmount());
+        dto.setCurrency(item.getCurrency());
+        dto.setCounterpartyName(item.getCounterpartyName());
+        dto.setReference(item.getReference());
+        dto.setBankTransactionId(item.getBankTransactionId());
+        dto.setCandidateInvoiceId(item.getCandidateInvoiceId());
+        dto.setReason(item.getReason());
+        dto.setStatus(item.getStatus());
+        dto.setCreatedAt(item.getCreatedAt());
+        dto.setResolvedAt(item.getResolvedAt());
+        return dto;
+    }
+}
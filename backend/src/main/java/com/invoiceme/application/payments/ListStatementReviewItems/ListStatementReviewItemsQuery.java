@@ -0,0 +1,79 @@
+package com.invoiceme.application.payments.ListStatementReviewItems;
+
+import com.invoiceme.domain.payment.StatementReviewStatus;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Query to retrieve bank statement lines from the review queue.
+ * Filtered by import when {@code importId} is set, otherwise by status (PENDING by default).
+ * Items are returned oldest first, at most {@code limit} of them.
+ */
+public class ListStatementReviewItemsQuery {
+
+    public static final int DEFAULT_LIMIT = 200;
+    public static final int MAX_LIMIT = 5_000;
+
+    private UUID importId;
+    private StatementReviewStatus status;
+    private Integer limit;
+
+    // Constructors
+    public ListStatementReviewItemsQuery() {
+    }
+
+    public ListStatementReviewItemsQuery(UUID importId, StatementReviewStatus status) {
+        this.importId = importId;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public void setImportId(UUID importId) {
+        this.importId = importId;
+    }
+
+    public StatementReviewStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatementReviewStatus status) {
+        this.status = status;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ListStatementReviewItemsQuery that = (ListStatementReviewItemsQuery) o;
+        return Objects.equals(importId, that.importId) &&
+               status == that.status &&
+               Objects.equals(limit, that.limit);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(importId, status, limit);
+    }
+
+    @Override
+    public String toString() {
+        return "ListStatementReviewItemsQuery{" +
+               "importId=" + importId +
+               ", status=" + status +
+               ", limit=" + limit +
+               '}';
+    }
+}
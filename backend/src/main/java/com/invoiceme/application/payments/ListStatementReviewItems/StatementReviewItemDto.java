@@ -0,0 +1,204 @@
+package com.invoiceme.application.payments.ListStatementReviewItems;
+
+import com.invoiceme.domain.payment.StatementReviewStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a bank statement line in the review queue.
+ */
+public class StatementReviewItemDto {
+    private UUID id;
+    private UUID importId;
+    private String fileName;
+    private int lineNumber;
+    private LocalDate bookingDate;
+    private BigDecimal amount;
+    private String currency;
+    private String counterpartyName;
+    private String reference;
+    private String bankTransactionId;
+    private UUID candidateInvoiceId;
+    private String reason;
+    private StatementReviewStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime resolvedAt;
+
+    // Constructors
+    public StatementReviewItemDto() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public void setImportId(UUID importId) {
+        this.importId = importId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public void setLineNumber(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public void setBookingDate(LocalDate bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getCounterpartyName() {
+        return counterpartyName;
+    }
+
+    public void setCounterpartyName(String counterpartyName) {
+        this.counterpartyName = counterpartyName;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public String getBankTransactionId() {
+        return bankTransactionId;
+    }
+
+    public void setBankTransactionId(String bankTransactionId) {
+        this.bankTransactionId = bankTransactionId;
+    }
+
+    public UUID getCandidateInvoiceId() {
+        return candidateInvoiceId;
+    }
+
+    public void setCandidateInvoiceId(UUID candidateInvoiceId) {
+        this.candidateInvoiceId = candidateInvoiceId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public StatementReviewStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatementReviewStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StatementReviewItemDto that = (StatementReviewItemDto) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(importId, that.importId) &&
+               Objects.equals(fileName, that.fileName) &&
+               lineNumber == that.lineNumber &&
+               Objects.equals(bookingDate, that.bookingDate) &&
+               Objects.equals(amount, that.amount) &&
+               Objects.equals(currency, that.currency) &&
+               Objects.equals(counterpartyName, that.counterpartyName) &&
+               Objects.equals(reference, that.reference) &&
+               Objects.equals(bankTransactionId, that.bankTransactionId) &&
+               Objects.equals(candidateInvoiceId, that.candidateInvoiceId) &&
+               Objects.equals(reason, that.reason) &&
+               status == that.status &&
+               Objects.equals(createdAt, that.createdAt) &&
+               Objects.equals(resolvedAt, that.resolvedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, importId, fileName, lineNumber, bookingDate, amount, currency, counterpartyName,
+                            reference, bankTransactionId, candidateInvoiceId, reason, status, createdAt, resolvedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementReviewItemDto{" +
+               "id=" + id +
+               ", importId=" + importId +
+               ", fileName='" + fileName + '\'' +
+               ", lineNumber=" + lineNumber +
+               ", bookingDate=" + bookingDate +
+               ", amount=" + amount +
+               ", currency='" + currency + '\'' +
+               ", counterpartyName='" + counterpartyName + '\'' +
+               ", reference='" + reference + '\'' +
+               ", bankTransactionId='" + bankTransactionId + '\'' +
+               ", candidateInvoiceId=" + candidateInvoiceId +
+               ", reason='" + reason + '\'' +
+               ", status=" + status +
+               ", createdAt=" + createdAt +
+               ", resolvedAt=" + resolvedAt +
+               '}';
+    }
+}
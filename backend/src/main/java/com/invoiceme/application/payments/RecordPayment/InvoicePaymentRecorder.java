@@ -0,0 +1,95 @@
+package com.invoiceme.application.payments.RecordPayment;
+
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.application.payments.ResolvePaymentLink.PaymentLinkCache;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.payment.Payment;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records a single payment in its own transaction while holding the invoice's row lock.
+ * The balance checks run against the locked row, so concurrent payments on one invoice
+ * are serialized instead of failing with optimistic-lock conflicts or overpaying.
+ */
+@Component
+public class InvoicePaymentRecorder {
+
+    private final PaymentRepository paymentRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final RecordPaymentValidator validator;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final PaymentLinkCache paymentLinkCache;
+
+    public InvoicePaymentRecorder(PaymentRepository paymentRepository,
+                                  InvoiceRepository invoiceRepository,
+                                  RecordPaymentValidator validator,
+                                  InvoiceDtoCache invoiceDtoCache,
+                                  PaymentLinkCache paymentLinkCache) {
+        this.paymentRepository = paymentRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.validator = validator;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.paymentLinkCache = paymentLinkCache;
+    }
+
+    /**
+     * Records the payment, or returns the existing payment's ID when it was already recorded.
+     *
+     * @param command the field-validated record payment command
+     * @return the ID of the payment (existing or newly created)
+     * @throws IllegalArgumentException if the invoice does not exist or does not accept the payment
+     */
+    @Transactional
+    public UUID record(RecordPaymentCommand command) {
+        // Cheap idempotency check before taking any lock
+        if (paymentRepository.existsById(command.getId())) {
+            return command.getId();
+        }
+
+        Invoice invoice = invoiceRepository.findByIdForUpdate(command.getInvoiceId())
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Validation failed: Invoice with ID " + command.getInvoiceId() + " does not exist"));
+
+        // A retry of the same payment may have committed while this transaction waited for the lock
+        if (paymentRepository.existsById(command.getId())) {
+            return command.getId();
+        }
+
+        List<String> errors = validator.validateAgainstInvoice(command, invoice);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Validation failed: " + String.join(", ", errors));
+        }
+
+        // Create payment entity
+        Payment payment = new Payment();
+        payment.setId(command.getId());
+        payment.setInvoice(invoice);
+        payment.setPaymentAmount(command.getPaymentAmount());
+        payment.setPaymentDate(command.getPaymentDate());
+        payment.setPaymentMethod(command.getPaymentMethod());
+        payment.setTransactionReference(command.getTransactionReference());
+        payment.setNotes(command.getNotes());
+
+        // Validate payment (domain validation)
+        payment.validate();
+
+        Payment savedPayment = paymentRepository.save(payment);
+
+        // Update invoice amounts, marking the invoice as paid once fully settled
+        invoice.applyPayment(command.getPaymentAmount());
+        invoiceRepository.save(invoice);
+        invoiceDtoCache.invalidate(invoice.getId());
+        if (invoice.getStatus() == InvoiceStatus.PAID) {
+            paymentLinkCache.evict(invoice.getPaymentLink());
+        }
+
+        return savedPayment.getId();
+    }
+}
@@ -1,34 +1,37 @@
 package com.invoiceme.application.payments.RecordPayment;
 
-import com.invoiceme.domain.invoice.Invoice;
-import com.invoiceme.domain.payment.Payment;
-import com.invoiceme.infrastructure.persistence.InvoiceRepository;
-import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Handles the RecordPaymentCommand.
  * Records a payment against an invoice and updates invoice balances.
+ * Payments on the same invoice are serialized through the invoice's row lock; a
+ * transaction that still loses a race (lock timeout, concurrent insert of the same
+ * payment ID, a version conflict with another writer) is retried a bounded number of times.
  */
 @Service
 public class RecordPaymentHandler {
 
-    private final PaymentRepository paymentRepository;
-    private final InvoiceRepository invoiceRepository;
+    private static final Logger logger = LoggerFactory.getLogger(RecordPaymentHandler.class);
+
+    private final InvoicePaymentRecorder paymentRecorder;
     private final RecordPaymentValidator validator;
+    private final int maxAttempts;
 
-    public RecordPaymentHandler(PaymentRepository paymentRepository,
-                                InvoiceRepository invoiceRepository,
-                                RecordPaymentValidator validator) {
-        this.paymentRepository = paymentRepository;
-        this.invoiceRepository = invoiceRepository;
+    public RecordPaymentHandler(InvoicePaymentRecorder paymentRecorder,
+                                RecordPaymentValidator validator,
+                                @Value("${payment.record.max-attempts:5}") int maxAttempts) {
+        this.paymentRecorder = paymentRecorder;
         this.validator = validator;
+        this.maxAttempts = Math.max(1, maxAttempts);
     }
 
     /**
@@ -37,60 +40,32 @@ public class RecordPaymentHandler {
      * @param command the record payment command
      * @return the ID of the payment (existing or newly created)
      * @throws IllegalArgumentException if validation fails or invoice not found
+     * @throws ConcurrencyFailureException if the payment still conflicts after all attempts
      */
-    @Transactional
     public UUID handle(RecordPaymentCommand command) {
-        // Validate command
-        List<String> errors = validator.validate(command);
+        // Validate command fields; invoice rules are checked against the locked invoice
+        List<String> errors = validator.validateFields(command);
         if (!errors.isEmpty()) {
             throw new IllegalArgumentException("Validation failed: " + String.join(", ", errors));
         }
 
-        // Check idempotency: if payment already exists with this ID, return existing payment ID
-        Optional<Payment> existingPayment = paymentRepository.findById(command.getId());
-        if (existingPayment.isPresent()) {
-            return existingPayment.orElseThrow(() ->
-                new IllegalStateException("Payment should exist but was not found")).getId();
-        }
-
-        // Fetch invoice
-        Invoice invoice = invoiceRepository.findById(command.getInvoiceId())
-            .orElseThrow(() -> new IllegalArgumentException("Invoice not found with ID: " + command.getInvoiceId()));
-
-        // Create payment entity
-        Payment payment = new Payment();
-        payment.setId(command.getId());
-        payment.setInvoice(invoice);
-        payment.setPaymentAmount(command.getPaymentAmount());
-        payment.setPaymentDate(command.getPaymentDate());
-        payment.setPaymentMethod(command.getPaymentMethod());
-        payment.setTransactionReference(command.getTransactionReference());
-        payment.setNotes(command.getNotes());
-
-        // Validate payment (domain validation)
-        payment.validate();
-
-        // Save payment
-        Payment savedPayment = paymentRepository.save(payment);
-
-        // Update invoice amounts
-        BigDecimal newAmountPaid = invoice.getAmountPaid().add(command.getPaymentAmount());
-        invoice.setAmountPaid(newAmountPaid);
-
-        BigDecimal newBalanceRemaining = invoice.getTotalAmount().subtract(newAmountPaid);
-        invoice.setBalanceRemaining(newBalanceRemaining);
-
-        // If fully paid, mark invoice as paid
-        if (newBalanceRemaining.compareTo(BigDecimal.ZERO) == 0) {
-            invoice.markAsPaid();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UUID paymentId = paymentRecorder.record(command);
+
+                // TODO: Publish PaymentRecordedEvent
+                // eventPublisher.publish(new PaymentRecordedEvent(paymentId));
+
+                return paymentId;
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= maxAttempts) {
+                    logger.warn("Giving up recording payment {} on invoice {} after {} attempts: {}",
+                        command.getId(), command.getInvoiceId(), attempt, e.getMessage());
+                    throw e;
+                }
+                logger.debug("Retrying payment {} on invoice {} after conflict (attempt {})",
+                    command.getId(), command.getInvoiceId(), attempt);
+            }
         }
-
-        // Save updated invoice
-        invoiceRepository.save(invoice);
-
-        // TODO: Publish PaymentRecordedEvent
-        // eventPublisher.publish(new PaymentRecordedEvent(savedPayment.getId()));
-
-        return savedPayment.getId();
     }
 }
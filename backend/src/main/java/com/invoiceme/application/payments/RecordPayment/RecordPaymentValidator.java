@@ -54,32 +54,7 @@ public class RecordPaymentValidator {
                 Invoice invoice = invoiceOpt.orElseThrow(() ->
                     new IllegalStateException("Invoice should exist but was not found"));
 
-                // Check invoice is not cancelled
-                if (invoice.getStatus() == InvoiceStatus.CANCELLED) {
-                    errors.add("Cannot record payment for a cancelled invoice");
-                }
-
-                // Validate payment amount
-                if (command.getPaymentAmount() == null) {
-                    errors.add("Payment amount is required");
-                } else if (command.getPaymentAmount().compareTo(BigDecimal.ZERO) <= 0) {
-                    errors.add("Payment amount must be greater than zero");
-                } else {
-                    BigDecimal balanceRemaining = invoice.getBalanceRemaining();
-
-                    // Check for overpayment
-                    if (command.getPaymentAmount().compareTo(balanceRemaining) > 0) {
-                        errors.add(String.format("Payment amount (%.2f) exceeds invoice balance remaining (%.2f)",
-                            command.getPaymentAmount(), balanceRemaining));
-                    }
-
-                    // Check partial payment rules
-                    if (!invoice.isAllowsPartialPayment() &&
-                        command.getPaymentAmount().compareTo(balanceRemaining) != 0) {
-                        errors.add("This invoice does not allow partial payments. Payment must equal the balance remaining (%.2f)"
-                            .formatted(balanceRemaining));
-                    }
-                }
+                validateAgainstInvoice(command, invoice, errors);
             }
         }
 
@@ -95,4 +70,78 @@ public class RecordPaymentValidator {
 
         return errors;
     }
+
+    /**
+     * Validates the record payment command without any database access.
+     * Used by batch recording, which loads all target invoices with a single query
+     * and then calls {@link #validateAgainstInvoice(RecordPaymentCommand, Invoice)}.
+     *
+     * @param command the command to validate
+     * @return list of validation error messages (empty if valid)
+     */
+    public List<String> validateFields(RecordPaymentCommand command) {
+        List<String> errors = new ArrayList<>();
+
+        if (command.getId() == null) {
+            errors.add("Payment ID is required for idempotency");
+        }
+        if (command.getInvoiceId() == null) {
+            errors.add("Invoice ID is required");
+        }
+        if (command.getPaymentAmount() == null) {
+            errors.add("Payment amount is required");
+        } else if (command.getPaymentAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            errors.add("Payment amount must be greater than zero");
+        }
+        if (command.getPaymentDate() == null) {
+            errors.add("Payment date is required");
+        }
+        if (command.getPaymentMethod() == null) {
+            errors.add("Payment method is required");
+        }
+
+        return errors;
+    }
+
+    /**
+     * Validates the payment against the invoice's current state and balance.
+     *
+     * @param command the command to validate
+     * @param invoice the invoice being paid, as currently loaded
+     * @return list of validation error messages (empty if valid)
+     */
+    public List<String> validateAgainstInvoice(RecordPaymentCommand command, Invoice invoice) {
+        List<String> errors = new ArrayList<>();
+        validateAgainstInvoice(command, invoice, errors);
+        return errors;
+    }
+
+    private void validateAgainstInvoice(RecordPaymentCommand command, Invoice invoice, List<String> errors) {
+        // Check invoice is not cancelled
+        if (invoice.getStatus() == InvoiceStatus.CANCELLED) {
+            errors.add("Cannot record payment for a cancelled invoice");
+        }
+
+        // Validate payment amount
+        if (command.getPaymentAmount() == null) {
+            errors.add("Payment amount is required");
+        } else if (command.getPaymentAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            errors.add("Payment amount must be greater than zero");
+        } else {
+            BigDecimal balanceRemaining = invoice.getBalanceRemaining();
+
+            // Check for overpayment
+            if (command.getPaymentAmount().compareTo(balanceRemaining) > 0) {
+                errors.add(String.format("Payment amount (%.2f) exceeds invoice balance remaining (%.2f)",
+                    command.getPaymentAmount(), balanceRemaining));
+            }
+
+            // Check partial payment rules
+            if (!invoice.isAllowsPartialPayment() &&
+                command.getPaymentAmount().compareTo(balanceRemaining) != 0) {
+                errors.add("This invoice does not allow partial payments. Payment must equal the balance remaining (%.2f)"
+                    .formatted(balanceRemaining));
+            }
+        }
+    }
 }
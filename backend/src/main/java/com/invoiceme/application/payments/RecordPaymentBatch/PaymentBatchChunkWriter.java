@@ -0,0 +1,123 @@
+package com.invoiceme.application.payments.RecordPaymentBatch;
+
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentCommand;
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentValidator;
+import com.invoiceme.application.payments.ResolvePaymentLink.PaymentLinkCache;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.payment.Payment;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Records one chunk of a payment batch in a single transaction.
+ * All target invoices and already existing payment IDs are loaded with one query
+ * each; payments are then applied to their invoice in request order, so every
+ * payment is validated against the balance left by the ones before it.
+ */
+@Component
+public class PaymentBatchChunkWriter {
+
+    private final InvoiceRepository invoiceRepository;
+    private final PaymentRepository paymentRepository;
+    private final RecordPaymentValidator validator;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final PaymentLinkCache paymentLinkCache;
+
+    public PaymentBatchChunkWriter(InvoiceRepository invoiceRepository,
+                                   PaymentRepository paymentRepository,
+                                   RecordPaymentValidator validator,
+                                   InvoiceDtoCache invoiceDtoCache,
+                                   PaymentLinkCache paymentLinkCache) {
+        this.invoiceRepository = invoiceRepository;
+        this.paymentRepository = paymentRepository;
+        this.validator = validator;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.paymentLinkCache = paymentLinkCache;
+    }
+
+    /**
+     * Applies and inserts the payments of a chunk.
+     *
+     * @param chunk the (index, command) pairs of the chunk, grouped by invoice and in request order within an invoice
+     * @param commands all commands of the batch, by request index
+     * @return one result per item of the chunk
+     * @throws org.springframework.dao.OptimisticLockingFailureException if one of the
+     *         invoices was modified concurrently; the whole chunk is rolled back
+     */
+    @Transactional
+    public List<PaymentBatchItemResult> write(List<Integer> chunk, List<RecordPaymentCommand> commands) {
+        Set<UUID> paymentIds = new HashSet<>();
+        Set<UUID> invoiceIds = new HashSet<>();
+        for (int index : chunk) {
+            paymentIds.add(commands.get(index).getId());
+            invoiceIds.add(commands.get(index).getInvoiceId());
+        }
+
+        Set<UUID> existingPaymentIds = new HashSet<>(paymentRepository.findExistingIds(paymentIds));
+        Map<UUID, Invoice> invoices = new HashMap<>();
+        for (Invoice invoice : invoiceRepository.findAllWithCustomerByIdIn(invoiceIds)) {
+            invoices.put(invoice.getId(), invoice);
+        }
+
+        List<PaymentBatchItemResult> results = new ArrayList<>(chunk.size());
+        List<Payment> payments = new ArrayList<>(chunk.size());
+        for (int index : chunk) {
+            RecordPaymentCommand command = commands.get(index);
+
+            // Idempotency: a payment ID that already exists returns the existing payment unchanged
+            if (existingPaymentIds.contains(command.getId())) {
+                results.add(PaymentBatchItemResult.existing(index, command.getId(), command.getInvoiceId()));
+                continue;
+            }
+
+            Invoice invoice = invoices.get(command.getInvoiceId());
+            if (invoice == null) {
+                results.add(PaymentBatchItemResult.failed(index, command.getId(), command.getInvoiceId(),
+                    List.of("Invoice with ID " + command.getInvoiceId() + " does not exist")));
+                continue;
+            }
+
+            List<String> errors = validator.validateAgainstInvoice(command, invoice);
+            if (!errors.isEmpty()) {
+                results.add(PaymentBatchItemResult.failed(index, command.getId(), invoice.getId(), errors));
+                continue;
+            }
+
+            Payment payment = new Payment();
+            payment.setId(command.getId());
+            payment.setInvoice(invoice);
+            payment.setPaymentAmount(command.getPaymentAmount());
+            payment.setPaymentDate(command.getPaymentDate());
+            payment.setPaymentMethod(command.getPaymentMethod());
+            payment.setTransactionReference(command.getTransactionReference());
+            payment.setNotes(command.getNotes());
+            payment.validate();
+
+            invoice.applyPayment(command.getPaymentAmount());
+            payments.add(payment);
+            existingPaymentIds.add(command.getId());
+            results.add(PaymentBatchItemResult.recorded(index, command.getId(), invoice.getId()));
+        }
+
+        if (!payments.isEmpty()) {
+            paymentRepository.persistAll(payments);
+            invoiceDtoCache.invalidate(payments.stream().map(payment -> payment.getInvoice().getId()).distinct().toList());
+            invoices.values().stream()
+                .filter(invoice -> invoice.getStatus() == InvoiceStatus.PAID)
+                .forEach(invoice -> paymentLinkCache.evict(invoice.getPaymentLink()));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,127 @@
+package com.invoiceme.application.payments.RecordPaymentBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Outcome of one payment in a batch, identified by its position in the request.
+ * {@code alreadyRecorded} is true when the payment ID already existed, in which
+ * case nothing was changed (same idempotency rule as POST /api/payments).
+ */
+public class PaymentBatchItemResult {
+
+    private int index;
+    private boolean success;
+    private boolean alreadyRecorded;
+    private UUID paymentId;
+    private UUID invoiceId;
+    private List<String> errors;
+
+    // Constructors
+    public PaymentBatchItemResult() {
+        this.errors = new ArrayList<>();
+    }
+
+    public PaymentBatchItemResult(int index, boolean success, boolean alreadyRecorded, UUID paymentId,
+                                  UUID invoiceId, List<String> errors) {
+        this.index = index;
+        this.success = success;
+        this.alreadyRecorded = alreadyRecorded;
+        this.paymentId = paymentId;
+        this.invoiceId = invoiceId;
+        this.errors = errors != null ? errors : new ArrayList<>();
+    }
+
+    public static PaymentBatchItemResult recorded(int index, UUID paymentId, UUID invoiceId) {
+        return new PaymentBatchItemResult(index, true, false, paymentId, invoiceId, null);
+    }
+
+    public static PaymentBatchItemResult existing(int index, UUID paymentId, UUID invoiceId) {
+        return new PaymentBatchItemResult(index, true, true, paymentId, invoiceId, null);
+    }
+
+    public static PaymentBatchItemResult failed(int index, UUID paymentId, UUID invoiceId, List<String> errors) {
+        return new PaymentBatchItemResult(index, false, false, paymentId, invoiceId, errors);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public boolean isAlreadyRecorded() {
+        return alreadyRecorded;
+    }
+
+    public void setAlreadyRecorded(boolean alreadyRecorded) {
+        this.alreadyRecorded = alreadyRecorded;
+    }
+
+    public UUID getPaymentId() {
+        return paymentId;
+    }
+
+    public void setPaymentId(UUID paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    public void setInvoiceId(UUID invoiceId) {
+        this.invoiceId = invoiceId;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PaymentBatchItemResult that = (PaymentBatchItemResult) o;
+        return index == that.index &&
+               success == that.success &&
+               alreadyRecorded == that.alreadyRecorded &&
+               Objects.equals(paymentId, that.paymentId) &&
+               Objects.equals(invoiceId, that.invoiceId) &&
+               Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, success, alreadyRecorded, paymentId, invoiceId, errors);
+    }
+
+    @Override
+    public String toString() {
+        return "PaymentBatchItemResult{" +
+               "index=" + index +
+               ", success=" + success +
+               ", alreadyRecorded=" + alreadyRecorded +
+               ", paymentId=" + paymentId +
+               ", invoiceId=" + invoiceId +
+               ", errors=" + errors +
+               '}';
+    }
+}
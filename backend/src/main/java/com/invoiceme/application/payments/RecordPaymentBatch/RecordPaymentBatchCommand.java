@@ -0,0 +1,72 @@
+package com.invoiceme.application.payments.RecordPaymentBatch;
+
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command to record many payments in one request, e.g. a processor settlement batch.
+ * This is a write operation in the CQRS pattern.
+ * Each item follows the same rules as a single RecordPaymentCommand.
+ */
+public class RecordPaymentBatchCommand {
+
+    public static final int MAX_PAYMENTS = 20_000;
+
+    private List<RecordPaymentCommand> payments;
+    private Integer chunkSize;
+
+    // Constructors
+    public RecordPaymentBatchCommand() {
+        this.payments = new ArrayList<>();
+    }
+
+    public RecordPaymentBatchCommand(List<RecordPaymentCommand> payments, Integer chunkSize) {
+        this.payments = payments != null ? payments : new ArrayList<>();
+        this.chunkSize = chunkSize;
+    }
+
+    // Getters and Setters
+    public List<RecordPaymentCommand> getPayments() {
+        return payments;
+    }
+
+    public void setPayments(List<RecordPaymentCommand> payments) {
+        this.payments = payments;
+    }
+
+    /**
+     * Optional number of payments per transaction; payments of one invoice are never split.
+     */
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RecordPaymentBatchCommand that = (RecordPaymentBatchCommand) o;
+        return Objects.equals(payments, that.payments) &&
+               Objects.equals(chunkSize, that.chunkSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(payments, chunkSize);
+    }
+
+    @Override
+    public String toString() {
+        return "RecordPaymentBatchCommand{" +
+               "payments=" + payments +
+               ", chunkSize=" + chunkSize +
+               '}';
+    }
+}
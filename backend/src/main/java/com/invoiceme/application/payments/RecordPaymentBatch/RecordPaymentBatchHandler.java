@@ -0,0 +1,181 @@
+package com.invoiceme.application.payments.RecordPaymentBatch;
+
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentCommand;
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Handles the RecordPaymentBatchCommand.
+ * Validates every item's fields up front, groups the payments by invoice and commits
+ * the groups in chunks, each in its own transaction. All payments of one invoice are
+ * applied in request order within the same transaction, so balances stay correct.
+ * Payment ID idempotency holds across the whole batch: an ID that already exists, or
+ * that appears again later in the batch, returns the existing payment unchanged.
+ */
+@Service
+public class RecordPaymentBatchHandler {
+
+    public static final int MAX_CHUNK_SIZE = 5_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordPaymentBatchHandler.class);
+
+    private final RecordPaymentValidator validator;
+    private final PaymentBatchChunkWriter chunkWriter;
+    private final int defaultChunkSize;
+
+    public RecordPaymentBatchHandler(RecordPaymentValidator validator,
+                                     PaymentBatchChunkWriter chunkWriter,
+                                     @Value("${payment.batch.chunk-size:500}") int defaultChunkSize) {
+        this.validator = validator;
+        this.chunkWriter = chunkWriter;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    /**
+     * Handles recording a batch of payments.
+     * Invalid items are reported and skipped; if a chunk fails to commit, its invoices
+     * are retried one at a time and only the failing invoice's payments are reported.
+     *
+     * @param command the batch command
+     * @return the per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty, too large or the chunk size is invalid
+     */
+    public RecordPaymentBatchResult handle(RecordPaymentBatchCommand command) {
+        List<RecordPaymentCommand> payments = command.getPayments();
+        if (payments == null || payments.isEmpty()) {
+            throw new IllegalArgumentException("At least one payment is required");
+        }
+        if (payments.size() > RecordPaymentBatchCommand.MAX_PAYMENTS) {
+            throw new IllegalArgumentException("A batch may contain at most " + RecordPaymentBatchCommand.MAX_PAYMENTS + " payments");
+        }
+        int chunkSize = resolveChunkSize(command.getChunkSize());
+
+        PaymentBatchItemResult[] results = new PaymentBatchItemResult[payments.size()];
+
+        // Validate fields and group by invoice; repeated payment IDs follow their first occurrence
+        Map<UUID, List<Integer>> indexesByInvoice = new LinkedHashMap<>();
+        Map<UUID, Integer> firstOccurrence = new HashMap<>();
+        Map<Integer, Integer> repeats = new LinkedHashMap<>();
+        for (int i = 0; i < payments.size(); i++) {
+            RecordPaymentCommand payment = payments.get(i);
+            List<String> errors = payment != null
+                ? validator.validateFields(payment)
+                : List.of("Payment is required");
+            if (!errors.isEmpty()) {
+                results[i] = PaymentBatchItemResult.failed(i, payment != null ? payment.getId() : null,
+                    payment != null ? payment.getInvoiceId() : null, errors);
+                continue;
+            }
+
+            Integer first = firstOccurrence.putIfAbsent(payment.getId(), i);
+            if (first != null) {
+                repeats.put(i, first);
+            } else {
+                indexesByInvoice.computeIfAbsent(payment.getInvoiceId(), key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // Chunk whole invoice groups so one invoice's payments always share a transaction
+        List<List<Integer>> groups = new ArrayList<>(indexesByInvoice.values());
+        List<List<Integer>> chunk = new ArrayList<>();
+        int chunkPayments = 0;
+        for (List<Integer> group : groups) {
+            if (!chunk.isEmpty() && chunkPayments + group.size() > chunkSize) {
+                writeChunk(chunk, payments, results);
+                chunk = new ArrayList<>();
+                chunkPayments = 0;
+            }
+            chunk.add(group);
+            chunkPayments += group.size();
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, payments, results);
+        }
+
+        for (Map.Entry<Integer, Integer> repeat : repeats.entrySet()) {
+            int index = repeat.getKey();
+            PaymentBatchItemResult first = results[repeat.getValue()];
+            results[index] = first.isSuccess()
+                ? PaymentBatchItemResult.existing(index, first.getPaymentId(), first.getInvoiceId())
+                : PaymentBatchItemResult.failed(index, first.getPaymentId(), payments.get(index).getInvoiceId(),
+                    List.of("Payment ID was already used at index " + repeat.getValue() + " of this batch, which failed"));
+        }
+
+        RecordPaymentBatchResult result = new RecordPaymentBatchResult(Arrays.asList(results));
+        logger.info("Payment batch processed: {} recorded, {} already recorded, {} failed",
+            result.getRecordedCount(), result.getAlreadyRecordedCount(), result.getFailedCount());
+        return result;
+    }
+
+    /**
+     * Commits one chunk of invoice groups, falling back to one transaction per invoice
+     * when the chunk fails (e.g. a payment recorded concurrently for one of its invoices).
+     *
+     * @param groups the request indexes of the chunk, grouped by invoice
+     * @param payments all payments of the batch
+     * @param results the results to fill in
+     */
+    private void writeChunk(List<List<Integer>> groups, List<RecordPaymentCommand> payments,
+                            PaymentBatchItemResult[] results) {
+        List<Integer> indexes = new ArrayList<>();
+        groups.forEach(indexes::addAll);
+        try {
+            store(chunkWriter.write(indexes, payments), results);
+            return;
+        } catch (RuntimeException e) {
+            logger.debug("Payment batch chunk of {} payments failed ({}), retrying per invoice",
+                indexes.size(), e.getMessage());
+        }
+
+        for (List<Integer> group : groups) {
+            try {
+                store(chunkWriter.write(group, payments), results);
+            } catch (RuntimeException e) {
+                String error = e instanceof ConcurrencyFailureException
+                    ? "Invoice was modified concurrently, please retry"
+                    : "Failed to record payment: " + e.getMessage();
+                logger.warn("Payment batch group for invoice {} failed: {}",
+                    payments.get(group.get(0)).getInvoiceId(), e.getMessage());
+                for (int index : group) {
+                    RecordPaymentCommand payment = payments.get(index);
+                    results[index] = PaymentBatchItemResult.failed(index, payment.getId(), payment.getInvoiceId(),
+                        List.of(error));
+                }
+            }
+        }
+    }
+
+    private void store(List<PaymentBatchItemResult> chunkResults, PaymentBatchItemResult[] results) {
+        for (PaymentBatchItemResult itemResult : chunkResults) {
+            results[itemResult.getIndex()] = itemResult;
+        }
+    }
+
+    /**
+     * Validates the requested chunk size, applying the configured default when absent.
+     *
+     * @param chunkSize the requested chunk size
+     * @return the effective chunk size
+     */
+    private int resolveChunkSize(Integer chunkSize) {
+        if (chunkSize == null) {
+            return defaultChunkSize;
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        return chunkSize;
+    }
+}
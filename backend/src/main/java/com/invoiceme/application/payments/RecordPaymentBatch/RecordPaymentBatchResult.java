@@ -0,0 +1,87 @@
+package com.invoiceme.application.payments.RecordPaymentBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per-item results of a batch payment recording, in request order.
+ */
+public class RecordPaymentBatchResult {
+
+    private int recordedCount;
+    private int alreadyRecordedCount;
+    private int failedCount;
+    private List<PaymentBatchItemResult> results;
+
+    // Constructors
+    public RecordPaymentBatchResult() {
+        this.results = new ArrayList<>();
+    }
+
+    public RecordPaymentBatchResult(List<PaymentBatchItemResult> results) {
+        this.results = results != null ? results : new ArrayList<>();
+        this.alreadyRecordedCount = (int) this.results.stream().filter(PaymentBatchItemResult::isAlreadyRecorded).count();
+        this.failedCount = (int) this.results.stream().filter(result -> !result.isSuccess()).count();
+        this.recordedCount = this.results.size() - alreadyRecordedCount - failedCount;
+    }
+
+    // Getters and Setters
+    public int getRecordedCount() {
+        return recordedCount;
+    }
+
+    public void setRecordedCount(int recordedCount) {
+        this.recordedCount = recordedCount;
+    }
+
+    public int getAlreadyRecordedCount() {
+        return alreadyRecordedCount;
+    }
+
+    public void setAlreadyRecordedCount(int alreadyRecordedCount) {
+        this.alreadyRecordedCount = alreadyRecordedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<PaymentBatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<PaymentBatchItemResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RecordPaymentBatchResult that = (RecordPaymentBatchResult) o;
+        return recordedCount == that.recordedCount &&
+               alreadyRecordedCount == that.alreadyRecordedCount &&
+               failedCount == that.failedCount &&
+               Objects.equals(results, that.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(recordedCount, alreadyRecordedCount, failedCount, results);
+    }
+
+    @Override
+    public String toString() {
+        return "RecordPaymentBatchResult{" +
+               "recordedCount=" + recordedCount +
+               ", alreadyRecordedCount=" + alreadyRecordedCount +
+               ", failedCount=" + failedCount +
+               ", results=" + results +
+               '}';
+    }
+}
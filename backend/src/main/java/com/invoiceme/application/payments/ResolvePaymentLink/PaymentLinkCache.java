@@ -0,0 +1,92 @@
+package com.invoiceme.application.payments.ResolvePaymentLink;
+
+import com.invoiceme.infrastructure.cache.AfterCommit;
+import com.invoiceme.infrastructure.cache.BoundedCache;
+import com.invoiceme.infrastructure.cache.CacheStats;
+import com.invoiceme.infrastructure.cache.MonitoredCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * In-process cache of payment link to invoice ID resolutions for the public payment endpoints.
+ *
+ * Links are added when an invoice is sent and dropped once it is paid or cancelled.
+ * Links that do not exist are remembered in a separate, shorter-lived cache, so repeated
+ * probes of random links are answered without a query and cannot push out real links.
+ * Payment links are random and only ever created by sending an invoice, which overwrites
+ * any negative entry, so a remembered miss cannot hide a link for long.
+ */
+@Component
+public class PaymentLinkCache implements MonitoredCache {
+
+    private final BoundedCache<String, UUID> links;
+    private final BoundedCache<String, Boolean> unknownLinks;
+
+    public PaymentLinkCache(@Value("${payment.link-cache.max-size:50000}") int maxSize,
+                            @Value("${payment.link-cache.ttl-seconds:3600}") long ttlSeconds,
+                            @Value("${payment.link-cache.unknown-max-size:10000}") int unknownMaxSize,
+                            @Value("${payment.link-cache.unknown-ttl-seconds:60}") long unknownTtlSeconds) {
+        this.links = new BoundedCache<>("payment-link", maxSize, ttlSeconds);
+        this.unknownLinks = new BoundedCache<>("payment-link-unknown", unknownMaxSize, unknownTtlSeconds);
+    }
+
+    /**
+     * Resolves a payment link, loading and caching it on a miss.
+     *
+     * @param paymentLink the payment link
+     * @param loader looks the link up in the database
+     * @return the invoice ID, or empty if no invoice has this link
+     */
+    public Optional<UUID> resolve(String paymentLink, Function<String, Optional<UUID>> loader) {
+        UUID invoiceId = links.get(paymentLink);
+        if (invoiceId != null) {
+            return Optional.of(invoiceId);
+        }
+        if (unknownLinks.get(paymentLink) != null) {
+            return Optional.empty();
+        }
+
+        Optional<UUID> loaded = loader.apply(paymentLink);
+        if (loaded.isPresent()) {
+            links.put(paymentLink, loaded.get());
+        } else {
+            unknownLinks.put(paymentLink, Boolean.TRUE);
+        }
+        return loaded;
+    }
+
+    /**
+     * Adds the link of an invoice that is being sent, once its transaction commits.
+     *
+     * @param paymentLink the newly generated payment link
+     * @param invoiceId the invoice ID
+     */
+    public void warm(String paymentLink, UUID invoiceId) {
+        AfterCommit.run(() -> {
+            unknownLinks.invalidate(paymentLink);
+            links.put(paymentLink, invoiceId);
+        });
+    }
+
+    /**
+     * Drops the link of an invoice that is being paid or cancelled, once its transaction commits.
+     * The link keeps resolving from the database; it just no longer occupies the cache.
+     *
+     * @param paymentLink the payment link (ignored if null)
+     */
+    public void evict(String paymentLink) {
+        if (paymentLink != null) {
+            AfterCommit.run(() -> links.invalidate(paymentLink));
+        }
+    }
+
+    @Override
+    public List<CacheStats> cacheStats() {
+        return List.of(links.stats(), unknownLinks.stats());
+    }
+}
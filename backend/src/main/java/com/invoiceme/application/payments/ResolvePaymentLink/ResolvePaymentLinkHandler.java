@@ -0,0 +1,41 @@
+package com.invoiceme.application.payments.ResolvePaymentLink;
+
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Resolves a public payment link to its invoice ID.
+ * Served from {@link PaymentLinkCache}; blank or oversized links are rejected without a lookup.
+ */
+@Service
+public class ResolvePaymentLinkHandler {
+
+    private static final int MAX_LINK_LENGTH = 255;
+
+    private final InvoiceRepository invoiceRepository;
+    private final PaymentLinkCache paymentLinkCache;
+
+    public ResolvePaymentLinkHandler(InvoiceRepository invoiceRepository, PaymentLinkCache paymentLinkCache) {
+        this.invoiceRepository = invoiceRepository;
+        this.paymentLinkCache = paymentLinkCache;
+    }
+
+    /**
+     * Handles the resolution of a payment link.
+     *
+     * @param paymentLink the payment link from the invoice
+     * @return the ID of the invoice the link belongs to
+     * @throws IllegalArgumentException if the link is malformed or unknown
+     */
+    public UUID handle(String paymentLink) {
+        // Such links cannot exist and must not fill the unknown-link cache
+        if (paymentLink == null || paymentLink.isBlank() || paymentLink.length() > MAX_LINK_LENGTH) {
+            throw new IllegalArgumentException("Invalid payment link");
+        }
+
+        return paymentLinkCache.resolve(paymentLink, invoiceRepository::findIdByPaymentLink)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid payment link"));
+    }
+}
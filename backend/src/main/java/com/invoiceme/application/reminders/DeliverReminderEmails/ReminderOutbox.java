@@ -0,0 +1,160 @@
+package com.invoiceme.application.reminders.DeliverReminderEmails;
+
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.domain.reminder.ReminderEmail;
+import com.invoiceme.domain.reminder.ReminderStatus;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.ReminderDelivery;
+import com.invoiceme.infrastructure.persistence.ReminderEmailRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The database side of reminder delivery: reminder_emails is used as an outbox.
+ * Handlers only insert PENDING rows; the delivery worker claims due rows here, sends
+ * them without holding a transaction, and records each outcome in its own short
+ * transaction. A claim leases the row (see {@link #claimDue}), so any number of
+ * workers, on any number of instances, can drain the queue without sending a
+ * reminder twice. Failed attempts are retried with exponential backoff until the
+ * row's max_attempts is used up.
+ */
+@Component
+public class ReminderOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderOutbox.class);
+
+    /** Largest backoff exponent, so the delay cannot overflow whatever max_attempts is set to. */
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    private final ReminderEmailRepository reminderEmailRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final Duration lease;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+
+    public ReminderOutbox(ReminderEmailRepository reminderEmailRepository,
+                          InvoiceRepository invoiceRepository,
+                          InvoiceDtoCache invoiceDtoCache,
+                          @Value("${reminder.outbox.lease-seconds:300}") long leaseSeconds,
+                          @Value("${reminder.outbox.backoff-base-seconds:60}") long backoffBaseSeconds,
+                          @Value("${reminder.outbox.backoff-max-seconds:21600}") long backoffMaxSeconds) {
+        if (leaseSeconds < 1) {
+            throw new IllegalArgumentException("reminder.outbox.lease-seconds must be at least 1");
+        }
+        if (backoffBaseSeconds < 0 || backoffMaxSeconds < backoffBaseSeconds) {
+            throw new IllegalArgumentException(
+                "reminder.outbox.backoff-base-seconds must be between 0 and reminder.outbox.backoff-max-seconds");
+        }
+        this.reminderEmailRepository = reminderEmailRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.backoffBase = Duration.ofSeconds(backoffBaseSeconds);
+        this.backoffMax = Duration.ofSeconds(backoffMaxSeconds);
+    }
+
+    /**
+     * Claims up to {@code limit} due reminders for delivery. The rows are locked with
+     * SKIP LOCKED only for this short transaction; what keeps other workers off them
+     * afterwards is the lease, which moves scheduled_for past the delivery window.
+     * A worker that dies mid-delivery therefore delays the reminder by one lease, and
+     * the next claim counts as a new attempt.
+     *
+     * @param limit the maximum number of reminders to claim
+     * @return the claimed reminders, oldest first
+     */
+    @Transactional
+    public List<ReminderDelivery> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return reminderEmailRepository.claimDue(now, now.plus(lease), limit);
+    }
+
+    /**
+     * Records a successful delivery: marks the reminder SENT and stamps the invoice's
+     * last reminder time. Ignored if the claim is stale (the lease ran out and another
+     * worker has claimed the row since).
+     *
+     * @param delivery the claimed reminder
+     * @param sentAt when the mail server accepted it
+     */
+    @Transactional
+    public void recordSent(ReminderDelivery delivery, LocalDateTime sentAt) {
+        currentClaim(delivery).ifPresent(reminder -> {
+            reminder.markAsSent(sentAt);
+            invoiceRepository.updateLastReminderSentAt(delivery.getInvoiceId(), sentAt);
+            invoiceDtoCache.invalidate(delivery.getInvoiceId());
+        });
+    }
+
+    /**
+     * Records a failed delivery attempt. The reminder is rescheduled after
+     * {@code backoff-base * 2^(attempt - 1)} (capped at backoff-max) while attempts
+     * remain, and marked FAILED after its last attempt. Ignored if the claim is stale.
+     *
+     * @param delivery the claimed reminder
+     * @param errorMessage why the send failed
+     * @return true if the reminder will be retried
+     */
+    @Transactional
+    public boolean recordFailure(ReminderDelivery delivery, String errorMessage) {
+        return currentClaim(delivery)
+            .map(reminder -> {
+                boolean retrying = reminder.recordFailedAttempt(errorMessage,
+                    LocalDateTime.now().plus(backoffAfter(delivery.getAttempt())));
+                if (!retrying) {
+                    logger.warn("Reminder {} failed after {} attempts: {}",
+                        reminder.getId(), reminder.getAttempts(), errorMessage);
+                }
+                return retrying;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * Puts a claimed reminder back in the queue until {@code retryAt} without counting
+     * the claim as an attempt, for a send that was never made (e.g. it was throttled).
+     * Ignored if the claim is stale.
+     *
+     * @param delivery the claimed reminder
+     * @param retryAt when the reminder is due again
+     */
+    @Transactional
+    public void defer(ReminderDelivery delivery, LocalDateTime retryAt) {
+        if (reminderEmailRepository.releaseClaim(delivery.getReminderId(), delivery.getAttempt(), retryAt) == 0) {
+            logger.warn("Ignoring deferral of stale claim on reminder {} (attempt {})",
+                delivery.getReminderId(), delivery.getAttempt());
+        }
+    }
+
+    /**
+     * The delay before the attempt after {@code attempt}.
+     *
+     * @param attempt the attempt that failed (1 for the first)
+     * @return the backoff delay
+     */
+    Duration backoffAfter(int attempt) {
+        int doublings = Math.min(Math.max(attempt - 1, 0), MAX_BACKOFF_DOUBLINGS);
+        Duration delay = backoffBase.multipliedBy(1L << doublings);
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private Optional<ReminderEmail> currentClaim(ReminderDelivery delivery) {
+        UUID reminderId = delivery.getReminderId();
+        Optional<ReminderEmail> reminder = reminderEmailRepository.findById(reminderId)
+            .filter(r -> r.getStatus() == ReminderStatus.PENDING && r.getAttempts() == delivery.getAttempt());
+        if (reminder.isEmpty()) {
+            logger.warn("Ignoring outcome of stale claim on reminder {} (attempt {})", reminderId, delivery.getAttempt());
+        }
+        return reminder;
+    }
+}
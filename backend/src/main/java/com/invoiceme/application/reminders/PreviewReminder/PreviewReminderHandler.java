@@ -3,6 +3,7 @@ package com.invoiceme.application.reminders.PreviewReminder;
 import com.invoiceme.domain.invoice.Invoice;
 import com.invoiceme.infrastructure.persistence.InvoiceRepository;
 import com.invoiceme.infrastructure.services.AiContentGenerationService;
+import com.invoiceme.infrastructure.templates.RenderedReminder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,45 +55,18 @@ public class PreviewReminderHandler {
         }
 
         // Generate email content using AI service (without saving)
-        String emailBody = aiContentGenerationService.generateReminderEmail(
+        RenderedReminder content = aiContentGenerationService.generateReminder(
             invoice,
             query.getReminderType(),
             daysOverdue
         );
 
-        // Generate subject line
-        String subject = generateSubject(invoice.getInvoiceNumber(), query.getReminderType(), daysOverdue);
-
         // Determine recipient email
         String recipientEmail = invoice.getCustomer() != null && invoice.getCustomer().getEmail() != null
             ? invoice.getCustomer().getEmail()
             : "No email address available";
 
         // Return preview DTO
-        return new PreviewReminderDto(subject, emailBody, recipientEmail);
-    }
-
-    /**
-     * Generates an appropriate subject line based on reminder type.
-     *
-     * @param invoiceNumber the invoice number
-     * @param reminderType the type of reminder
-     * @param daysOverdue the number of days overdue
-     * @return the email subject line
-     */
-    private String generateSubject(String invoiceNumber, com.invoiceme.domain.reminder.ReminderType reminderType, int daysOverdue) {
-        switch (reminderType) {
-            case BEFORE_DUE:
-                return String.format("Reminder: Invoice #%s Due Soon", invoiceNumber);
-            case ON_DUE_DATE:
-                return String.format("Payment Due Today: Invoice #%s", invoiceNumber);
-            case OVERDUE_7_DAYS:
-            case OVERDUE_14_DAYS:
-                return String.format("Payment Overdue: Invoice #%s (%d days)", invoiceNumber, daysOverdue);
-            case OVERDUE_30_DAYS:
-                return String.format("URGENT: Invoice #%s Overdue (%d days)", invoiceNumber, daysOverdue);
-            default:
-                return String.format("Invoice Reminder: #%s", invoiceNumber);
-        }
+        return new PreviewReminderDto(content.getSubject(), content.getBody(), recipientEmail);
     }
 }
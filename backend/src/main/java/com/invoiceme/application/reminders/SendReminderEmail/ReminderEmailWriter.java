@@ -0,0 +1,88 @@
+package com.invoiceme.application.reminders.SendReminderEmail;
+
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.reminder.ReminderEmail;
+import com.invoiceme.domain.reminder.ReminderStatus;
+import com.invoiceme.domain.reminder.ReminderType;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.ReminderEmailRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The database steps of queueing a reminder, each in its own short transaction.
+ * SendReminderEmailHandler generates the content between these calls, so no
+ * connection is held while the AI service is working. Delivery is done later by
+ * the outbox worker (see ReminderOutbox).
+ */
+@Component
+public class ReminderEmailWriter {
+
+    private static final Set<ReminderStatus> QUEUED_OR_SENT = EnumSet.of(ReminderStatus.PENDING, ReminderStatus.SENT);
+
+    private final InvoiceRepository invoiceRepository;
+    private final ReminderEmailRepository reminderEmailRepository;
+    private final int maxAttempts;
+
+    public ReminderEmailWriter(InvoiceRepository invoiceRepository,
+                               ReminderEmailRepository reminderEmailRepository,
+                               @Value("${reminder.outbox.max-attempts:" + ReminderEmail.DEFAULT_MAX_ATTEMPTS + "}") int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("reminder.outbox.max-attempts must be at least 1");
+        }
+        this.invoiceRepository = invoiceRepository;
+        this.reminderEmailRepository = reminderEmailRepository;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Loads the invoice with its customer, refusing reminders that were already queued or sent.
+     *
+     * @param invoiceId the invoice ID
+     * @param reminderType the reminder about to be sent
+     * @return the detached invoice, with its customer initialised
+     * @throws IllegalArgumentException if the invoice does not exist
+     * @throws IllegalStateException if this reminder was already queued or sent for the invoice
+     */
+    @Transactional(readOnly = true)
+    public Invoice loadInvoice(UUID invoiceId, ReminderType reminderType) {
+        if (reminderEmailRepository.existsByInvoiceIdAndReminderTypeAndStatusIn(
+                invoiceId, reminderType, QUEUED_OR_SENT)) {
+            throw new IllegalStateException(
+                "A reminder of type " + reminderType + " has already been queued or sent for this invoice");
+        }
+
+        List<Invoice> invoices = invoiceRepository.findAllWithCustomerByIdIn(List.of(invoiceId));
+        if (invoices.isEmpty()) {
+            throw new IllegalArgumentException("Invoice not found");
+        }
+        return invoices.get(0);
+    }
+
+    /**
+     * Queues the reminder: inserts it as PENDING, due for delivery immediately.
+     *
+     * @return the ID of the new reminder record
+     */
+    @Transactional
+    public UUID insertPending(UUID invoiceId, ReminderType reminderType, String recipientEmail,
+                              String subject, String emailBody) {
+        ReminderEmail reminder = new ReminderEmail();
+        reminder.setInvoice(invoiceRepository.getReferenceById(invoiceId));
+        reminder.setRecipientEmail(recipientEmail);
+        reminder.setSubject(subject);
+        reminder.setEmailBody(emailBody);
+        reminder.setReminderType(reminderType);
+        reminder.setStatus(ReminderStatus.PENDING);
+        reminder.setScheduledFor(LocalDateTime.now());
+        reminder.setMaxAttempts(maxAttempts);
+        return reminderEmailRepository.save(reminder).getId();
+    }
+}
@@ -378,6 +378,21 @@ public class Invoice {
         this.amountPaid = totalAmount;
     }
 
+    /**
+     * Adds a validated payment amount to the amount paid and recomputes the balance,
+     * marking the invoice as paid once nothing remains.
+     *
+     * @param paymentAmount the amount being paid
+     */
+    public void applyPayment(BigDecimal paymentAmount) {
+        this.amountPaid = amountPaid.add(paymentAmount);
+        this.balanceRemaining = totalAmount.subtract(amountPaid);
+
+        if (balanceRemaining.compareTo(BigDecimal.ZERO) == 0) {
+            markAsPaid();
+        }
+    }
+
     public void cancel(String reason) {
         if (status == InvoiceStatus.CANCELLED) {
             throw new IllegalStateException("Invoice is already cancelled");
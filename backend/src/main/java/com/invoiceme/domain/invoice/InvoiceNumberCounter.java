@@ -0,0 +1,86 @@
+package com.invoiceme.domain.invoice;
+
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+/**
+ * Per-month counter for INV-YYYYMM-NNNN invoice numbers.
+ * {@code nextValue} is the first number not yet reserved by any node.
+ */
+@Entity
+@Table(name = "invoice_number_counters")
+public class InvoiceNumberCounter {
+
+    @Id
+    @Column(name = "year_month", length = 6)
+    private String yearMonth;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    // Constructors
+    public InvoiceNumberCounter() {
+    }
+
+    public InvoiceNumberCounter(String yearMonth, long nextValue) {
+        this.yearMonth = yearMonth;
+        this.nextValue = nextValue;
+    }
+
+    // Business Methods
+
+    /**
+     * Reserves the next block of numbers.
+     *
+     * @param size the number of values to reserve
+     * @return the first value of the reserved block
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public long reserve(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        long start = nextValue;
+        nextValue += size;
+        return start;
+    }
+
+    // Getters and Setters
+    public String getYearMonth() {
+        return yearMonth;
+    }
+
+    public void setYearMonth(String yearMonth) {
+        this.yearMonth = yearMonth;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(long nextValue) {
+        this.nextValue = nextValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InvoiceNumberCounter that = (InvoiceNumberCounter) o;
+        return Objects.equals(yearMonth, that.yearMonth);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(yearMonth);
+    }
+
+    @Override
+    public String toString() {
+        return "InvoiceNumberCounter{" +
+               "yearMonth='" + yearMonth + '\'' +
+               ", nextValue=" + nextValue +
+               '}';
+    }
+}
@@ -0,0 +1,244 @@
+package com.invoiceme.domain.payment;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain entity representing a bank statement line that an import could not
+ * turn into a payment automatically and that now waits for manual review.
+ */
+@Entity
+@Table(name = "statement_review_items")
+public class StatementReviewItem {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "import_id", nullable = false)
+    private UUID importId;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "line_number", nullable = false)
+    private int lineNumber;
+
+    @Column(name = "booking_date")
+    private LocalDate bookingDate;
+
+    private BigDecimal amount;
+
+    @Column(length = 3)
+    private String currency;
+
+    @Column(name = "counterparty_name")
+    private String counterpartyName;
+
+    @Column(columnDefinition = "TEXT")
+    private String reference;
+
+    @Column(name = "bank_transaction_id")
+    private String bankTransactionId;
+
+    @Column(name = "candidate_invoice_id")
+    private UUID candidateInvoiceId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatementReviewStatus status = StatementReviewStatus.PENDING;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    // Constructors
+    public StatementReviewItem() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public void setImportId(UUID importId) {
+        this.importId = importId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public void setLineNumber(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public void setBookingDate(LocalDate bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getCounterpartyName() {
+        return counterpartyName;
+    }
+
+    public void setCounterpartyName(String counterpartyName) {
+        this.counterpartyName = counterpartyName;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public String getBankTransactionId() {
+        return bankTransactionId;
+    }
+
+    public void setBankTransactionId(String bankTransactionId) {
+        this.bankTransactionId = bankTransactionId;
+    }
+
+    public UUID getCandidateInvoiceId() {
+        return candidateInvoiceId;
+    }
+
+    public void setCandidateInvoiceId(UUID candidateInvoiceId) {
+        this.candidateInvoiceId = candidateInvoiceId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public StatementReviewStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatementReviewStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+
+    // Business Logic Methods
+    @PrePersist
+    protected void onCreate() {
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    public void resolve() {
+        close(StatementReviewStatus.RESOLVED);
+    }
+
+    public void dismiss() {
+        close(StatementReviewStatus.DISMISSED);
+    }
+
+    private void close(StatementReviewStatus newStatus) {
+        if (status != StatementReviewStatus.PENDING) {
+            throw new IllegalStateException("Only PENDING review items can be closed");
+        }
+        this.status = newStatus;
+        this.resolvedAt = LocalDateTime.now();
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StatementReviewItem that = (StatementReviewItem) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementReviewItem{" +
+               "id=" + id +
+               ", importId=" + importId +
+               ", lineNumber=" + lineNumber +
+               ", bookingDate=" + bookingDate +
+               ", amount=" + amount +
+               ", counterpartyName='" + counterpartyName + '\'' +
+               ", reference='" + reference + '\'' +
+               ", reason='" + reason + '\'' +
+               ", status=" + status +
+               '}';
+    }
+}
@@ -0,0 +1,21 @@
+package com.invoiceme.domain.payment;
+
+/**
+ * Represents the status of a bank statement line waiting for manual review.
+ */
+public enum StatementReviewStatus {
+    /**
+     * Line has not been looked at yet.
+     */
+    PENDING,
+
+    /**
+     * Line was reconciled manually (e.g. by recording the payment by hand).
+     */
+    RESOLVED,
+
+    /**
+     * Line does not relate to an invoice and was set aside.
+     */
+    DISMISSED
+}
@@ -15,6 +15,9 @@ import java.util.UUID;
 @Table(name = "reminder_emails")
 public class ReminderEmail {
 
+    /** Delivery attempts allowed before a reminder is marked FAILED. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
     @Id
     private UUID id;
 
@@ -48,6 +51,12 @@ public class ReminderEmail {
     @Column(name = "error_message")
     private String errorMessage;
 
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "max_attempts", nullable = false)
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -157,6 +166,22 @@ public class ReminderEmail {
         this.errorMessage = errorMessage;
     }
 
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -220,6 +245,24 @@ public class ReminderEmail {
         this.errorMessage = errorMessage;
     }
 
+    /**
+     * Records a failed delivery attempt. The reminder stays PENDING and is retried at
+     * {@code retryAt} while attempts remain; after the last attempt it is marked FAILED.
+     *
+     * @param errorMessage the error message describing why the send failed
+     * @param retryAt when the next attempt may be made
+     * @return true if another attempt will be made
+     */
+    public boolean recordFailedAttempt(String errorMessage, LocalDateTime retryAt) {
+        if (attempts >= maxAttempts) {
+            markAsFailed(errorMessage);
+            return false;
+        }
+        this.errorMessage = errorMessage;
+        this.scheduledFor = retryAt;
+        return true;
+    }
+
     // equals, hashCode, and toString
     @Override
     public boolean equals(Object o) {
@@ -236,6 +279,8 @@ public class ReminderEmail {
                Objects.equals(scheduledFor, that.scheduledFor) &&
                Objects.equals(sentAt, that.sentAt) &&
                Objects.equals(errorMessage, that.errorMessage) &&
+               attempts == that.attempts &&
+               maxAttempts == that.maxAttempts &&
                Objects.equals(createdAt, that.createdAt) &&
                Objects.equals(updatedAt, that.updatedAt);
     }
@@ -244,7 +289,7 @@ public class ReminderEmail {
     public int hashCode() {
         return Objects.hash(id, invoice, recipientEmail, subject, emailBody,
                            reminderType, status, scheduledFor, sentAt, errorMessage,
-                           createdAt, updatedAt);
+                           attempts, maxAttempts, createdAt, updatedAt);
     }
 
     @Override
@@ -260,6 +305,8 @@ public class ReminderEmail {
                ", scheduledFor=" + scheduledFor +
                ", sentAt=" + sentAt +
                ", errorMessage='" + errorMessage + '\'' +
+               ", attempts=" + attempts +
+               ", maxAttempts=" + maxAttempts +
                ", createdAt=" + createdAt +
                ", updatedAt=" + updatedAt +
                '}';
@@ -6,27 +6,56 @@ package com.invoiceme.domain.reminder;
  */
 public enum ReminderType {
     /**
-     * Reminder sent before the due date (e.g., 3 days before).
+     * Reminder sent 7 days before the due date.
      */
-    BEFORE_DUE,
+    BEFORE_DUE(7),
 
     /**
      * Reminder sent on the due date itself.
      */
-    ON_DUE_DATE,
+    ON_DUE_DATE(0),
 
     /**
      * Reminder sent 7 days after the due date has passed.
      */
-    OVERDUE_7_DAYS,
+    OVERDUE_7_DAYS(-7),
 
     /**
      * Reminder sent 14 days after the due date has passed.
      */
-    OVERDUE_14_DAYS,
+    OVERDUE_14_DAYS(-14),
 
     /**
      * Reminder sent 30 days after the due date has passed.
      */
-    OVERDUE_30_DAYS
+    OVERDUE_30_DAYS(-30);
+
+    private final int daysUntilDue;
+
+    ReminderType(int daysUntilDue) {
+        this.daysUntilDue = daysUntilDue;
+    }
+
+    /**
+     * Days from the reminder's send date to the due date: positive before the
+     * due date, negative once it has passed.
+     */
+    public int getDaysUntilDue() {
+        return daysUntilDue;
+    }
+
+    /**
+     * Determines which automatic reminder is due for an invoice.
+     *
+     * @param daysUntilDue positive if before due date, negative if after due date
+     * @return the reminder type, or null if no reminder should be sent on that day
+     */
+    public static ReminderType forDaysUntilDue(long daysUntilDue) {
+        for (ReminderType type : values()) {
+            if (type.daysUntilDue == daysUntilDue) {
+                return type;
+            }
+        }
+        return null;
+    }
 }
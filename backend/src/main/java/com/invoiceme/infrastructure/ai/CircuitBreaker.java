@@ -0,0 +1,87 @@
+package com.invoiceme.infrastructure.ai;
+
+import java.time.Duration;
+
+/**
+ * Consecutive-failure circuit breaker for calls to an external service.
+ * After {@code failureThreshold} failures in a row the circuit opens and calls are
+ * refused for {@code openDuration}; then a single trial call is let through
+ * (half-open), which closes the circuit if it succeeds and reopens it if it fails.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    /**
+     * @param failureThreshold the consecutive failures that open the circuit
+     * @param openDuration how long the circuit stays open before a trial call
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be at least 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Asks to make a call. Every permitted call must be followed by
+     * {@link #recordSuccess()}, {@link #recordFailure()} or, if it was not made,
+     * {@link #releasePermission()}.
+     *
+     * @return true if the call may be made
+     */
+    public synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Hands back the permission for a call that was not made after all.
+     */
+    public synchronized void releasePermission() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
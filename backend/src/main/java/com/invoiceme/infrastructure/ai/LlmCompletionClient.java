@@ -0,0 +1,120 @@
+package com.invoiceme.infrastructure.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking client for an OpenAI-compatible chat completions endpoint
+ * ({@code POST {base-url}/v1/chat/completions}).
+ * Uses the JDK HTTP client's async API rather than the blocking OpenAI client, so
+ * prompts are in flight concurrently without a thread parked on each. At most
+ * {@code max-concurrent-requests} are in flight; further requests are rejected at
+ * once rather than queued, and every request is bounded by {@code request-timeout-ms}.
+ */
+@Component
+public class LlmCompletionClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI endpoint;
+    private final String apiKey;
+    private final String model;
+    private final Duration requestTimeout;
+    private final Semaphore inFlight;
+
+    public LlmCompletionClient(ObjectMapper objectMapper,
+                               @Value("${reminder.ai.base-url:https://api.openai.com}") String baseUrl,
+                               @Value("${openai.api.key:}") String apiKey,
+                               @Value("${openai.api.model:gpt-4o-mini}") String model,
+                               @Value("${reminder.ai.request-timeout-ms:10000}") long requestTimeoutMs,
+                               @Value("${reminder.ai.max-concurrent-requests:4}") int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("reminder.ai.max-concurrent-requests must be at least 1");
+        }
+        this.objectMapper = objectMapper;
+        this.endpoint = URI.create((baseUrl.endsWith("/") ? baseUrl : baseUrl + "/") + "v1/chat/completions");
+        this.apiKey = apiKey;
+        this.model = model;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.inFlight = new Semaphore(maxConcurrentRequests);
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(requestTimeout)
+            .build();
+    }
+
+    /**
+     * Sends one chat completion request.
+     *
+     * @param systemPrompt the system message
+     * @param userPrompt the user message
+     * @return the text of the first choice; completes exceptionally on an HTTP error,
+     *         a malformed response, a timeout, or if too many requests are in flight
+     */
+    public CompletableFuture<String> complete(String systemPrompt, String userPrompt) {
+        if (!inFlight.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                new RejectedExecutionException("Too many AI requests in flight"));
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + apiKey)
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody(systemPrompt, userPrompt)))
+                .build();
+
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(this::content)
+                .whenComplete((content, error) -> inFlight.release());
+        } catch (RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private String requestBody(String systemPrompt, String userPrompt) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("model", model);
+        body.put("temperature", 0.7);
+        ArrayNode messages = body.putArray("messages");
+        messages.addObject().put("role", "system").put("content", systemPrompt);
+        messages.addObject().put("role", "user").put("content", userPrompt);
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String content(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("AI provider returned HTTP " + response.statusCode());
+        }
+        try {
+            JsonNode content = objectMapper.readTree(response.body()).path("choices").path(0).path("message").path("content");
+            if (!content.isTextual() || content.asText().isBlank()) {
+                throw new IllegalStateException("AI provider returned no content");
+            }
+            return content.asText();
+        } catch (IOException e) {
+            throw new IllegalStateException("AI provider returned malformed JSON", e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.invoiceme.infrastructure.ai;
+
+import com.invoiceme.domain.reminder.ReminderType;
+import com.invoiceme.infrastructure.cache.BoundedCache;
+import com.invoiceme.infrastructure.cache.CacheStats;
+import com.invoiceme.infrastructure.cache.MonitoredCache;
+import com.invoiceme.infrastructure.templates.CompiledTemplate;
+import com.invoiceme.infrastructure.templates.TemplateField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI-written reminder bodies, generated asynchronously and cached.
+ * The provider is asked for a body with {{placeholders}} for the per-invoice values,
+ * so one generated body is compiled and reused for every reminder with the same
+ * {@link ReminderCopyKey}; only the placeholders are filled in per invoice.
+ *
+ * A reminder never waits longer than {@code reminder.ai.wait-ms} for its copy: if the
+ * copy is not ready (still being generated, provider failing, circuit open), the caller
+ * falls back to the built-in templates, and generation carries on in the background
+ * for later reminders. Concurrent requests for the same key share one provider call.
+ */
+@Component
+public class ReminderCopyGenerator implements MonitoredCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderCopyGenerator.class);
+
+    private static final String SYSTEM_PROMPT =
+        "You write payment reminder emails for the accounts receivable team of a small business. " +
+        "Reply with the plain-text email body only: no subject line, no markdown, no commentary.";
+
+    /** Placeholders generated copy must contain to be usable. */
+    private static final List<TemplateField> REQUIRED_FIELDS =
+        List.of(TemplateField.INVOICE_NUMBER, TemplateField.AMOUNT_DUE, TemplateField.PAYMENT_LINK);
+
+    private final LlmCompletionClient llmCompletionClient;
+    private final boolean enabled;
+    private final String locale;
+    private final long waitMillis;
+    private final CircuitBreaker circuitBreaker;
+    private final BoundedCache<ReminderCopyKey, CompiledTemplate> copies;
+    private final Map<ReminderCopyKey, CompletableFuture<CompiledTemplate>> inFlight = new ConcurrentHashMap<>();
+
+    public ReminderCopyGenerator(LlmCompletionClient llmCompletionClient,
+                                 @Value("${reminder.ai.enabled:false}") boolean enabled,
+                                 @Value("${reminder.ai.locale:en-US}") String locale,
+                                 @Value("${reminder.ai.wait-ms:2000}") long waitMillis,
+                                 @Value("${reminder.ai.circuit.failure-threshold:5}") int failureThreshold,
+                                 @Value("${reminder.ai.circuit.open-seconds:60}") long openSeconds,
+                                 @Value("${reminder.ai.cache-ttl-seconds:86400}") long cacheTtlSeconds) {
+        this.llmCompletionClient = llmCompletionClient;
+        this.enabled = enabled;
+        this.locale = locale;
+        this.waitMillis = waitMillis;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds));
+        this.copies = new BoundedCache<>("reminder-ai-copy", 1000, cacheTtlSeconds);
+    }
+
+    /**
+     * The AI-written body for a reminder, if it is ready within the wait limit.
+     *
+     * @param reminderType the reminder type
+     * @param daysOverdue the number of days the invoice is overdue (0 if not overdue)
+     * @return the compiled body, or empty if the built-in template should be used
+     */
+    public Optional<CompiledTemplate> copyFor(ReminderType reminderType, int daysOverdue) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        ReminderCopyKey key = ReminderCopyKey.of(reminderType, daysOverdue, locale);
+        CompiledTemplate cached = copies.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        CompletableFuture<CompiledTemplate> generation = generate(key);
+        if (generation == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(generation.get(waitMillis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            logger.debug("AI copy for {} not ready within {} ms; using the template", key, waitMillis);
+        } catch (ExecutionException e) {
+            logger.debug("AI copy for {} failed; using the template", key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Starts generating the copy of every given reminder type's automatic reminder,
+     * all at once, so a run's first reminders find it ready.
+     *
+     * @param reminderTypes the reminder types
+     */
+    public void prefetch(List<ReminderType> reminderTypes) {
+        if (!enabled) {
+            return;
+        }
+        for (ReminderType type : reminderTypes) {
+            ReminderCopyKey key = ReminderCopyKey.of(type, Math.max(0, -type.getDaysUntilDue()), locale);
+            if (copies.get(key) == null) {
+                generate(key);
+            }
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public List<CacheStats> cacheStats() {
+        return List.of(copies.stats());
+    }
+
+    /**
+     * Returns the generation in flight for the key, or starts one.
+     *
+     * @return the generation, or null if the circuit is open
+     */
+    private CompletableFuture<CompiledTemplate> generate(ReminderCopyKey key) {
+        CompletableFuture<CompiledTemplate> generation = new CompletableFuture<>();
+        CompletableFuture<CompiledTemplate> existing = inFlight.putIfAbsent(key, generation);
+        if (existing != null) {
+            return existing;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            inFlight.remove(key, generation);
+            return null;
+        }
+
+        llmCompletionClient.complete(SYSTEM_PROMPT, prompt(key))
+            .thenApply(ReminderCopyGenerator::compileCopy)
+            .whenComplete((copy, error) -> {
+                if (error == null) {
+                    circuitBreaker.recordSuccess();
+                    copies.put(key, copy);
+                    generation.complete(copy);
+                } else if (rootCause(error) instanceof RejectedExecutionException) {
+                    // not sent: too many requests in flight says nothing about the provider
+                    circuitBreaker.releasePermission();
+                    generation.completeExceptionally(error);
+                } else {
+                    circuitBreaker.recordFailure();
+                    logger.warn("AI reminder copy for {} failed: {}", key, error.getMessage());
+                    generation.completeExceptionally(error);
+                }
+                inFlight.remove(key, generation);
+            });
+        return generation;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static CompiledTemplate compileCopy(String text) {
+        CompiledTemplate copy = CompiledTemplate.compile(text.strip());
+        for (TemplateField field : REQUIRED_FIELDS) {
+            if (!copy.uses(field)) {
+                throw new IllegalStateException("AI copy is missing {{" + field.getPlaceholder() + "}}");
+            }
+        }
+        return copy;
+    }
+
+    private static String prompt(ReminderCopyKey key) {
+        String situation;
+        String dayPlaceholder;
+        switch (key.getReminderType()) {
+            case BEFORE_DUE:
+                situation = "the invoice is due in {{daysUntilDue}} days, on {{dueDate}}";
+                dayPlaceholder = "{{daysUntilDue}} (number of days until the due date), ";
+                break;
+            case ON_DUE_DATE:
+                situation = "the invoice is due today, {{dueDate}}";
+                dayPlaceholder = "";
+                break;
+            default:
+                situation = "the invoice was due on {{dueDate}} and is now " + key.getOverdueBucket() + " days overdue";
+                dayPlaceholder = "{{daysOverdue}} (number of days overdue), ";
+        }
+        return "Write a " + key.getTone().getDescription() + " payment reminder email in the language and "
+            + "conventions of locale " + key.getLocale() + ". Situation: " + situation + ".\n"
+            + "Write these placeholders exactly as shown wherever the value belongs; they are filled in for each "
+            + "customer: {{customerName}} (contact name), {{invoiceNumber}}, {{amountDue}} (a number; put the $ "
+            + "sign before it), {{dueDate}}, " + dayPlaceholder + "{{paymentLink}} (the payment URL, on its own line).\n"
+            + "Use no other {{...}} placeholders, and do not invent names, amounts or dates. "
+            + "Sign off as the Accounts Receivable Team.";
+    }
+}
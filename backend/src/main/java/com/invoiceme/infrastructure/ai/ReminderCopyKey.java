@@ -0,0 +1,95 @@
+package com.invoiceme.infrastructure.ai;
+
+import com.invoiceme.domain.reminder.ReminderType;
+
+import java.util.Objects;
+
+/**
+ * What AI-written reminder copy depends on. Copy is written with placeholders for the
+ * per-invoice values, so one generated body serves every reminder with the same key.
+ */
+public final class ReminderCopyKey {
+
+    /** Upper bounds of the days-overdue buckets; anything above the last is one bucket. */
+    private static final int[] OVERDUE_BUCKETS = {0, 7, 14, 30, 60};
+
+    private final ReminderType reminderType;
+    private final ReminderTone tone;
+    private final String overdueBucket;
+    private final String locale;
+
+    public ReminderCopyKey(ReminderType reminderType, ReminderTone tone, String overdueBucket, String locale) {
+        this.reminderType = reminderType;
+        this.tone = tone;
+        this.overdueBucket = overdueBucket;
+        this.locale = locale;
+    }
+
+    /**
+     * The key for a reminder.
+     *
+     * @param reminderType the reminder type
+     * @param daysOverdue the number of days the invoice is overdue (0 if not overdue)
+     * @param locale the language tag the copy is written in
+     * @return the key
+     */
+    public static ReminderCopyKey of(ReminderType reminderType, int daysOverdue, String locale) {
+        return new ReminderCopyKey(reminderType, ReminderTone.forType(reminderType), overdueBucket(daysOverdue), locale);
+    }
+
+    /**
+     * The days-overdue bucket, e.g. "0", "1-7", "8-14", "61+".
+     */
+    static String overdueBucket(int daysOverdue) {
+        int lower = 0;
+        for (int upper : OVERDUE_BUCKETS) {
+            if (daysOverdue <= upper) {
+                return lower == upper ? Integer.toString(upper) : lower + "-" + upper;
+            }
+            lower = upper + 1;
+        }
+        return lower + "+";
+    }
+
+    public ReminderType getReminderType() {
+        return reminderType;
+    }
+
+    public ReminderTone getTone() {
+        return tone;
+    }
+
+    public String getOverdueBucket() {
+        return overdueBucket;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReminderCopyKey that = (ReminderCopyKey) o;
+        return reminderType == that.reminderType &&
+               tone == that.tone &&
+               Objects.equals(overdueBucket, that.overdueBucket) &&
+               Objects.equals(locale, that.locale);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reminderType, tone, overdueBucket, locale);
+    }
+
+    @Override
+    public String toString() {
+        return "ReminderCopyKey{" +
+               "reminderType=" + reminderType +
+               ", tone=" + tone +
+               ", overdueBucket='" + overdueBucket + '\'' +
+               ", locale='" + locale + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,42 @@
+package com.invoiceme.infrastructure.ai;
+
+import com.invoiceme.domain.reminder.ReminderType;
+
+/**
+ * The tone AI-written reminder copy is asked for.
+ */
+public enum ReminderTone {
+    FRIENDLY("friendly, warm"),
+    NEUTRAL("polite, matter-of-fact"),
+    FIRM("courteous but firm"),
+    URGENT("serious and urgent, while staying professional");
+
+    private final String description;
+
+    ReminderTone(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * The tone used for a reminder type.
+     *
+     * @param type the reminder type
+     * @return the tone
+     */
+    public static ReminderTone forType(ReminderType type) {
+        switch (type) {
+            case BEFORE_DUE:
+                return FRIENDLY;
+            case ON_DUE_DATE:
+                return NEUTRAL;
+            case OVERDUE_30_DAYS:
+                return URGENT;
+            default:
+                return FIRM;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.invoiceme.infrastructure.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Small thread-safe in-process cache bounded by entry count and time to live.
+ * Evicts the least recently used entry once full; expired entries are dropped
+ * when they are read. Counts hits, misses, evictions, expirations and invalidations.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param name the name reported in the statistics
+     * @param maxSize the maximum number of entries (0 disables caching)
+     * @param ttlSeconds the time to live of an entry in seconds
+     */
+    public BoundedCache(String name, int maxSize, long ttlSeconds) {
+        if (maxSize < 0 || ttlSeconds < 0) {
+            throw new IllegalArgumentException("Cache size and time to live must not be negative");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value, counting a hit or a miss.
+     *
+     * @param key the key
+     * @return the value, or null if absent or expired
+     */
+    public V get(K key) {
+        return get(key, value -> true);
+    }
+
+    /**
+     * Returns the cached value if it is still current, counting a hit or a miss.
+     * A value that is no longer current is removed and counted as an invalidation.
+     *
+     * @param key the key
+     * @param isCurrent tells whether a cached value may still be served
+     * @return the value, or null if absent, expired or no longer current
+     */
+    public V get(K key, Predicate<V> isCurrent) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.storedAt > ttlNanos) {
+                entries.remove(key);
+                expirations.increment();
+                entry = null;
+            } else if (entry != null && !isCurrent.test(entry.value)) {
+                entries.remove(key);
+                invalidations.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a value, evicting the least recently used entry if the cache is full.
+     *
+     * @param key the key
+     * @param value the value (not null)
+     */
+    public void put(K key, V value) {
+        if (maxSize == 0) {
+            return;
+        }
+        Entry<V> entry = new Entry<>(value, System.nanoTime());
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes one entry.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            if (entries.remove(key) != null) {
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry matching the predicate. Walks the whole cache, so it is
+     * meant for rare changes such as renaming a customer.
+     *
+     * @param predicate tested with each key and value
+     */
+    public void invalidateIf(BiPredicate<K, V> predicate) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, Entry<V>> entry = iterator.next();
+                if (predicate.test(entry.getKey(), entry.getValue().value)) {
+                    iterator.remove();
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            invalidations.add(entries.size());
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the cache's current statistics
+     */
+    public CacheStats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return new CacheStats(name, size, maxSize, hits.sum(), misses.sum(),
+            evictions.sum(), expirations.sum(), invalidations.sum());
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long storedAt;
+
+        private Entry(V value, long storedAt) {
+            this.value = value;
+            this.storedAt = storedAt;
+        }
+    }
+}
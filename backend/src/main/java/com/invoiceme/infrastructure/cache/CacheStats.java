@@ -0,0 +1,111 @@
+package com.invoiceme.infrastructure.cache;
+
+import java.util.Objects;
+
+/**
+ * Point-in-time statistics of an in-process cache.
+ */
+public class CacheStats {
+
+    private final String name;
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final long invalidations;
+
+    public CacheStats(String name, int size, int maxSize, long hits, long misses,
+                      long evictions, long expirations, long invalidations) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.invalidations = invalidations;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Entries removed because the cache was full (least recently used first).
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Entries removed because their time to live had passed.
+     */
+    public long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * Entries removed explicitly because the underlying data changed.
+     */
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CacheStats that = (CacheStats) o;
+        return size == that.size &&
+               maxSize == that.maxSize &&
+               hits == that.hits &&
+               misses == that.misses &&
+               evictions == that.evictions &&
+               expirations == that.expirations &&
+               invalidations == that.invalidations &&
+               Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, size, maxSize, hits, misses, evictions, expirations, invalidations);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+               "name='" + name + '\'' +
+               ", size=" + size +
+               ", maxSize=" + maxSize +
+               ", hits=" + hits +
+               ", misses=" + misses +
+               ", evictions=" + evictions +
+               ", expirations=" + expirations +
+               ", invalidations=" + invalidations +
+               '}';
+    }
+}
@@ -0,0 +1,14 @@
+package com.invoiceme.infrastructure.cache;
+
+import java.util.List;
+
+/**
+ * An application cache whose statistics are published on the metrics endpoint.
+ */
+public interface MonitoredCache {
+
+    /**
+     * @return the current statistics of each underlying cache
+     */
+    List<CacheStats> cacheStats();
+}
@@ -0,0 +1,140 @@
+package com.invoiceme.infrastructure.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads one CSV record at a time, honouring quoted fields that contain
+ * delimiters, doubled quotes and line breaks (RFC 4180).
+ * Only the current record is held in memory, so files of any size can be streamed.
+ */
+public final class CsvRecordReader {
+
+    private final Reader reader;
+    private final char delimiter;
+    private int lineNumber;
+    private int recordLineNumber;
+    private int pending = -2;
+
+    /**
+     * @param reader the source; buffered by the caller and not closed
+     * @param delimiter the field delimiter
+     * @param firstLineNumber the line number of the first record, for error reporting
+     */
+    public CsvRecordReader(Reader reader, char delimiter, int firstLineNumber) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.lineNumber = firstLineNumber;
+    }
+
+    /**
+     * Picks ';' when the header has more semicolons than commas outside quotes, ',' otherwise.
+     *
+     * @param headerLine the first line of the file
+     * @return the delimiter
+     */
+    public static char detectDelimiter(String headerLine) {
+        return countOutsideQuotes(headerLine, ';') > countOutsideQuotes(headerLine, ',') ? ';' : ',';
+    }
+
+    /**
+     * Splits a single line, e.g. the header row, into its fields.
+     *
+     * @param line the line
+     * @param delimiter the field delimiter
+     * @return the fields
+     */
+    public static List<String> splitRecord(String line, char delimiter) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(line), delimiter, 1);
+        List<String> record = reader.next();
+        return record != null ? record : List.of();
+    }
+
+    /**
+     * The line number on which the record last returned by {@link #next()} started.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record's fields, or null at end of input
+     * @throws IOException if reading fails
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pending = following;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                lineNumber++;
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private static int countOutsideQuotes(String line, char target) {
+        int count = 0;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == target && !quoted) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
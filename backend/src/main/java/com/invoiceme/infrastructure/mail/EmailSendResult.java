@@ -0,0 +1,62 @@
+package com.invoiceme.infrastructure.mail;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one email of a batch.
+ */
+public class EmailSendResult {
+
+    private final OutgoingEmail email;
+    private final String error;
+
+    private EmailSendResult(OutgoingEmail email, String error) {
+        this.email = email;
+        this.error = error;
+    }
+
+    public static EmailSendResult sent(OutgoingEmail email) {
+        return new EmailSendResult(email, null);
+    }
+
+    public static EmailSendResult failed(OutgoingEmail email, String error) {
+        return new EmailSendResult(email, error);
+    }
+
+    public OutgoingEmail getEmail() {
+        return email;
+    }
+
+    public boolean isSent() {
+        return error == null;
+    }
+
+    /**
+     * Why the email was not sent, or null if it was.
+     */
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmailSendResult that = (EmailSendResult) o;
+        return Objects.equals(email, that.email) &&
+               Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(email, error);
+    }
+
+    @Override
+    public String toString() {
+        return "EmailSendResult{" +
+               "email=" + email +
+               ", error='" + error + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,100 @@
+package com.invoiceme.infrastructure.mail;
+
+import java.util.Objects;
+
+/**
+ * Point-in-time send rate of outbound email, overall or to one recipient domain.
+ */
+public class EmailSendStats {
+
+    private final String scope;
+    private final double rateLimitPerSecond;
+    private final int burst;
+    private final long sentLastMinute;
+    private final double sendsPerSecond;
+    private final long throttled;
+    private final long backlogMs;
+
+    public EmailSendStats(String scope, double rateLimitPerSecond, int burst, long sentLastMinute,
+                          double sendsPerSecond, long throttled, long backlogMs) {
+        this.scope = scope;
+        this.rateLimitPerSecond = rateLimitPerSecond;
+        this.burst = burst;
+        this.sentLastMinute = sentLastMinute;
+        this.sendsPerSecond = sendsPerSecond;
+        this.throttled = throttled;
+        this.backlogMs = backlogMs;
+    }
+
+    /**
+     * The recipient domain, or {@value EmailThrottle#ALL_DOMAINS} for all outbound email.
+     */
+    public String getScope() {
+        return scope;
+    }
+
+    public double getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public long getSentLastMinute() {
+        return sentLastMinute;
+    }
+
+    /**
+     * Sends per second over the last 10 seconds.
+     */
+    public double getSendsPerSecond() {
+        return sendsPerSecond;
+    }
+
+    /**
+     * Sends refused and rescheduled since the domain was last active (or since startup, overall).
+     */
+    public long getThrottled() {
+        return throttled;
+    }
+
+    /**
+     * How far ahead the last throttled send has been rescheduled, in milliseconds.
+     */
+    public long getBacklogMs() {
+        return backlogMs;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmailSendStats that = (EmailSendStats) o;
+        return Double.compare(that.rateLimitPerSecond, rateLimitPerSecond) == 0 &&
+               burst == that.burst &&
+               sentLastMinute == that.sentLastMinute &&
+               Double.compare(that.sendsPerSecond, sendsPerSecond) == 0 &&
+               throttled == that.throttled &&
+               backlogMs == that.backlogMs &&
+               Objects.equals(scope, that.scope);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scope, rateLimitPerSecond, burst, sentLastMinute, sendsPerSecond, throttled, backlogMs);
+    }
+
+    @Override
+    public String toString() {
+        return "EmailSendStats{" +
+               "scope='" + scope + '\'' +
+               ", rateLimitPerSecond=" + rateLimitPerSecond +
+               ", burst=" + burst +
+               ", sentLastMinute=" + sentLastMinute +
+               ", sendsPerSecond=" + sendsPerSecond +
+               ", throttled=" + throttled +
+               ", backlogMs=" + backlogMs +
+               '}';
+    }
+}
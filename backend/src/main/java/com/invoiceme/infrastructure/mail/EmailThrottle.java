@@ -0,0 +1,212 @@
+package com.invoiceme.infrastructure.mail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limits outbound email per recipient domain and overall, so a burst of reminders
+ * to the same few mail providers does not run into their rate limits and greylisting.
+ * Each domain has its own {@link TokenBucket} (with per-domain overrides), and every
+ * send also needs a token from the global bucket. Both are lock-free.
+ *
+ * A send that finds no token is not held up: {@link #tryAcquire} tells the caller how
+ * long to wait, and the caller reschedules the mail (the reminder outbox keeps it queued).
+ * Throttled sends are spaced out behind each other, so they come back at the domain's rate.
+ *
+ * Limits are per application instance. Idle domains are forgotten once their bucket
+ * has refilled and nothing was sent to them for a minute.
+ */
+@Component
+public class EmailThrottle {
+
+    /** Scope of the global statistics. */
+    public static final String ALL_DOMAINS = "*";
+
+    /** Domains listed by {@link #stats()}, busiest first. */
+    static final int REPORTED_DOMAINS = 50;
+
+    private static final long IDLE_NANOS = Duration.ofSeconds(SendRateWindow.SECONDS).toNanos();
+    private static final int RATE_SECONDS = 10;
+
+    private final boolean enabled;
+    private final double domainRatePerSecond;
+    private final int domainBurst;
+    private final Map<String, Double> domainRates;
+    private final Limiter global;
+    private final Map<String, Limiter> domains = new ConcurrentHashMap<>();
+
+    public EmailThrottle(@Value("${email.throttle.enabled:true}") boolean enabled,
+                         @Value("${email.throttle.global-rate-per-second:50}") double globalRatePerSecond,
+                         @Value("${email.throttle.global-burst:100}") int globalBurst,
+                         @Value("${email.throttle.domain-rate-per-second:5}") double domainRatePerSecond,
+                         @Value("${email.throttle.domain-burst:20}") int domainBurst,
+                         @Value("${email.throttle.domain-rates:}") String domainRates) {
+        if (!(domainRatePerSecond > 0) || domainBurst < 1) {
+            throw new IllegalArgumentException(
+                "email.throttle.domain-rate-per-second must be positive and email.throttle.domain-burst at least 1");
+        }
+        this.enabled = enabled;
+        long now = System.nanoTime();
+        this.global = new Limiter(new TokenBucket(globalRatePerSecond, globalBurst, now), now);
+        this.domainRatePerSecond = domainRatePerSecond;
+        this.domainBurst = domainBurst;
+        this.domainRates = parseDomainRates(domainRates);
+    }
+
+    /**
+     * Takes the tokens for one send to the recipient, if available.
+     *
+     * @param recipient the recipient email address
+     * @return zero if the mail may be sent now; otherwise how long to wait before trying again
+     */
+    public Duration tryAcquire(String recipient) {
+        long now = System.nanoTime();
+        Limiter domain = domains.computeIfAbsent(domainOf(recipient), d -> newLimiter(d, now));
+        domain.lastUsed = now;
+        if (!enabled) {
+            domain.sent(now);
+            global.sent(now);
+            return Duration.ZERO;
+        }
+
+        long wait = domain.bucket.tryAcquire(now);
+        if (wait > 0) {
+            domain.throttled.increment();
+            global.throttled.increment();
+            return Duration.ofNanos(wait);
+        }
+        wait = global.bucket.tryAcquire(now);
+        if (wait > 0) {
+            domain.bucket.refund();
+            domain.throttled.increment();
+            global.throttled.increment();
+            return Duration.ofNanos(wait);
+        }
+        domain.sent(now);
+        global.sent(now);
+        return Duration.ZERO;
+    }
+
+    /**
+     * Current send rates: overall first, then the busiest domains.
+     *
+     * @return the statistics
+     */
+    public List<EmailSendStats> stats() {
+        long now = System.nanoTime();
+        List<EmailSendStats> domainStats = new ArrayList<>();
+        domains.forEach((name, limiter) -> domainStats.add(limiter.stats(name, now)));
+        domainStats.sort(Comparator.comparingLong(EmailSendStats::getSentLastMinute)
+            .thenComparingLong(EmailSendStats::getThrottled)
+            .reversed()
+            .thenComparing(EmailSendStats::getScope));
+
+        List<EmailSendStats> stats = new ArrayList<>();
+        stats.add(global.stats(ALL_DOMAINS, now));
+        stats.addAll(domainStats.subList(0, Math.min(REPORTED_DOMAINS, domainStats.size())));
+        return stats;
+    }
+
+    /**
+     * Forgets domains with a full bucket, nobody waiting and no send for a minute.
+     */
+    @Scheduled(fixedDelayString = "${email.throttle.evict-interval-ms:60000}")
+    public void evictIdleDomains() {
+        long now = System.nanoTime();
+        domains.values().removeIf(limiter -> limiter.bucket.isIdle(now) && now - limiter.lastUsed > IDLE_NANOS);
+    }
+
+    /**
+     * @param recipient an email address
+     * @return its domain, lower case ("" if it has none)
+     */
+    static String domainOf(String recipient) {
+        if (recipient == null) {
+            return "";
+        }
+        int at = recipient.lastIndexOf('@');
+        return recipient.substring(at + 1).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Creates a domain's limiter with a full bucket as of {@code now}, the caller's clock
+     * reading, so its first acquire never sees a bucket that started after it.
+     */
+    private Limiter newLimiter(String domain, long now) {
+        double rate = domainRates.getOrDefault(domain, domainRatePerSecond);
+        return new Limiter(new TokenBucket(rate, domainBurst, now), now);
+    }
+
+    /**
+     * Parses {@code domain=ratePerSecond} pairs separated by commas.
+     */
+    private static Map<String, Double> parseDomainRates(String spec) {
+        Map<String, Double> rates = new HashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("email.throttle.domain-rates entries must be domain=ratePerSecond: " + entry);
+            }
+            double rate;
+            try {
+                rate = Double.parseDouble(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid rate in email.throttle.domain-rates: " + entry);
+            }
+            if (!(rate > 0)) {
+                throw new IllegalArgumentException("Rates in email.throttle.domain-rates must be positive: " + entry);
+            }
+            rates.put(parts[0].trim().toLowerCase(Locale.ROOT), rate);
+        }
+        return rates;
+    }
+
+    /**
+     * A bucket and its send counters.
+     */
+    private static final class Limiter {
+        private final TokenBucket bucket;
+        private final SendRateWindow window = new SendRateWindow();
+        private final LongAdder throttled = new LongAdder();
+        private volatile long lastUsed;
+
+        Limiter(TokenBucket bucket, long now) {
+            this.bucket = bucket;
+            this.lastUsed = now;
+        }
+
+        void sent(long now) {
+            window.record(second(now));
+        }
+
+        EmailSendStats stats(String scope, long now) {
+            long second = second(now);
+            return new EmailSendStats(
+                scope,
+                bucket.getRatePerSecond(),
+                bucket.getBurst(),
+                window.count(second, SendRateWindow.SECONDS),
+                (double) window.count(second, RATE_SECONDS) / RATE_SECONDS,
+                throttled.sum(),
+                bucket.backlogNanos(now) / 1_000_000);
+        }
+
+        private static long second(long nanos) {
+            return Math.floorDiv(nanos, 1_000_000_000L);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.invoiceme.infrastructure.mail;
+
+import java.util.Objects;
+
+/**
+ * A plain-text email to one recipient.
+ */
+public class OutgoingEmail {
+
+    private final String to;
+    private final String subject;
+    private final String body;
+
+    public OutgoingEmail(String to, String subject, String body) {
+        this.to = to;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OutgoingEmail that = (OutgoingEmail) o;
+        return Objects.equals(to, that.to) &&
+               Objects.equals(subject, that.subject) &&
+               Objects.equals(body, that.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(to, subject, body);
+    }
+
+    @Override
+    public String toString() {
+        return "OutgoingEmail{" +
+               "to='" + to + '\'' +
+               ", subject='" + subject + '\'' +
+               '}';
+    }
+}
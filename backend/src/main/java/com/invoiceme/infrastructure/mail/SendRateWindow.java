@@ -0,0 +1,47 @@
+package com.invoiceme.infrastructure.mail;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sends counted per second over the last minute, in a ring of one-second slots.
+ * Recording is lock-free; a slot is reset by the first send of its new second, so a
+ * send racing with that reset can be lost. Good enough for a live rate, not for billing.
+ */
+final class SendRateWindow {
+
+    static final int SECONDS = 60;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SECONDS);
+    private final AtomicLongArray slotSeconds = new AtomicLongArray(SECONDS);
+
+    SendRateWindow() {
+        for (int i = 0; i < SECONDS; i++) {
+            slotSeconds.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    void record(long second) {
+        int slot = (int) Math.floorMod(second, (long) SECONDS);
+        long slotSecond = slotSeconds.get(slot);
+        if (slotSecond != second && slotSeconds.compareAndSet(slot, slotSecond, second)) {
+            counts.set(slot, 0);
+        }
+        counts.incrementAndGet(slot);
+    }
+
+    /**
+     * @param second the current second
+     * @param seconds how many seconds back to count, the current one included (at most 60)
+     * @return the sends in those seconds
+     */
+    long count(long second, int seconds) {
+        long total = 0;
+        for (int i = 0; i < SECONDS; i++) {
+            long age = second - slotSeconds.get(i);
+            if (age >= 0 && age < seconds) {
+                total += counts.get(i);
+            }
+        }
+        return total;
+    }
+}
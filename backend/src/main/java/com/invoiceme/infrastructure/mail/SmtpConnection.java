@@ -0,0 +1,338 @@
+package com.invoiceme.infrastructure.mail;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One SMTP session (RFC 5321), kept open for many messages.
+ * Each message after the first starts with RSET, so the session is reused rather than
+ * reconnected. If the server advertises PIPELINING (RFC 2920), RSET, MAIL FROM,
+ * RCPT TO and DATA go out in one write and their replies are read together, so a
+ * message costs two round trips instead of five.
+ *
+ * Not thread-safe: a connection is used by one sender at a time (see {@link SmtpConnectionPool}).
+ */
+final class SmtpConnection implements Closeable {
+
+    /** How a connection is secured. */
+    enum Security { NONE, STARTTLS, SSL }
+
+    /**
+     * The server closed a reused connection before answering anything (typically an idle
+     * timeout on its side). No part of the message was accepted, so it can be sent again
+     * on a new connection.
+     */
+    static final class StaleConnectionException extends IOException {
+        StaleConnectionException(IOException cause) {
+            super("SMTP connection was closed by the server", cause);
+        }
+    }
+
+    private final String host;
+    private Socket socket;
+    private InputStream in;
+    private OutputStream out;
+    private final Set<String> extensions = new HashSet<>();
+    private int messagesSent;
+    private boolean used;
+    private boolean broken;
+    private long lastUsedNanos = System.nanoTime();
+
+    private SmtpConnection(String host) {
+        this.host = host;
+    }
+
+    /**
+     * Connects, reads the greeting, says EHLO, secures the session if asked to,
+     * and logs in if a username is given.
+     */
+    static SmtpConnection open(String host, int port, Security security, String heloName,
+                               String username, String password, int timeoutMillis) throws IOException {
+        SmtpConnection connection = new SmtpConnection(host);
+        try {
+            connection.connect(port, security, heloName, username, password, timeoutMillis);
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            connection.closeSocket();
+            throw e;
+        }
+    }
+
+    private void connect(int port, Security security, String heloName, String username, String password,
+                         int timeoutMillis) throws IOException {
+        Socket plain = new Socket();
+        plain.setTcpNoDelay(true);
+        plain.setSoTimeout(timeoutMillis);
+        plain.connect(new InetSocketAddress(host, port), timeoutMillis);
+        attach(security == Security.SSL ? secure(plain, port) : plain);
+
+        expect(readReply(), 220, "greeting");
+        ehlo(heloName);
+        if (security == Security.STARTTLS) {
+            if (!extensions.contains("STARTTLS")) {
+                throw new IOException("SMTP server " + host + " does not offer STARTTLS");
+            }
+            command("STARTTLS");
+            expect(readReply(), 220, "STARTTLS");
+            attach(secure(socket, port));
+            ehlo(heloName);
+        }
+        if (username != null && !username.isBlank()) {
+            String credentials = "\0" + username + "\0" + (password == null ? "" : password);
+            command("AUTH PLAIN " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+            expect(readReply(), 235, "AUTH");
+        }
+    }
+
+    boolean supportsPipelining() {
+        return extensions.contains("PIPELINING");
+    }
+
+    int getMessagesSent() {
+        return messagesSent;
+    }
+
+    long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+
+    /**
+     * @return false once an I/O error has left the session in an unknown state
+     */
+    boolean isUsable() {
+        return !broken;
+    }
+
+    /**
+     * Sends one message.
+     *
+     * @throws SmtpException if the server refuses the message; the connection stays usable
+     * @throws StaleConnectionException if the server had closed this reused connection
+     * @throws IOException on any other I/O error; the connection is no longer usable
+     */
+    void send(String from, OutgoingEmail email, String messageIdDomain) throws IOException {
+        boolean reused = used;
+        used = true;
+        boolean eightBit = extensions.contains("8BITMIME");
+        List<String> commands = new ArrayList<>(4);
+        if (reused) {
+            commands.add("RSET");
+        }
+        commands.add("MAIL FROM:<" + from + ">" + (eightBit ? " BODY=8BITMIME" : ""));
+        commands.add("RCPT TO:<" + email.getTo() + ">");
+        commands.add("DATA");
+
+        boolean answered = false;
+        try {
+            List<SmtpReply> replies = new ArrayList<>(commands.size());
+            if (supportsPipelining()) {
+                for (String command : commands) {
+                    write(command);
+                }
+                out.flush();
+                for (int i = 0; i < commands.size(); i++) {
+                    replies.add(readReply());
+                    answered = true;
+                }
+            } else {
+                for (String command : commands) {
+                    command(command);
+                    SmtpReply reply = readReply();
+                    answered = true;
+                    replies.add(reply);
+                    if (!reply.isPositive()) {
+                        break;
+                    }
+                }
+            }
+            lastUsedNanos = System.nanoTime();
+
+            SmtpReply refusal = null;
+            for (int i = 0; i < replies.size() - 1; i++) {
+                if (!replies.get(i).isPositive()) {
+                    refusal = replies.get(i);
+                    break;
+                }
+            }
+            SmtpReply dataReply = replies.get(replies.size() - 1);
+            if (refusal != null || dataReply.getCode() != 354) {
+                if (dataReply.getCode() == 354) {
+                    // DATA was accepted although MAIL or RCPT was not: end it with an empty message
+                    out.write(".\r\n".getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                    readReply();
+                }
+                SmtpReply failed = refusal != null ? refusal : dataReply;
+                throw new SmtpException("SMTP server refused " + email.getTo() + ": " + failed, failed.getCode());
+            }
+
+            out.write(SmtpMessage.format(from, email, messageIdDomain, eightBit));
+            out.flush();
+            SmtpReply accepted = readReply();
+            lastUsedNanos = System.nanoTime();
+            if (!accepted.isPositive()) {
+                throw new SmtpException("SMTP server refused " + email.getTo() + ": " + accepted, accepted.getCode());
+            }
+            messagesSent++;
+        } catch (IOException e) {
+            broken = true;
+            if (reused && !answered) {
+                throw new StaleConnectionException(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Ends the session politely; errors are ignored.
+     */
+    @Override
+    public void close() {
+        if (!broken) {
+            try {
+                command("QUIT");
+                readReply();
+            } catch (IOException e) {
+                // closing anyway
+            }
+        }
+        closeSocket();
+    }
+
+    private void ehlo(String heloName) throws IOException {
+        command("EHLO " + heloName);
+        SmtpReply reply = readReply();
+        expect(reply, 250, "EHLO");
+        extensions.clear();
+        for (String line : reply.getLines()) {
+            String keyword = line.split(" ", 2)[0].toUpperCase(Locale.ROOT);
+            extensions.add(keyword);
+        }
+    }
+
+    private SSLSocket secure(Socket plain, int port) throws IOException {
+        SSLSocket ssl = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+            .createSocket(plain, host, port, true);
+        SSLParameters parameters = ssl.getSSLParameters();
+        parameters.setEndpointIdentificationAlgorithm("HTTPS");
+        ssl.setSSLParameters(parameters);
+        ssl.startHandshake();
+        return ssl;
+    }
+
+    private void attach(Socket socket) throws IOException {
+        this.socket = socket;
+        this.in = new BufferedInputStream(socket.getInputStream());
+        this.out = new BufferedOutputStream(socket.getOutputStream());
+    }
+
+    private void command(String command) throws IOException {
+        write(command);
+        out.flush();
+    }
+
+    private void write(String command) throws IOException {
+        out.write(command.getBytes(StandardCharsets.UTF_8));
+        out.write('\r');
+        out.write('\n');
+    }
+
+    private SmtpReply readReply() throws IOException {
+        List<String> lines = new ArrayList<>(1);
+        while (true) {
+            String line = readLine();
+            if (line.length() < 3) {
+                throw new IOException("Malformed SMTP reply: " + line);
+            }
+            int code;
+            try {
+                code = Integer.parseInt(line.substring(0, 3));
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed SMTP reply: " + line);
+            }
+            lines.add(line.length() > 4 ? line.substring(4) : "");
+            if (line.length() == 3 || line.charAt(3) != '-') {
+                return new SmtpReply(code, lines);
+            }
+        }
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b == -1) {
+                throw new EOFException("SMTP server closed the connection");
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    private void expect(SmtpReply reply, int code, String step) throws IOException {
+        if (reply.getCode() != code) {
+            throw new IOException("SMTP " + step + " failed: " + reply);
+        }
+    }
+
+    private void closeSocket() {
+        broken = true;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // nothing left to do
+            }
+        }
+    }
+
+    /**
+     * A reply: its code and the text of each of its lines.
+     */
+    static final class SmtpReply {
+        private final int code;
+        private final List<String> lines;
+
+        SmtpReply(int code, List<String> lines) {
+            this.code = code;
+            this.lines = lines;
+        }
+
+        int getCode() {
+            return code;
+        }
+
+        List<String> getLines() {
+            return lines;
+        }
+
+        boolean isPositive() {
+            return code >= 200 && code < 400;
+        }
+
+        @Override
+        public String toString() {
+            return code + " " + String.join(" ", lines);
+        }
+    }
+}
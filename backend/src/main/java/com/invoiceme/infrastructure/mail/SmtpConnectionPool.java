@@ -0,0 +1,248 @@
+package com.invoiceme.infrastructure.mail;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of persistent SMTP connections to the configured mail server.
+ * Senders borrow a connection for a message (or a whole batch) and hand it back open,
+ * so a connection carries many messages: the TCP and TLS handshakes, EHLO and AUTH are
+ * paid once per connection rather than once per message. At most {@code pool-size}
+ * connections are open; a sender waits up to {@code timeout-ms} for one.
+ *
+ * A connection is retired after {@code max-messages-per-connection} messages (servers
+ * cap messages per session) or once idle for {@code idle-timeout-seconds}. If the server
+ * has closed a pooled connection in the meantime, the message is sent again on a new one;
+ * this is safe because the server had not answered any part of it.
+ *
+ * Disabled (see {@link #isEnabled()}) unless {@code email.smtp.host} is set.
+ */
+@Component
+public class SmtpConnectionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtpConnectionPool.class);
+
+    private final String host;
+    private final int port;
+    private final SmtpConnection.Security security;
+    private final String username;
+    private final String password;
+    private final String from;
+    private final String heloName;
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutNanos;
+    private final int timeoutMillis;
+    private final Semaphore permits;
+    private final Deque<SmtpConnection> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+
+    public SmtpConnectionPool(@Value("${email.smtp.host:}") String host,
+                              @Value("${email.smtp.port:587}") int port,
+                              @Value("${email.smtp.security:starttls}") String security,
+                              @Value("${email.smtp.username:}") String username,
+                              @Value("${email.smtp.password:}") String password,
+                              @Value("${email.smtp.from:billing@invoiceme.com}") String from,
+                              @Value("${email.smtp.helo-name:}") String heloName,
+                              @Value("${email.smtp.pool-size:8}") int poolSize,
+                              @Value("${email.smtp.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                              @Value("${email.smtp.idle-timeout-seconds:60}") long idleTimeoutSeconds,
+                              @Value("${email.smtp.timeout-ms:30000}") int timeoutMillis) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("email.smtp.pool-size must be at least 1");
+        }
+        if (maxMessagesPerConnection < 1) {
+            throw new IllegalArgumentException("email.smtp.max-messages-per-connection must be at least 1");
+        }
+        try {
+            this.security = SmtpConnection.Security.valueOf(security.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("email.smtp.security must be none, starttls or ssl: " + security);
+        }
+        this.host = host.trim();
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.from = checkAddress(from);
+        this.heloName = !heloName.isBlank() ? heloName.trim() : (isEnabled() ? localHostName() : "localhost");
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.idleTimeoutNanos = Duration.ofSeconds(idleTimeoutSeconds).toNanos();
+        this.timeoutMillis = timeoutMillis;
+        this.permits = new Semaphore(poolSize, true);
+    }
+
+    /**
+     * @return true if a mail server is configured
+     */
+    public boolean isEnabled() {
+        return !host.isEmpty();
+    }
+
+    /**
+     * Connections opened since startup (a measure of how well they are reused).
+     */
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    /**
+     * Sends one email on a pooled connection.
+     *
+     * @param email the email
+     * @throws SmtpException if the server refuses it
+     * @throws UncheckedIOException if the server cannot be reached or the connection fails
+     * @throws IllegalStateException if no connection becomes free within the timeout
+     */
+    public void send(OutgoingEmail email) {
+        checkAddress(email.getTo());
+        acquirePermit();
+        SmtpConnection connection = null;
+        try {
+            connection = borrow();
+            try {
+                connection.send(from, email, heloName);
+            } catch (SmtpConnection.StaleConnectionException e) {
+                connection.close();
+                connection = connect();
+                connection.send(from, email, heloName);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not send email to " + email.getTo() + ": " + e.getMessage(), e);
+        } finally {
+            giveBack(connection);
+            permits.release();
+        }
+    }
+
+    /**
+     * Sends emails one after another on a single pooled connection. A refused email
+     * does not stop the batch; if the connection fails, the rest go out on a new one.
+     *
+     * @param emails the emails
+     * @return the outcome of each email, in order
+     * @throws IllegalStateException if no connection becomes free within the timeout
+     */
+    public List<EmailSendResult> sendBatch(List<OutgoingEmail> emails) {
+        List<EmailSendResult> results = new ArrayList<>(emails.size());
+        if (emails.isEmpty()) {
+            return results;
+        }
+        acquirePermit();
+        SmtpConnection connection = null;
+        try {
+            for (OutgoingEmail email : emails) {
+                try {
+                    checkAddress(email.getTo());
+                    if (connection == null || !connection.isUsable()
+                            || connection.getMessagesSent() >= maxMessagesPerConnection) {
+                        giveBack(connection);
+                        connection = borrow();
+                    }
+                    try {
+                        connection.send(from, email, heloName);
+                    } catch (SmtpConnection.StaleConnectionException e) {
+                        connection.close();
+                        connection = connect();
+                        connection.send(from, email, heloName);
+                    }
+                    results.add(EmailSendResult.sent(email));
+                } catch (IOException | RuntimeException e) {
+                    results.add(EmailSendResult.failed(email, e.getMessage()));
+                }
+            }
+        } finally {
+            giveBack(connection);
+            permits.release();
+        }
+        return results;
+    }
+
+    /**
+     * Closes the idle connections.
+     */
+    @PreDestroy
+    public void close() {
+        SmtpConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.close();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No SMTP connection became free within " + timeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an SMTP connection", e);
+        }
+    }
+
+    /**
+     * The most recently used idle connection (so the others can age out), or a new one.
+     */
+    private SmtpConnection borrow() throws IOException {
+        SmtpConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (System.nanoTime() - connection.getLastUsedNanos() < idleTimeoutNanos) {
+                return connection;
+            }
+            connection.close();
+        }
+        return connect();
+    }
+
+    private SmtpConnection connect() throws IOException {
+        if (!isEnabled()) {
+            throw new IllegalStateException("No SMTP server configured (email.smtp.host)");
+        }
+        SmtpConnection connection = SmtpConnection.open(host, port, security, heloName, username, password, timeoutMillis);
+        connectionsOpened.incrementAndGet();
+        logger.debug("Opened SMTP connection to {}:{} (pipelining: {})", host, port, connection.supportsPipelining());
+        return connection;
+    }
+
+    private void giveBack(SmtpConnection connection) {
+        if (connection == null) {
+            return;
+        }
+        if (connection.isUsable() && connection.getMessagesSent() < maxMessagesPerConnection) {
+            idle.offerFirst(connection);
+        } else {
+            connection.close();
+        }
+    }
+
+    private static String checkAddress(String address) {
+        if (address == null || address.indexOf('@') < 1
+                || address.chars().anyMatch(c -> c == '\r' || c == '\n' || c == '<' || c == '>' || c == ' ')) {
+            throw new IllegalArgumentException("Invalid email address: " + address);
+        }
+        return address;
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getCanonicalHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
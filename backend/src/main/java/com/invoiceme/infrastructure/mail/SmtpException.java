@@ -0,0 +1,25 @@
+package com.invoiceme.infrastructure.mail;
+
+/**
+ * The SMTP server refused a message (the connection itself is still usable).
+ */
+public class SmtpException extends RuntimeException {
+
+    private final int replyCode;
+
+    public SmtpException(String message, int replyCode) {
+        super(message);
+        this.replyCode = replyCode;
+    }
+
+    public int getReplyCode() {
+        return replyCode;
+    }
+
+    /**
+     * @return true for a 5xx reply: sending the same message again will fail again
+     */
+    public boolean isPermanent() {
+        return replyCode >= 500;
+    }
+}
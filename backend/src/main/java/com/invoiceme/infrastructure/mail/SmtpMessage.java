@@ -0,0 +1,128 @@
+package com.invoiceme.infrastructure.mail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Formats a plain-text email as the DATA of an SMTP transaction: RFC 5322 headers,
+ * CRLF line endings, dot-stuffing, and the terminating {@code CRLF.CRLF}.
+ * Non-ASCII subjects are sent as RFC 2047 encoded words; a non-ASCII body is sent as
+ * 8bit if the server supports 8BITMIME, and base64 otherwise.
+ */
+final class SmtpMessage {
+
+    /** Raw bytes of a subject chunk per encoded word (60 base64 characters, inside the 75 limit). */
+    private static final int ENCODED_WORD_BYTES = 45;
+
+    private SmtpMessage() {
+    }
+
+    /**
+     * @return true if the email's body is pure ASCII
+     */
+    static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Formats the DATA of the email, terminator included.
+     *
+     * @param from the sender address
+     * @param email the email
+     * @param messageIdDomain the domain part of the Message-ID
+     * @param eightBitMime whether the server accepts 8bit bodies
+     * @return the bytes to write after the server's 354 reply
+     */
+    static byte[] format(String from, OutgoingEmail email, String messageIdDomain, boolean eightBitMime) {
+        String body = email.getBody() == null ? "" : email.getBody();
+        boolean ascii = isAscii(body);
+
+        StringBuilder headers = new StringBuilder(256)
+            .append("Date: ").append(DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now())).append("\r\n")
+            .append("From: ").append(from).append("\r\n")
+            .append("To: ").append(email.getTo()).append("\r\n")
+            .append("Subject: ").append(encodeSubject(email.getSubject())).append("\r\n")
+            .append("Message-ID: <").append(UUID.randomUUID()).append('@').append(messageIdDomain).append(">\r\n")
+            .append("MIME-Version: 1.0\r\n")
+            .append("Content-Type: text/plain; charset=UTF-8\r\n");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length() + 512);
+        if (ascii || eightBitMime) {
+            headers.append("Content-Transfer-Encoding: ").append(ascii ? "7bit" : "8bit").append("\r\n\r\n");
+            out.writeBytes(headers.toString().getBytes(StandardCharsets.US_ASCII));
+            writeDotStuffed(out, body);
+        } else {
+            headers.append("Content-Transfer-Encoding: base64\r\n\r\n");
+            out.writeBytes(headers.toString().getBytes(StandardCharsets.US_ASCII));
+            out.writeBytes(Base64.getMimeEncoder().encode(body.getBytes(StandardCharsets.UTF_8)));
+            out.writeBytes(new byte[] {'\r', '\n'});
+        }
+        out.writeBytes(new byte[] {'.', '\r', '\n'});
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes the body with CRLF line endings, doubling a leading dot on every line,
+     * and ending with CRLF.
+     */
+    private static void writeDotStuffed(ByteArrayOutputStream out, String body) {
+        String[] lines = body.split("\r\n|\r|\n", -1);
+        int count = lines.length;
+        if (count > 1 && lines[count - 1].isEmpty()) {
+            count--;
+        }
+        for (int i = 0; i < count; i++) {
+            if (lines[i].startsWith(".")) {
+                out.write('.');
+            }
+            out.writeBytes(lines[i].getBytes(StandardCharsets.UTF_8));
+            out.writeBytes(new byte[] {'\r', '\n'});
+        }
+    }
+
+    private static String encodeSubject(String subject) {
+        String singleLine = subject == null ? "" : subject.replaceAll("[\r\n]+", " ");
+        if (isAscii(singleLine)) {
+            return singleLine;
+        }
+        StringBuilder encoded = new StringBuilder();
+        int start = 0;
+        while (start < singleLine.length()) {
+            int end = start;
+            int bytes = 0;
+            while (end < singleLine.length()) {
+                int codePoint = singleLine.codePointAt(end);
+                int length = utf8Length(codePoint);
+                if (bytes + length > ENCODED_WORD_BYTES) {
+                    break;
+                }
+                bytes += length;
+                end += Character.charCount(codePoint);
+            }
+            if (encoded.length() > 0) {
+                encoded.append("\r\n ");
+            }
+            encoded.append("=?UTF-8?B?")
+                .append(Base64.getEncoder().encodeToString(singleLine.substring(start, end).getBytes(StandardCharsets.UTF_8)))
+                .append("?=");
+            start = end;
+        }
+        return encoded.toString();
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) return 1;
+        if (codePoint < 0x800) return 2;
+        if (codePoint < 0x10000) return 3;
+        return 4;
+    }
+}
@@ -0,0 +1,110 @@
+package com.invoiceme.infrastructure.mail;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, kept as a single "theoretical arrival time" (the generic cell
+ * rate algorithm): a bucket refilled at {@code ratePerSecond} holding at most
+ * {@code burst} tokens behaves exactly like this one, but taking a token is one
+ * compare-and-set rather than a lock around a token count and a refill timestamp.
+ *
+ * Callers that find the bucket empty are given a place in a waiting line instead of a
+ * token: {@link #tryAcquire} returns how long to come back after, spaced one token
+ * apart behind the callers already waiting, so a burst of refused callers retries at
+ * the bucket's rate rather than all at once. A place in the line does not reserve a
+ * token; a caller that comes back simply tries again.
+ *
+ * Times are {@link System#nanoTime()} values, passed in by the caller.
+ */
+public final class TokenBucket {
+
+    private final double ratePerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+    private final AtomicLong waitingLineEnd;
+
+    /**
+     * @param ratePerSecond tokens added per second
+     * @param burst the most tokens the bucket holds (it starts full)
+     * @param nowNanos the current time
+     */
+    public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        if (!(ratePerSecond > 0)) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / ratePerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+        this.waitingLineEnd = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param nowNanos the current time
+     * @return 0 if a token was taken; otherwise the nanoseconds after which to try again
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = later(arrival, nowNanos);
+            long wait = start - toleranceNanos - nowNanos;
+            if (wait > 0) {
+                return queue(nowNanos, wait);
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Puts back a token taken by {@link #tryAcquire} that was not used.
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * @param nowNanos the current time
+     * @return true if the bucket is full and nobody is waiting, i.e. it is as good as a new one
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0 && waitingLineEnd.get() - nowNanos <= 0;
+    }
+
+    /**
+     * @param nowNanos the current time
+     * @return how long the last caller in the waiting line waits, in nanoseconds (0 if none)
+     */
+    public long backlogNanos(long nowNanos) {
+        return Math.max(0, waitingLineEnd.get() - nowNanos);
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    private long queue(long nowNanos, long wait) {
+        long earliest = nowNanos + wait;
+        long end = waitingLineEnd.accumulateAndGet(earliest,
+            (current, first) -> later(current + intervalNanos, first));
+        return end - nowNanos;
+    }
+
+    /** The later of two nanoTime values (which may wrap, so they are compared by difference). */
+    private static long later(long a, long b) {
+        return a - b > 0 ? a : b;
+    }
+}
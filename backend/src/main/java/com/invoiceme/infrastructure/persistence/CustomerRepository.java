@@ -1,16 +1,64 @@
 package com.invoiceme.infrastructure.persistence;
 
 import com.invoiceme.domain.customer.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, UUID> {
+public interface CustomerRepository extends JpaRepository<Customer, UUID>, CustomerRepositoryCustom {
     Optional<Customer> findByEmail(String email);
     List<Customer> findByActiveTrue();
     boolean existsByEmail(String email);
+
+    /**
+     * Returns which of the given customer IDs exist, in a single IN query.
+     *
+     * @param ids the customer IDs to check
+     * @return the subset of IDs that exist
+     */
+    @Query("SELECT c.id FROM Customer c WHERE c.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Returns which of the given emails already belong to a customer, in a single IN query.
+     *
+     * @param emails the emails to check
+     * @return the subset of emails that are taken
+     */
+    @Query("SELECT c.email FROM Customer c WHERE c.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Reads only a customer's last update time, e.g. to answer a conditional GET.
+     *
+     * @param id the customer ID
+     * @return the last update time, or empty if the customer does not exist
+     */
+    @Query("SELECT c.updatedAt FROM Customer c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Streams (id, businessName, contactName, email) of every active customer through a
+     * JDBC cursor, without hydrating entities. Must be consumed inside a transaction and closed.
+     *
+     * @return the rows
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.id, c.businessName, c.contactName, c.email FROM Customer c WHERE c.active = true")
+    Stream<Object[]> streamActiveSuggestionFields();
 }
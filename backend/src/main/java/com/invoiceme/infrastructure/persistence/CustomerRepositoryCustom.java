@@ -0,0 +1,48 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.customer.Customer;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Custom query fragment for CustomerRepository.
+ * Holds the ranked customer search, which needs PostgreSQL trigram functions,
+ * the customer summary aggregate, and batch inserts of customers whose IDs are
+ * already assigned (which {@code saveAll} would turn into one merge SELECT each).
+ */
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Finds customers whose business name, contact name or email contains the term
+     * (case-insensitive), best matches first.
+     *
+     * @param term the search term (not blank)
+     * @param activeOnly whether to return only active customers
+     * @param offset the number of matches to skip
+     * @param limit the maximum number of matches to return
+     * @return the matching customers, ranked
+     */
+    List<Customer> search(String term, boolean activeOnly, int offset, int limit);
+
+    /**
+     * Aggregates a customer's invoices and payments in one grouped query: totals,
+     * counts by status, overdue figures, and the latest invoice and payment.
+     *
+     * @param customerId the customer ID
+     * @param today the date invoices must be due before to count as overdue
+     * @return the summary, or empty if the customer does not exist
+     */
+    Optional<CustomerSummaryView> summarize(UUID customerId, LocalDate today);
+
+    /**
+     * Inserts new customers whose IDs are already assigned, then flushes and clears
+     * the persistence context, so the inserts go out as JDBC batches.
+     *
+     * @param customers the customers to insert
+     */
+    void persistAll(Collection<Customer> customers);
+}
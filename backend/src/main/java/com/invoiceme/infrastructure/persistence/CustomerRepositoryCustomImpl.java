@@ -0,0 +1,161 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link CustomerRepositoryCustom}.
+ * On PostgreSQL the search runs as native SQL: ILIKE predicates served by the
+ * pg_trgm GIN index from V6, ranked by trigram similarity. Other databases (H2 in
+ * tests) get an equivalent JPQL query that ranks prefix matches before other matches.
+ * The customer summary is plain SQL that runs unchanged on both; its row values are
+ * read through {@link NativeRows}, which evens out the drivers' Java types.
+ */
+public class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+    private static final String POSTGRES_SEARCH =
+        "SELECT c.* FROM customers c " +
+        "WHERE (c.business_name ILIKE :pattern ESCAPE '\\' " +
+        "    OR c.contact_name ILIKE :pattern ESCAPE '\\' " +
+        "    OR c.email ILIKE :pattern ESCAPE '\\') " +
+        "  AND (:activeOnly = FALSE OR c.active = TRUE) " +
+        "ORDER BY GREATEST(similarity(c.business_name, :term), similarity(c.contact_name, :term), " +
+        "                  similarity(c.email, :term)) DESC, c.business_name, c.id";
+
+    private static final String PORTABLE_SEARCH =
+        "SELECT c FROM Customer c " +
+        "WHERE (LOWER(c.businessName) LIKE :pattern ESCAPE '\\' " +
+        "    OR LOWER(c.contactName) LIKE :pattern ESCAPE '\\' " +
+        "    OR LOWER(c.email) LIKE :pattern ESCAPE '\\') " +
+        "  AND (:activeOnly = FALSE OR c.active = TRUE) " +
+        "ORDER BY CASE WHEN LOWER(c.businessName) LIKE :prefix ESCAPE '\\' " +
+        "                OR LOWER(c.contactName) LIKE :prefix ESCAPE '\\' " +
+        "                OR LOWER(c.email) LIKE :prefix ESCAPE '\\' THEN 0 ELSE 1 END, " +
+        "         c.businessName, c.id";
+
+    /**
+     * One row per customer: the invoice aggregates come from the grouped join, the latest
+     * invoice and payment from two LIMIT 1 lookups joined in by ID, so everything is
+     * answered in a single round trip using the customer_id / invoice_id indexes.
+     */
+    private static final String SUMMARY =
+        "SELECT c.id, COUNT(i.id), " +
+        "       COALESCE(SUM(CASE WHEN i.status = 'DRAFT' THEN 1 ELSE 0 END), 0), " +
+        "       COALESCE(SUM(CASE WHEN i.status = 'SENT' THEN 1 ELSE 0 END), 0), " +
+        "       COALESCE(SUM(CASE WHEN i.status = 'PAID' THEN 1 ELSE 0 END), 0), " +
+        "       COALESCE(SUM(CASE WHEN i.status = 'CANCELLED' THEN 1 ELSE 0 END), 0), " +
+        "       COALESCE(SUM(CASE WHEN i.status = 'SENT' AND i.due_date < :today THEN 1 ELSE 0 END), 0), " +
+        "       COALESCE(SUM(CASE WHEN i.status IN ('SENT', 'PAID') THEN i.total_amount END), 0), " +
+        "       COALESCE(SUM(i.amount_paid), 0), " +
+        "       COALESCE(SUM(CASE WHEN i.status = 'SENT' THEN i.balance_remaining END), 0), " +
+        "       COALESCE(SUM(CASE WHEN i.status = 'SENT' AND i.due_date < :today THEN i.balance_remaining END), 0), " +
+        "       li.id, li.invoice_number, li.issue_date, li.total_amount, li.status, " +
+        "       lp.id, lp.payment_amount, lp.payment_date " +
+        "FROM customers c " +
+        "LEFT JOIN invoices li ON li.id = (" +
+        "    SELECT x.id FROM invoices x WHERE x.customer_id = c.id " +
+        "    ORDER BY x.created_at DESC, x.id DESC LIMIT 1) " +
+        "LEFT JOIN payments lp ON lp.id = (" +
+        "    SELECT p.id FROM payments p JOIN invoices y ON y.id = p.invoice_id WHERE y.customer_id = c.id " +
+        "    ORDER BY p.payment_date DESC, p.created_at DESC LIMIT 1) " +
+        "LEFT JOIN invoices i ON i.customer_id = c.id " +
+        "WHERE c.id = :customerId " +
+        "GROUP BY c.id, li.id, li.invoice_number, li.issue_date, li.total_amount, li.status, " +
+        "         lp.id, lp.payment_amount, lp.payment_date";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Boolean postgres;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Customer> search(String term, boolean activeOnly, int offset, int limit) {
+        String escaped = escapeLike(term.trim().toLowerCase());
+
+        if (isPostgres()) {
+            Query query = entityManager.createNativeQuery(POSTGRES_SEARCH, Customer.class)
+                .setParameter("pattern", "%" + escaped + "%")
+                .setParameter("term", term.trim().toLowerCase())
+                .setParameter("activeOnly", activeOnly)
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+            return query.getResultList();
+        }
+
+        TypedQuery<Customer> query = entityManager.createQuery(PORTABLE_SEARCH, Customer.class)
+            .setParameter("pattern", "%" + escaped + "%")
+            .setParameter("prefix", escaped + "%")
+            .setParameter("activeOnly", activeOnly)
+            .setFirstResult(offset)
+            .setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<CustomerSummaryView> summarize(UUID customerId, LocalDate today) {
+        List<Object[]> rows = entityManager.createNativeQuery(SUMMARY)
+            .setParameter("customerId", customerId)
+            .setParameter("today", today)
+            .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] row = rows.get(0);
+        Map<InvoiceStatus, Long> counts = new EnumMap<>(InvoiceStatus.class);
+        counts.put(InvoiceStatus.DRAFT, NativeRows.toLong(row[2]));
+        counts.put(InvoiceStatus.SENT, NativeRows.toLong(row[3]));
+        counts.put(InvoiceStatus.PAID, NativeRows.toLong(row[4]));
+        counts.put(InvoiceStatus.CANCELLED, NativeRows.toLong(row[5]));
+
+        return Optional.of(new CustomerSummaryView(
+            NativeRows.toUuid(row[0]), NativeRows.toLong(row[1]), counts, NativeRows.toLong(row[6]),
+            (BigDecimal) row[7], (BigDecimal) row[8], (BigDecimal) row[9], (BigDecimal) row[10],
+            NativeRows.toUuid(row[11]), (String) row[12], NativeRows.toLocalDate(row[13]), (BigDecimal) row[14],
+            row[15] != null ? InvoiceStatus.valueOf((String) row[15]) : null,
+            NativeRows.toUuid(row[16]), (BigDecimal) row[17], NativeRows.toLocalDate(row[18])));
+    }
+
+    @Override
+    public void persistAll(Collection<Customer> customers) {
+        for (Customer customer : customers) {
+            entityManager.persist(customer);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+
+    /**
+     * Escapes LIKE wildcards so the term is matched literally.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
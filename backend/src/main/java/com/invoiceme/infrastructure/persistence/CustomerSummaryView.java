@@ -0,0 +1,122 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only aggregate of a customer's invoices and payments, produced by a single
+ * grouped query (see {@link CustomerRepositoryCustom#summarize}).
+ */
+public class CustomerSummaryView {
+
+    private final UUID customerId;
+    private final long invoiceCount;
+    private final Map<InvoiceStatus, Long> invoiceCountsByStatus;
+    private final long overdueCount;
+    private final BigDecimal totalInvoiced;
+    private final BigDecimal totalPaid;
+    private final BigDecimal totalOutstanding;
+    private final BigDecimal totalOverdue;
+    private final UUID lastInvoiceId;
+    private final String lastInvoiceNumber;
+    private final LocalDate lastInvoiceIssueDate;
+    private final BigDecimal lastInvoiceTotal;
+    private final InvoiceStatus lastInvoiceStatus;
+    private final UUID lastPaymentId;
+    private final BigDecimal lastPaymentAmount;
+    private final LocalDate lastPaymentDate;
+
+    public CustomerSummaryView(UUID customerId, long invoiceCount, Map<InvoiceStatus, Long> invoiceCountsByStatus,
+                               long overdueCount, BigDecimal totalInvoiced, BigDecimal totalPaid,
+                               BigDecimal totalOutstanding, BigDecimal totalOverdue,
+                               UUID lastInvoiceId, String lastInvoiceNumber, LocalDate lastInvoiceIssueDate,
+                               BigDecimal lastInvoiceTotal, InvoiceStatus lastInvoiceStatus,
+                               UUID lastPaymentId, BigDecimal lastPaymentAmount, LocalDate lastPaymentDate) {
+        this.customerId = customerId;
+        this.invoiceCount = invoiceCount;
+        this.invoiceCountsByStatus = new EnumMap<>(invoiceCountsByStatus);
+        this.overdueCount = overdueCount;
+        this.totalInvoiced = totalInvoiced;
+        this.totalPaid = totalPaid;
+        this.totalOutstanding = totalOutstanding;
+        this.totalOverdue = totalOverdue;
+        this.lastInvoiceId = lastInvoiceId;
+        this.lastInvoiceNumber = lastInvoiceNumber;
+        this.lastInvoiceIssueDate = lastInvoiceIssueDate;
+        this.lastInvoiceTotal = lastInvoiceTotal;
+        this.lastInvoiceStatus = lastInvoiceStatus;
+        this.lastPaymentId = lastPaymentId;
+        this.lastPaymentAmount = lastPaymentAmount;
+        this.lastPaymentDate = lastPaymentDate;
+    }
+
+    // Getters
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public long getInvoiceCount() {
+        return invoiceCount;
+    }
+
+    public Map<InvoiceStatus, Long> getInvoiceCountsByStatus() {
+        return invoiceCountsByStatus;
+    }
+
+    public long getOverdueCount() {
+        return overdueCount;
+    }
+
+    public BigDecimal getTotalInvoiced() {
+        return totalInvoiced;
+    }
+
+    public BigDecimal getTotalPaid() {
+        return totalPaid;
+    }
+
+    public BigDecimal getTotalOutstanding() {
+        return totalOutstanding;
+    }
+
+    public BigDecimal getTotalOverdue() {
+        return totalOverdue;
+    }
+
+    public UUID getLastInvoiceId() {
+        return lastInvoiceId;
+    }
+
+    public String getLastInvoiceNumber() {
+        return lastInvoiceNumber;
+    }
+
+    public LocalDate getLastInvoiceIssueDate() {
+        return lastInvoiceIssueDate;
+    }
+
+    public BigDecimal getLastInvoiceTotal() {
+        return lastInvoiceTotal;
+    }
+
+    public InvoiceStatus getLastInvoiceStatus() {
+        return lastInvoiceStatus;
+    }
+
+    public UUID getLastPaymentId() {
+        return lastPaymentId;
+    }
+
+    public BigDecimal getLastPaymentAmount() {
+        return lastPaymentAmount;
+    }
+
+    public LocalDate getLastPaymentDate() {
+        return lastPaymentDate;
+    }
+}
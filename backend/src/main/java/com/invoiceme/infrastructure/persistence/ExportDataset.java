@@ -0,0 +1,53 @@
+package com.invoiceme.infrastructure.persistence;
+
+import java.util.List;
+
+/**
+ * Datasets available for bulk export.
+ * Each dataset pairs its column names with a scalar JPQL select whose
+ * select list has the same order, so rows can be written without hydrating entities.
+ */
+public enum ExportDataset {
+
+    INVOICES(
+        List.of("id", "invoiceNumber", "customerId", "customerName", "issueDate", "dueDate", "status",
+                "subtotal", "taxAmount", "totalAmount", "amountPaid", "balanceRemaining",
+                "createdAt", "sentAt", "paidAt"),
+        "SELECT i.id, i.invoiceNumber, c.id, c.businessName, i.issueDate, i.dueDate, i.status, " +
+        "i.subtotal, i.taxAmount, i.totalAmount, i.amountPaid, i.balanceRemaining, " +
+        "i.createdAt, i.sentAt, i.paidAt " +
+        "FROM Invoice i JOIN i.customer c ORDER BY i.createdAt, i.id"
+    ),
+
+    LINE_ITEMS(
+        List.of("id", "invoiceId", "invoiceNumber", "lineOrder", "description", "quantity",
+                "unitPrice", "lineTotal"),
+        "SELECT li.id, i.id, i.invoiceNumber, li.lineOrder, li.description, li.quantity, " +
+        "li.unitPrice, li.lineTotal " +
+        "FROM LineItem li JOIN li.invoice i ORDER BY i.createdAt, i.id, li.lineOrder"
+    ),
+
+    PAYMENTS(
+        List.of("id", "invoiceId", "invoiceNumber", "paymentAmount", "paymentDate", "paymentMethod",
+                "transactionReference", "notes", "createdAt"),
+        "SELECT p.id, i.id, i.invoiceNumber, p.paymentAmount, p.paymentDate, p.paymentMethod, " +
+        "p.transactionReference, p.notes, p.createdAt " +
+        "FROM Payment p JOIN p.invoice i ORDER BY p.createdAt, p.id"
+    );
+
+    private final List<String> columns;
+    private final String jpql;
+
+    ExportDataset(List<String> columns, String jpql) {
+        this.columns = columns;
+        this.jpql = jpql;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    String getJpql() {
+        return jpql;
+    }
+}
@@ -0,0 +1,36 @@
+package com.invoiceme.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * Cursor-based reads for bulk exports.
+ * Rows are scalar tuples fetched through a JDBC cursor in batches of {@link #FETCH_SIZE},
+ * so nothing is added to the persistence context and memory stays flat regardless of row count.
+ * Callers must consume the stream inside a transaction and close it.
+ */
+@Repository
+public class ExportRepository {
+
+    static final int FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Streams every row of the given dataset in a stable order.
+     *
+     * @param dataset the dataset to read
+     * @return a stream of rows whose values follow {@link ExportDataset#getColumns()}
+     */
+    public Stream<Object[]> stream(ExportDataset dataset) {
+        return entityManager.createQuery(dataset.getJpql(), Object[].class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+}
@@ -0,0 +1,28 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.invoice.InvoiceNumberCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for InvoiceNumberCounter entity.
+ */
+@Repository
+public interface InvoiceNumberCounterRepository extends JpaRepository<InvoiceNumberCounter, String> {
+
+    /**
+     * Finds the counter for a month and locks its row until the transaction ends.
+     *
+     * @param yearMonth the month in yyyyMM form
+     * @return the locked counter, if one exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM InvoiceNumberCounter c WHERE c.yearMonth = :yearMonth")
+    Optional<InvoiceNumberCounter> findForUpdate(@Param("yearMonth") String yearMonth);
+}
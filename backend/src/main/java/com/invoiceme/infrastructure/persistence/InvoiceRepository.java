@@ -2,18 +2,150 @@ package com.invoiceme.infrastructure.persistence;
 
 import com.invoiceme.domain.invoice.Invoice;
 import com.invoiceme.domain.invoice.InvoiceStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface InvoiceRepository extends JpaRepository<Invoice, UUID> {
+public interface InvoiceRepository extends JpaRepository<Invoice, UUID>, InvoiceRepositoryCustom {
     Optional<Invoice> findByPaymentLink(String paymentLink);
+    Optional<Invoice> findByInvoiceNumberIgnoreCase(String invoiceNumber);
     List<Invoice> findByCustomerId(UUID customerId);
     List<Invoice> findByStatus(InvoiceStatus status);
     List<Invoice> findByStatusAndDueDateBefore(InvoiceStatus status, LocalDate date);
+
+    /**
+     * Reads only an invoice's version, e.g. to check whether a cached copy is still current.
+     *
+     * @param id the invoice ID
+     * @return the version, or empty if the invoice does not exist
+     */
+    @Query("SELECT COALESCE(i.version, 0) FROM Invoice i WHERE i.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Reads what an invoice detail response depends on: the invoice's version, its customer's
+     * last update (for the customer name), and the status and due date (for the overdue flag).
+     * Used to answer conditional GETs without loading the invoice.
+     *
+     * @param id the invoice ID
+     * @return one row of (version, customer updatedAt, status, dueDate), or none if the invoice does not exist
+     */
+    @Query("SELECT COALESCE(i.version, 0), c.updatedAt, i.status, i.dueDate FROM Invoice i JOIN i.customer c WHERE i.id = :id")
+    List<Object[]> findFreshnessById(@Param("id") UUID id);
+
+    /**
+     * Resolves a payment link to its invoice's ID without loading the invoice.
+     *
+     * @param paymentLink the payment link
+     * @return the invoice ID, or empty if no invoice has this link
+     */
+    @Query("SELECT i.id FROM Invoice i WHERE i.paymentLink = :paymentLink")
+    Optional<UUID> findIdByPaymentLink(@Param("paymentLink") String paymentLink);
+
+    /**
+     * Stamps an invoice's last reminder time in place, unless a later one is already recorded.
+     * A single UPDATE rather than load-and-save, so reminders delivered concurrently for the
+     * same invoice never fail on its optimistic lock; the version is still bumped so cached
+     * copies of the invoice are invalidated.
+     *
+     * @param id the invoice ID
+     * @param sentAt when the reminder was delivered
+     * @return the number of rows updated (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE Invoice i SET i.lastReminderSentAt = :sentAt, i.version = COALESCE(i.version, 0) + 1 " +
+           "WHERE i.id = :id AND (i.lastReminderSentAt IS NULL OR i.lastReminderSentAt < :sentAt)")
+    int updateLastReminderSentAt(@Param("id") UUID id, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Finds an invoice and locks its row until the transaction ends, so concurrent
+     * payments against the same invoice are applied one after another.
+     *
+     * @param id the invoice ID
+     * @return the locked invoice, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Invoice i WHERE i.id = :id")
+    Optional<Invoice> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Loads invoices by ID together with their customers and line items in one query.
+     *
+     * @param ids the invoice IDs
+     * @return the invoices found (missing IDs are simply absent)
+     */
+    @Query("SELECT DISTINCT i FROM Invoice i JOIN FETCH i.customer LEFT JOIN FETCH i.lineItems WHERE i.id IN :ids")
+    List<Invoice> findAllWithLineItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Loads invoices by ID together with their customers in one query (line items stay lazy).
+     *
+     * @param ids the invoice IDs
+     * @return the invoices found (missing IDs are simply absent)
+     */
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.customer WHERE i.id IN :ids")
+    List<Invoice> findAllWithCustomerByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Counts invoices and sums their totals per status in one grouped query.
+     *
+     * @return one row of (status, count, total amount) for every status that has invoices
+     */
+    @Query("SELECT i.status, COUNT(i), COALESCE(SUM(i.totalAmount), 0) FROM Invoice i GROUP BY i.status")
+    List<Object[]> countAndTotalByStatus();
+
+    /**
+     * Finds summaries of all invoices, newest first, without hydrating entities.
+     *
+     * @return list of invoice summaries
+     */
+    @Query(InvoiceSummaryView.SELECT_CLAUSE +
+           "FROM Invoice i JOIN i.customer c ORDER BY i.createdAt DESC, i.id DESC")
+    List<InvoiceSummaryView> findAllSummaries();
+
+    /**
+     * Finds summaries of all invoices with the given status, newest first.
+     *
+     * @param status the invoice status
+     * @return list of invoice summaries
+     */
+    @Query(InvoiceSummaryView.SELECT_CLAUSE +
+           "FROM Invoice i JOIN i.customer c WHERE i.status = :status ORDER BY i.createdAt DESC, i.id DESC")
+    List<InvoiceSummaryView> findSummariesByStatus(@Param("status") InvoiceStatus status);
+
+    /**
+     * Finds summaries of all invoices for a customer, newest first.
+     *
+     * @param customerId the ID of the customer
+     * @return list of invoice summaries
+     */
+    @Query(InvoiceSummaryView.SELECT_CLAUSE +
+           "FROM Invoice i JOIN i.customer c WHERE c.id = :customerId ORDER BY i.createdAt DESC, i.id DESC")
+    List<InvoiceSummaryView> findSummariesByCustomerId(@Param("customerId") UUID customerId);
+
+    /**
+     * Finds summaries of SENT invoices with an outstanding balance that are due before the given date,
+     * most overdue first.
+     *
+     * @param date the due date threshold (exclusive)
+     * @return list of overdue invoice summaries
+     */
+    @Query(InvoiceSummaryView.SELECT_CLAUSE +
+           "FROM Invoice i JOIN i.customer c " +
+           "WHERE i.status = com.invoiceme.domain.invoice.InvoiceStatus.SENT " +
+           "AND i.balanceRemaining > 0 AND i.dueDate < :date " +
+           "ORDER BY i.dueDate ASC, i.id ASC")
+    List<InvoiceSummaryView> findOverdueSummaries(@Param("date") LocalDate date);
 }
@@ -0,0 +1,86 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.invoice.Invoice;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom query fragment for InvoiceRepository.
+ * Holds operations that need the EntityManager directly and therefore cannot be
+ * expressed as derived or annotated repository methods: queries whose predicates
+ * are assembled at runtime, and batch inserts of entities with pre-assigned IDs.
+ */
+public interface InvoiceRepositoryCustom {
+
+    /**
+     * Finds one keyset page of invoices matching the given criteria,
+     * ordered by creation time (newest first) with id as tie-breaker.
+     *
+     * @param criteria the filters and keyset position
+     * @param limit the maximum number of rows to return
+     * @return the invoice summaries on the page
+     */
+    List<InvoiceSummaryView> search(InvoiceSearchCriteria criteria, int limit);
+
+    /**
+     * Finds the IDs of all invoices matching the given criteria, oldest first.
+     * Used by bulk operations that select their targets by filter.
+     *
+     * @param criteria the filters (any keyset position is applied as well)
+     * @return the matching invoice IDs
+     */
+    List<UUID> findIds(InvoiceSearchCriteria criteria);
+
+    /**
+     * Inserts new invoices (with their line items) whose IDs are already assigned,
+     * then flushes and clears the persistence context.
+     * Unlike {@code saveAll}, this never issues a merge SELECT for pre-assigned IDs,
+     * so the inserts go out as JDBC batches.
+     *
+     * @param invoices the new invoices to insert
+     */
+    void persistAll(Collection<Invoice> invoices);
+
+    /**
+     * Finds one keyset page of SENT invoices with a balance and reminders not suppressed
+     * (exactly those the send handler accepts) that became due an automatic
+     * reminder on any day from {@code from} to {@code today} and have not had that reminder
+     * queued or sent yet, ordered by invoice ID.
+     * The due-date offsets of {@link com.invoiceme.domain.reminder.ReminderType} turn the
+     * window into one due-date range per reminder type, so the scan is a few index ranges
+     * over (status, due_date), and reminders already queued (PENDING) or sent are excluded
+     * by an anti-join on reminder_emails.
+     * Days before today are catch-up for runs that were missed: an overdue reminder is
+     * still sent late (its text counts the actual days overdue), but a "due soon" or
+     * "due today" reminder is not once its due date has passed, and where the window
+     * covers two reminders of one invoice only the later one is returned.
+     *
+     * @param from the first day of the window
+     * @param today the day the reminders are for (the last day of the window)
+     * @param range the invoice IDs to look at (one partition of the sweep, or all)
+     * @param afterId the last invoice ID of the previous page, or null for the first page
+     * @param limit the maximum number of candidates to return
+     * @return the candidates on the page
+     */
+    List<ReminderCandidate> findReminderCandidates(LocalDate from, LocalDate today, UuidRange range,
+                                                   UUID afterId, int limit);
+
+    /**
+     * Finds one keyset page of invoices due a reminder today, in one range of invoice IDs.
+     * See {@link #findReminderCandidates(LocalDate, LocalDate, UuidRange, UUID, int)}.
+     */
+    default List<ReminderCandidate> findReminderCandidates(LocalDate today, UuidRange range, UUID afterId, int limit) {
+        return findReminderCandidates(today, today, range, afterId, limit);
+    }
+
+    /**
+     * Finds one keyset page of reminder candidates due today among all invoices.
+     * See {@link #findReminderCandidates(LocalDate, LocalDate, UuidRange, UUID, int)}.
+     */
+    default List<ReminderCandidate> findReminderCandidates(LocalDate today, UUID afterId, int limit) {
+        return findReminderCandidates(today, today, UuidRange.all(), afterId, limit);
+    }
+}
@@ -0,0 +1,195 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.reminder.ReminderType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JPQL implementation of {@link InvoiceRepositoryCustom}.
+ * Only the predicates for supplied filters are added to the query, so every
+ * search maps onto one of the composite (…, created_at, id) indexes. Rows are
+ * projected straight into {@link InvoiceSummaryView}, so no entities are hydrated.
+ */
+public class InvoiceRepositoryCustomImpl implements InvoiceRepositoryCustom {
+
+    /**
+     * Maps each candidate's due date back to its reminder type. The :from_* and :to_*
+     * parameters are the window's first and last day shifted by each type's offset, so
+     * CASE and WHERE stay in step with the enum. Types are listed most overdue first, so
+     * where a long window covers two stages of one invoice, CASE picks the later one.
+     */
+    private static final List<ReminderType> REMINDER_TYPES_MOST_OVERDUE_FIRST = Arrays.stream(ReminderType.values())
+        .sorted(Comparator.comparingInt(ReminderType::getDaysUntilDue))
+        .toList();
+    private static final String REMINDER_TYPE_CASE;
+    private static final String REMINDER_DUE_DATE_RANGES;
+
+    static {
+        StringBuilder caseExpression = new StringBuilder("CASE");
+        StringBuilder dueDateRanges = new StringBuilder();
+        for (ReminderType type : REMINDER_TYPES_MOST_OVERDUE_FIRST) {
+            String range = "i.due_date BETWEEN :from_" + type.name() + " AND :to_" + type.name();
+            caseExpression.append(" WHEN ").append(range).append(" THEN '").append(type.name()).append("'");
+            dueDateRanges.append(dueDateRanges.isEmpty() ? "" : " OR ").append(range);
+        }
+        REMINDER_TYPE_CASE = caseExpression.append(" END").toString();
+        REMINDER_DUE_DATE_RANGES = dueDateRanges.toString();
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<InvoiceSummaryView> search(InvoiceSearchCriteria criteria, int limit) {
+        StringBuilder jpql = new StringBuilder(InvoiceSummaryView.SELECT_CLAUSE)
+            .append("FROM Invoice i JOIN i.customer c WHERE 1 = 1");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        appendFilters(jpql, parameters, criteria);
+
+        jpql.append(" ORDER BY i.createdAt DESC, i.id DESC");
+
+        TypedQuery<InvoiceSummaryView> query = entityManager.createQuery(jpql.toString(), InvoiceSummaryView.class);
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public void persistAll(Collection<Invoice> invoices) {
+        for (Invoice invoice : invoices) {
+            entityManager.persist(invoice);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ReminderCandidate> findReminderCandidates(LocalDate from, LocalDate today, UuidRange range,
+                                                          UUID afterId, int limit) {
+        if (from.isAfter(today)) {
+            throw new IllegalArgumentException("Reminder window starts after it ends: " + from + " > " + today);
+        }
+        String sql =
+            "SELECT c.id, c.invoice_number, c.reminder_type FROM (" +
+            "    SELECT i.id, i.invoice_number, " + REMINDER_TYPE_CASE + " AS reminder_type " +
+            "    FROM invoices i " +
+            "    WHERE i.status = 'SENT' AND i.balance_remaining > 0 AND i.reminders_suppressed = false " +
+            "      AND (" + REMINDER_DUE_DATE_RANGES + ")" +
+            (range.getLower() != null ? " AND i.id >= :lower" : "") +
+            (range.getUpper() != null ? " AND i.id < :upper" : "") +
+            (afterId != null ? " AND i.id > :afterId" : "") +
+            ") c " +
+            "WHERE NOT EXISTS (" +
+            "    SELECT 1 FROM reminder_emails r " +
+            "    WHERE r.invoice_id = c.id AND r.reminder_type = c.reminder_type AND r.status IN ('PENDING', 'SENT')) " +
+            "ORDER BY c.id";
+
+        Query query = entityManager.createNativeQuery(sql);
+        for (ReminderType type : ReminderType.values()) {
+            int offset = type.getDaysUntilDue();
+            LocalDate firstDueDate = from.plusDays(offset);
+            if (offset >= 0) {
+                // A missed "due soon" or "due today" reminder is only worth sending while it is still true
+                LocalDate earliestStillTrue = today.plusDays(Math.min(offset, 1));
+                firstDueDate = firstDueDate.isBefore(earliestStillTrue) ? earliestStillTrue : firstDueDate;
+            }
+            query.setParameter("from_" + type.name(), firstDueDate);
+            query.setParameter("to_" + type.name(), today.plusDays(offset));
+        }
+        if (range.getLower() != null) {
+            query.setParameter("lower", range.getLower());
+        }
+        if (range.getUpper() != null) {
+            query.setParameter("upper", range.getUpper());
+        }
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+        }
+        query.setMaxResults(limit);
+
+        List<Object[]> rows = query.getResultList();
+        List<ReminderCandidate> candidates = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            candidates.add(new ReminderCandidate(
+                NativeRows.toUuid(row[0]), (String) row[1], ReminderType.valueOf(row[2].toString())));
+        }
+        return candidates;
+    }
+
+    @Override
+    public List<UUID> findIds(InvoiceSearchCriteria criteria) {
+        StringBuilder jpql = new StringBuilder("SELECT i.id FROM Invoice i JOIN i.customer c WHERE 1 = 1");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        appendFilters(jpql, parameters, criteria);
+
+        jpql.append(" ORDER BY i.createdAt, i.id");
+
+        TypedQuery<UUID> query = entityManager.createQuery(jpql.toString(), UUID.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    /**
+     * Appends a predicate for each filter set on the criteria.
+     *
+     * @param jpql the query being built; must alias the invoice as {@code i} and its customer as {@code c}
+     * @param parameters the parameter values to bind, keyed by name
+     * @param criteria the filters and keyset position
+     */
+    private void appendFilters(StringBuilder jpql, Map<String, Object> parameters, InvoiceSearchCriteria criteria) {
+        if (criteria.getStatus() != null) {
+            jpql.append(" AND i.status = :status");
+            parameters.put("status", criteria.getStatus());
+        }
+        if (criteria.getCustomerId() != null) {
+            jpql.append(" AND c.id = :customerId");
+            parameters.put("customerId", criteria.getCustomerId());
+        }
+        if (criteria.getIssueDateFrom() != null) {
+            jpql.append(" AND i.issueDate >= :issueDateFrom");
+            parameters.put("issueDateFrom", criteria.getIssueDateFrom());
+        }
+        if (criteria.getIssueDateTo() != null) {
+            jpql.append(" AND i.issueDate <= :issueDateTo");
+            parameters.put("issueDateTo", criteria.getIssueDateTo());
+        }
+        if (criteria.getDueDateFrom() != null) {
+            jpql.append(" AND i.dueDate >= :dueDateFrom");
+            parameters.put("dueDateFrom", criteria.getDueDateFrom());
+        }
+        if (criteria.getDueDateTo() != null) {
+            jpql.append(" AND i.dueDate <= :dueDateTo");
+            parameters.put("dueDateTo", criteria.getDueDateTo());
+        }
+        if (criteria.getMinAmount() != null) {
+            jpql.append(" AND i.totalAmount >= :minAmount");
+            parameters.put("minAmount", criteria.getMinAmount());
+        }
+        if (criteria.getMaxAmount() != null) {
+            jpql.append(" AND i.totalAmount <= :maxAmount");
+            parameters.put("maxAmount", criteria.getMaxAmount());
+        }
+        if (criteria.hasKeysetPosition()) {
+            // Row-value comparison (created_at, id) < (:afterCreatedAt, :afterId), spelled out for JPQL
+            jpql.append(" AND (i.createdAt < :afterCreatedAt OR (i.createdAt = :afterCreatedAt AND i.id < :afterId))");
+            parameters.put("afterCreatedAt", criteria.getAfterCreatedAt());
+            parameters.put("afterId", criteria.getAfterId());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Filter and keyset position for paged invoice searches.
+ * Every non-null field becomes a SQL predicate; null fields are ignored.
+ *
+ * Results are ordered by (createdAt DESC, id DESC). When {@code afterCreatedAt}
+ * and {@code afterId} are set, only rows strictly after that position are returned.
+ */
+public class InvoiceSearchCriteria {
+
+    private InvoiceStatus status;
+    private UUID customerId;
+    private LocalDate issueDateFrom;
+    private LocalDate issueDateTo;
+    private LocalDate dueDateFrom;
+    private LocalDate dueDateTo;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private LocalDateTime afterCreatedAt;
+    private UUID afterId;
+
+    // Constructors
+    public InvoiceSearchCriteria() {
+    }
+
+    // Getters and Setters
+    public InvoiceStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(InvoiceStatus status) {
+        this.status = status;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+
+    public LocalDate getIssueDateFrom() {
+        return issueDateFrom;
+    }
+
+    public void setIssueDateFrom(LocalDate issueDateFrom) {
+        this.issueDateFrom = issueDateFrom;
+    }
+
+    public LocalDate getIssueDateTo() {
+        return issueDateTo;
+    }
+
+    public void setIssueDateTo(LocalDate issueDateTo) {
+        this.issueDateTo = issueDateTo;
+    }
+
+    public LocalDate getDueDateFrom() {
+        return dueDateFrom;
+    }
+
+    public void setDueDateFrom(LocalDate dueDateFrom) {
+        this.dueDateFrom = dueDateFrom;
+    }
+
+    public LocalDate getDueDateTo() {
+        return dueDateTo;
+    }
+
+    public void setDueDateTo(LocalDate dueDateTo) {
+        this.dueDateTo = dueDateTo;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public LocalDateTime getAfterCreatedAt() {
+        return afterCreatedAt;
+    }
+
+    public void setAfterCreatedAt(LocalDateTime afterCreatedAt) {
+        this.afterCreatedAt = afterCreatedAt;
+    }
+
+    public UUID getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(UUID afterId) {
+        this.afterId = afterId;
+    }
+
+    /**
+     * Whether a keyset position has been supplied.
+     *
+     * @return true if both cursor components are set
+     */
+    public boolean hasKeysetPosition() {
+        return afterCreatedAt != null && afterId != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InvoiceSearchCriteria that = (InvoiceSearchCriteria) o;
+        return status == that.status &&
+               Objects.equals(customerId, that.customerId) &&
+               Objects.equals(issueDateFrom, that.issueDateFrom) &&
+               Objects.equals(issueDateTo, that.issueDateTo) &&
+               Objects.equals(dueDateFrom, that.dueDateFrom) &&
+               Objects.equals(dueDateTo, that.dueDateTo) &&
+               Objects.equals(minAmount, that.minAmount) &&
+               Objects.equals(maxAmount, that.maxAmount) &&
+               Objects.equals(afterCreatedAt, that.afterCreatedAt) &&
+               Objects.equals(afterId, that.afterId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(status, customerId, issueDateFrom, issueDateTo, dueDateFrom, dueDateTo,
+                            minAmount, maxAmount, afterCreatedAt, afterId);
+    }
+
+    @Override
+    public String toString() {
+        return "InvoiceSearchCriteria{" +
+               "status=" + status +
+               ", customerId=" + customerId +
+               ", issueDateFrom=" + issueDateFrom +
+               ", issueDateTo=" + issueDateTo +
+               ", dueDateFrom=" + dueDateFrom +
+               ", dueDateTo=" + dueDateTo +
+               ", minAmount=" + minAmount +
+               ", maxAmount=" + maxAmount +
+               ", afterCreatedAt=" + afterCreatedAt +
+               ", afterId=" + afterId +
+               '}';
+    }
+}
@@ -0,0 +1,178 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an invoice row joined with its customer's business name.
+ * Populated through JPQL constructor expressions, so no managed Invoice or Customer
+ * entities (and no line items) are loaded for list views.
+ */
+public class InvoiceSummaryView {
+
+    /**
+     * JPQL select list matching the constructor below; the query must alias
+     * the invoice as {@code i} and its customer as {@code c}.
+     */
+    public static final String SELECT_CLAUSE =
+        "SELECT new com.invoiceme.infrastructure.persistence.InvoiceSummaryView(" +
+        "i.id, i.invoiceNumber, c.id, c.businessName, i.issueDate, i.dueDate, i.status, " +
+        "i.totalAmount, i.amountPaid, i.balanceRemaining, i.createdAt, i.sentAt, i.paidAt, " +
+        "i.lastReminderSentAt) ";
+
+    private final UUID id;
+    private final String invoiceNumber;
+    private final UUID customerId;
+    private final String customerName;
+    private final LocalDate issueDate;
+    private final LocalDate dueDate;
+    private final InvoiceStatus status;
+    private final BigDecimal totalAmount;
+    private final BigDecimal amountPaid;
+    private final BigDecimal balanceRemaining;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime sentAt;
+    private final LocalDateTime paidAt;
+    private final LocalDateTime lastReminderSentAt;
+
+    public InvoiceSummaryView(UUID id, String invoiceNumber, UUID customerId, String customerName,
+                              LocalDate issueDate, LocalDate dueDate, InvoiceStatus status,
+                              BigDecimal totalAmount, BigDecimal amountPaid, BigDecimal balanceRemaining,
+                              LocalDateTime createdAt, LocalDateTime sentAt, LocalDateTime paidAt,
+                              LocalDateTime lastReminderSentAt) {
+        this.id = id;
+        this.invoiceNumber = invoiceNumber;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.issueDate = issueDate;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.amountPaid = amountPaid;
+        this.balanceRemaining = balanceRemaining;
+        this.createdAt = createdAt;
+        this.sentAt = sentAt;
+        this.paidAt = paidAt;
+        this.lastReminderSentAt = lastReminderSentAt;
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public LocalDate getIssueDate() {
+        return issueDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public InvoiceStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public BigDecimal getAmountPaid() {
+        return amountPaid;
+    }
+
+    public BigDecimal getBalanceRemaining() {
+        return balanceRemaining;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public LocalDateTime getPaidAt() {
+        return paidAt;
+    }
+
+    public LocalDateTime getLastReminderSentAt() {
+        return lastReminderSentAt;
+    }
+
+    /**
+     * Same rule as {@code Invoice.isOverdue()}, evaluated against the given date.
+     *
+     * @param today the reference date
+     * @return true if the invoice is SENT and past its due date
+     */
+    public boolean isOverdue(LocalDate today) {
+        return status == InvoiceStatus.SENT && dueDate.isBefore(today);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InvoiceSummaryView that = (InvoiceSummaryView) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(invoiceNumber, that.invoiceNumber) &&
+               Objects.equals(customerId, that.customerId) &&
+               Objects.equals(customerName, that.customerName) &&
+               Objects.equals(issueDate, that.issueDate) &&
+               Objects.equals(dueDate, that.dueDate) &&
+               status == that.status &&
+               Objects.equals(totalAmount, that.totalAmount) &&
+               Objects.equals(amountPaid, that.amountPaid) &&
+               Objects.equals(balanceRemaining, that.balanceRemaining) &&
+               Objects.equals(createdAt, that.createdAt) &&
+               Objects.equals(sentAt, that.sentAt) &&
+               Objects.equals(paidAt, that.paidAt) &&
+               Objects.equals(lastReminderSentAt, that.lastReminderSentAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, invoiceNumber, customerId, customerName, issueDate, dueDate, status,
+                            totalAmount, amountPaid, balanceRemaining, createdAt, sentAt, paidAt,
+                            lastReminderSentAt);
+    }
+
+    @Override
+    public String toString() {
+        return "InvoiceSummaryView{" +
+               "id=" + id +
+               ", invoiceNumber='" + invoiceNumber + '\'' +
+               ", customerId=" + customerId +
+               ", customerName='" + customerName + '\'' +
+               ", issueDate=" + issueDate +
+               ", dueDate=" + dueDate +
+               ", status=" + status +
+               ", totalAmount=" + totalAmount +
+               ", amountPaid=" + amountPaid +
+               ", balanceRemaining=" + balanceRemaining +
+               ", createdAt=" + createdAt +
+               ", sentAt=" + sentAt +
+               ", paidAt=" + paidAt +
+               ", lastReminderSentAt=" + lastReminderSentAt +
+               '}';
+    }
+}
@@ -0,0 +1,57 @@
+package com.invoiceme.infrastructure.persistence;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reads column values from untyped native query rows.
+ * The JDBC drivers disagree on the Java types they return: PostgreSQL returns a
+ * UUID column as {@link UUID}, while H2 (tests) returns its 16 raw bytes; DATE
+ * columns come back as {@link Date} or {@link LocalDate}. Every native query that
+ * reads such columns goes through these helpers so it behaves the same on both.
+ */
+final class NativeRows {
+
+    private NativeRows() {
+    }
+
+    /**
+     * @param value a UUID column value
+     * @return the UUID, or null for SQL NULL
+     * @throws IllegalArgumentException if the value is not a UUID
+     */
+    static UUID toUuid(Object value) {
+        if (value == null || value instanceof UUID) {
+            return (UUID) value;
+        }
+        if (value instanceof byte[] bytes) {
+            if (bytes.length != 16) {
+                throw new IllegalArgumentException("Expected 16 bytes for a UUID, got " + bytes.length);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return UUID.fromString(value.toString());
+    }
+
+    /**
+     * @param value a numeric column value
+     * @return the value as a long, or 0 for SQL NULL
+     */
+    static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * @param value a DATE column value
+     * @return the date, or null for SQL NULL
+     */
+    static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
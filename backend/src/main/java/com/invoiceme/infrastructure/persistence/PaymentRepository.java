@@ -1,14 +1,43 @@
 package com.invoiceme.infrastructure.persistence;
 
+import com.invoiceme.domain.invoice.InvoiceStatus;
 import com.invoiceme.domain.payment.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+public interface PaymentRepository extends JpaRepository<Payment, UUID>, PaymentRepositoryCustom {
     List<Payment> findByInvoiceId(UUID invoiceId);
     boolean existsById(UUID id);
+
+    @Query("SELECT p.id FROM Payment p WHERE p.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Reads only a payment's creation time (payments are never modified), e.g. to answer a conditional GET.
+     *
+     * @param id the payment ID
+     * @return the creation time, or empty if the payment does not exist
+     */
+    @Query("SELECT p.createdAt FROM Payment p WHERE p.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") UUID id);
+
+    @Query("SELECT p.transactionReference FROM Payment p WHERE p.transactionReference IN :references")
+    List<String> findExistingTransactionReferences(@Param("references") Collection<String> references);
+
+    /**
+     * Returns (transactionReference, invoiceId) pairs of earlier payments on invoices in the given status.
+     * Used to recognise follow-up payments that reuse a reference.
+     */
+    @Query("SELECT p.transactionReference, p.invoice.id FROM Payment p " +
+           "WHERE p.invoice.status = :status AND p.transactionReference IS NOT NULL")
+    List<Object[]> findReferencesByInvoiceStatus(@Param("status") InvoiceStatus status);
 }
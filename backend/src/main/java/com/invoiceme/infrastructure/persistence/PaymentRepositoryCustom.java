@@ -0,0 +1,22 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.payment.Payment;
+
+import java.util.Collection;
+
+/**
+ * Custom query fragment for PaymentRepository.
+ * Holds batch inserts of payments whose IDs are already assigned, which the
+ * generic {@code saveAll} would turn into one merge SELECT per payment.
+ */
+public interface PaymentRepositoryCustom {
+
+    /**
+     * Inserts new payments whose IDs are already assigned, then flushes and clears
+     * the persistence context. Pending changes to managed invoices are flushed in the
+     * same round trip, so the payment inserts and invoice updates go out as JDBC batches.
+     *
+     * @param payments the payments to insert
+     */
+    void persistAll(Collection<Payment> payments);
+}
@@ -0,0 +1,25 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.payment.Payment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+
+/**
+ * EntityManager-backed implementation of PaymentRepositoryCustom.
+ */
+public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void persistAll(Collection<Payment> payments) {
+        for (Payment payment : payments) {
+            entityManager.persist(payment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,43 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.reminder.ReminderType;
+
+import java.util.UUID;
+
+/**
+ * An invoice that is due an automatic reminder today, with the reminder it needs.
+ * See {@link InvoiceRepositoryCustom#findReminderCandidates}.
+ */
+public class ReminderCandidate {
+
+    private final UUID invoiceId;
+    private final String invoiceNumber;
+    private final ReminderType reminderType;
+
+    public ReminderCandidate(UUID invoiceId, String invoiceNumber, ReminderType reminderType) {
+        this.invoiceId = invoiceId;
+        this.invoiceNumber = invoiceNumber;
+        this.reminderType = reminderType;
+    }
+
+    public UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public ReminderType getReminderType() {
+        return reminderType;
+    }
+
+    @Override
+    public String toString() {
+        return "ReminderCandidate{" +
+               "invoiceId=" + invoiceId +
+               ", invoiceNumber='" + invoiceNumber + '\'' +
+               ", reminderType=" + reminderType +
+               '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.invoiceme.infrastructure.persistence;
+
+import java.util.UUID;
+
+/**
+ * A PENDING reminder claimed for one delivery attempt, with what is needed to send it.
+ * See {@link ReminderEmailRepositoryCustom#claimDue}.
+ */
+public class ReminderDelivery {
+
+    private final UUID reminderId;
+    private final UUID invoiceId;
+    private final String recipientEmail;
+    private final String subject;
+    private final String emailBody;
+    private final int attempt;
+
+    public ReminderDelivery(UUID reminderId, UUID invoiceId, String recipientEmail,
+                            String subject, String emailBody, int attempt) {
+        this.reminderId = reminderId;
+        this.invoiceId = invoiceId;
+        this.recipientEmail = recipientEmail;
+        this.subject = subject;
+        this.emailBody = emailBody;
+        this.attempt = attempt;
+    }
+
+    public UUID getReminderId() {
+        return reminderId;
+    }
+
+    public UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    public String getRecipientEmail() {
+        return recipientEmail;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getEmailBody() {
+        return emailBody;
+    }
+
+    /**
+     * The attempt number this claim made (1 for the first attempt). The outcome is only
+     * recorded while the row still carries this number, so a worker whose lease expired
+     * cannot overwrite the result of a later claim.
+     *
+     * @return the attempt number
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    @Override
+    public String toString() {
+        return "ReminderDelivery{" +
+               "reminderId=" + reminderId +
+               ", invoiceId=" + invoiceId +
+               ", recipientEmail='" + recipientEmail + '\'' +
+               ", attempt=" + attempt +
+               '}';
+    }
+}
@@ -4,9 +4,13 @@ import com.invoiceme.domain.reminder.ReminderEmail;
 import com.invoiceme.domain.reminder.ReminderStatus;
 import com.invoiceme.domain.reminder.ReminderType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,7 +19,7 @@ import java.util.UUID;
  * Provides CRUD operations and custom query methods for reminder emails.
  */
 @Repository
-public interface ReminderEmailRepository extends JpaRepository<ReminderEmail, UUID> {
+public interface ReminderEmailRepository extends JpaRepository<ReminderEmail, UUID>, ReminderEmailRepositoryCustom {
 
     /**
      * Finds all reminder emails for a specific invoice, ordered by sent date descending.
@@ -45,4 +49,31 @@ public interface ReminderEmailRepository extends JpaRepository<ReminderEmail, UU
      * @return true if such a reminder exists, false otherwise
      */
     boolean existsByInvoiceIdAndReminderTypeAndStatus(UUID invoiceId, ReminderType type, ReminderStatus status);
+
+    /**
+     * Checks if a reminder email exists for a given invoice and reminder type in any of the given statuses.
+     * Used to reject a reminder that is already queued (PENDING) or delivered (SENT).
+     *
+     * @param invoiceId the ID of the invoice
+     * @param type the reminder type
+     * @param statuses the reminder statuses to match
+     * @return true if such a reminder exists, false otherwise
+     */
+    boolean existsByInvoiceIdAndReminderTypeAndStatusIn(UUID invoiceId, ReminderType type, Collection<ReminderStatus> statuses);
+
+    /**
+     * Puts a claimed reminder back in the queue without using up an attempt, e.g. when
+     * its send was throttled. Only applies while the claim is current (the row is still
+     * PENDING with the claim's attempt count).
+     *
+     * @param id the reminder ID
+     * @param attempt the attempt number of the claim
+     * @param retryAt when the reminder is due again
+     * @return the number of rows updated (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE ReminderEmail r SET r.scheduledFor = :retryAt, r.attempts = r.attempts - 1 " +
+           "WHERE r.id = :id AND r.status = com.invoiceme.domain.reminder.ReminderStatus.PENDING " +
+           "AND r.attempts = :attempt")
+    int releaseClaim(@Param("id") UUID id, @Param("attempt") int attempt, @Param("retryAt") LocalDateTime retryAt);
 }
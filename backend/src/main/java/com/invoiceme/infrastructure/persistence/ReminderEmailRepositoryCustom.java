@@ -0,0 +1,27 @@
+package com.invoiceme.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom query fragment for ReminderEmailRepository.
+ * Holds the outbox claim, which needs row-locking SQL that derived queries cannot express.
+ */
+public interface ReminderEmailRepositoryCustom {
+
+    /**
+     * Claims up to {@code limit} PENDING reminders that are due, oldest first.
+     * The rows are selected with {@code FOR UPDATE SKIP LOCKED}, so concurrent callers
+     * (on this or another instance) each get a disjoint set, and are then leased:
+     * their attempt count is incremented and {@code scheduled_for} is moved to
+     * {@code leaseUntil}, so once the caller's transaction commits no one else claims
+     * them until the lease runs out.
+     * Must be called inside a transaction.
+     *
+     * @param now the current time; rows scheduled at or before it are due
+     * @param leaseUntil when an unfinished claim may be taken over by another worker
+     * @param limit the maximum number of rows to claim
+     * @return the claimed reminders
+     */
+    List<ReminderDelivery> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+}
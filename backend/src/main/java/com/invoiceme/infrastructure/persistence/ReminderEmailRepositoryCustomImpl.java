@@ -0,0 +1,62 @@
+package com.invoiceme.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link ReminderEmailRepositoryCustom}.
+ * The claim is native SQL: {@code FOR UPDATE SKIP LOCKED} with an inline {@code LIMIT}
+ * (PostgreSQL and H2 both accept it; a limit applied by setMaxResults could be rendered
+ * after the locking clause).
+ */
+public class ReminderEmailRepositoryCustomImpl implements ReminderEmailRepositoryCustom {
+
+    private static final String CLAIM =
+        "SELECT r.id, r.invoice_id, r.recipient_email, r.subject, r.email_body, r.attempts " +
+        "FROM reminder_emails r " +
+        "WHERE r.status = 'PENDING' AND r.scheduled_for <= :now " +
+        "ORDER BY r.scheduled_for " +
+        "LIMIT :limit " +
+        "FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE =
+        "UPDATE reminder_emails " +
+        "SET attempts = attempts + 1, scheduled_for = :leaseUntil, updated_at = :now " +
+        "WHERE id IN (:ids)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ReminderDelivery> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(CLAIM)
+            .setParameter("now", now)
+            .setParameter("limit", limit)
+            .getResultList();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<ReminderDelivery> claimed = new ArrayList<>(rows.size());
+        List<UUID> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            UUID reminderId = NativeRows.toUuid(row[0]);
+            ids.add(reminderId);
+            claimed.add(new ReminderDelivery(reminderId, NativeRows.toUuid(row[1]), (String) row[2],
+                (String) row[3], (String) row[4], ((Number) row[5]).intValue() + 1));
+        }
+
+        entityManager.createNativeQuery(LEASE)
+            .setParameter("leaseUntil", leaseUntil)
+            .setParameter("now", now)
+            .setParameter("ids", ids)
+            .executeUpdate();
+        return claimed;
+    }
+}
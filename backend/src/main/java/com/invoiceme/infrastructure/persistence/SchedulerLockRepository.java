@@ -0,0 +1,71 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.infrastructure.scheduler.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for SchedulerLock entity.
+ * Locks are created with an INSERT that does nothing on conflict, and taken over and
+ * released with conditional single-row UPDATEs, each in its own transaction, so two
+ * nodes can never both succeed, whatever the isolation level.
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * Creates a lock that does not exist yet. This must be a real INSERT: save() on an
+     * entity with an assigned ID merges, so a node that lost the race would overwrite
+     * the winner's row with an UPDATE instead of failing.
+     *
+     * @param name the lock name
+     * @param lockedBy the node taking the lock
+     * @param now the current time
+     * @param lockedUntil the end of the lease
+     * @return 1 if the lock was created, 0 if it already exists
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO scheduler_locks (name, locked_by, locked_at, locked_until) " +
+                   "VALUES (:name, :lockedBy, :now, :lockedUntil) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("lockedBy") String lockedBy,
+                       @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Takes over a lock whose lease has expired.
+     *
+     * @param name the lock name
+     * @param lockedBy the node taking the lock
+     * @param now the current time
+     * @param lockedUntil the end of the new lease
+     * @return 1 if the lock was taken, 0 if it is still held
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerLock l SET l.lockedBy = :lockedBy, l.lockedAt = :now, l.lockedUntil = :lockedUntil " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int takeOverExpired(@Param("name") String name, @Param("lockedBy") String lockedBy,
+                        @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Shortens the lease of a lock this node still holds from the given acquisition.
+     *
+     * @param name the lock name
+     * @param lockedBy the node holding the lock
+     * @param lockedAt when the node took the lock
+     * @param lockedUntil the new end of the lease
+     * @return 1 if the lock was released, 0 if it had already been taken over
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil " +
+           "WHERE l.name = :name AND l.lockedBy = :lockedBy AND l.lockedAt = :lockedAt")
+    int release(@Param("name") String name, @Param("lockedBy") String lockedBy,
+                @Param("lockedAt") LocalDateTime lockedAt, @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -0,0 +1,54 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.infrastructure.scheduler.SchedulerWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for SchedulerWatermark entity.
+ * Watermarks are created with an INSERT that does nothing on conflict and only move
+ * forward: they are advanced with a conditional single-row UPDATE, so a node that
+ * finishes late can never move a watermark back.
+ */
+@Repository
+public interface SchedulerWatermarkRepository extends JpaRepository<SchedulerWatermark, String> {
+
+    /**
+     * Creates a watermark that does not exist yet. This must be a real INSERT: save() on
+     * an entity with an assigned ID merges, so a node that lost the race would overwrite
+     * a newer watermark with an UPDATE instead of failing.
+     *
+     * @param name the watermark name
+     * @param processedThrough the last day fully processed
+     * @param now the current time
+     * @return 1 if the watermark was created, 0 if it already exists
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO scheduler_watermarks (name, processed_through, updated_at) " +
+                   "VALUES (:name, :processedThrough, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("processedThrough") LocalDate processedThrough,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Moves a watermark forward to the given day, if it is not already there.
+     *
+     * @param name the watermark name
+     * @param processedThrough the last day now fully processed
+     * @param now the current time
+     * @return 1 if the watermark was moved, 0 if it does not exist or is already at or past the day
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerWatermark w SET w.processedThrough = :processedThrough, w.updatedAt = :now " +
+           "WHERE w.name = :name AND w.processedThrough < :processedThrough")
+    int advance(@Param("name") String name, @Param("processedThrough") LocalDate processedThrough,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,16 @@
+package com.invoiceme.infrastructure.persistence;
+
+import com.invoiceme.domain.payment.StatementReviewItem;
+import com.invoiceme.domain.payment.StatementReviewStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StatementReviewItemRepository extends JpaRepository<StatementReviewItem, UUID> {
+    List<StatementReviewItem> findByStatusOrderByCreatedAtAscLineNumberAsc(StatementReviewStatus status, Pageable pageable);
+    List<StatementReviewItem> findByImportIdOrderByLineNumberAsc(UUID importId, Pageable pageable);
+}
@@ -0,0 +1,82 @@
+package com.invoiceme.infrastructure.persistence;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * A half-open range of UUIDs, [lower, upper), in the unsigned byte order PostgreSQL
+ * and H2 use for UUID columns. An absent bound is unbounded.
+ * Random (version 4) IDs are spread evenly over the UUID space, so splitting the space
+ * into equal ranges partitions a table by ID as evenly as hashing would, while each
+ * partition is still a plain range scan of the primary key.
+ */
+public class UuidRange {
+
+    private static final UuidRange ALL = new UuidRange(null, null);
+    private static final BigInteger SPACE = BigInteger.ONE.shiftLeft(128);
+    private static final BigInteger LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    private final UUID lower;
+    private final UUID upper;
+
+    private UuidRange(UUID lower, UUID upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * The whole UUID space.
+     *
+     * @return the unbounded range
+     */
+    public static UuidRange all() {
+        return ALL;
+    }
+
+    /**
+     * One of {@code count} equal slices of the UUID space.
+     *
+     * @param index the slice, from 0 to count - 1
+     * @param count the number of slices
+     * @return the slice's range
+     * @throws IllegalArgumentException if index is not within [0, count)
+     */
+    public static UuidRange partition(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Partition " + index + " of " + count + " does not exist");
+        }
+        if (count == 1) {
+            return ALL;
+        }
+        return new UuidRange(
+            index == 0 ? null : boundary(index, count),
+            index == count - 1 ? null : boundary(index + 1, count));
+    }
+
+    private static UUID boundary(int index, int count) {
+        BigInteger value = SPACE.multiply(BigInteger.valueOf(index)).divide(BigInteger.valueOf(count));
+        return new UUID(value.shiftRight(64).longValue(), value.and(LONG_MASK).longValue());
+    }
+
+    /**
+     * @return the inclusive lower bound, or null if unbounded
+     */
+    public UUID getLower() {
+        return lower;
+    }
+
+    /**
+     * @return the exclusive upper bound, or null if unbounded
+     */
+    public UUID getUpper() {
+        return upper;
+    }
+
+    @Override
+    public String toString() {
+        return "UuidRange{" +
+               "lower=" + lower +
+               ", upper=" + upper +
+               '}';
+    }
+}
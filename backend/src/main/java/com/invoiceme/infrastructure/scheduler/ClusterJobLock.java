@@ -0,0 +1,139 @@
+package com.invoiceme.infrastructure.scheduler;
+
+import com.invoiceme.infrastructure.persistence.SchedulerLockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cluster-wide locks for scheduled jobs, so a job that every replica triggers runs on
+ * only one of them. Locks are rows in scheduler_locks held under a lease rather than
+ * PostgreSQL advisory locks: an advisory lock lives as long as the database session,
+ * so it would pin a pooled connection for the whole job, and it cannot be used on H2.
+ *
+ * A lock is held for at most {@code lockAtMostFor}; if the node dies, another node can
+ * take it once that lease has expired. Releasing keeps the lock until
+ * {@code lockAtLeastFor} after it was taken, so a node whose trigger fires a little
+ * later (clock skew, a slow start) does not run the job a second time.
+ * Lease times come from each node's clock, so node clocks must be kept in sync
+ * to well within {@code lockAtLeastFor}.
+ */
+@Component
+public class ClusterJobLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterJobLock.class);
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String nodeId;
+
+    public ClusterJobLock(SchedulerLockRepository schedulerLockRepository,
+                          @Value("${scheduling.node-id:}") String nodeId) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.nodeId = nodeId == null || nodeId.isBlank()
+            ? ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8)
+            : nodeId;
+    }
+
+    /**
+     * The name this node holds locks under.
+     *
+     * @return the node ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Takes the lock if no other node holds it.
+     *
+     * @param name the lock name
+     * @param lockAtMostFor how long the lock is held if it is never released
+     * @param lockAtLeastFor how long after it is taken the lock is held even if released sooner
+     * @return the lease, or empty if another node holds the lock
+     * @throws IllegalArgumentException if lockAtLeastFor is longer than lockAtMostFor
+     */
+    public Optional<Lease> tryAcquire(String name, Duration lockAtMostFor, Duration lockAtLeastFor) {
+        if (lockAtLeastFor.compareTo(lockAtMostFor) > 0) {
+            throw new IllegalArgumentException("lockAtLeastFor must not be longer than lockAtMostFor");
+        }
+        // Millisecond precision survives the round trip through a TIMESTAMP column, so
+        // the release can match the row on locked_at.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        if (schedulerLockRepository.takeOverExpired(name, nodeId, now, lockedUntil) == 0
+                && schedulerLockRepository.insertIfAbsent(name, nodeId, now, lockedUntil) == 0) {
+            // Held by another node, or another node created it first
+            return Optional.empty();
+        }
+        logger.debug("Node {} acquired lock {} until {}", nodeId, name, lockedUntil);
+        return Optional.of(new Lease(name, now, lockAtLeastFor));
+    }
+
+    /**
+     * Runs the job if this node gets the lock, and releases the lock afterwards.
+     *
+     * @param name the lock name
+     * @param lockAtMostFor how long the lock is held if it is never released
+     * @param lockAtLeastFor how long after it is taken the lock is held even if released sooner
+     * @param job the job
+     * @return true if the job ran on this node
+     */
+    public boolean runExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable job) {
+        Optional<Lease> lease = tryAcquire(name, lockAtMostFor, lockAtLeastFor);
+        if (lease.isEmpty()) {
+            logger.info("Skipping {}: running on another node", name);
+            return false;
+        }
+        try {
+            job.run();
+            return true;
+        } finally {
+            lease.get().release();
+        }
+    }
+
+    /**
+     * A lock held by this node.
+     */
+    public final class Lease {
+        private final String name;
+        private final LocalDateTime lockedAt;
+        private final Duration lockAtLeastFor;
+
+        private Lease(String name, LocalDateTime lockedAt, Duration lockAtLeastFor) {
+            this.name = name;
+            this.lockedAt = lockedAt;
+            this.lockAtLeastFor = lockAtLeastFor;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Releases the lock, or shortens it to lockAtLeastFor after it was taken.
+         * Does nothing if the lease expired and another node has taken the lock since.
+         */
+        public void release() {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime heldUntil = lockedAt.plus(lockAtLeastFor);
+            try {
+                if (schedulerLockRepository.release(name, nodeId, lockedAt, heldUntil.isAfter(now) ? heldUntil : now) == 0) {
+                    logger.warn("Lock {} expired before node {} released it", name, nodeId);
+                }
+            } catch (RuntimeException e) {
+                // The lease still runs out on its own
+                logger.error("Could not release lock {}: {}", name, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.invoiceme.infrastructure.scheduler;
+
+import com.invoiceme.application.reminders.SendReminderEmail.SendReminderEmailCommand;
+import com.invoiceme.application.reminders.SendReminderEmail.SendReminderEmailHandler;
+import com.invoiceme.domain.reminder.ReminderType;
+import com.invoiceme.infrastructure.ai.ReminderCopyGenerator;
+import com.invoiceme.infrastructure.persistence.ReminderCandidate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Queues reminders concurrently, one virtual thread per reminder.
+ * A semaphore caps the reminders in flight; {@link Run#submit} blocks while the cap is
+ * reached, so the caller reads candidates no faster than they are queued. Each one
+ * uses SendReminderEmailHandler, which generates the content and inserts a PENDING
+ * outbox row (delivered later by ReminderOutboxWorker); it only holds a transaction
+ * for its short reads and writes, so concurrency is not limited by the connection pool.
+ * "Sent" in the run metrics therefore means queued for delivery. A candidate the handler
+ * rejects for good (validation, or the reminder was queued meanwhile) counts as skipped,
+ * not failed: only failures are worth sweeping the same days again for.
+ */
+@Component
+public class ReminderDispatcher {
+
+    /** Completed runs kept for the metrics endpoint. */
+    static final int RETAINED_RUNS = 20;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderDispatcher.class);
+
+    private final SendReminderEmailHandler sendReminderEmailHandler;
+    private final ReminderCopyGenerator reminderCopyGenerator;
+    private final int concurrency;
+    private final Deque<ReminderRunMetrics> recentRuns = new ArrayDeque<>();
+
+    public ReminderDispatcher(SendReminderEmailHandler sendReminderEmailHandler,
+                              ReminderCopyGenerator reminderCopyGenerator,
+                              @Value("${reminder.dispatch.concurrency:8}") int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("reminder.dispatch.concurrency must be at least 1");
+        }
+        this.sendReminderEmailHandler = sendReminderEmailHandler;
+        this.reminderCopyGenerator = reminderCopyGenerator;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Starts a dispatch run. The caller submits candidates and must call {@link Run#finish()}.
+     * Generation of the AI copy for every reminder type starts now, while the caller
+     * reads its first candidates.
+     *
+     * @return the run
+     */
+    public Run startRun() {
+        reminderCopyGenerator.prefetch(List.of(ReminderType.values()));
+        return new Run();
+    }
+
+    /**
+     * Metrics of the most recent runs, newest first.
+     *
+     * @return the run metrics
+     */
+    public synchronized List<ReminderRunMetrics> recentRuns() {
+        return List.copyOf(recentRuns);
+    }
+
+    private synchronized void record(ReminderRunMetrics metrics) {
+        recentRuns.addFirst(metrics);
+        while (recentRuns.size() > RETAINED_RUNS) {
+            recentRuns.removeLast();
+        }
+    }
+
+    /**
+     * One dispatch run: the executor, the concurrency permits and the run's counters.
+     */
+    public final class Run {
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long started = System.nanoTime();
+        private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("reminder-send-", 0).factory());
+        private final Semaphore permits = new Semaphore(concurrency);
+        private final LatencySample latencies = new LatencySample();
+
+        private Run() {
+        }
+
+        /**
+         * Sends the reminder on a virtual thread, waiting first if the concurrency cap is reached.
+         * A failed or skipped send is logged and counted; it does not stop the run.
+         *
+         * @param candidate the invoice and the reminder it is due
+         * @throws InterruptedException if interrupted while waiting for a free slot
+         */
+        public void submit(ReminderCandidate candidate) throws InterruptedException {
+            permits.acquire();
+            try {
+                executor.execute(() -> {
+                    long sendStarted = System.nanoTime();
+                    try {
+                        Outcome outcome = send(candidate);
+                        latencies.add((System.nanoTime() - sendStarted) / 1_000_000, outcome);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Waits for every submitted send to finish and records the run's metrics.
+         *
+         * @return the run's metrics
+         */
+        public ReminderRunMetrics finish() {
+            executor.close();
+            long durationMs = (System.nanoTime() - started) / 1_000_000;
+            ReminderRunMetrics metrics = latencies.toMetrics(startedAt, durationMs, concurrency);
+            record(metrics);
+            logger.info("Reminder dispatch finished in {} ms: {} queued, {} failed, {} skipped, {} reminders/s, latency avg {} ms, p95 {} ms, max {} ms",
+                durationMs, metrics.getSentCount(), metrics.getFailedCount(), metrics.getSkippedCount(),
+                String.format("%.1f", metrics.getSendsPerSecond()), String.format("%.1f", metrics.getAverageLatencyMs()),
+                metrics.getP95LatencyMs(), metrics.getMaxLatencyMs());
+            return metrics;
+        }
+
+        private Outcome send(ReminderCandidate candidate) {
+            try {
+                SendReminderEmailCommand command = new SendReminderEmailCommand();
+                command.setInvoiceId(candidate.getInvoiceId());
+                command.setReminderType(candidate.getReminderType());
+                // recipientEmail is optional - handler will use customer email
+
+                UUID reminderId = sendReminderEmailHandler.handle(command);
+                logger.info("Queued {} reminder for invoice {} (ID: {})",
+                    candidate.getReminderType(), candidate.getInvoiceNumber(), reminderId);
+                return Outcome.SENT;
+
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // Rejected by the handler's checks: the same candidate would be rejected on every run
+                logger.warn("Skipped {} reminder for invoice {}: {}",
+                    candidate.getReminderType(), candidate.getInvoiceNumber(), e.getMessage());
+                return Outcome.SKIPPED;
+
+            } catch (Exception e) {
+                logger.error("Failed to queue reminder for invoice {}: {}",
+                    candidate.getInvoiceNumber(), e.getMessage());
+                return Outcome.FAILED;
+            }
+        }
+    }
+
+    private enum Outcome {
+        SENT, FAILED, SKIPPED
+    }
+
+    /**
+     * Counts and latency totals of a run, plus a fixed-size uniform sample of
+     * latencies (reservoir sampling) for the percentiles, so memory stays constant
+     * however many reminders a run sends.
+     */
+    private static final class LatencySample {
+        private static final int CAPACITY = 10_000;
+
+        private final long[] sample = new long[CAPACITY];
+        private long count;
+        private long sentCount;
+        private long skippedCount;
+        private long totalMs;
+        private long maxMs;
+
+        synchronized void add(long latencyMs, Outcome outcome) {
+            if (count < CAPACITY) {
+                sample[(int) count] = latencyMs;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(count + 1);
+                if (slot < CAPACITY) {
+                    sample[(int) slot] = latencyMs;
+                }
+            }
+            count++;
+            if (outcome == Outcome.SENT) {
+                sentCount++;
+            } else if (outcome == Outcome.SKIPPED) {
+                skippedCount++;
+            }
+            totalMs += latencyMs;
+            maxMs = Math.max(maxMs, latencyMs);
+        }
+
+        synchronized ReminderRunMetrics toMetrics(LocalDateTime startedAt, long durationMs, int concurrency) {
+            long[] sorted = Arrays.copyOf(sample, (int) Math.min(count, CAPACITY));
+            Arrays.sort(sorted);
+            return new ReminderRunMetrics(
+                startedAt,
+                durationMs,
+                concurrency,
+                sentCount,
+                count - sentCount - skippedCount,
+                skippedCount,
+                durationMs > 0 ? count * 1000.0 / durationMs : count,
+                count > 0 ? (double) totalMs / count : 0,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.95),
+                maxMs);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.invoiceme.infrastructure.scheduler;
+
+import com.invoiceme.application.reminders.DeliverReminderEmails.ReminderOutbox;
+import com.invoiceme.infrastructure.mail.EmailThrottle;
+import com.invoiceme.infrastructure.persistence.ReminderDelivery;
+import com.invoiceme.infrastructure.services.EmailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers queued reminder emails from the outbox.
+ * Every poll claims due reminders in batches and sends each batch concurrently on
+ * virtual threads, recording every outcome as soon as it is known. Each instance of
+ * the application runs its own worker; the claim in {@link ReminderOutbox} keeps them
+ * from sending the same reminder. Sends go through the {@link EmailThrottle}; a throttled
+ * reminder goes back in the outbox until the throttle expects a token for it, rather
+ * than holding a thread while it waits, and does not use up one of its attempts.
+ */
+@Component
+public class ReminderOutboxWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderOutboxWorker.class);
+
+    private final ReminderOutbox reminderOutbox;
+    private final EmailService emailService;
+    private final EmailThrottle emailThrottle;
+    private final int batchSize;
+    private final int concurrency;
+
+    public ReminderOutboxWorker(ReminderOutbox reminderOutbox,
+                                EmailService emailService,
+                                EmailThrottle emailThrottle,
+                                @Value("${reminder.outbox.batch-size:100}") int batchSize,
+                                @Value("${reminder.outbox.concurrency:8}") int concurrency) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("reminder.outbox.batch-size must be at least 1");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("reminder.outbox.concurrency must be at least 1");
+        }
+        this.reminderOutbox = reminderOutbox;
+        this.emailService = emailService;
+        this.emailThrottle = emailThrottle;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Polls the outbox. A poll that finds work keeps going until no reminder is due.
+     */
+    @Scheduled(fixedDelayString = "${reminder.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            drain();
+        } catch (Exception e) {
+            logger.error("Error delivering queued reminders: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Claims and sends due reminders, batch by batch, until none are due.
+     *
+     * @return the number of delivery attempts made
+     */
+    public int drain() {
+        int attempted = 0;
+        List<ReminderDelivery> batch;
+        do {
+            batch = reminderOutbox.claimDue(batchSize);
+            deliver(batch);
+            attempted += batch.size();
+        } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+
+        if (attempted > 0) {
+            logger.info("Delivered queued reminders: {} attempts", attempted);
+        }
+        return attempted;
+    }
+
+    private void deliver(List<ReminderDelivery> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("reminder-deliver-", 0).factory())) {
+            for (ReminderDelivery delivery : batch) {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        switch (deliver(delivery)) {
+                            case FAILED -> failed.incrementAndGet();
+                            case THROTTLED -> throttled.incrementAndGet();
+                            default -> { }
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        if (failed.get() > 0) {
+            logger.warn("{} of {} reminder deliveries failed", failed.get(), batch.size());
+        }
+        if (throttled.get() > 0) {
+            logger.info("{} of {} reminder deliveries throttled and rescheduled", throttled.get(), batch.size());
+        }
+    }
+
+    private Outcome deliver(ReminderDelivery delivery) {
+        Duration wait = emailThrottle.tryAcquire(delivery.getRecipientEmail());
+        if (!wait.isZero()) {
+            try {
+                reminderOutbox.defer(delivery, LocalDateTime.now().plus(wait));
+            } catch (Exception e) {
+                // The lease runs out and the reminder is claimed again
+                logger.error("Could not reschedule throttled reminder {}: {}", delivery.getReminderId(), e.getMessage());
+            }
+            return Outcome.THROTTLED;
+        }
+
+        try {
+            emailService.sendEmail(delivery.getRecipientEmail(), delivery.getSubject(), delivery.getEmailBody());
+        } catch (Exception e) {
+            logger.error("Failed to deliver reminder {} (attempt {}): {}",
+                delivery.getReminderId(), delivery.getAttempt(), e.getMessage());
+            try {
+                reminderOutbox.recordFailure(delivery, e.getMessage());
+            } catch (Exception recordError) {
+                // The lease runs out and the reminder is claimed again
+                logger.error("Could not record failure of reminder {}: {}",
+                    delivery.getReminderId(), recordError.getMessage());
+            }
+            return Outcome.FAILED;
+        }
+
+        try {
+            reminderOutbox.recordSent(delivery, LocalDateTime.now());
+        } catch (Exception e) {
+            // The mail went out; if this is not recorded the reminder is sent again after the lease
+            logger.error("Could not record delivery of reminder {}: {}", delivery.getReminderId(), e.getMessage());
+        }
+        return Outcome.SENT;
+    }
+
+    private enum Outcome { SENT, THROTTLED, FAILED }
+}
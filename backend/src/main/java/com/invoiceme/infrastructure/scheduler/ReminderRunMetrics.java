@@ -0,0 +1,181 @@
+package com.invoiceme.infrastructure.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Throughput and latency of one run of the reminder dispatcher.
+ * Latency is the wall time of one send (content generation, delivery and bookkeeping);
+ * percentiles are estimated from a bounded random sample of the run's sends.
+ */
+public class ReminderRunMetrics {
+
+    private LocalDateTime startedAt;
+    private long durationMs;
+    private int concurrency;
+    private long sentCount;
+    private long failedCount;
+    private long skippedCount;
+    private double sendsPerSecond;
+    private double averageLatencyMs;
+    private long p50LatencyMs;
+    private long p95LatencyMs;
+    private long maxLatencyMs;
+
+    // Constructors
+    public ReminderRunMetrics() {
+    }
+
+    public ReminderRunMetrics(LocalDateTime startedAt, long durationMs, int concurrency, long sentCount,
+                              long failedCount, long skippedCount, double sendsPerSecond, double averageLatencyMs,
+                              long p50LatencyMs, long p95LatencyMs, long maxLatencyMs) {
+        this.startedAt = startedAt;
+        this.durationMs = durationMs;
+        this.concurrency = concurrency;
+        this.sentCount = sentCount;
+        this.failedCount = failedCount;
+        this.skippedCount = skippedCount;
+        this.sendsPerSecond = sendsPerSecond;
+        this.averageLatencyMs = averageLatencyMs;
+        this.p50LatencyMs = p50LatencyMs;
+        this.p95LatencyMs = p95LatencyMs;
+        this.maxLatencyMs = maxLatencyMs;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public long getSentCount() {
+        return sentCount;
+    }
+
+    public void setSentCount(long sentCount) {
+        this.sentCount = sentCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    /**
+     * Candidates the send handler rejected for good (e.g. reminders suppressed since the
+     * sweep read them, or no customer email); retrying would not change the outcome.
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(long skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    /**
+     * Completed sends (sent, failed and skipped) per second of run time.
+     */
+    public double getSendsPerSecond() {
+        return sendsPerSecond;
+    }
+
+    public void setSendsPerSecond(double sendsPerSecond) {
+        this.sendsPerSecond = sendsPerSecond;
+    }
+
+    public double getAverageLatencyMs() {
+        return averageLatencyMs;
+    }
+
+    public void setAverageLatencyMs(double averageLatencyMs) {
+        this.averageLatencyMs = averageLatencyMs;
+    }
+
+    public long getP50LatencyMs() {
+        return p50LatencyMs;
+    }
+
+    public void setP50LatencyMs(long p50LatencyMs) {
+        this.p50LatencyMs = p50LatencyMs;
+    }
+
+    public long getP95LatencyMs() {
+        return p95LatencyMs;
+    }
+
+    public void setP95LatencyMs(long p95LatencyMs) {
+        this.p95LatencyMs = p95LatencyMs;
+    }
+
+    public long getMaxLatencyMs() {
+        return maxLatencyMs;
+    }
+
+    public void setMaxLatencyMs(long maxLatencyMs) {
+        this.maxLatencyMs = maxLatencyMs;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReminderRunMetrics that = (ReminderRunMetrics) o;
+        return durationMs == that.durationMs &&
+               concurrency == that.concurrency &&
+               sentCount == that.sentCount &&
+               failedCount == that.failedCount &&
+               skippedCount == that.skippedCount &&
+               Double.compare(sendsPerSecond, that.sendsPerSecond) == 0 &&
+               Double.compare(averageLatencyMs, that.averageLatencyMs) == 0 &&
+               p50LatencyMs == that.p50LatencyMs &&
+               p95LatencyMs == that.p95LatencyMs &&
+               maxLatencyMs == that.maxLatencyMs &&
+               Objects.equals(startedAt, that.startedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startedAt, durationMs, concurrency, sentCount, failedCount, skippedCount,
+                            sendsPerSecond, averageLatencyMs, p50LatencyMs, p95LatencyMs, maxLatencyMs);
+    }
+
+    @Override
+    public String toString() {
+        return "ReminderRunMetrics{" +
+               "startedAt=" + startedAt +
+               ", durationMs=" + durationMs +
+               ", concurrency=" + concurrency +
+               ", sentCount=" + sentCount +
+               ", failedCount=" + failedCount +
+               ", skippedCount=" + skippedCount +
+               ", sendsPerSecond=" + sendsPerSecond +
+               ", averageLatencyMs=" + averageLatencyMs +
+               ", p50LatencyMs=" + p50LatencyMs +
+               ", p95LatencyMs=" + p95LatencyMs +
+               ", maxLatencyMs=" + maxLatencyMs +
+               '}';
+    }
+}
@@ -1,128 +1,217 @@
 package com.invoiceme.infrastructure.scheduler;
 
-import com.invoiceme.application.reminders.SendReminderEmail.SendReminderEmailCommand;
-import com.invoiceme.application.reminders.SendReminderEmail.SendReminderEmailHandler;
-import com.invoiceme.domain.invoice.Invoice;
-import com.invoiceme.domain.invoice.InvoiceStatus;
-import com.invoiceme.domain.reminder.ReminderType;
 import com.invoiceme.infrastructure.persistence.InvoiceRepository;
-import com.invoiceme.infrastructure.persistence.ReminderEmailRepository;
+import com.invoiceme.infrastructure.persistence.ReminderCandidate;
+import com.invoiceme.infrastructure.persistence.UuidRange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Scheduled service that automatically sends reminder emails for overdue and upcoming invoices.
- * Runs daily to check for invoices that need reminders.
+ * Runs daily by default ({@code reminder.scheduler.cron}; it may run more often).
+ * Candidates are selected in SQL (due date offset, outstanding balance, reminder not yet
+ * sent) and read in keyset pages, so the job never loads invoices that need no reminder.
+ *
+ * The job is incremental: {@link SchedulerWatermarks} records the last day swept, and a
+ * run sweeps the days since then plus today. Reminders that fell due on days the job
+ * did not run (a deploy, an outage) are caught up, going back at most
+ * {@code reminder.scheduler.max-catch-up-days}; today is swept on every run, so runs
+ * during the day pick up invoices that became due a reminder since the last one.
+ * Queueing is fanned out by {@link ReminderDispatcher}; delivery is done by
+ * {@link ReminderOutboxWorker}.
+ *
+ * Every replica triggers the job. The invoices are split into
+ * {@code reminder.scheduler.partitions} ranges of invoice IDs, and each partition is
+ * swept by whichever node claims its {@link ClusterJobLock} first: with one partition
+ * the sweep runs on a single node, with more the nodes share it. Each node starts at a
+ * random partition, so they rarely contend for the same lock.
  */
 @Service
 public class ReminderSchedulerService {
 
+    static final String LOCK_NAME = "reminder-sweep";
+
     private static final Logger logger = LoggerFactory.getLogger(ReminderSchedulerService.class);
 
     private final InvoiceRepository invoiceRepository;
-    private final ReminderEmailRepository reminderEmailRepository;
-    private final SendReminderEmailHandler sendReminderEmailHandler;
+    private final ReminderDispatcher reminderDispatcher;
+    private final ClusterJobLock clusterJobLock;
+    private final SchedulerWatermarks schedulerWatermarks;
+    private final int pageSize;
+    private final int partitions;
+    private final int maxCatchUpDays;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
 
     public ReminderSchedulerService(InvoiceRepository invoiceRepository,
-                                   ReminderEmailRepository reminderEmailRepository,
-                                   SendReminderEmailHandler sendReminderEmailHandler) {
+                                   ReminderDispatcher reminderDispatcher,
+                                   ClusterJobLock clusterJobLock,
+                                   SchedulerWatermarks schedulerWatermarks,
+                                   @Value("${reminder.scheduler.page-size:500}") int pageSize,
+                                   @Value("${reminder.scheduler.partitions:1}") int partitions,
+                                   @Value("${reminder.scheduler.max-catch-up-days:7}") int maxCatchUpDays,
+                                   @Value("${reminder.scheduler.lock-at-most-seconds:1800}") long lockAtMostSeconds,
+                                   @Value("${reminder.scheduler.lock-at-least-seconds:600}") long lockAtLeastSeconds) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("reminder.scheduler.partitions must be at least 1");
+        }
+        if (maxCatchUpDays < 0) {
+            throw new IllegalArgumentException("reminder.scheduler.max-catch-up-days must not be negative");
+        }
+        if (lockAtLeastSeconds < 0 || lockAtLeastSeconds > lockAtMostSeconds) {
+            throw new IllegalArgumentException(
+                "reminder.scheduler.lock-at-least-seconds must be between 0 and reminder.scheduler.lock-at-most-seconds");
+        }
         this.invoiceRepository = invoiceRepository;
-        this.reminderEmailRepository = reminderEmailRepository;
-        this.sendReminderEmailHandler = sendReminderEmailHandler;
+        this.reminderDispatcher = reminderDispatcher;
+        this.clusterJobLock = clusterJobLock;
+        this.schedulerWatermarks = schedulerWatermarks;
+        this.pageSize = pageSize;
+        this.partitions = partitions;
+        this.maxCatchUpDays = maxCatchUpDays;
+        this.lockAtMostFor = Duration.ofSeconds(lockAtMostSeconds);
+        this.lockAtLeastFor = Duration.ofSeconds(lockAtLeastSeconds);
     }
 
     /**
-     * Scheduled job that runs daily at 9:00 AM to check for invoices needing reminders.
+     * Scheduled job that runs daily at 9:00 AM (by default) to check for invoices needing reminders.
      * Cron expression: "0 0 9 * * ?" = At 09:00:00 AM every day
      *
      * For testing, you can change this to run every minute: "0 * * * * ?"
+     * (with reminder.scheduler.lock-at-least-seconds below the interval).
      */
-    @Scheduled(cron = "0 0 9 * * ?")
+    @Scheduled(cron = "${reminder.scheduler.cron:0 0 9 * * ?}")
     public void sendAutomaticReminders() {
         logger.info("Starting automatic reminder job...");
 
+        LocalDate today = LocalDate.now();
+        List<String> sweptPartitions = new ArrayList<>();
+        boolean completed = false;
+        ReminderDispatcher.Run run = reminderDispatcher.startRun();
         try {
-            // Find all sent invoices with outstanding balance
-            List<Invoice> invoices = invoiceRepository.findAll().stream()
-                .filter(inv -> inv.getStatus() == InvoiceStatus.SENT)
-                .filter(inv -> inv.getBalanceRemaining().compareTo(BigDecimal.ZERO) > 0)
-                .toList();
-
-            logger.info("Found {} invoices to check for reminders", invoices.size());
-
-            int remindersSent = 0;
-
-            for (Invoice invoice : invoices) {
-                LocalDate today = LocalDate.now();
-                LocalDate dueDate = invoice.getDueDate();
-                long daysDifference = ChronoUnit.DAYS.between(today, dueDate);
-
-                // Determine which reminder type to send
-                ReminderType reminderType = determineReminderType(daysDifference);
-
-                if (reminderType != null) {
-                    // Check if reminder already sent for this invoice + type
-                    boolean alreadySent = reminderEmailRepository.existsByInvoiceIdAndReminderTypeAndStatus(
-                        invoice.getId(),
-                        reminderType,
-                        com.invoiceme.domain.reminder.ReminderStatus.SENT
-                    );
-
-                    if (!alreadySent) {
-                        try {
-                            // Send reminder
-                            SendReminderEmailCommand command = new SendReminderEmailCommand();
-                            command.setInvoiceId(invoice.getId());
-                            command.setReminderType(reminderType);
-                            // recipientEmail is optional - handler will use customer email
-
-                            UUID reminderId = sendReminderEmailHandler.handle(command);
-                            logger.info("Sent {} reminder for invoice {} (ID: {})",
-                                reminderType, invoice.getInvoiceNumber(), reminderId);
-                            remindersSent++;
-
-                        } catch (Exception e) {
-                            logger.error("Failed to send reminder for invoice {}: {}",
-                                invoice.getInvoiceNumber(), e.getMessage());
-                        }
-                    }
+            int candidates = 0;
+            int first = partitions == 1 ? 0 : ThreadLocalRandom.current().nextInt(partitions);
+
+            for (int i = 0; i < partitions; i++) {
+                int partition = (first + i) % partitions;
+                String name = lockName(partition);
+                Optional<ClusterJobLock.Lease> lease = clusterJobLock.tryAcquire(name, lockAtMostFor, lockAtLeastFor);
+                if (lease.isEmpty()) {
+                    continue;
+                }
+                try {
+                    candidates += sweep(windowStart(name, today), today, UuidRange.partition(partition, partitions), run);
+                    sweptPartitions.add(name);
+                } finally {
+                    lease.get().release();
                 }
             }
 
-            logger.info("Automatic reminder job completed. Sent {} reminders.", remindersSent);
+            logger.info("Swept {} of {} partitions on node {}; queued {} due reminders.",
+                sweptPartitions.size(), partitions, clusterJobLock.getNodeId(), candidates);
+            completed = true;
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Automatic reminder job interrupted; waiting for reminders already queued");
         } catch (Exception e) {
             logger.error("Error in automatic reminder job: {}", e.getMessage(), e);
+        } finally {
+            ReminderRunMetrics metrics = run.finish();
+            logger.info("Automatic reminder job completed. Queued {} reminders for delivery.", metrics.getSentCount());
+            advanceWatermarks(sweptPartitions, today, completed && metrics.getFailedCount() == 0);
         }
     }
 
     /**
-     * Determines the appropriate reminder type based on days until/past due date.
-     *
-     * @param daysDifference positive if before due date, negative if after due date
-     * @return the reminder type, or null if no reminder should be sent
+     * The first day a partition's sweep covers: the day after its watermark, but never
+     * later than today (swept on every run) nor earlier than the catch-up limit. A
+     * partition that has never been swept starts today.
+     */
+    private LocalDate windowStart(String name, LocalDate today) {
+        Optional<LocalDate> processedThrough = schedulerWatermarks.processedThrough(name);
+        if (processedThrough.isEmpty()) {
+            return today;
+        }
+        LocalDate from = processedThrough.get().plusDays(1);
+        if (from.isAfter(today)) {
+            return today;
+        }
+        LocalDate earliest = today.minusDays(maxCatchUpDays);
+        if (from.isBefore(earliest)) {
+            logger.warn("Partition {} was last swept through {}; catching up from {} only (max-catch-up-days = {})",
+                name, processedThrough.get(), earliest, maxCatchUpDays);
+            return earliest;
+        }
+        if (from.isBefore(today)) {
+            logger.info("Partition {} was last swept through {}; catching up from {}", name, processedThrough.get(), from);
+        }
+        return from;
+    }
+
+    /**
+     * Moves the watermarks of the swept partitions to today once the run has queued
+     * everything it found, apart from candidates the handler rejected for good (skipped,
+     * which a new sweep would only reject again). After a failure they stay put, so the
+     * next run sweeps the same days again (reminders already queued are not candidates twice).
      */
-    private ReminderType determineReminderType(long daysDifference) {
-        if (daysDifference == 7) {
-            return ReminderType.BEFORE_DUE;  // 7 days before due date
-        } else if (daysDifference == 0) {
-            return ReminderType.ON_DUE_DATE;  // On the due date
-        } else if (daysDifference == -7) {
-            return ReminderType.OVERDUE_7_DAYS;  // 7 days overdue
-        } else if (daysDifference == -14) {
-            return ReminderType.OVERDUE_14_DAYS;  // 14 days overdue
-        } else if (daysDifference == -30) {
-            return ReminderType.OVERDUE_30_DAYS;  // 30 days overdue
+    private void advanceWatermarks(List<String> sweptPartitions, LocalDate today, boolean succeeded) {
+        if (sweptPartitions.isEmpty()) {
+            return;
         }
+        if (!succeeded) {
+            logger.warn("Reminder run did not queue every reminder; watermarks of {} stay put for the next run",
+                sweptPartitions);
+            return;
+        }
+        for (String name : sweptPartitions) {
+            try {
+                schedulerWatermarks.advance(name, today);
+            } catch (Exception e) {
+                logger.error("Could not advance reminder watermark {}: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Submits every candidate in one partition to the run.
+     *
+     * @return the number of candidates submitted
+     */
+    private int sweep(LocalDate from, LocalDate today, UuidRange range, ReminderDispatcher.Run run)
+            throws InterruptedException {
+        int candidates = 0;
+        UUID afterId = null;
+
+        List<ReminderCandidate> page;
+        do {
+            page = invoiceRepository.findReminderCandidates(from, today, range, afterId, pageSize);
+            candidates += page.size();
+
+            for (ReminderCandidate candidate : page) {
+                run.submit(candidate);
+            }
+
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getInvoiceId();
+            }
+        } while (page.size() == pageSize);
+
+        return candidates;
+    }
 
-        return null;  // No reminder for this day count
+    private String lockName(int partition) {
+        return partitions == 1 ? LOCK_NAME : LOCK_NAME + ":" + partition + "/" + partitions;
     }
 }
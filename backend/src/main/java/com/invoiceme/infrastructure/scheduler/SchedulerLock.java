@@ -0,0 +1,95 @@
+package com.invoiceme.infrastructure.scheduler;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A cluster-wide lock on a scheduled job, held by one node until {@code lockedUntil}.
+ * See {@link ClusterJobLock}.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 200)
+    private String name;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    // Constructors
+    public SchedulerLock() {
+    }
+
+    public SchedulerLock(String name, String lockedBy, LocalDateTime lockedAt, LocalDateTime lockedUntil) {
+        this.name = name;
+        this.lockedBy = lockedBy;
+        this.lockedAt = lockedAt;
+        this.lockedUntil = lockedUntil;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public LocalDateTime getLockedAt() {
+        return lockedAt;
+    }
+
+    public void setLockedAt(LocalDateTime lockedAt) {
+        this.lockedAt = lockedAt;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SchedulerLock that = (SchedulerLock) o;
+        return Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerLock{" +
+               "name='" + name + '\'' +
+               ", lockedBy='" + lockedBy + '\'' +
+               ", lockedAt=" + lockedAt +
+               ", lockedUntil=" + lockedUntil +
+               '}';
+    }
+}
@@ -0,0 +1,83 @@
+package com.invoiceme.infrastructure.scheduler;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The last day a scheduled job (or one partition of it) has fully processed.
+ * See {@link SchedulerWatermarks}.
+ */
+@Entity
+@Table(name = "scheduler_watermarks")
+public class SchedulerWatermark {
+
+    @Id
+    @Column(length = 200)
+    private String name;
+
+    @Column(name = "processed_through", nullable = false)
+    private LocalDate processedThrough;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public SchedulerWatermark() {
+    }
+
+    public SchedulerWatermark(String name, LocalDate processedThrough, LocalDateTime updatedAt) {
+        this.name = name;
+        this.processedThrough = processedThrough;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getProcessedThrough() {
+        return processedThrough;
+    }
+
+    public void setProcessedThrough(LocalDate processedThrough) {
+        this.processedThrough = processedThrough;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SchedulerWatermark that = (SchedulerWatermark) o;
+        return Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerWatermark{" +
+               "name='" + name + '\'' +
+               ", processedThrough=" + processedThrough +
+               ", updatedAt=" + updatedAt +
+               '}';
+    }
+}
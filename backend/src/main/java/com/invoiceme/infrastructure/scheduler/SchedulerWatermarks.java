@@ -0,0 +1,48 @@
+package com.invoiceme.infrastructure.scheduler;
+
+import com.invoiceme.infrastructure.persistence.SchedulerWatermarkRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Persisted progress of scheduled jobs (scheduler_watermarks): for each name, the last
+ * day that has been fully processed. A job reads its watermark to find the days it has
+ * not processed yet, including days on which it did not run at all, and advances it
+ * once they are done.
+ */
+@Component
+public class SchedulerWatermarks {
+
+    private final SchedulerWatermarkRepository schedulerWatermarkRepository;
+
+    public SchedulerWatermarks(SchedulerWatermarkRepository schedulerWatermarkRepository) {
+        this.schedulerWatermarkRepository = schedulerWatermarkRepository;
+    }
+
+    /**
+     * @param name the watermark name
+     * @return the last day fully processed, or empty if the job has never completed
+     */
+    public Optional<LocalDate> processedThrough(String name) {
+        return schedulerWatermarkRepository.findById(name).map(SchedulerWatermark::getProcessedThrough);
+    }
+
+    /**
+     * Records that every day up to and including {@code processedThrough} has been
+     * processed. A watermark already at or past that day is left alone.
+     *
+     * @param name the watermark name
+     * @param processedThrough the last day now fully processed
+     */
+    public void advance(String name, LocalDate processedThrough) {
+        LocalDateTime now = LocalDateTime.now();
+        if (schedulerWatermarkRepository.advance(name, processedThrough, now) == 0
+                && schedulerWatermarkRepository.insertIfAbsent(name, processedThrough, now) == 0) {
+            // It exists (another node may have just created it): move it forward if still behind
+            schedulerWatermarkRepository.advance(name, processedThrough, now);
+        }
+    }
+}
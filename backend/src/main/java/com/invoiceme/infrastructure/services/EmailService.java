@@ -1,55 +1,86 @@
 package com.invoiceme.infrastructure.services;
 
+import com.invoiceme.infrastructure.mail.EmailSendResult;
+import com.invoiceme.infrastructure.mail.OutgoingEmail;
+import com.invoiceme.infrastructure.mail.SmtpConnectionPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Service for sending emails.
- * Currently a mock implementation that logs to console.
+ * Sends through the pooled SMTP connections of {@link SmtpConnectionPool} when a mail
+ * server is configured ({@code email.smtp.host}); otherwise only logs each email,
+ * which is what local development and the tests use.
  *
- * TODO: Implement real SMTP integration using JavaMailSender or SendGrid/Amazon SES API
- * TODO: Add email template rendering support
- * TODO: Add retry logic for failed sends
- * TODO: Add email delivery tracking
+ * TODO: Add HTML email support
+ * TODO: Add email delivery tracking (bounces, opens)
  */
 @Service
 public class EmailService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
+    private final SmtpConnectionPool smtpConnectionPool;
+
+    /**
+     * Creates a service that only logs emails.
+     */
+    public EmailService() {
+        this.smtpConnectionPool = null;
+    }
+
+    @Autowired
+    public EmailService(SmtpConnectionPool smtpConnectionPool) {
+        this.smtpConnectionPool = smtpConnectionPool.isEnabled() ? smtpConnectionPool : null;
+    }
+
     /**
      * Sends an email to the specified recipient.
      *
-     * MOCK IMPLEMENTATION: Currently only logs the email details to console.
-     * In production, this should integrate with an SMTP server or email service provider.
-     *
      * @param to the recipient email address
      * @param subject the email subject
-     * @param body the email body (plain text or HTML)
+     * @param body the email body (plain text)
      * @throws RuntimeException if email sending fails
      */
     public void sendEmail(String to, String subject, String body) {
+        OutgoingEmail email = new OutgoingEmail(to, subject, body);
+        if (smtpConnectionPool == null) {
+            log(email);
+            return;
+        }
+        smtpConnectionPool.send(email);
+    }
+
+    /**
+     * Sends several emails over one SMTP connection. A failed email does not stop the others.
+     *
+     * @param emails the emails to send
+     * @return the outcome of each email, in order
+     */
+    public List<EmailSendResult> sendEmails(List<OutgoingEmail> emails) {
+        if (smtpConnectionPool == null) {
+            List<EmailSendResult> results = new ArrayList<>(emails.size());
+            for (OutgoingEmail email : emails) {
+                log(email);
+                results.add(EmailSendResult.sent(email));
+            }
+            return results;
+        }
+        return smtpConnectionPool.sendBatch(emails);
+    }
+
+    private void log(OutgoingEmail email) {
         logger.info("=".repeat(80));
         logger.info("MOCK EMAIL SERVICE - Email would be sent:");
-        logger.info("To: {}", to);
-        logger.info("Subject: {}", subject);
+        logger.info("To: {}", email.getTo());
+        logger.info("Subject: {}", email.getSubject());
         logger.info("Body:");
-        logger.info("{}", body);
+        logger.info("{}", email.getBody());
         logger.info("=".repeat(80));
-
-        // TODO: Replace with actual SMTP implementation
-        // Example using Spring's JavaMailSender:
-        // MimeMessage message = javaMailSender.createMimeMessage();
-        // MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        // helper.setTo(to);
-        // helper.setSubject(subject);
-        // helper.setText(body, true); // true = HTML
-        // javaMailSender.send(message);
-
-        // Simulate potential email failure (uncomment to test error handling)
-        // if (Math.random() < 0.1) {
-        //     throw new RuntimeException("Simulated email delivery failure");
-        // }
     }
 }
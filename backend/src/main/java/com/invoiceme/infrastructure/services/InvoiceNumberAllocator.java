@@ -0,0 +1,135 @@
+package com.invoiceme.infrastructure.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allocates invoice numbers in the format INV-YYYYMM-NNNN.
+ *
+ * Uses hi/lo allocation: each node reserves a block of numbers per month from the
+ * invoice_number_counters table and hands them out from memory, so the database is
+ * touched once per block instead of once per invoice. Blocks never overlap across
+ * nodes, so numbers never collide. Numbers left in a node's block when it stops are
+ * skipped, which means numbering is unique and increasing per node but may have gaps.
+ */
+@Service
+public class InvoiceNumberAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceNumberAllocator.class);
+
+    private static final DateTimeFormatter YEAR_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final InvoiceNumberBlockReserver blockReserver;
+    private final int blockSize;
+    private final ConcurrentMap<String, NumberBlock> blocks = new ConcurrentHashMap<>();
+
+    public InvoiceNumberAllocator(InvoiceNumberBlockReserver blockReserver,
+                                  @Value("${invoice.number.block-size:50}") int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Invoice number block size must be positive");
+        }
+        this.blockReserver = blockReserver;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Allocates the next invoice number for the month of the given issue date.
+     *
+     * @param issueDate the issue date of the invoice
+     * @return the allocated invoice number
+     */
+    public String allocate(LocalDate issueDate) {
+        String yearMonth = issueDate.format(YEAR_MONTH_FORMAT);
+        long value = blocks.computeIfAbsent(yearMonth, NumberBlock::new).next();
+        return format(yearMonth, value);
+    }
+
+    /**
+     * Allocates several invoice numbers for the month of the given issue date at once.
+     * When the current block runs short, a single block large enough for the rest is reserved.
+     *
+     * @param issueDate the issue date shared by the invoices
+     * @param count the number of invoice numbers needed
+     * @return the allocated invoice numbers in increasing order
+     */
+    public List<String> allocate(LocalDate issueDate, int count) {
+        String yearMonth = issueDate.format(YEAR_MONTH_FORMAT);
+        List<String> numbers = new ArrayList<>(count);
+        for (long value : blocks.computeIfAbsent(yearMonth, NumberBlock::new).next(count)) {
+            numbers.add(format(yearMonth, value));
+        }
+        return numbers;
+    }
+
+    private static String format(String yearMonth, long value) {
+        return "INV-" + yearMonth + "-" + String.format("%04d", value);
+    }
+
+    /**
+     * Reserves a new block, retrying when another node creates the month's counter at the same time.
+     */
+    private long reserveBlock(String yearMonth, int size) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                long start = blockReserver.reserve(yearMonth, size);
+                logger.debug("Reserved invoice numbers {}-{} for {}", start, start + size - 1, yearMonth);
+                return start;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw e;
+                }
+                logger.debug("Retrying invoice number block reservation for {} after conflict", yearMonth);
+            }
+        }
+    }
+
+    /**
+     * The block of numbers this node currently holds for one month.
+     */
+    private final class NumberBlock {
+
+        private final String yearMonth;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long end;
+
+        NumberBlock(String yearMonth) {
+            this.yearMonth = yearMonth;
+        }
+
+        long next() {
+            return next(1)[0];
+        }
+
+        long[] next(int count) {
+            long[] values = new long[count];
+            lock.lock();
+            try {
+                for (int i = 0; i < count; i++) {
+                    if (next >= end) {
+                        int size = Math.max(blockSize, count - i);
+                        next = reserveBlock(yearMonth, size);
+                        end = next + size;
+                    }
+                    values[i] = next++;
+                }
+                return values;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.invoiceme.infrastructure.services;
+
+import com.invoiceme.domain.invoice.InvoiceNumberCounter;
+import com.invoiceme.infrastructure.persistence.InvoiceNumberCounterRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reserves blocks of invoice numbers from the per-month counter table.
+ * Runs in its own short transaction so a reserved block stays reserved even if
+ * the invoice transaction that triggered it rolls back; the counter row is locked
+ * only for the duration of a single read-and-increment.
+ */
+@Component
+public class InvoiceNumberBlockReserver {
+
+    private final InvoiceNumberCounterRepository counterRepository;
+
+    public InvoiceNumberBlockReserver(InvoiceNumberCounterRepository counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    /**
+     * Reserves the next block of numbers for a month, creating the month's counter on first use.
+     *
+     * @param yearMonth the month in yyyyMM form
+     * @param size the number of values to reserve
+     * @return the first value of the reserved block
+     * @throws org.springframework.dao.DataIntegrityViolationException if another node created the counter concurrently
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String yearMonth, int size) {
+        InvoiceNumberCounter counter = counterRepository.findForUpdate(yearMonth)
+            .orElseGet(() -> counterRepository.saveAndFlush(new InvoiceNumberCounter(yearMonth, 1)));
+        return counter.reserve(size);
+    }
+}
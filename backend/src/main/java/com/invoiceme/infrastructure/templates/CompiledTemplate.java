@@ -0,0 +1,88 @@
+package com.invoiceme.infrastructure.templates;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A text template parsed once into alternating literal and placeholder segments.
+ * Rendering only copies strings: the output length is computed first, so the
+ * builder is allocated at its final size and never grows.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /** literals[i] precedes fields[i]; the last literal follows the last field. */
+    private final String[] literals;
+    private final TemplateField[] fields;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, TemplateField[] fields) {
+        this.literals = literals;
+        this.fields = fields;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses a template.
+     *
+     * @param source the template text, with placeholders written {@code {{name}}}
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder is unknown or not closed
+     */
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<TemplateField> fields = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed template placeholder at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            fields.add(TemplateField.forPlaceholder(source.substring(open + OPEN.length(), close).trim()));
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new CompiledTemplate(literals.toArray(String[]::new), fields.toArray(TemplateField[]::new));
+    }
+
+    /**
+     * Tells whether the template refers to a field.
+     *
+     * @param field the field
+     * @return true if the template has a placeholder for it
+     */
+    public boolean uses(TemplateField field) {
+        for (TemplateField used : fields) {
+            if (used == field) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param values the value of each field, indexed by {@link TemplateField#ordinal()}
+     * @return the rendered text
+     */
+    public String render(String[] values) {
+        int length = literalLength;
+        for (TemplateField field : fields) {
+            length += values[field.ordinal()].length();
+        }
+        StringBuilder out = new StringBuilder(length);
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]).append(values[fields[i].ordinal()]);
+        }
+        return out.append(literals[fields.length]).toString();
+    }
+}
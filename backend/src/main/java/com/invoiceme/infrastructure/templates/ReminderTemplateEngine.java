@@ -0,0 +1,154 @@
+package com.invoiceme.infrastructure.templates;
+
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.reminder.ReminderType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Renders reminder emails from one template per {@link ReminderType}.
+ * Templates are read from {@code reminder.templates.location} (any Spring resource
+ * location, e.g. {@code file:/etc/invoiceme/reminders/}) as {@code <type>.txt}, e.g.
+ * {@code overdue_7_days.txt}: a {@code Subject:} line, a blank line, then the body.
+ * They are compiled once at startup, so a malformed template fails the boot rather than
+ * a reminder run.
+ *
+ * Formatted dates and amounts are cached: a day's run only has a handful of distinct
+ * due dates, and many invoices share an amount.
+ */
+@Component
+public class ReminderTemplateEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderTemplateEngine.class);
+
+    private static final String SUBJECT_PREFIX = "Subject:";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM d, yyyy");
+    // In production, this would be a secure payment portal link
+    private static final String PAYMENT_LINK_BASE = "https://pay.invoiceme.com/pay/";
+    /** Entries kept per format cache; a full cache is simply cleared. */
+    private static final int FORMAT_CACHE_SIZE = 4096;
+
+    private final Map<ReminderType, CompiledTemplate> subjects = new EnumMap<>(ReminderType.class);
+    private final Map<ReminderType, CompiledTemplate> bodies = new EnumMap<>(ReminderType.class);
+    private final Map<LocalDate, String> formattedDates = new ConcurrentHashMap<>();
+    private final Map<BigDecimal, String> formattedAmounts = new ConcurrentHashMap<>();
+
+    public ReminderTemplateEngine(ResourceLoader resourceLoader,
+                                  @Value("${reminder.templates.location:classpath:templates/reminders/}") String location) {
+        String base = location.endsWith("/") ? location : location + "/";
+        for (ReminderType type : ReminderType.values()) {
+            Resource resource = resourceLoader.getResource(base + type.name().toLowerCase() + ".txt");
+            compile(type, read(resource));
+        }
+        logger.info("Loaded {} reminder templates from {}", bodies.size(), base);
+    }
+
+    /**
+     * Renders the reminder for an invoice.
+     *
+     * @param type the reminder type
+     * @param invoice the invoice, with its customer
+     * @param daysOverdue the number of days the invoice is overdue (0 if not overdue)
+     * @param today the day the reminder is for
+     * @return the subject and body
+     */
+    public RenderedReminder render(ReminderType type, Invoice invoice, int daysOverdue, LocalDate today) {
+        return render(type, invoice, daysOverdue, today, bodies.get(type));
+    }
+
+    /**
+     * Renders the reminder for an invoice with the type's subject and another body,
+     * e.g. copy written by the AI provider for this kind of reminder.
+     *
+     * @param type the reminder type
+     * @param invoice the invoice, with its customer
+     * @param daysOverdue the number of days the invoice is overdue (0 if not overdue)
+     * @param today the day the reminder is for
+     * @param body the body template
+     * @return the subject and body
+     */
+    public RenderedReminder render(ReminderType type, Invoice invoice, int daysOverdue, LocalDate today,
+                                   CompiledTemplate body) {
+        long daysUntilDue = ChronoUnit.DAYS.between(today, invoice.getDueDate());
+
+        String[] values = new String[TemplateField.values().length];
+        values[TemplateField.CUSTOMER_NAME.ordinal()] = String.valueOf(invoice.getCustomer().getContactName());
+        values[TemplateField.INVOICE_NUMBER.ordinal()] = String.valueOf(invoice.getInvoiceNumber());
+        values[TemplateField.AMOUNT_DUE.ordinal()] = formatAmount(invoice.getBalanceRemaining());
+        values[TemplateField.DUE_DATE.ordinal()] = cached(formattedDates, invoice.getDueDate(), DATE_FORMATTER::format);
+        values[TemplateField.DAYS_UNTIL_DUE.ordinal()] = Long.toString(daysUntilDue);
+        values[TemplateField.DAYS_UNTIL_DUE_PLURAL.ordinal()] = daysUntilDue == 1 ? "" : "s";
+        values[TemplateField.DAYS_OVERDUE.ordinal()] = Integer.toString(daysOverdue);
+        values[TemplateField.DAYS_OVERDUE_PLURAL.ordinal()] = daysOverdue == 1 ? "" : "s";
+        values[TemplateField.PAYMENT_LINK.ordinal()] = PAYMENT_LINK_BASE + invoice.getPaymentLink();
+
+        return new RenderedReminder(subjects.get(type).render(values), body.render(values));
+    }
+
+    private String formatAmount(BigDecimal amount) {
+        if (amount == null) {
+            return "0.00";
+        }
+        // Same digits as String.format("%.2f"), without the Formatter
+        return cached(formattedAmounts, amount, value -> value.setScale(2, RoundingMode.HALF_UP).toPlainString());
+    }
+
+    private static <K> String cached(Map<K, String> cache, K key, Function<K, String> format) {
+        String formatted = cache.get(key);
+        if (formatted == null) {
+            formatted = format.apply(key);
+            if (cache.size() >= FORMAT_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(key, formatted);
+        }
+        return formatted;
+    }
+
+    private void compile(ReminderType type, String source) {
+        String text = source.replace("\r\n", "\n");
+        if (text.endsWith("\n")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        int subjectEnd = text.indexOf('\n');
+        if (!text.startsWith(SUBJECT_PREFIX) || subjectEnd < 0) {
+            throw new IllegalStateException("Reminder template for " + type + " must start with a Subject: line");
+        }
+        String body = text.substring(subjectEnd + 1);
+        if (body.startsWith("\n")) {
+            body = body.substring(1);
+        }
+        try {
+            subjects.put(type, CompiledTemplate.compile(text.substring(SUBJECT_PREFIX.length(), subjectEnd).trim()));
+            bodies.put(type, CompiledTemplate.compile(body));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid reminder template for " + type + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String read(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read reminder template " + resource.getDescription(), e);
+        }
+    }
+}
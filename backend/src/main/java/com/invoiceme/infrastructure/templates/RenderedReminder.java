@@ -0,0 +1,47 @@
+package com.invoiceme.infrastructure.templates;
+
+import java.util.Objects;
+
+/**
+ * The subject and body of a reminder email.
+ */
+public class RenderedReminder {
+
+    private final String subject;
+    private final String body;
+
+    public RenderedReminder(String subject, String body) {
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RenderedReminder that = (RenderedReminder) o;
+        return Objects.equals(subject, that.subject) &&
+               Objects.equals(body, that.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(subject, body);
+    }
+
+    @Override
+    public String toString() {
+        return "RenderedReminder{" +
+               "subject='" + subject + '\'' +
+               ", body length=" + (body != null ? body.length() : 0) +
+               '}';
+    }
+}
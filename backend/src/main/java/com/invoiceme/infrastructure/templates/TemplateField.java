@@ -0,0 +1,46 @@
+package com.invoiceme.infrastructure.templates;
+
+/**
+ * The values a reminder template can refer to, written {@code {{name}}} in the template.
+ */
+public enum TemplateField {
+    CUSTOMER_NAME("customerName"),
+    INVOICE_NUMBER("invoiceNumber"),
+    /** Balance remaining, two decimals, no currency symbol. */
+    AMOUNT_DUE("amountDue"),
+    /** Due date, e.g. "March 5, 2025". */
+    DUE_DATE("dueDate"),
+    DAYS_UNTIL_DUE("daysUntilDue"),
+    /** "s" unless daysUntilDue is 1, for writing {@code day{{daysUntilDuePlural}}}. */
+    DAYS_UNTIL_DUE_PLURAL("daysUntilDuePlural"),
+    DAYS_OVERDUE("daysOverdue"),
+    /** "s" unless daysOverdue is 1. */
+    DAYS_OVERDUE_PLURAL("daysOverduePlural"),
+    PAYMENT_LINK("paymentLink");
+
+    private final String placeholder;
+
+    TemplateField(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    /**
+     * Looks up a field by its placeholder name.
+     *
+     * @param placeholder the name between the braces
+     * @return the field
+     * @throws IllegalArgumentException if no field has this name
+     */
+    public static TemplateField forPlaceholder(String placeholder) {
+        for (TemplateField field : values()) {
+            if (field.placeholder.equals(placeholder)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown template placeholder: {{" + placeholder + "}}");
+    }
+}
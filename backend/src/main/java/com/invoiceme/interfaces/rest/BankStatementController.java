@@ -0,0 +1,110 @@
+package com.invoiceme.interfaces.rest;
+
+import com.invoiceme.application.payments.CloseStatementReviewItem.CloseStatementReviewItemCommand;
+import com.invoiceme.application.payments.CloseStatementReviewItem.CloseStatementReviewItemHandler;
+import com.invoiceme.application.payments.ImportBankStatement.BankStatementImportResult;
+import com.invoiceme.application.payments.ImportBankStatement.ImportBankStatementCommand;
+import com.invoiceme.application.payments.ImportBankStatement.ImportBankStatementHandler;
+import com.invoiceme.application.payments.ListStatementReviewItems.ListStatementReviewItemsHandler;
+import com.invoiceme.application.payments.ListStatementReviewItems.ListStatementReviewItemsQuery;
+import com.invoiceme.application.payments.ListStatementReviewItems.StatementReviewItemDto;
+import com.invoiceme.domain.payment.StatementReviewStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for bank statement reconciliation (authenticated endpoints).
+ * Imports CSV, OFX and CAMT.053 statements and exposes the queue of lines
+ * that could not be matched to an invoice automatically.
+ */
+@RestController
+@RequestMapping("/api/bank-statements")
+public class BankStatementController {
+
+    private final ImportBankStatementHandler importBankStatementHandler;
+    private final ListStatementReviewItemsHandler listStatementReviewItemsHandler;
+    private final CloseStatementReviewItemHandler closeStatementReviewItemHandler;
+
+    public BankStatementController(ImportBankStatementHandler importBankStatementHandler,
+                                   ListStatementReviewItemsHandler listStatementReviewItemsHandler,
+                                   CloseStatementReviewItemHandler closeStatementReviewItemHandler) {
+        this.importBankStatementHandler = importBankStatementHandler;
+        this.listStatementReviewItemsHandler = listStatementReviewItemsHandler;
+        this.closeStatementReviewItemHandler = closeStatementReviewItemHandler;
+    }
+
+    /**
+     * Import a bank statement file and record the payments it contains.
+     *
+     * @param file the statement file (multipart field "file")
+     * @param format optional format ("csv", "ofx", "camt053"); derived from the file name when absent
+     * @param chunkSize optional number of lines committed per transaction
+     * @return the import summary with 200 OK status
+     */
+    @PostMapping("/import")
+    public ResponseEntity<BankStatementImportResult> importStatement(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Integer chunkSize) {
+        ImportBankStatementCommand command =
+            new ImportBankStatementCommand(file.getOriginalFilename(), format, chunkSize);
+
+        try (InputStream input = file.getInputStream()) {
+            BankStatementImportResult result = importBankStatementHandler.handle(command, input);
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded bank statement", e);
+        }
+    }
+
+    /**
+     * List statement lines in the review queue.
+     *
+     * @param importId optional filter to show only lines of one import
+     * @param status review status when not filtering by import (default PENDING)
+     * @param limit maximum number of items (default 200)
+     * @return list of review item DTOs with 200 OK status
+     */
+    @GetMapping("/review-items")
+    public ResponseEntity<List<StatementReviewItemDto>> listReviewItems(
+            @RequestParam(required = false) UUID importId,
+            @RequestParam(required = false) StatementReviewStatus status,
+            @RequestParam(required = false) Integer limit) {
+        ListStatementReviewItemsQuery query = new ListStatementReviewItemsQuery(importId, status);
+        query.setLimit(limit);
+
+        List<StatementReviewItemDto> items = listStatementReviewItemsHandler.handle(query);
+        return ResponseEntity.ok(items);
+    }
+
+    /**
+     * Mark a review item as reconciled by hand.
+     *
+     * @param id the review item ID
+     * @return 204 No Content status
+     */
+    @PostMapping("/review-items/{id}/resolve")
+    public ResponseEntity<Void> resolveReviewItem(@PathVariable UUID id) {
+        closeStatementReviewItemHandler.handle(new CloseStatementReviewItemCommand(id, StatementReviewStatus.RESOLVED));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Set a review item aside as not relating to any invoice.
+     *
+     * @param id the review item ID
+     * @return 204 No Content status
+     */
+    @PostMapping("/review-items/{id}/dismiss")
+    public ResponseEntity<Void> dismissReviewItem(@PathVariable UUID id) {
+        closeStatementReviewItemHandler.handle(new CloseStatementReviewItemCommand(id, StatementReviewStatus.DISMISSED));
+        return ResponseEntity.noContent().build();
+    }
+}
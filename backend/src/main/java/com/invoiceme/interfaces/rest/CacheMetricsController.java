@@ -0,0 +1,39 @@
+package com.invoiceme.interfaces.rest;
+
+import com.invoiceme.infrastructure.cache.CacheStats;
+import com.invoiceme.infrastructure.cache.MonitoredCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * REST controller exposing hit, miss and eviction counts of the in-process caches (authenticated).
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class CacheMetricsController {
+
+    private final List<MonitoredCache> caches;
+
+    public CacheMetricsController(List<MonitoredCache> caches) {
+        this.caches = caches;
+    }
+
+    /**
+     * Get the current statistics of every application cache.
+     *
+     * @return list of cache statistics, ordered by cache name, with 200 OK status
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStats>> getCacheStats() {
+        List<CacheStats> stats = caches.stream()
+            .flatMap(cache -> cache.cacheStats().stream())
+            .sorted(Comparator.comparing(CacheStats::getName))
+            .toList();
+        return ResponseEntity.ok(stats);
+    }
+}
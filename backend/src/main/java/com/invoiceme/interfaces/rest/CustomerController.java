@@ -7,14 +7,26 @@ import com.invoiceme.application.customers.DeleteCustomer.DeleteCustomerHandler;
 import com.invoiceme.application.customers.GetCustomer.CustomerDto;
 import com.invoiceme.application.customers.GetCustomer.GetCustomerHandler;
 import com.invoiceme.application.customers.GetCustomer.GetCustomerQuery;
+import com.invoiceme.application.customers.GetCustomerSummary.CustomerSummaryDto;
+import com.invoiceme.application.customers.GetCustomerSummary.GetCustomerSummaryHandler;
+import com.invoiceme.application.customers.ImportCustomers.CustomerImportResult;
+import com.invoiceme.application.customers.ImportCustomers.ImportCustomersCommand;
+import com.invoiceme.application.customers.ImportCustomers.ImportCustomersHandler;
 import com.invoiceme.application.customers.ListCustomers.ListCustomersHandler;
 import com.invoiceme.application.customers.ListCustomers.ListCustomersQuery;
+import com.invoiceme.application.customers.SuggestCustomers.CustomerSuggestionDto;
+import com.invoiceme.application.customers.SuggestCustomers.SuggestCustomersHandler;
 import com.invoiceme.application.customers.UpdateCustomer.UpdateCustomerCommand;
 import com.invoiceme.application.customers.UpdateCustomer.UpdateCustomerHandler;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,17 +43,29 @@ public class CustomerController {
     private final DeleteCustomerHandler deleteCustomerHandler;
     private final GetCustomerHandler getCustomerHandler;
     private final ListCustomersHandler listCustomersHandler;
+    private final SuggestCustomersHandler suggestCustomersHandler;
+    private final GetCustomerSummaryHandler getCustomerSummaryHandler;
+    private final ImportCustomersHandler importCustomersHandler;
+    private final ResourceETags resourceETags;
 
     public CustomerController(CreateCustomerHandler createCustomerHandler,
                             UpdateCustomerHandler updateCustomerHandler,
                             DeleteCustomerHandler deleteCustomerHandler,
                             GetCustomerHandler getCustomerHandler,
-                            ListCustomersHandler listCustomersHandler) {
+                            ListCustomersHandler listCustomersHandler,
+                            SuggestCustomersHandler suggestCustomersHandler,
+                            GetCustomerSummaryHandler getCustomerSummaryHandler,
+                            ImportCustomersHandler importCustomersHandler,
+                            ResourceETags resourceETags) {
         this.createCustomerHandler = createCustomerHandler;
         this.updateCustomerHandler = updateCustomerHandler;
         this.deleteCustomerHandler = deleteCustomerHandler;
         this.getCustomerHandler = getCustomerHandler;
         this.listCustomersHandler = listCustomersHandler;
+        this.suggestCustomersHandler = suggestCustomersHandler;
+        this.getCustomerSummaryHandler = getCustomerSummaryHandler;
+        this.importCustomersHandler = importCustomersHandler;
+        this.resourceETags = resourceETags;
     }
 
     /**
@@ -62,35 +86,98 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(customer);
     }
 
+    /**
+     * Import customers from a CSV or JSON file.
+     * Invalid rows and rows whose email already exists are reported and skipped; the rest are created.
+     *
+     * @param file the customer file (multipart field "file")
+     * @param format optional format ("csv", "json"); derived from the file name when absent
+     * @param chunkSize optional number of rows committed per transaction
+     * @return the import summary with 200 OK status
+     */
+    @PostMapping("/import")
+    public ResponseEntity<CustomerImportResult> importCustomers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Integer chunkSize) {
+        ImportCustomersCommand command = new ImportCustomersCommand(file.getOriginalFilename(), format, chunkSize);
+
+        try (InputStream input = file.getInputStream()) {
+            CustomerImportResult result = importCustomersHandler.handle(command, input);
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded customer file", e);
+        }
+    }
+
+    /**
+     * Suggest active customers for autocomplete, answered from an in-memory index.
+     *
+     * @param q the text typed so far (matched as word prefixes of name, contact and email)
+     * @param limit optional maximum number of suggestions (default 10, max 50)
+     * @return list of suggestions, best match first, with 200 OK status
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CustomerSuggestionDto>> suggestCustomers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(suggestCustomersHandler.handle(q, limit));
+    }
+
     /**
      * Get a customer by ID.
+     * Answers 304 Not Modified, without loading the customer, when the client's If-None-Match still matches.
      *
      * @param id the customer ID
-     * @return the customer DTO with 200 OK status
+     * @param request the current request, for the conditional GET check
+     * @return the customer DTO with 200 OK status and an ETag
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerDto> getCustomer(@PathVariable UUID id) {
+    public ResponseEntity<CustomerDto> getCustomer(@PathVariable UUID id, WebRequest request) {
+        String eTag = resourceETags.forCustomer(id);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+
         GetCustomerQuery query = new GetCustomerQuery();
         query.setCustomerId(id);
         CustomerDto customer = getCustomerHandler.handle(query);
         return ResponseEntity.ok(customer);
     }
 
+    /**
+     * Get a customer's invoice and payment summary: totals, counts by status,
+     * overdue figures, and the latest invoice and payment.
+     *
+     * @param id the customer ID
+     * @return the customer summary with 200 OK status
+     */
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<CustomerSummaryDto> getCustomerSummary(@PathVariable UUID id) {
+        return ResponseEntity.ok(getCustomerSummaryHandler.handle(id));
+    }
+
     /**
      * List customers with optional filtering.
      *
      * @param activeOnly optional filter to show only active customers
-     * @param searchTerm optional search term to filter by name or email
+     * @param searchTerm optional search term to filter by name or email; results are ranked best match first
+     * @param offset optional number of search results to skip (default 0)
+     * @param limit optional maximum number of search results (default 50, max 200)
      * @return list of customer DTOs with 200 OK status
      */
     @GetMapping
     public ResponseEntity<List<CustomerDto>> listCustomers(
             @RequestParam(required = false) Boolean activeOnly,
-            @RequestParam(required = false) String searchTerm) {
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit) {
 
         ListCustomersQuery query = new ListCustomersQuery();
         query.setActiveOnly(activeOnly);
         query.setSearchTerm(searchTerm);
+        query.setOffset(offset);
+        query.setLimit(limit);
 
         List<CustomerDto> customers = listCustomersHandler.handle(query);
         return ResponseEntity.ok(customers);
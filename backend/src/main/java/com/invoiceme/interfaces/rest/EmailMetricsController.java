@@ -0,0 +1,34 @@
+package com.invoiceme.interfaces.rest;
+
+import com.invoiceme.infrastructure.mail.EmailSendStats;
+import com.invoiceme.infrastructure.mail.EmailThrottle;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller exposing live outbound email send rates and throttling (authenticated).
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class EmailMetricsController {
+
+    private final EmailThrottle emailThrottle;
+
+    public EmailMetricsController(EmailThrottle emailThrottle) {
+        this.emailThrottle = emailThrottle;
+    }
+
+    /**
+     * Get the current send rates of this instance: overall, then per recipient domain.
+     *
+     * @return list of send statistics, overall first, then the busiest domains, with 200 OK status
+     */
+    @GetMapping("/email")
+    public ResponseEntity<List<EmailSendStats>> getEmailStats() {
+        return ResponseEntity.ok(emailThrottle.stats());
+    }
+}
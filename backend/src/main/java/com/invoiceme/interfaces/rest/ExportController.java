@@ -0,0 +1,82 @@
+package com.invoiceme.interfaces.rest;
+
+import com.invoiceme.application.exports.ExportData.ExportDataHandler;
+import com.invoiceme.application.exports.ExportData.ExportDataQuery;
+import com.invoiceme.application.exports.ExportData.ExportFormat;
+import com.invoiceme.infrastructure.persistence.ExportDataset;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for bulk data exports (authenticated endpoints).
+ * Responses are streamed row by row as NDJSON (default) or CSV.
+ */
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final ExportDataHandler exportDataHandler;
+
+    public ExportController(ExportDataHandler exportDataHandler) {
+        this.exportDataHandler = exportDataHandler;
+    }
+
+    /**
+     * Export all invoices.
+     *
+     * @param format the output format, "ndjson" or "csv"
+     * @return the streamed export with 200 OK status
+     */
+    @GetMapping("/invoices")
+    public ResponseEntity<StreamingResponseBody> exportInvoices(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        return export(ExportDataset.INVOICES, "invoices", format);
+    }
+
+    /**
+     * Export all invoice line items.
+     *
+     * @param format the output format, "ndjson" or "csv"
+     * @return the streamed export with 200 OK status
+     */
+    @GetMapping("/line-items")
+    public ResponseEntity<StreamingResponseBody> exportLineItems(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        return export(ExportDataset.LINE_ITEMS, "line-items", format);
+    }
+
+    /**
+     * Export all payments.
+     *
+     * @param format the output format, "ndjson" or "csv"
+     * @return the streamed export with 200 OK status
+     */
+    @GetMapping("/payments")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        return export(ExportDataset.PAYMENTS, "payments", format);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(ExportDataset dataset, String fileName, String format) {
+        ExportDataQuery query = new ExportDataQuery(dataset, ExportFormat.fromValue(format));
+
+        // The handler opens its transaction on the async thread that writes the body
+        StreamingResponseBody body = outputStream -> exportDataHandler.handle(query, outputStream);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename(fileName + "." + query.getFormat().getFileExtension())
+            .build();
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(query.getFormat().getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(body);
+    }
+}
@@ -1,13 +1,23 @@
 package com.invoiceme.interfaces.rest;
 
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkInvoiceAction;
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkTransitionInvoicesCommand;
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkTransitionInvoicesHandler;
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkTransitionResult;
 import com.invoiceme.application.invoices.CancelInvoice.CancelInvoiceCommand;
 import com.invoiceme.application.invoices.CancelInvoice.CancelInvoiceHandler;
 import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceCommand;
 import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceHandler;
+import com.invoiceme.application.invoices.CreateInvoiceBatch.CreateInvoiceBatchCommand;
+import com.invoiceme.application.invoices.CreateInvoiceBatch.CreateInvoiceBatchHandler;
+import com.invoiceme.application.invoices.CreateInvoiceBatch.CreateInvoiceBatchResult;
 import com.invoiceme.application.invoices.GetInvoice.GetInvoiceHandler;
 import com.invoiceme.application.invoices.GetInvoice.GetInvoiceQuery;
 import com.invoiceme.application.invoices.GetInvoice.InvoiceDto;
+import com.invoiceme.application.invoices.GetInvoiceStats.GetInvoiceStatsHandler;
+import com.invoiceme.application.invoices.GetInvoiceStats.InvoiceStatsDto;
 import com.invoiceme.application.invoices.ListInvoices.InvoiceSummaryDto;
+import com.invoiceme.application.invoices.ListInvoices.InvoiceSummaryPage;
 import com.invoiceme.application.invoices.ListInvoices.ListInvoicesHandler;
 import com.invoiceme.application.invoices.ListInvoices.ListInvoicesQuery;
 import com.invoiceme.application.invoices.MarkAsPaid.MarkAsPaidCommand;
@@ -15,10 +25,16 @@ import com.invoiceme.application.invoices.MarkAsPaid.MarkAsPaidHandler;
 import com.invoiceme.application.invoices.SendInvoice.SendInvoiceCommand;
 import com.invoiceme.application.invoices.SendInvoice.SendInvoiceHandler;
 import com.invoiceme.domain.invoice.InvoiceStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,25 +46,39 @@ import java.util.UUID;
 @RequestMapping("/api/invoices")
 public class InvoiceController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CreateInvoiceHandler createInvoiceHandler;
     private final SendInvoiceHandler sendInvoiceHandler;
     private final CancelInvoiceHandler cancelInvoiceHandler;
     private final MarkAsPaidHandler markAsPaidHandler;
     private final GetInvoiceHandler getInvoiceHandler;
     private final ListInvoicesHandler listInvoicesHandler;
+    private final GetInvoiceStatsHandler getInvoiceStatsHandler;
+    private final CreateInvoiceBatchHandler createInvoiceBatchHandler;
+    private final BulkTransitionInvoicesHandler bulkTransitionInvoicesHandler;
+    private final ResourceETags resourceETags;
 
     public InvoiceController(CreateInvoiceHandler createInvoiceHandler,
                             SendInvoiceHandler sendInvoiceHandler,
                             CancelInvoiceHandler cancelInvoiceHandler,
                             MarkAsPaidHandler markAsPaidHandler,
                             GetInvoiceHandler getInvoiceHandler,
-                            ListInvoicesHandler listInvoicesHandler) {
+                            ListInvoicesHandler listInvoicesHandler,
+                            GetInvoiceStatsHandler getInvoiceStatsHandler,
+                            CreateInvoiceBatchHandler createInvoiceBatchHandler,
+                            BulkTransitionInvoicesHandler bulkTransitionInvoicesHandler,
+                            ResourceETags resourceETags) {
         this.createInvoiceHandler = createInvoiceHandler;
         this.sendInvoiceHandler = sendInvoiceHandler;
         this.cancelInvoiceHandler = cancelInvoiceHandler;
         this.markAsPaidHandler = markAsPaidHandler;
         this.getInvoiceHandler = getInvoiceHandler;
         this.listInvoicesHandler = listInvoicesHandler;
+        this.getInvoiceStatsHandler = getInvoiceStatsHandler;
+        this.createInvoiceBatchHandler = createInvoiceBatchHandler;
+        this.bulkTransitionInvoicesHandler = bulkTransitionInvoicesHandler;
+        this.resourceETags = resourceETags;
     }
 
     /**
@@ -69,14 +99,46 @@ public class InvoiceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(invoice);
     }
 
+    /**
+     * Create many invoices in one request.
+     * Items are validated individually and committed in chunks, so the response
+     * reports success or the validation errors for every item by its request index.
+     *
+     * @param command the batch command with the invoices and an optional chunk size
+     * @return the per-item results with 200 OK status
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<CreateInvoiceBatchResult> createInvoiceBatch(@RequestBody CreateInvoiceBatchCommand command) {
+        CreateInvoiceBatchResult result = createInvoiceBatchHandler.handle(command);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Get invoice counts and total amounts per status across all invoices.
+     *
+     * @return the invoice statistics with 200 OK status
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<InvoiceStatsDto> getInvoiceStats() {
+        InvoiceStatsDto stats = getInvoiceStatsHandler.handle();
+        return ResponseEntity.ok(stats);
+    }
+
     /**
      * Get an invoice by ID.
+     * Answers 304 Not Modified, without loading the invoice, when the client's If-None-Match still matches.
      *
      * @param id the invoice ID
-     * @return the invoice DTO with 200 OK status
+     * @param request the current request, for the conditional GET check
+     * @return the invoice DTO with 200 OK status and an ETag
      */
     @GetMapping("/{id}")
-    public ResponseEntity<InvoiceDto> getInvoice(@PathVariable UUID id) {
+    public ResponseEntity<InvoiceDto> getInvoice(@PathVariable UUID id, WebRequest request) {
+        String eTag = resourceETags.forInvoice(id);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+
         GetInvoiceQuery query = new GetInvoiceQuery();
         query.setInvoiceId(id);
         InvoiceDto invoice = getInvoiceHandler.handle(query);
@@ -84,20 +146,59 @@ public class InvoiceController {
     }
 
     /**
-     * List invoices with optional status filter.
+     * List invoices, newest first, one keyset page at a time.
+     * All filters are optional and are evaluated in the database.
+     * When more rows exist, the cursor for the next page is returned in the
+     * X-Next-Cursor header (and as a Link rel="next" header).
      *
      * @param status optional filter to show only invoices with specific status
+     * @param customerId optional filter to show only invoices for a specific customer
+     * @param issueDateFrom optional inclusive lower bound on issue date
+     * @param issueDateTo optional inclusive upper bound on issue date
+     * @param dueDateFrom optional inclusive lower bound on due date
+     * @param dueDateTo optional inclusive upper bound on due date
+     * @param minAmount optional inclusive lower bound on total amount
+     * @param maxAmount optional inclusive upper bound on total amount
+     * @param cursor optional cursor returned by the previous page
+     * @param limit optional page size (default 50, max 500)
      * @return list of invoice summary DTOs with 200 OK status
      */
     @GetMapping
     public ResponseEntity<List<InvoiceSummaryDto>> listInvoices(
-            @RequestParam(required = false) InvoiceStatus status) {
+            @RequestParam(required = false) InvoiceStatus status,
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate issueDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate issueDateTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
         ListInvoicesQuery query = new ListInvoicesQuery();
         query.setStatus(status);
+        query.setCustomerId(customerId);
+        query.setIssueDateFrom(issueDateFrom);
+        query.setIssueDateTo(issueDateTo);
+        query.setDueDateFrom(dueDateFrom);
+        query.setDueDateTo(dueDateTo);
+        query.setMinAmount(minAmount);
+        query.setMaxAmount(maxAmount);
+        query.setCursor(cursor);
+        query.setLimit(limit);
 
-        List<InvoiceSummaryDto> invoices = listInvoicesHandler.handle(query);
-        return ResponseEntity.ok(invoices);
+        InvoiceSummaryPage page = listInvoicesHandler.handle(query);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", page.getNextCursor())
+                .toUriString();
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            response.header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return response.body(page.getItems());
     }
 
     /**
@@ -143,6 +244,34 @@ public class InvoiceController {
         return ResponseEntity.ok(invoice);
     }
 
+    /**
+     * Send many DRAFT invoices, selected by ID list or by filter
+     * (customerId and/or issue date range; status is always DRAFT).
+     *
+     * @param command the bulk command with invoice IDs or filter fields
+     * @return the per-invoice results with 200 OK status
+     */
+    @PostMapping("/bulk/send")
+    public ResponseEntity<BulkTransitionResult> bulkSendInvoices(@RequestBody BulkTransitionInvoicesCommand command) {
+        command.setAction(BulkInvoiceAction.SEND);
+        BulkTransitionResult result = bulkTransitionInvoicesHandler.handle(command);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Cancel many invoices, selected by ID list or by filter
+     * (status, customerId and/or issue date range), with one cancellation reason.
+     *
+     * @param command the bulk command with invoice IDs or filter fields and the reason
+     * @return the per-invoice results with 200 OK status
+     */
+    @PostMapping("/bulk/cancel")
+    public ResponseEntity<BulkTransitionResult> bulkCancelInvoices(@RequestBody BulkTransitionInvoicesCommand command) {
+        command.setAction(BulkInvoiceAction.CANCEL);
+        BulkTransitionResult result = bulkTransitionInvoicesHandler.handle(command);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Mark an invoice as paid (transition from SENT to PAID).
      *
@@ -1,5 +1,7 @@
 package com.invoiceme.interfaces.rest;
 
+import com.invoiceme.application.customers.SuggestCustomers.CustomerTypeaheadIndex;
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
 import com.invoiceme.domain.customer.Address;
 import com.invoiceme.domain.customer.Customer;
 import com.invoiceme.domain.invoice.Invoice;
@@ -37,15 +39,21 @@ public class MockupDataController {
     private final InvoiceRepository invoiceRepository;
     private final PaymentRepository paymentRepository;
     private final ReminderEmailRepository reminderEmailRepository;
+    private final InvoiceDtoCache invoiceDtoCache;
+    private final CustomerTypeaheadIndex customerTypeaheadIndex;
 
     public MockupDataController(CustomerRepository customerRepository,
                                 InvoiceRepository invoiceRepository,
                                 PaymentRepository paymentRepository,
-                                ReminderEmailRepository reminderEmailRepository) {
+                                ReminderEmailRepository reminderEmailRepository,
+                                InvoiceDtoCache invoiceDtoCache,
+                                CustomerTypeaheadIndex customerTypeaheadIndex) {
         this.customerRepository = customerRepository;
         this.invoiceRepository = invoiceRepository;
         this.paymentRepository = paymentRepository;
         this.reminderEmailRepository = reminderEmailRepository;
+        this.invoiceDtoCache = invoiceDtoCache;
+        this.customerTypeaheadIndex = customerTypeaheadIndex;
     }
 
     /**
@@ -60,9 +68,13 @@ public class MockupDataController {
         paymentRepository.deleteAll();
         invoiceRepository.deleteAll();
         customerRepository.deleteAll();
+        invoiceDtoCache.invalidateAll();
+        customerTypeaheadIndex.clear();
 
         // Create customers first
         List<Customer> customers = createCustomers();
+        customers.forEach(customer -> customerTypeaheadIndex.put(customer.getId(), customer.getBusinessName(),
+            customer.getContactName(), customer.getEmail()));
 
         // Create invoices with various statuses
         List<Invoice> invoices = createInvoices(customers);
@@ -9,9 +9,13 @@ import com.invoiceme.application.payments.ListPayments.ListPaymentsHandler;
 import com.invoiceme.application.payments.ListPayments.ListPaymentsQuery;
 import com.invoiceme.application.payments.RecordPayment.RecordPaymentCommand;
 import com.invoiceme.application.payments.RecordPayment.RecordPaymentHandler;
+import com.invoiceme.application.payments.RecordPaymentBatch.RecordPaymentBatchCommand;
+import com.invoiceme.application.payments.RecordPaymentBatch.RecordPaymentBatchHandler;
+import com.invoiceme.application.payments.RecordPaymentBatch.RecordPaymentBatchResult;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,15 +32,21 @@ public class PaymentController {
     private final GetPaymentHandler getPaymentHandler;
     private final ListPaymentsHandler listPaymentsHandler;
     private final GetPaymentsByInvoiceHandler getPaymentsByInvoiceHandler;
+    private final RecordPaymentBatchHandler recordPaymentBatchHandler;
+    private final ResourceETags resourceETags;
 
     public PaymentController(RecordPaymentHandler recordPaymentHandler,
                             GetPaymentHandler getPaymentHandler,
                             ListPaymentsHandler listPaymentsHandler,
-                            GetPaymentsByInvoiceHandler getPaymentsByInvoiceHandler) {
+                            GetPaymentsByInvoiceHandler getPaymentsByInvoiceHandler,
+                            RecordPaymentBatchHandler recordPaymentBatchHandler,
+                            ResourceETags resourceETags) {
         this.recordPaymentHandler = recordPaymentHandler;
         this.getPaymentHandler = getPaymentHandler;
         this.listPaymentsHandler = listPaymentsHandler;
         this.getPaymentsByInvoiceHandler = getPaymentsByInvoiceHandler;
+        this.recordPaymentBatchHandler = recordPaymentBatchHandler;
+        this.resourceETags = resourceETags;
     }
 
     /**
@@ -57,14 +67,34 @@ public class PaymentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(payment);
     }
 
+    /**
+     * Record many payments in one request (e.g. a processor settlement batch).
+     * Each item follows the rules of POST /api/payments, including payment ID idempotency.
+     *
+     * @param command the batch of payment recording commands
+     * @return the per-item results with 200 OK status
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<RecordPaymentBatchResult> recordPaymentBatch(@RequestBody RecordPaymentBatchCommand command) {
+        RecordPaymentBatchResult result = recordPaymentBatchHandler.handle(command);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get a payment by ID.
+     * Answers 304 Not Modified, without loading the payment, when the client's If-None-Match still matches.
      *
      * @param id the payment ID
-     * @return the payment DTO with 200 OK status
+     * @param request the current request, for the conditional GET check
+     * @return the payment DTO with 200 OK status and an ETag
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PaymentDto> getPayment(@PathVariable UUID id) {
+    public ResponseEntity<PaymentDto> getPayment(@PathVariable UUID id, WebRequest request) {
+        String eTag = resourceETags.forPayment(id);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+
         GetPaymentQuery query = new GetPaymentQuery();
         query.setPaymentId(id);
         PaymentDto payment = getPaymentHandler.handle(query);
@@ -90,12 +120,19 @@ public class PaymentController {
 
     /**
      * Get all payments for a specific invoice.
+     * Answers 304 Not Modified when the client's If-None-Match still matches.
      *
      * @param invoiceId the invoice ID
-     * @return list of payment DTOs for the invoice with 200 OK status
+     * @param request the current request, for the conditional GET check
+     * @return list of payment DTOs for the invoice with 200 OK status and an ETag
      */
     @GetMapping("/invoice/{invoiceId}")
-    public ResponseEntity<List<PaymentDto>> getPaymentsByInvoice(@PathVariable UUID invoiceId) {
+    public ResponseEntity<List<PaymentDto>> getPaymentsByInvoice(@PathVariable UUID invoiceId, WebRequest request) {
+        String eTag = resourceETags.forInvoicePayments(invoiceId);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+
         GetPaymentsByInvoiceQuery query = new GetPaymentsByInvoiceQuery();
         query.setInvoiceId(invoiceId);
 
@@ -5,10 +5,10 @@ import com.invoiceme.application.payments.GetPayment.GetPaymentQuery;
 import com.invoiceme.application.payments.GetPayment.PaymentDto;
 import com.invoiceme.application.payments.RecordPayment.RecordPaymentCommand;
 import com.invoiceme.application.payments.RecordPayment.RecordPaymentHandler;
+import com.invoiceme.application.payments.ResolvePaymentLink.ResolvePaymentLinkHandler;
 import com.invoiceme.application.invoices.GetInvoice.GetInvoiceHandler;
 import com.invoiceme.application.invoices.GetInvoice.GetInvoiceQuery;
 import com.invoiceme.application.invoices.GetInvoice.InvoiceDto;
-import com.invoiceme.infrastructure.persistence.InvoiceRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,16 +26,16 @@ public class PublicPaymentController {
     private final RecordPaymentHandler recordPaymentHandler;
     private final GetPaymentHandler getPaymentHandler;
     private final GetInvoiceHandler getInvoiceHandler;
-    private final InvoiceRepository invoiceRepository;
+    private final ResolvePaymentLinkHandler resolvePaymentLinkHandler;
 
     public PublicPaymentController(RecordPaymentHandler recordPaymentHandler,
                                    GetPaymentHandler getPaymentHandler,
                                    GetInvoiceHandler getInvoiceHandler,
-                                   InvoiceRepository invoiceRepository) {
+                                   ResolvePaymentLinkHandler resolvePaymentLinkHandler) {
         this.recordPaymentHandler = recordPaymentHandler;
         this.getPaymentHandler = getPaymentHandler;
         this.getInvoiceHandler = getInvoiceHandler;
-        this.invoiceRepository = invoiceRepository;
+        this.resolvePaymentLinkHandler = resolvePaymentLinkHandler;
     }
 
     /**
@@ -48,9 +48,7 @@ public class PublicPaymentController {
     @GetMapping("/link/{paymentLink}")
     public ResponseEntity<InvoiceDto> getInvoiceByPaymentLink(@PathVariable String paymentLink) {
         // Find invoice by payment link
-        UUID invoiceId = invoiceRepository.findByPaymentLink(paymentLink)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid payment link"))
-                .getId();
+        UUID invoiceId = resolvePaymentLinkHandler.handle(paymentLink);
 
         GetInvoiceQuery query = new GetInvoiceQuery();
         query.setInvoiceId(invoiceId);
@@ -73,9 +71,7 @@ public class PublicPaymentController {
             @RequestBody RecordPaymentCommand command) {
 
         // Verify payment link is valid and get invoice ID
-        UUID invoiceId = invoiceRepository.findByPaymentLink(paymentLink)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid payment link"))
-                .getId();
+        UUID invoiceId = resolvePaymentLinkHandler.handle(paymentLink);
 
         // Override invoice ID from payment link (prevent manipulation)
         command.setInvoiceId(invoiceId);
@@ -44,6 +44,7 @@ public class ReminderController {
 
     /**
      * Send a reminder email for an invoice (manual trigger).
+     * The reminder is queued and delivered by the outbox worker within a few seconds.
      *
      * @param command the send reminder email command
      * @return the reminder ID with 201 Created status
@@ -54,7 +55,7 @@ public class ReminderController {
 
         ReminderSentResponse response = new ReminderSentResponse();
         response.setReminderId(reminderId);
-        response.setMessage("Reminder email sent successfully");
+        response.setMessage("Reminder email queued for delivery");
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
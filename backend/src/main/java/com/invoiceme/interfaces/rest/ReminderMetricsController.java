@@ -0,0 +1,34 @@
+package com.invoiceme.interfaces.rest;
+
+import com.invoiceme.infrastructure.scheduler.ReminderDispatcher;
+import com.invoiceme.infrastructure.scheduler.ReminderRunMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller exposing throughput and latency of recent reminder dispatch runs (authenticated).
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class ReminderMetricsController {
+
+    private final ReminderDispatcher reminderDispatcher;
+
+    public ReminderMetricsController(ReminderDispatcher reminderDispatcher) {
+        this.reminderDispatcher = reminderDispatcher;
+    }
+
+    /**
+     * Get the metrics of the most recent reminder runs.
+     *
+     * @return list of run metrics, newest first, with 200 OK status
+     */
+    @GetMapping("/reminder-runs")
+    public ResponseEntity<List<ReminderRunMetrics>> getReminderRuns() {
+        return ResponseEntity.ok(reminderDispatcher.recentRuns());
+    }
+}
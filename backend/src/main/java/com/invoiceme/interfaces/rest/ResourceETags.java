@@ -0,0 +1,103 @@
+package com.invoiceme.interfaces.rest;
+
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Computes ETags for conditional GETs from single-row, column-only queries, so a
+ * 304 Not Modified response never loads an entity or serializes a DTO.
+ * Each method returns null when the resource does not exist; the regular handler
+ * then produces the usual error.
+ */
+@Component
+public class ResourceETags {
+
+    private final InvoiceRepository invoiceRepository;
+    private final CustomerRepository customerRepository;
+    private final PaymentRepository paymentRepository;
+
+    public ResourceETags(InvoiceRepository invoiceRepository,
+                         CustomerRepository customerRepository,
+                         PaymentRepository paymentRepository) {
+        this.invoiceRepository = invoiceRepository;
+        this.customerRepository = customerRepository;
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * ETag of an invoice detail: its version, plus the customer's last update (the
+     * customer name is part of the response) and whether it is overdue today.
+     *
+     * @param invoiceId the invoice ID
+     * @return the ETag, or null if the invoice does not exist
+     */
+    @Transactional(readOnly = true)
+    public String forInvoice(UUID invoiceId) {
+        List<Object[]> rows = invoiceRepository.findFreshnessById(invoiceId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        long version = ((Number) row[0]).longValue();
+        LocalDateTime customerUpdatedAt = (LocalDateTime) row[1];
+        boolean overdue = row[2] == InvoiceStatus.SENT && ((LocalDate) row[3]).isBefore(LocalDate.now());
+        return "inv-" + version + "-" + micros(customerUpdatedAt) + (overdue ? "-overdue" : "");
+    }
+
+    /**
+     * ETag of a customer: its last update time.
+     *
+     * @param customerId the customer ID
+     * @return the ETag, or null if the customer does not exist
+     */
+    @Transactional(readOnly = true)
+    public String forCustomer(UUID customerId) {
+        return customerRepository.findUpdatedAtById(customerId)
+            .map(updatedAt -> "cus-" + micros(updatedAt))
+            .orElse(null);
+    }
+
+    /**
+     * ETag of a payment. Payments are never modified, so the creation time identifies the representation.
+     *
+     * @param paymentId the payment ID
+     * @return the ETag, or null if the payment does not exist
+     */
+    @Transactional(readOnly = true)
+    public String forPayment(UUID paymentId) {
+        return paymentRepository.findCreatedAtById(paymentId)
+            .map(createdAt -> "pay-" + micros(createdAt))
+            .orElse(null);
+    }
+
+    /**
+     * ETag of the payments of an invoice: recording a payment always updates the
+     * invoice's amounts, so the invoice version changes with the list.
+     *
+     * @param invoiceId the invoice ID
+     * @return the ETag, or null if the invoice does not exist
+     */
+    @Transactional(readOnly = true)
+    public String forInvoicePayments(UUID invoiceId) {
+        return invoiceRepository.findVersionById(invoiceId)
+            .map(version -> "inv-pay-" + version)
+            .orElse(null);
+    }
+
+    private static long micros(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return 0L;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), timestamp);
+    }
+}
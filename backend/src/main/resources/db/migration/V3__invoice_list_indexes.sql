@@ -0,0 +1,21 @@
+-- V3__invoice_list_indexes.sql
+-- Composite indexes backing keyset pagination and SQL-side filters on GET /api/invoices.
+-- Every list query orders by (created_at DESC, id DESC); each index ends with those
+-- columns so the leading equality filter and the keyset seek share one index range scan.
+
+-- Unfiltered listing and keyset seek
+CREATE INDEX idx_invoices_created_at_id ON invoices(created_at, id);
+
+-- Status filter (the most common list filter)
+CREATE INDEX idx_invoices_status_created_at_id ON invoices(status, created_at, id);
+
+-- Customer filter (customer detail pages)
+CREATE INDEX idx_invoices_customer_created_at_id ON invoices(customer_id, created_at, id);
+
+-- Date range filters, usually combined with a status filter
+CREATE INDEX idx_invoices_status_issue_date ON invoices(status, issue_date);
+CREATE INDEX idx_invoices_status_due_date ON invoices(status, due_date);
+CREATE INDEX idx_invoices_issue_date ON invoices(issue_date);
+
+-- Amount range filter
+CREATE INDEX idx_invoices_total_amount ON invoices(total_amount);
@@ -0,0 +1,19 @@
+-- V4__invoice_number_counters.sql
+-- Per-month counters backing INV-YYYYMM-NNNN invoice numbers.
+-- Each node reserves a block of numbers at a time by advancing next_value,
+-- so the row is locked only once per block rather than once per invoice.
+
+CREATE TABLE invoice_number_counters (
+    year_month VARCHAR(6) PRIMARY KEY,
+    next_value BIGINT NOT NULL,
+
+    CONSTRAINT chk_invoice_number_counter_positive CHECK (next_value > 0)
+);
+
+-- Continue after the highest number already issued in each month
+INSERT INTO invoice_number_counters (year_month, next_value)
+SELECT SUBSTRING(invoice_number FROM 5 FOR 6),
+       MAX(CAST(SUBSTRING(invoice_number FROM 12) AS BIGINT)) + 1
+FROM invoices
+WHERE invoice_number ~ '^INV-[0-9]{6}-[0-9]+$'
+GROUP BY SUBSTRING(invoice_number FROM 5 FOR 6);
@@ -0,0 +1,29 @@
+-- V5__statement_review_items.sql
+-- Review queue for bank statement lines that the import could not turn into payments
+-- (no matching open invoice, ambiguous match, or rejected by payment rules).
+
+CREATE TABLE statement_review_items (
+    id UUID PRIMARY KEY,
+    import_id UUID NOT NULL,
+    file_name VARCHAR(255),
+    line_number INTEGER NOT NULL,
+    booking_date DATE,
+    amount DECIMAL(15,2),
+    currency VARCHAR(3),
+    counterparty_name VARCHAR(255),
+    reference TEXT,
+    bank_transaction_id VARCHAR(255),
+    candidate_invoice_id UUID REFERENCES invoices(id) ON DELETE SET NULL,
+    reason TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    resolved_at TIMESTAMP,
+
+    CONSTRAINT chk_statement_review_status CHECK (status IN ('PENDING', 'RESOLVED', 'DISMISSED'))
+);
+
+CREATE INDEX idx_statement_review_status_created ON statement_review_items(status, created_at);
+CREATE INDEX idx_statement_review_import_id ON statement_review_items(import_id);
+
+-- Statement lines carry the bank's transaction id, which the import stores as the payment reference
+CREATE INDEX idx_payments_transaction_reference ON payments(transaction_reference);
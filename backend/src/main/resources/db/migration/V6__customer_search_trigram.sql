@@ -0,0 +1,10 @@
+-- V6__customer_search_trigram.sql
+-- Trigram index backing the customer search on GET /api/customers?searchTerm=.
+-- The search is a case-insensitive substring match (ILIKE '%term%') over business name,
+-- contact name and email, ranked by trigram similarity; gin_trgm_ops serves both.
+-- Terms shorter than three characters produce no trigrams and fall back to a scan.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_customers_search_trgm ON customers
+    USING gin (business_name gin_trgm_ops, contact_name gin_trgm_ops, email gin_trgm_ops);
@@ -0,0 +1,15 @@
+-- V7__reminder_outbox.sql
+-- reminder_emails becomes the outbox for reminder delivery: handlers insert PENDING rows
+-- and the delivery worker claims due rows (FOR UPDATE SKIP LOCKED), sends them and
+-- records the outcome. A claim bumps attempts and moves scheduled_for forward as a
+-- lease; a failed attempt moves it forward again with exponential backoff until
+-- max_attempts is reached and the row is marked FAILED.
+
+ALTER TABLE reminder_emails ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE reminder_emails ADD COLUMN max_attempts INTEGER NOT NULL DEFAULT 5;
+
+-- Rows written before scheduled_for was always set would never be claimed
+UPDATE reminder_emails SET scheduled_for = created_at WHERE scheduled_for IS NULL;
+
+-- The worker only ever scans PENDING rows; keep that index small as SENT rows pile up
+CREATE INDEX idx_reminder_outbox_due ON reminder_emails(scheduled_for) WHERE status = 'PENDING';
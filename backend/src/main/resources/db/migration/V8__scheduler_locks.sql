@@ -0,0 +1,11 @@
+-- V8__scheduler_locks.sql
+-- Cluster-wide locks for scheduled jobs. A node runs a job (or one partition of it)
+-- only while it holds the job's row: locked_until is a lease, so a lock held by a node
+-- that died is taken over once it expires.
+
+CREATE TABLE scheduler_locks (
+    name VARCHAR(200) PRIMARY KEY,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP NOT NULL
+);
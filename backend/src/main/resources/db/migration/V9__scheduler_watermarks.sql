@@ -0,0 +1,10 @@
+-- V9__scheduler_watermarks.sql
+-- How far a scheduled job has got: the last day it has fully processed. The automatic
+-- reminder job keeps one row per partition of its sweep (same name as the partition's
+-- lock), so a run after missed days catches up on exactly the days that were missed.
+
+CREATE TABLE scheduler_watermarks (
+    name VARCHAR(200) PRIMARY KEY,
+    processed_through DATE NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
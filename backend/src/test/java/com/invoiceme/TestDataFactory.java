@@ -310,6 +310,21 @@ public class TestDataFactory {
         return builder.build();
     }
 
+    /**
+     * A SENT invoice with a single line item for the given amount, ready to be paid.
+     * Returns the builder so callers can still set the invoice number a test matches on.
+     */
+    public static InvoiceBuilder sentInvoice(Customer customer, String amount, boolean allowsPartialPayment) {
+        InvoiceBuilder builder = anInvoice()
+            .withCustomer(customer)
+            .withStatus(InvoiceStatus.SENT)
+            .withLineItem("Services", 1, new BigDecimal(amount));
+        if (allowsPartialPayment) {
+            builder.allowsPartialPayment();
+        }
+        return builder;
+    }
+
     public static Invoice createOverdueInvoice(Customer customer) {
         return anInvoice()
             .withCustomer(customer)
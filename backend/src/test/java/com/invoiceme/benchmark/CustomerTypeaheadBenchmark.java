@@ -0,0 +1,101 @@
+package com.invoiceme.benchmark;
+
+import com.invoiceme.application.customers.SuggestCustomers.CustomerSuggestionDto;
+import com.invoiceme.application.customers.SuggestCustomers.CustomerTypeaheadIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of customer autocomplete lookups against an index of 1M synthetic customers.
+ * Not part of the test suite; run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.invoiceme.benchmark.CustomerTypeaheadBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class CustomerTypeaheadBenchmark {
+
+    private static final String[] WORDS = {
+        "acme", "northwind", "contoso", "fabrikam", "tailspin", "litware", "adventure", "wingtip",
+        "proseware", "alpine", "coho", "lucerne", "margie", "trey", "humongous", "wide", "world",
+        "blue", "yonder", "fourth", "coffee", "graphic", "design", "institute", "southridge", "video"
+    };
+    private static final String[] SUFFIXES = {"Inc", "LLC", "Ltd", "GmbH", "Group", "Partners", "Co", "Holdings"};
+    private static final String[] FIRST_NAMES = {
+        "alice", "bob", "carol", "dave", "erin", "frank", "grace", "heidi", "ivan", "judy", "mallory", "oscar"
+    };
+    private static final String[] LAST_NAMES = {
+        "smith", "jones", "garcia", "miller", "davis", "martinez", "lopez", "wilson", "anderson", "thomas"
+    };
+
+    @Param({"1000000"})
+    private int customers;
+
+    private CustomerTypeaheadIndex index;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        index = new CustomerTypeaheadIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < customers; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String company = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                + " " + Integer.toString(i, 36) + " " + SUFFIXES[random.nextInt(SUFFIXES.length)];
+            index.put(new UUID(random.nextLong(), i), company, first + " " + last,
+                first + "." + last + i + "@" + WORDS[random.nextInt(WORDS.length)] + ".example");
+        }
+        index.markReady();
+    }
+
+    /** One short, very common prefix: bounded by the candidate cap. */
+    @Benchmark
+    public List<CustomerSuggestionDto> commonPrefix() {
+        return index.suggest("no", 10);
+    }
+
+    /** A typical partially typed company name. */
+    @Benchmark
+    public List<CustomerSuggestionDto> companyPrefix() {
+        return index.suggest("northwind con", 10);
+    }
+
+    /** A selective token that matches a handful of customers. */
+    @Benchmark
+    public List<CustomerSuggestionDto> selectiveToken() {
+        return index.suggest("alpine 2n9", 10);
+    }
+
+    /** An email typed up to the domain. */
+    @Benchmark
+    public List<CustomerSuggestionDto> emailPrefix() {
+        return index.suggest("alice.smith12", 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CustomerTypeaheadBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
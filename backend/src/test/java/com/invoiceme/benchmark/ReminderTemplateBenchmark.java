@@ -0,0 +1,217 @@
+package com.invoiceme.benchmark;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.reminder.ReminderType;
+import com.invoiceme.infrastructure.templates.RenderedReminder;
+import com.invoiceme.infrastructure.templates.ReminderTemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering one reminder (subject and body) with the compiled templates, against
+ * the String.format implementation they replaced, over a day's worth of invoices
+ * (the five reminder due dates, varied amounts).
+ * Not part of the test suite; run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.invoiceme.benchmark.ReminderTemplateBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReminderTemplateBenchmark {
+
+    private static final int INVOICES = 10_000;
+
+    private final LocalDate today = LocalDate.now();
+    private ReminderTemplateEngine engine;
+    private Invoice[] invoices;
+    private ReminderType[] types;
+    private int[] daysOverdue;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new ReminderTemplateEngine(new DefaultResourceLoader(), "classpath:templates/reminders/");
+        invoices = new Invoice[INVOICES];
+        types = new ReminderType[INVOICES];
+        daysOverdue = new int[INVOICES];
+
+        Random random = new Random(42);
+        ReminderType[] all = ReminderType.values();
+        for (int i = 0; i < INVOICES; i++) {
+            ReminderType type = all[random.nextInt(all.length)];
+            Customer customer = TestDataFactory.aCustomer().withContactName("Contact " + i).build();
+            Invoice invoice = TestDataFactory.anInvoice()
+                .withInvoiceNumber("INV-202501-" + i)
+                .withCustomer(customer)
+                .withStatus(InvoiceStatus.SENT)
+                .withDueDate(today.plusDays(type.getDaysUntilDue()))
+                .withLineItem("Service", 1 + random.nextInt(20), BigDecimal.valueOf(50 + random.nextInt(200)))
+                .build();
+            invoice.setPaymentLink("link-" + i);
+            invoices[i] = invoice;
+            types[i] = type;
+            daysOverdue[i] = (int) Math.max(0, -type.getDaysUntilDue());
+        }
+    }
+
+    @Benchmark
+    public RenderedReminder compiledTemplates() {
+        int i = next();
+        return engine.render(types[i], invoices[i], daysOverdue[i], today);
+    }
+
+    @Benchmark
+    public RenderedReminder stringFormat() {
+        int i = next();
+        return LegacyFormatRenderer.render(types[i], invoices[i], daysOverdue[i], today);
+    }
+
+    private int next() {
+        int i = next;
+        next = i + 1 == INVOICES ? 0 : i + 1;
+        return i;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ReminderTemplateBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    /**
+     * The String.format rendering from AiContentGenerationService and the handlers'
+     * generateSubject, as it was before the template engine.
+     */
+    static final class LegacyFormatRenderer {
+
+        private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM d, yyyy");
+
+        static RenderedReminder render(ReminderType type, Invoice invoice, int daysOverdue, LocalDate today) {
+            String customerName = invoice.getCustomer().getContactName();
+            String invoiceNumber = invoice.getInvoiceNumber();
+            BigDecimal amountDue = invoice.getBalanceRemaining();
+            LocalDate dueDate = invoice.getDueDate();
+            String paymentLink = "https://pay.invoiceme.com" + "/pay/" + invoice.getPaymentLink();
+
+            String body = switch (type) {
+                case BEFORE_DUE -> beforeDue(customerName, invoiceNumber, amountDue, dueDate, paymentLink, today);
+                case ON_DUE_DATE -> onDueDate(customerName, invoiceNumber, amountDue, dueDate, paymentLink);
+                case OVERDUE_7_DAYS, OVERDUE_14_DAYS ->
+                    overdue(customerName, invoiceNumber, amountDue, dueDate, daysOverdue, paymentLink, false);
+                case OVERDUE_30_DAYS ->
+                    overdue(customerName, invoiceNumber, amountDue, dueDate, daysOverdue, paymentLink, true);
+            };
+            return new RenderedReminder(subject(invoiceNumber, type, daysOverdue), body);
+        }
+
+        private static String subject(String invoiceNumber, ReminderType reminderType, int daysOverdue) {
+            return switch (reminderType) {
+                case BEFORE_DUE -> String.format("Reminder: Invoice #%s Due Soon", invoiceNumber);
+                case ON_DUE_DATE -> String.format("Payment Due Today: Invoice #%s", invoiceNumber);
+                case OVERDUE_7_DAYS, OVERDUE_14_DAYS ->
+                    String.format("Payment Overdue: Invoice #%s (%d days)", invoiceNumber, daysOverdue);
+                case OVERDUE_30_DAYS -> String.format("URGENT: Invoice #%s Overdue (%d days)", invoiceNumber, daysOverdue);
+            };
+        }
+
+        private static String beforeDue(String customerName, String invoiceNumber, BigDecimal amountDue,
+                                        LocalDate dueDate, String paymentLink, LocalDate today) {
+            long daysUntilDue = ChronoUnit.DAYS.between(today, dueDate);
+            return String.format(
+                "Dear %s,\n\n" +
+                "This is a friendly reminder that invoice #%s for $%.2f is due in %d day%s (%s).\n\n" +
+                "To ensure uninterrupted service and avoid any late fees, please process your payment at your earliest convenience.\n\n" +
+                "Payment Details:\n" +
+                "Invoice Number: %s\n" +
+                "Amount Due: $%.2f\n" +
+                "Due Date: %s\n\n" +
+                "You can make your payment quickly and securely using the link below:\n" +
+                "%s\n\n" +
+                "If you have already sent your payment, please disregard this reminder. If you have any questions or concerns about this invoice, " +
+                "please don't hesitate to contact us.\n\n" +
+                "Thank you for your prompt attention to this matter.\n\n" +
+                "Best regards,\n" +
+                "Accounts Receivable Team",
+                customerName, invoiceNumber, amountDue, daysUntilDue, daysUntilDue == 1 ? "" : "s",
+                dueDate.format(DATE_FORMATTER), invoiceNumber, amountDue,
+                dueDate.format(DATE_FORMATTER), paymentLink);
+        }
+
+        private static String onDueDate(String customerName, String invoiceNumber, BigDecimal amountDue,
+                                        LocalDate dueDate, String paymentLink) {
+            return String.format(
+                "Dear %s,\n\n" +
+                "This is a reminder that invoice #%s for $%.2f is due today (%s).\n\n" +
+                "To avoid any late fees or service interruptions, please submit your payment today.\n\n" +
+                "Payment Details:\n" +
+                "Invoice Number: %s\n" +
+                "Amount Due: $%.2f\n" +
+                "Due Date: %s (TODAY)\n\n" +
+                "You can make your payment quickly and securely using the link below:\n" +
+                "%s\n\n" +
+                "If you have already submitted your payment, thank you! Please disregard this reminder.\n\n" +
+                "If you're experiencing any issues or have questions about this invoice, please contact us immediately " +
+                "so we can assist you.\n\n" +
+                "Thank you for your prompt payment.\n\n" +
+                "Best regards,\n" +
+                "Accounts Receivable Team",
+                customerName, invoiceNumber, amountDue, dueDate.format(DATE_FORMATTER),
+                invoiceNumber, amountDue, dueDate.format(DATE_FORMATTER), paymentLink);
+        }
+
+        private static String overdue(String customerName, String invoiceNumber, BigDecimal amountDue,
+                                      LocalDate dueDate, int daysOverdue, String paymentLink, boolean urgent) {
+            String urgencyNote = urgent
+                ? "\n\nIMPORTANT: This invoice is significantly overdue. Please treat this as an urgent matter. " +
+                  "Continued non-payment may result in service suspension and additional collection fees."
+                : "";
+            return String.format(
+                "Dear %s,\n\n" +
+                "This is an important notice regarding invoice #%s, which is now %d day%s overdue.\n\n" +
+                "Payment Details:\n" +
+                "Invoice Number: %s\n" +
+                "Amount Due: $%.2f\n" +
+                "Original Due Date: %s\n" +
+                "Days Overdue: %d%s\n\n" +
+                "We kindly request your immediate attention to settle this outstanding balance. " +
+                "Late fees may apply to overdue invoices.\n\n" +
+                "You can make your payment quickly and securely using the link below:\n" +
+                "%s\n\n" +
+                "If you have already sent your payment, please disregard this reminder and accept our thanks.\n\n" +
+                "If you're experiencing financial difficulties or have questions about this invoice, " +
+                "please contact us immediately. We're here to work with you and may be able to arrange a payment plan.\n\n" +
+                "We value your business and look forward to resolving this matter promptly.\n\n" +
+                "Best regards,\n" +
+                "Accounts Receivable Team",
+                customerName, invoiceNumber, daysOverdue, daysOverdue == 1 ? "" : "s",
+                invoiceNumber, amountDue, dueDate.format(DATE_FORMATTER), daysOverdue,
+                urgencyNote, paymentLink);
+        }
+    }
+}
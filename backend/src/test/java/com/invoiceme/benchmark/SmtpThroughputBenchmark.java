@@ -0,0 +1,97 @@
+package com.invoiceme.benchmark;
+
+import com.invoiceme.infrastructure.mail.EmailSendResult;
+import com.invoiceme.infrastructure.mail.OutgoingEmail;
+import com.invoiceme.infrastructure.mail.SmtpConnectionPool;
+import com.invoiceme.support.StubSmtpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages per second through the SMTP transport, 8 concurrent senders against the
+ * in-JVM SMTP server: pooled sessions with and without PIPELINING, against a new
+ * connection per message (maxMessagesPerConnection = 1, what an unpooled sender does),
+ * plus batches of 50 on one connection.
+ * Loopback has next to no latency, so the gap to a real mail server, where every saved
+ * round trip is milliseconds, is wider than measured here.
+ * Not part of the test suite; run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.invoiceme.benchmark.SmtpThroughputBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class SmtpThroughputBenchmark {
+
+    private static final int BATCH = 50;
+
+    @Param({"pooled", "pooled-lockstep", "connection-per-message"})
+    public String transport;
+
+    private StubSmtpServer server;
+    private SmtpConnectionPool pool;
+    private final OutgoingEmail email = new OutgoingEmail("customer@example.com", "Payment Overdue: Invoice #INV-202501-42 (7 days)",
+        "Dear Customer,\n\nInvoice #INV-202501-42 for $1234.50 is now 7 days overdue.\n\n"
+            + "https://pay.invoiceme.com/pay/abc123\n\nBest regards,\nAccounts Receivable Team");
+    private List<OutgoingEmail> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new StubSmtpServer(0, !transport.equals("pooled-lockstep"));
+        server.setKeepMessages(false);
+        int maxMessagesPerConnection = transport.equals("connection-per-message") ? 1 : 1000;
+        pool = new SmtpConnectionPool("127.0.0.1", server.getPort(), "none", "", "",
+            "billing@invoiceme.test", "bench.invoiceme.test", 8, maxMessagesPerConnection, 60, 30000);
+        batch = new ArrayList<>();
+        for (int i = 0; i < BATCH; i++) {
+            batch.add(email);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void send() {
+        pool.send(email);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<EmailSendResult> sendBatch() {
+        return pool.sendBatch(batch);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(SmtpThroughputBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,148 @@
+package com.invoiceme.infrastructure;
+
+import com.invoiceme.infrastructure.mail.EmailSendStats;
+import com.invoiceme.infrastructure.mail.EmailThrottle;
+import com.invoiceme.infrastructure.mail.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the outbound email token buckets and throttle.
+ */
+@DisplayName("Email Throttle Tests")
+class EmailThrottleTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Should allow a burst, then refill at the configured rate")
+    void shouldAllowBurstThenRefill() {
+        long start = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, 3, start);
+
+        assertThat(bucket.tryAcquire(start)).isZero();
+        assertThat(bucket.tryAcquire(start)).isZero();
+        assertThat(bucket.tryAcquire(start)).isZero();
+        assertThat(bucket.tryAcquire(start)).isEqualTo(SECOND / 2);
+
+        // one token every half second
+        assertThat(bucket.tryAcquire(start + SECOND / 2)).isZero();
+        assertThat(bucket.tryAcquire(start + SECOND / 2)).isPositive();
+        assertThat(bucket.isIdle(start + SECOND / 2)).isFalse();
+        assertThat(bucket.isIdle(start + 10 * SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should space refused callers one token apart")
+    void shouldQueueRefusedCallers() {
+        long start = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(1, 1, start);
+        assertThat(bucket.tryAcquire(start)).isZero();
+
+        assertThat(bucket.tryAcquire(start)).isEqualTo(SECOND);
+        assertThat(bucket.tryAcquire(start)).isEqualTo(2 * SECOND);
+        assertThat(bucket.tryAcquire(start)).isEqualTo(3 * SECOND);
+        assertThat(bucket.backlogNanos(start)).isEqualTo(3 * SECOND);
+
+        // the first caller back finds its token
+        assertThat(bucket.tryAcquire(start + SECOND)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly the burst to many concurrent callers")
+    void shouldNotOverGrantUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(0.001, 100, System.nanoTime());
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int t = 0; t < 16; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < 1_000; i++) {
+                        if (bucket.tryAcquire(System.nanoTime()) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(granted.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should throttle each recipient domain separately, with overrides")
+    void shouldThrottlePerDomain() {
+        EmailThrottle throttle = new EmailThrottle(true, 1000, 1000, 0.01, 2, "bigmail.com=0.01");
+
+        assertThat(throttle.tryAcquire("a@example.com")).isZero();
+        assertThat(throttle.tryAcquire("b@EXAMPLE.com")).isZero();
+        assertThat(throttle.tryAcquire("c@example.com")).isPositive();
+        assertThat(throttle.tryAcquire("a@other.org")).isZero();
+
+        List<EmailSendStats> stats = throttle.stats();
+        assertThat(stats.get(0).getScope()).isEqualTo(EmailThrottle.ALL_DOMAINS);
+        assertThat(stats.get(0).getSentLastMinute()).isEqualTo(3);
+        assertThat(stats.get(0).getThrottled()).isEqualTo(1);
+        assertThat(stats.get(1).getScope()).isEqualTo("example.com");
+        assertThat(stats.get(1).getSentLastMinute()).isEqualTo(2);
+        assertThat(stats.get(1).getThrottled()).isEqualTo(1);
+        assertThat(stats.get(1).getBacklogMs()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should apply the global cap across domains without using up domain tokens")
+    void shouldApplyGlobalCap() {
+        EmailThrottle throttle = new EmailThrottle(true, 0.01, 3, 100, 1, "");
+
+        assertThat(throttle.tryAcquire("x@a.com")).isZero();
+        assertThat(throttle.tryAcquire("x@b.com")).isZero();
+        assertThat(throttle.tryAcquire("x@c.com")).isZero();
+        Duration wait = throttle.tryAcquire("x@d.com");
+
+        assertThat(wait).isGreaterThan(Duration.ofSeconds(60));
+        // d.com's single token was handed back when the global bucket refused
+        assertThat(throttle.stats()).filteredOn(s -> s.getScope().equals("d.com"))
+            .singleElement()
+            .satisfies(s -> assertThat(s.getSentLastMinute()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should only count sends when throttling is disabled")
+    void shouldPassEverythingWhenDisabled() {
+        EmailThrottle throttle = new EmailThrottle(false, 0.01, 1, 0.01, 1, "");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(throttle.tryAcquire("someone@example.com")).isZero();
+        }
+        assertThat(throttle.stats().get(0).getSentLastMinute()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed domain rate overrides")
+    void shouldRejectBadOverrides() {
+        assertThatThrownBy(() -> new EmailThrottle(true, 10, 10, 1, 1, "gmail.com"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmailThrottle(true, 10, 10, 1, 1, "gmail.com=fast"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmailThrottle(true, 10, 10, 1, 1, "gmail.com=0"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,184 @@
+package com.invoiceme.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.reminder.ReminderType;
+import com.invoiceme.infrastructure.ai.CircuitBreaker;
+import com.invoiceme.infrastructure.ai.LlmCompletionClient;
+import com.invoiceme.infrastructure.ai.ReminderCopyGenerator;
+import com.invoiceme.infrastructure.services.AiContentGenerationService;
+import com.invoiceme.infrastructure.templates.CompiledTemplate;
+import com.invoiceme.infrastructure.templates.RenderedReminder;
+import com.invoiceme.infrastructure.templates.ReminderTemplateEngine;
+import com.invoiceme.support.StubLlmServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the asynchronous, cached AI reminder copy, against the local provider stub.
+ */
+@DisplayName("Reminder Copy Generator Tests")
+class ReminderCopyGeneratorTest {
+
+    private StubLlmServer stub;
+    private LlmCompletionClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubLlmServer();
+        client = new LlmCompletionClient(new ObjectMapper(), stub.getBaseUrl(), "test-key", "gpt-4o-mini", 1000, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("Should generate each kind of copy once and fill in the invoice fields locally")
+    void shouldCacheCopyPerKey() {
+        ReminderCopyGenerator generator = generator(true, 2000, 5);
+        AiContentGenerationService service = new AiContentGenerationService(
+            new ReminderTemplateEngine(new DefaultResourceLoader(), "classpath:templates/reminders/"), generator);
+
+        List<RenderedReminder> reminders = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            reminders.add(service.generateReminder(invoice("INV-AI-" + i, "100.5"), ReminderType.OVERDUE_7_DAYS, 7));
+        }
+        // same type, tone and days-overdue bucket (1-7): served from the cache
+        generator.copyFor(ReminderType.OVERDUE_7_DAYS, 3);
+
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+        assertThat(reminders.get(4).getSubject()).contains("INV-AI-5");
+        assertThat(reminders.get(4).getBody())
+            .startsWith("Hello John Doe,")
+            .contains("Invoice #INV-AI-5 for $100.50 was due on")
+            .contains("https://pay.invoiceme.com/pay/link-INV-AI-5");
+
+        // another bucket is another provider request
+        generator.copyFor(ReminderType.OVERDUE_14_DAYS, 14);
+        assertThat(stub.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should share one provider request between concurrent reminders of the same kind")
+    void shouldShareInFlightGeneration() throws Exception {
+        // Timeouts far beyond the test's run time: completion is driven by the stub's hold
+        client = new LlmCompletionClient(new ObjectMapper(), stub.getBaseUrl(), "test-key", "gpt-4o-mini", 60_000, 4);
+        ReminderCopyGenerator generator = generator(true, 60_000, 5);
+        stub.holdResponses();
+
+        List<Thread> callers = new CopyOnWriteArrayList<>();
+        List<Future<Optional<CompiledTemplate>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> {
+                    callers.add(Thread.currentThread());
+                    return generator.copyFor(ReminderType.BEFORE_DUE, 0);
+                }));
+            }
+
+            // Release the provider's answer only once it was asked and every caller is blocked on it
+            try {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+                while (stub.getRequestCount() == 0 || callers.size() < 50
+                    || !callers.stream().allMatch(ReminderCopyGeneratorTest::isParked)) {
+                    assertThat(System.nanoTime()).as("callers waiting for the copy").isLessThan(deadline);
+                    Thread.sleep(5);
+                }
+                assertThat(stub.getRequestCount()).isEqualTo(1);
+            } finally {
+                stub.releaseResponses();
+            }
+        }
+
+        for (Future<Optional<CompiledTemplate>> result : results) {
+            assertThat(result.get()).isPresent();
+        }
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the template when the copy is not ready in time, and use it once it is")
+    void shouldFallBackOnTimeout() throws Exception {
+        stub.setLatencyMillis(300);
+        ReminderCopyGenerator generator = generator(true, 20, 5);
+
+        assertThat(generator.copyFor(ReminderType.ON_DUE_DATE, 0)).isEmpty();
+
+        // generation carries on in the background
+        Optional<CompiledTemplate> copy = Optional.empty();
+        for (int i = 0; i < 100 && copy.isEmpty(); i++) {
+            Thread.sleep(20);
+            copy = generator.copyFor(ReminderType.ON_DUE_DATE, 0);
+        }
+        assertThat(copy).isPresent();
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after consecutive failures and stop calling the provider")
+    void shouldOpenCircuitAfterFailures() {
+        stub.setFailing(true);
+        ReminderCopyGenerator generator = generator(true, 2000, 3);
+
+        assertThat(generator.copyFor(ReminderType.BEFORE_DUE, 0)).isEmpty();
+        assertThat(generator.copyFor(ReminderType.ON_DUE_DATE, 0)).isEmpty();
+        assertThat(generator.copyFor(ReminderType.OVERDUE_7_DAYS, 7)).isEmpty();
+        assertThat(generator.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        stub.setFailing(false);
+        assertThat(generator.copyFor(ReminderType.OVERDUE_14_DAYS, 14)).isEmpty();
+        assertThat(generator.copyFor(ReminderType.OVERDUE_30_DAYS, 30)).isEmpty();
+        assertThat(stub.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should never call the provider when AI copy is disabled")
+    void shouldDoNothingWhenDisabled() {
+        ReminderCopyGenerator generator = generator(false, 2000, 5);
+
+        generator.prefetch(List.of(ReminderType.values()));
+
+        assertThat(generator.copyFor(ReminderType.BEFORE_DUE, 0)).isEmpty();
+        assertThat(stub.getRequestCount()).isZero();
+    }
+
+    private static boolean isParked(Thread thread) {
+        Thread.State state = thread.getState();
+        return state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+    }
+
+    private ReminderCopyGenerator generator(boolean enabled, long waitMillis, int failureThreshold) {
+        return new ReminderCopyGenerator(client, enabled, "en-US", waitMillis, failureThreshold, 60, 3600);
+    }
+
+    private Invoice invoice(String invoiceNumber, String amount) {
+        Invoice invoice = TestDataFactory.anInvoice()
+            .withInvoiceNumber(invoiceNumber)
+            .withStatus(InvoiceStatus.SENT)
+            .withDueDate(LocalDate.now().minusDays(7))
+            .withLineItem("Service", 1, new BigDecimal(amount))
+            .build();
+        invoice.setPaymentLink("link-" + invoiceNumber);
+        return invoice;
+    }
+}
@@ -0,0 +1,105 @@
+package com.invoiceme.infrastructure;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.reminder.ReminderType;
+import com.invoiceme.infrastructure.templates.CompiledTemplate;
+import com.invoiceme.infrastructure.templates.RenderedReminder;
+import com.invoiceme.infrastructure.templates.ReminderTemplateEngine;
+import com.invoiceme.infrastructure.templates.TemplateField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the compiled reminder templates.
+ */
+@DisplayName("Reminder Template Engine Tests")
+class ReminderTemplateEngineTest {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM d, yyyy");
+
+    private final LocalDate today = LocalDate.of(2025, 3, 10);
+    private ReminderTemplateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ReminderTemplateEngine(new DefaultResourceLoader(), "classpath:templates/reminders/");
+    }
+
+    @Test
+    @DisplayName("Should render subject and body of a reminder due soon")
+    void shouldRenderBeforeDue() {
+        Invoice invoice = invoice(today.plusDays(7), "1234.5");
+
+        RenderedReminder reminder = engine.render(ReminderType.BEFORE_DUE, invoice, 0, today);
+
+        assertThat(reminder.getSubject()).isEqualTo("Reminder: Invoice #INV-202503-0042 Due Soon");
+        assertThat(reminder.getBody())
+            .startsWith("Dear John Doe,\n\nThis is a friendly reminder that invoice #INV-202503-0042 for $1234.50 "
+                + "is due in 7 days (" + today.plusDays(7).format(DATE_FORMATTER) + ").\n\n")
+            .contains("https://pay.invoiceme.com/pay/abc123\n\n")
+            .endsWith("Best regards,\nAccounts Receivable Team");
+    }
+
+    @Test
+    @DisplayName("Should render the overdue templates with day counts and the urgency note")
+    void shouldRenderOverdue() {
+        Invoice invoice = invoice(today.minusDays(30), "99.999");
+
+        RenderedReminder urgent = engine.render(ReminderType.OVERDUE_30_DAYS, invoice, 30, today);
+        RenderedReminder week = engine.render(ReminderType.OVERDUE_7_DAYS, invoice(today.minusDays(1), "10"), 1, today);
+
+        assertThat(urgent.getSubject()).isEqualTo("URGENT: Invoice #INV-202503-0042 Overdue (30 days)");
+        assertThat(urgent.getBody())
+            .contains("which is now 30 days overdue.")
+            .contains("Amount Due: $100.00\n")
+            .contains("Days Overdue: 30\n\nIMPORTANT: This invoice is significantly overdue.");
+        assertThat(week.getBody())
+            .contains("which is now 1 day overdue.")
+            .contains("Days Overdue: 1\n\nWe kindly request")
+            .doesNotContain("IMPORTANT");
+    }
+
+    @Test
+    @DisplayName("Should compile templates into literals and placeholders")
+    void shouldCompileTemplates() {
+        CompiledTemplate template = CompiledTemplate.compile("#{{invoiceNumber}} for {{ customerName }}!");
+        String[] values = new String[TemplateField.values().length];
+        values[TemplateField.INVOICE_NUMBER.ordinal()] = "INV-1";
+        values[TemplateField.CUSTOMER_NAME.ordinal()] = "Ann";
+
+        assertThat(template.render(values)).isEqualTo("#INV-1 for Ann!");
+        assertThat(CompiledTemplate.compile("no placeholders").render(values)).isEqualTo("no placeholders");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown and unclosed placeholders")
+    void shouldRejectMalformedTemplates() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("Hello {{customer}}"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("{{customer}}");
+        assertThatThrownBy(() -> CompiledTemplate.compile("Hello {{customerName"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Invoice invoice(LocalDate dueDate, String amount) {
+        Invoice invoice = TestDataFactory.anInvoice()
+            .withInvoiceNumber("INV-202503-0042")
+            .withStatus(InvoiceStatus.SENT)
+            .withDueDate(dueDate)
+            .withLineItem("Service", 1, new BigDecimal(amount))
+            .build();
+        invoice.setPaymentLink("abc123");
+        return invoice;
+    }
+}
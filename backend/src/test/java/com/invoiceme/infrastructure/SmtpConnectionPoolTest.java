@@ -0,0 +1,165 @@
+package com.invoiceme.infrastructure;
+
+import com.invoiceme.infrastructure.mail.EmailSendResult;
+import com.invoiceme.infrastructure.mail.OutgoingEmail;
+import com.invoiceme.infrastructure.mail.SmtpConnectionPool;
+import com.invoiceme.infrastructure.mail.SmtpException;
+import com.invoiceme.support.StubSmtpServer;
+import com.invoiceme.support.StubSmtpServer.ReceivedEmail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the pooled SMTP transport, against the in-JVM SMTP server.
+ */
+@DisplayName("SMTP Connection Pool Tests")
+class SmtpConnectionPoolTest {
+
+    private StubSmtpServer server;
+    private SmtpConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubSmtpServer();
+        pool = pool(server, 4, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should deliver headers and a dot-stuffed, CRLF body")
+    void shouldDeliverMessage() {
+        pool.send(new OutgoingEmail("jane@example.com", "Invoice #INV-1 — reminder", "Hello,\n.hidden line\nBye"));
+
+        List<ReceivedEmail> received = server.getReceived();
+        assertThat(received).hasSize(1);
+        ReceivedEmail email = received.get(0);
+        assertThat(email.getFrom()).isEqualTo("billing@invoiceme.test");
+        assertThat(email.getRecipients()).containsExactly("jane@example.com");
+        assertThat(email.getData())
+            .contains("To: jane@example.com\r\n")
+            .contains("Subject: =?UTF-8?B?")
+            .contains("Content-Type: text/plain; charset=UTF-8\r\n");
+        assertThat(email.getBody()).isEqualTo("Hello,\r\n.hidden line\r\nBye\r\n");
+    }
+
+    @Test
+    @DisplayName("Should reuse one connection for many messages, with RSET in between")
+    void shouldReuseConnection() {
+        for (int i = 0; i < 50; i++) {
+            pool.send(new OutgoingEmail("customer" + i + "@example.com", "Reminder " + i, "Please pay"));
+        }
+
+        assertThat(server.getMessageCount()).isEqualTo(50);
+        assertThat(server.getConnectionCount()).isEqualTo(1);
+        assertThat(server.getResetCount()).isEqualTo(49);
+        assertThat(pool.getConnectionsOpened()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve concurrent senders from at most pool-size connections")
+    void shouldSendConcurrently() throws Exception {
+        // No connection reaches its message limit, so every connection opened is one held at once
+        pool.close();
+        pool = pool(server, 4, 1000);
+
+        List<Future<?>> sends = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 400; i++) {
+                OutgoingEmail email = new OutgoingEmail("customer" + i + "@example.com", "Reminder " + i, "Please pay");
+                sends.add(executor.submit(() -> pool.send(email)));
+            }
+        }
+        for (Future<?> send : sends) {
+            send.get();
+        }
+
+        assertThat(server.getMessageCount()).isEqualTo(400);
+        assertThat(server.getConnectionCount()).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("Should keep sending a batch past a refused recipient, on the same connection")
+    void shouldSendBatch() {
+        List<OutgoingEmail> batch = List.of(
+            new OutgoingEmail("a@example.com", "A", "Body"),
+            new OutgoingEmail("reject@example.com", "B", "Body"),
+            new OutgoingEmail("c@example.com", "C", "Body"));
+
+        List<EmailSendResult> results = pool.sendBatch(batch);
+
+        assertThat(results).extracting(EmailSendResult::isSent).containsExactly(true, false, true);
+        assertThat(results.get(1).getError()).contains("550");
+        assertThat(server.getReceived()).extracting(email -> email.getRecipients().get(0))
+            .containsExactly("a@example.com", "c@example.com");
+        assertThat(server.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report a refused recipient as a permanent SMTP error")
+    void shouldRejectRecipient() {
+        assertThatThrownBy(() -> pool.send(new OutgoingEmail("reject@example.com", "A", "Body")))
+            .isInstanceOf(SmtpException.class)
+            .satisfies(e -> assertThat(((SmtpException) e).isPermanent()).isTrue());
+
+        // the connection is still good for the next message
+        pool.send(new OutgoingEmail("ok@example.com", "B", "Body"));
+        assertThat(server.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should resend on a new connection when the server dropped the pooled one")
+    void shouldRecoverFromDroppedConnection() throws Exception {
+        pool.send(new OutgoingEmail("a@example.com", "A", "Body"));
+        server.dropConnections();
+        Thread.sleep(50);
+
+        pool.send(new OutgoingEmail("b@example.com", "B", "Body"));
+
+        assertThat(server.getMessageCount()).isEqualTo(2);
+        assertThat(server.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should retire a connection after its message limit, and work without PIPELINING")
+    void shouldRetireConnectionsWithoutPipelining() throws Exception {
+        try (StubSmtpServer lockstep = new StubSmtpServer(0, false)) {
+            SmtpConnectionPool limited = pool(lockstep, 1, 3);
+            for (int i = 0; i < 7; i++) {
+                limited.send(new OutgoingEmail("customer" + i + "@example.com", "Reminder", "Please pay"));
+            }
+            limited.close();
+
+            assertThat(lockstep.getMessageCount()).isEqualTo(7);
+            assertThat(lockstep.getConnectionCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse addresses that could inject SMTP commands or headers")
+    void shouldRejectBadAddresses() {
+        assertThatThrownBy(() -> pool.send(new OutgoingEmail("a@example.com>\r\nRCPT TO:<b@example.com", "A", "B")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(server.getConnectionCount()).isZero();
+    }
+
+    private static SmtpConnectionPool pool(StubSmtpServer server, int size, int maxMessagesPerConnection) {
+        return new SmtpConnectionPool("127.0.0.1", server.getPort(), "none", "", "",
+            "billing@invoiceme.test", "client.invoiceme.test", size, maxMessagesPerConnection, 60, 5000);
+    }
+}
@@ -0,0 +1,414 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.payments.ImportBankStatement.BankStatementFormat;
+import com.invoiceme.application.payments.ImportBankStatement.BankStatementImportResult;
+import com.invoiceme.application.payments.ImportBankStatement.ImportBankStatementCommand;
+import com.invoiceme.application.payments.ImportBankStatement.ImportBankStatementHandler;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.payment.Payment;
+import com.invoiceme.domain.payment.PaymentMethod;
+import com.invoiceme.domain.payment.StatementReviewItem;
+import com.invoiceme.domain.payment.StatementReviewStatus;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import com.invoiceme.infrastructure.persistence.StatementReviewItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for bank statement import and reconciliation.
+ * Not transactional, because each chunk commits in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Bank Statement Import Tests")
+class BankStatementImportTest {
+
+    @Autowired
+    private ImportBankStatementHandler importBankStatementHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private StatementReviewItemRepository reviewItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer acme;
+    private Invoice numbered;
+    private Invoice partial;
+    private Invoice byAmount;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        acme = customerRepository.save(TestDataFactory.aCustomer()
+            .withBusinessName("Acme Corp.")
+            .withEmail("acme@example.com")
+            .build());
+
+        numbered = invoiceRepository.save(TestDataFactory.sentInvoice(acme, "500.00", false)
+            .withInvoiceNumber("INV-202509-0001").build());
+        partial = invoiceRepository.save(TestDataFactory.sentInvoice(acme, "1000.00", true)
+            .withInvoiceNumber("INV-202509-0002").build());
+        byAmount = invoiceRepository.save(TestDataFactory.sentInvoice(acme, "275.50", false)
+            .withInvoiceNumber("INV-202509-0003").build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("ALTER TABLE statement_review_items DROP CONSTRAINT IF EXISTS test_unwritable_review");
+        jdbcTemplate.execute("ALTER TABLE payments DROP CONSTRAINT IF EXISTS test_unwritable_payment");
+        reviewItemRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should match CSV lines by invoice number, reference and amount plus customer")
+    void shouldMatchCsvStatement() {
+        // Given: a manual payment whose reference the customer reuses for the second instalment
+        Payment earlier = TestDataFactory.aPayment()
+            .withInvoice(partial)
+            .withAmount(new BigDecimal("400.00"))
+            .withPaymentMethod(PaymentMethod.BANK_TRANSFER)
+            .withTransactionReference("PO-7781")
+            .build();
+        paymentRepository.save(earlier);
+        partial.applyPayment(new BigDecimal("400.00"));
+        partial = invoiceRepository.save(partial);
+
+        String csv = """
+            Date;Amount;Currency;Counterparty;Reference;Transaction ID
+            2025-09-10;500,00;EUR;Acme Corp;"Payment inv-202509-0001, thanks";TX-1
+            2025-09-11;600.00;EUR;Acme Corp;PO-7781;TX-2
+            2025-09-12;275.50;EUR;ACME CORP;Monthly services;TX-3
+            2025-09-12;-80.00;EUR;Bank;Fees;TX-4
+            2025-09-13;99.00;EUR;Unknown Ltd;Donation;TX-5
+            2025-09-13;not-a-number;EUR;Acme Corp;Broken;TX-6
+            """;
+
+        // When
+        BankStatementImportResult result = importStatement("september.csv", csv, null);
+
+        // Then
+        assertThat(result.getFormat()).isEqualTo(BankStatementFormat.CSV);
+        assertThat(result.getTotalLines()).isEqualTo(6);
+        assertThat(result.getRecordedCount()).isEqualTo(3);
+        assertThat(result.getRecordedAmount()).isEqualByComparingTo("1375.50");
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        assertThat(result.getReviewCount()).isEqualTo(2);
+
+        assertThat(invoiceRepository.findById(numbered.getId()).orElseThrow().getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(invoiceRepository.findById(partial.getId()).orElseThrow().getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(invoiceRepository.findById(byAmount.getId()).orElseThrow().getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(paymentRepository.findByInvoiceId(numbered.getId())).singleElement()
+            .satisfies(payment -> {
+                assertThat(payment.getTransactionReference()).isEqualTo("TX-1");
+                assertThat(payment.getPaymentDate()).isEqualTo(LocalDate.of(2025, 9, 10));
+            });
+
+        List<StatementReviewItem> review = reviewItemRepository.findByImportIdOrderByLineNumberAsc(
+            result.getImportId(), Pageable.unpaged());
+        assertThat(review).extracting(StatementReviewItem::getLineNumber).containsExactly(6, 7);
+        assertThat(review.get(0).getReason()).isEqualTo("No open invoice matches this line");
+        assertThat(review.get(1).getReason()).startsWith("Unreadable line");
+        assertThat(review).allSatisfy(item -> assertThat(item.getStatus()).isEqualTo(StatementReviewStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should not record payments twice when the same statement is imported again")
+    void shouldBeIdempotentAcrossImports() {
+        // Given
+        String csv = """
+            date,amount,description,name
+            2025-09-10,200.00,INV-202509-0002 part 1,Acme Corp
+            2025-09-10,200.00,INV-202509-0002 part 1,Acme Corp
+            """;
+
+        // When
+        BankStatementImportResult first = importStatement("statement.csv", csv, 1);
+        BankStatementImportResult second = importStatement("statement.csv", csv, null);
+
+        // Then: identical lines without a bank id are two payments; a re-import records none
+        assertThat(first.getRecordedCount()).isEqualTo(2);
+        assertThat(second.getRecordedCount()).isZero();
+        assertThat(second.getDuplicateCount()).isEqualTo(2);
+        assertThat(paymentRepository.findByInvoiceId(partial.getId())).hasSize(2);
+        assertThat(invoiceRepository.findById(partial.getId()).orElseThrow().getBalanceRemaining())
+            .isEqualByComparingTo("600.00");
+    }
+
+    @Test
+    @DisplayName("Should count lines that paid an invoice off as duplicates when imported again")
+    void shouldBeIdempotentAfterFullPayment() {
+        // Given: one line pays an invoice in full, another overpays the partial invoice's remainder
+        String csv = """
+            date,amount,description,name
+            2025-09-10,500.00,INV-202509-0001,Acme Corp
+            2025-09-10,900.00,INV-202509-0002 part 1,Acme Corp
+            2025-09-11,900.00,INV-202509-0002 part 2,Acme Corp
+            """;
+
+        // When
+        BankStatementImportResult first = importStatement("statement.csv", csv, null);
+        BankStatementImportResult second = importStatement("statement.csv", csv, 2);
+
+        // Then: the paid-off invoice and the recorded payment are not re-examined
+        assertThat(first.getRecordedCount()).isEqualTo(2);
+        assertThat(first.getReviewCount()).isEqualTo(1);
+        assertThat(invoiceRepository.findById(numbered.getId()).orElseThrow().getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(second.getRecordedCount()).isZero();
+        assertThat(second.getDuplicateCount()).isEqualTo(2);
+        // The line that overpaid on the first import is still not payable and goes to review again
+        assertThat(second.getReviewCount()).isEqualTo(1);
+        assertThat(paymentRepository.findByInvoiceId(numbered.getId())).hasSize(1);
+        assertThat(paymentRepository.findByInvoiceId(partial.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should send payments the invoice rules reject to the review queue")
+    void shouldReviewRejectedPayments() {
+        // Given: a partial amount on an invoice that requires full payment
+        String csv = """
+            date,amount,reference
+            2025-09-10,100.00,INV-202509-0001
+            2025-09-10,100.00,INV-202509-9999
+            """;
+
+        // When
+        BankStatementImportResult result = importStatement("statement.csv", csv, null);
+
+        // Then
+        assertThat(result.getRecordedCount()).isZero();
+        assertThat(result.getReviewCount()).isEqualTo(2);
+        List<StatementReviewItem> review = reviewItemRepository.findByImportIdOrderByLineNumberAsc(
+            result.getImportId(), Pageable.unpaged());
+        assertThat(review.get(0).getReason()).contains("Partial payments are not allowed");
+        assertThat(review.get(0).getCandidateInvoiceId()).isEqualTo(numbered.getId());
+        assertThat(review.get(1).getReason()).isEqualTo("Invoice INV-202509-9999 is not open for payment");
+    }
+
+    @Test
+    @DisplayName("Should import OFX statements")
+    void shouldImportOfxStatement() {
+        String ofx = """
+            OFXHEADER:100
+            DATA:OFXSGML
+
+            <OFX>
+            <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+            <CURDEF>EUR
+            <BANKTRANLIST>
+            <STMTTRN>
+            <TRNTYPE>CREDIT
+            <DTPOSTED>20250915120000[0:GMT]
+            <TRNAMT>500.00
+            <FITID>OFX-1
+            <NAME>ACME CORP
+            <MEMO>Invoice INV-202509-0001
+            </STMTTRN>
+            <STMTTRN>
+            <TRNTYPE>DEBIT
+            <DTPOSTED>20250916
+            <TRNAMT>-12.00
+            <FITID>OFX-2
+            <NAME>Bank &amp; Co
+            </STMTTRN>
+            </BANKTRANLIST>
+            </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+            </OFX>
+            """;
+
+        BankStatementImportResult result = importStatement("export.ofx", ofx, null);
+
+        assertThat(result.getFormat()).isEqualTo(BankStatementFormat.OFX);
+        assertThat(result.getTotalLines()).isEqualTo(2);
+        assertThat(result.getRecordedCount()).isEqualTo(1);
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        assertThat(paymentRepository.findByInvoiceId(numbered.getId())).singleElement()
+            .satisfies(payment -> assertThat(payment.getPaymentDate()).isEqualTo(LocalDate.of(2025, 9, 15)));
+    }
+
+    @Test
+    @DisplayName("Should import CAMT.053 statements including batch-booked entries")
+    void shouldImportCamt053Statement() {
+        String camt = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.02">
+              <BkToCstmrStmt>
+                <Stmt>
+                  <Ntry>
+                    <Amt Ccy="EUR">775.50</Amt>
+                    <CdtDbtInd>CRDT</CdtDbtInd>
+                    <BookgDt><Dt>2025-09-20</Dt></BookgDt>
+                    <AcctSvcrRef>CAMT-BATCH</AcctSvcrRef>
+                    <NtryDtls>
+                      <TxDtls>
+                        <Refs><AcctSvcrRef>CAMT-1</AcctSvcrRef></Refs>
+                        <AmtDtls><TxAmt><Amt Ccy="EUR">500.00</Amt></TxAmt></AmtDtls>
+                        <RltdPties><Dbtr><Nm>Acme Corp</Nm></Dbtr></RltdPties>
+                        <RmtInf><Strd><CdtrRefInf><Ref>INV-202509-0001</Ref></CdtrRefInf></Strd></RmtInf>
+                      </TxDtls>
+                      <TxDtls>
+                        <Refs><EndToEndId>E2E-2</EndToEndId></Refs>
+                        <AmtDtls><TxAmt><Amt Ccy="EUR">275.50</Amt></TxAmt></AmtDtls>
+                        <RltdPties><Dbtr><Nm>Acme Corp</Nm></Dbtr></RltdPties>
+                        <RmtInf><Ustrd>September services</Ustrd></RmtInf>
+                      </TxDtls>
+                    </NtryDtls>
+                  </Ntry>
+                  <Ntry>
+                    <Amt Ccy="EUR">15.00</Amt>
+                    <CdtDbtInd>DBIT</CdtDbtInd>
+                    <BookgDt><Dt>2025-09-21</Dt></BookgDt>
+                  </Ntry>
+                </Stmt>
+              </BkToCstmrStmt>
+            </Document>
+            """;
+
+        BankStatementImportResult result = importStatement("camt053.xml", camt, null);
+
+        assertThat(result.getFormat()).isEqualTo(BankStatementFormat.CAMT053);
+        assertThat(result.getTotalLines()).isEqualTo(3);
+        assertThat(result.getRecordedCount()).isEqualTo(2);
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        assertThat(paymentRepository.findByInvoiceId(byAmount.getId())).singleElement()
+            .satisfies(payment -> assertThat(payment.getTransactionReference()).isEqualTo("E2E-2"));
+    }
+
+    @Test
+    @DisplayName("Should import a large statement in chunks")
+    void shouldImportLargeStatement() {
+        // Given: 1,000 open invoices allowing partial payment, paid in 20 instalments each
+        List<Invoice> invoices = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            invoices.add(TestDataFactory.sentInvoice(acme, "2000.00", true)
+                .withInvoiceNumber("INV-202510-%04d".formatted(i + 1)).build());
+        }
+        invoiceRepository.saveAll(invoices);
+
+        StringBuilder csv = new StringBuilder("date,amount,reference,transaction_id\n");
+        for (int line = 0; line < 20_000; line++) {
+            csv.append("2025-10-15,100.00,INV-202510-").append("%04d".formatted(line % 1_000 + 1))
+                .append(",BULK-").append(line).append('\n');
+        }
+
+        // When
+        BankStatementImportResult result = importStatement("large.csv", csv.toString(), null);
+
+        // Then
+        assertThat(result.getRecordedCount()).isEqualTo(20_000);
+        assertThat(result.getReviewCount()).isZero();
+        assertThat(paymentRepository.count()).isEqualTo(20_000);
+        assertThat(invoiceRepository.findByStatus(InvoiceStatus.PAID)).hasSize(1_000);
+    }
+
+    @Test
+    @DisplayName("Should count lines it cannot write even for review as failed, and carry on importing")
+    void shouldKeepImportingWhenFallbackWritesFail() {
+        // Given: TX-2 cannot be stored for review, TX-3 neither as a payment nor for review
+        jdbcTemplate.execute("ALTER TABLE statement_review_items ADD CONSTRAINT test_unwritable_review " +
+            "CHECK (bank_transaction_id NOT IN ('TX-2', 'TX-3'))");
+        jdbcTemplate.execute("ALTER TABLE payments ADD CONSTRAINT test_unwritable_payment " +
+            "CHECK (transaction_reference <> 'TX-3')");
+        String csv = """
+            date,amount,counterparty,reference,transaction_id
+            2025-09-10,500.00,Acme Corp,INV-202509-0001,TX-1
+            2025-09-11,99.00,Unknown Ltd,Donation,TX-2
+            2025-09-12,275.50,Acme Corp,Monthly services,TX-3
+            2025-09-13,100.00,Acme Corp,INV-202509-0002,TX-4
+            """;
+
+        // When: the first chunk fails and is retried line by line
+        BankStatementImportResult result = importStatement("september.csv", csv, 3);
+
+        // Then: the lines that could not be written are failed; the rest, and the next chunk, are imported
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getRecordedCount()).isEqualTo(2);
+        assertThat(result.getReviewCount()).isZero();
+        assertThat(invoiceRepository.findById(numbered.getId()).orElseThrow().getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(paymentRepository.findByInvoiceId(partial.getId())).hasSize(1);
+        assertThat(paymentRepository.findByInvoiceId(byAmount.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should commit the lines read before a structural error and report that error, not a later one")
+    void shouldReportParseErrorOverFlushFailure() {
+        String truncated = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.02">
+              <BkToCstmrStmt>
+                <Stmt>
+                  <Ntry>
+                    <Amt Ccy="EUR">%s</Amt>
+                    <CdtDbtInd>CRDT</CdtDbtInd>
+                    <BookgDt><Dt>2025-09-20</Dt></BookgDt>
+                    <AcctSvcrRef>%s</AcctSvcrRef>
+                    <NtryDtls><TxDtls><RmtInf><Ustrd>%s</Ustrd></RmtInf></TxDtls></NtryDtls>
+                  </Ntry>
+                  <Ntry>
+            """;
+
+        assertThatThrownBy(() -> importStatement("camt053.xml", truncated.formatted("500.00", "CAMT-1", "INV-202509-0001"), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Invalid CAMT.053 statement");
+        assertThat(paymentRepository.findByInvoiceId(numbered.getId())).hasSize(1);
+
+        // When committing those lines fails as well, the parse error is still the one reported
+        jdbcTemplate.execute("ALTER TABLE statement_review_items RENAME TO statement_review_items_hidden");
+        try {
+            assertThatThrownBy(() -> importStatement("camt053.xml", truncated.formatted("99.00", "CAMT-2", "Donation"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid CAMT.053 statement")
+                .satisfies(e -> assertThat(e.getSuppressed()).singleElement().isInstanceOf(DataAccessException.class));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE statement_review_items_hidden RENAME TO statement_review_items");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files whose format cannot be determined")
+    void shouldRejectUnknownFormat() {
+        assertThrows(IllegalArgumentException.class, () -> importStatement("statement.pdf", "%PDF", null));
+    }
+
+    private BankStatementImportResult importStatement(String fileName, String content, Integer chunkSize) {
+        return importBankStatementHandler.handle(
+            new ImportBankStatementCommand(fileName, null, chunkSize),
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.infrastructure.persistence.SchedulerLockRepository;
+import com.invoiceme.infrastructure.scheduler.ClusterJobLock;
+import com.invoiceme.infrastructure.scheduler.SchedulerLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the cluster-wide scheduled job locks. Each ClusterJobLock
+ * instance stands in for one node.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Cluster Job Lock Tests")
+class ClusterJobLockTest {
+
+    private static final int NODES = 8;
+    private static final Duration AT_MOST = Duration.ofMinutes(10);
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    private ClusterJobLock nodeA;
+    private ClusterJobLock nodeB;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        nodeA = new ClusterJobLock(schedulerLockRepository, "node-a");
+        nodeB = new ClusterJobLock(schedulerLockRepository, "node-b");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        schedulerLockRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should let only one node hold a lock until it is released")
+    void shouldExcludeOtherNodes() {
+        Optional<ClusterJobLock.Lease> lease = nodeA.tryAcquire("job", AT_MOST, Duration.ZERO);
+        assertThat(lease).isPresent();
+        assertThat(nodeB.tryAcquire("job", AT_MOST, Duration.ZERO)).isEmpty();
+
+        lease.get().release();
+        assertThat(nodeB.tryAcquire("job", AT_MOST, Duration.ZERO)).isPresent();
+        assertThat(schedulerLockRepository.findById("job").orElseThrow().getLockedBy()).isEqualTo("node-b");
+    }
+
+    @Test
+    @DisplayName("Should keep a released lock for its minimum hold time")
+    void shouldHoldForAtLeast() {
+        nodeA.tryAcquire("job", AT_MOST, Duration.ofMinutes(5)).orElseThrow().release();
+
+        assertThat(nodeB.tryAcquire("job", AT_MOST, Duration.ZERO)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should take over a lock whose node died without releasing it")
+    void shouldTakeOverExpiredLock() {
+        LocalDateTime past = LocalDateTime.now().minusHours(1);
+        schedulerLockRepository.save(new SchedulerLock("job", "dead-node", past, past.plusMinutes(10)));
+
+        Optional<ClusterJobLock.Lease> lease = nodeA.tryAcquire("job", AT_MOST, Duration.ZERO);
+        assertThat(lease).isPresent();
+        assertThat(schedulerLockRepository.findById("job").orElseThrow().getLockedBy()).isEqualTo("node-a");
+    }
+
+    @Test
+    @DisplayName("Should run a job on exactly one of many nodes triggering it at once")
+    void shouldRunOnceAcrossNodes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        // Several rounds, each on a fresh lock, since every node racing to create the row is the case that matters
+        for (int round = 0; round < 20; round++) {
+            String name = "daily-job-" + round;
+            AtomicInteger runs = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < NODES; i++) {
+                ClusterJobLock node = new ClusterJobLock(schedulerLockRepository, "node-" + i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return node.runExclusively(name, AT_MOST, Duration.ofMinutes(5), runs::incrementAndGet);
+                }));
+            }
+            start.countDown();
+
+            int ran = 0;
+            for (Future<Boolean> result : results) {
+                ran += result.get() ? 1 : 0;
+            }
+
+            assertThat(ran).as("nodes that ran %s", name).isEqualTo(1);
+            assertThat(runs.get()).isEqualTo(1);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,160 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentCommand;
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentHandler;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.payment.PaymentMethod;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Stress tests for concurrent payments against a single invoice.
+ *
+ * Not transactional: every thread commits its own payment, exactly as concurrent
+ * requests (payment link, internal entry, retries) would.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Concurrent Payment Tests")
+class ConcurrentPaymentTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentPaymentTest.class);
+
+    private static final int THREADS = 32;
+    private static final int PAYMENTS_THAT_FIT = 300;
+    private static final int EXTRA_PAYMENTS = 20;
+    private static final int REPLAYS = 50;
+
+    @Autowired
+    private RecordPaymentHandler recordPaymentHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customer = customerRepository.save(TestDataFactory.aCustomer().build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        paymentRepository.deleteAllInBatch();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should apply hundreds of concurrent partial payments without losing or overpaying any")
+    void shouldSerializeConcurrentPayments() throws Exception {
+        // Given: an invoice that exactly fits 300 payments of 10.00, plus 20 that cannot fit
+        // and 50 client retries of already submitted payment IDs
+        Invoice invoice = invoiceRepository.save(TestDataFactory.anInvoice()
+            .withCustomer(customer)
+            .withStatus(InvoiceStatus.SENT)
+            .withLineItem("Subscription", PAYMENTS_THAT_FIT, new BigDecimal("10.00"))
+            .allowsPartialPayment()
+            .build());
+
+        List<RecordPaymentCommand> commands = new ArrayList<>();
+        for (int i = 0; i < PAYMENTS_THAT_FIT + EXTRA_PAYMENTS; i++) {
+            commands.add(new RecordPaymentCommand(UUID.randomUUID(), invoice.getId(), new BigDecimal("10.00"),
+                LocalDate.now(), PaymentMethod.CREDIT_CARD, null, null));
+        }
+        commands.addAll(commands.subList(0, REPLAYS));
+        Collections.shuffle(commands);
+
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        long startedAt = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (RecordPaymentCommand command : commands) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        assertThat(recordPaymentHandler.handle(command)).isEqualTo(command.getId());
+                        recorded.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        assertThat(e.getMessage()).contains("exceeds invoice balance remaining");
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        logger.info("Processed {} concurrent payment requests in {}s ({} requests/s)",
+            commands.size(), "%.2f".formatted(seconds), "%.0f".formatted(commands.size() / seconds));
+
+        // Then: every request either recorded (or replayed) a payment or was rejected by the balance guard
+        assertThat(recorded.get() + rejected.get()).isEqualTo(commands.size());
+        assertThat(paymentRepository.findByInvoiceId(invoice.getId())).hasSize(PAYMENTS_THAT_FIT);
+
+        Invoice reloaded = invoiceRepository.findById(invoice.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(reloaded.getAmountPaid()).isEqualByComparingTo("3000.00");
+        assertThat(reloaded.getBalanceRemaining()).isEqualByComparingTo("0.00");
+
+        // Lock waits serialize the invoice, but must not degrade into timeouts and long retries
+        assertThat(commands.size() / seconds).isGreaterThan(20.0);
+    }
+
+    @Test
+    @DisplayName("Should report a missing invoice as a validation error")
+    void shouldRejectUnknownInvoice() {
+        RecordPaymentCommand command = new RecordPaymentCommand(UUID.randomUUID(), UUID.randomUUID(),
+            new BigDecimal("10.00"), LocalDate.now(), PaymentMethod.CREDIT_CARD, null, null);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> recordPaymentHandler.handle(command));
+        assertThat(error.getMessage()).isEqualTo(
+            "Validation failed: Invoice with ID " + command.getInvoiceId() + " does not exist");
+    }
+}
@@ -0,0 +1,173 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.customers.ImportCustomers.CustomerImportError;
+import com.invoiceme.application.customers.ImportCustomers.CustomerImportFormat;
+import com.invoiceme.application.customers.ImportCustomers.CustomerImportResult;
+import com.invoiceme.application.customers.ImportCustomers.ImportCustomersCommand;
+import com.invoiceme.application.customers.ImportCustomers.ImportCustomersHandler;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for the bulk customer import.
+ * Not transactional, because each chunk commits in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Customer Import Tests")
+class CustomerImportTest {
+
+    private static final String CSV_HEADER =
+        "business_name,contact_name,email,phone,billing_street,billing_city,billing_state,billing_postal_code,billing_country\n";
+
+    @Autowired
+    private ImportCustomersHandler importCustomersHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("existing@example.com")
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows across chunks and report rejected rows")
+    void shouldImportCsvAndReportRowErrors() {
+        // Given
+        String csv = CSV_HEADER
+            + "Acme Corp,Alice Smith,alice@acme.example,555-0100,1 Main St,Springfield,IL,62701,USA\n"
+            + "\"Blue Harbor, Inc.\",Bob Jones,bob@blueharbor.example,,2 Dock Rd,Portland,OR,97201,USA\n"
+            + "Taken Ltd,Tina Taken,existing@example.com,,3 Elm St,Dayton,OH,45402,USA\n"
+            + "No Email Co,Nora None,,,4 Oak St,Austin,TX,73301,USA\n"
+            + "Acme Again,Alan Smith,alice@acme.example,,5 Pine St,Springfield,IL,62701,USA\n"
+            + "Coastal Organics,Carol Acheson,carol@coastal.example,,6 Bay Rd,Monterey,CA,93940,USA\n";
+
+        // When
+        CustomerImportResult result = importFile("customers.csv", csv, 2);
+
+        // Then
+        assertThat(result.getFormat()).isEqualTo(CustomerImportFormat.CSV);
+        assertThat(result.getTotalRows()).isEqualTo(6);
+        assertThat(result.getImportedCount()).isEqualTo(3);
+        assertThat(result.getRejectedCount()).isEqualTo(3);
+        assertThat(result.isErrorsTruncated()).isFalse();
+        assertThat(result.getErrors()).extracting(CustomerImportError::getRowNumber)
+            .containsExactlyInAnyOrder(4, 5, 6);
+        assertThat(result.getErrors()).filteredOn(error -> error.getRowNumber() == 4)
+            .extracting(CustomerImportError::getMessage).containsExactly("Email already exists");
+        assertThat(result.getErrors()).filteredOn(error -> error.getRowNumber() == 6)
+            .extracting(CustomerImportError::getMessage).allMatch(message -> message.contains("row 2"));
+
+        Customer blueHarbor = customerRepository.findByEmail("bob@blueharbor.example").orElseThrow();
+        assertThat(blueHarbor.getBusinessName()).isEqualTo("Blue Harbor, Inc.");
+        assertThat(blueHarbor.getBillingAddress().getCity()).isEqualTo("Portland");
+        assertThat(blueHarbor.getShippingAddress()).isNull();
+        assertThat(customerRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should import a JSON array and reject unreadable entries")
+    void shouldImportJson() {
+        // Given
+        String json = "["
+            + "{\"businessName\":\"Acme Corp\",\"contactName\":\"Alice Smith\",\"email\":\"alice@acme.example\","
+            + "\"billingAddress\":{\"street\":\"1 Main St\",\"city\":\"Springfield\",\"state\":\"IL\","
+            + "\"postalCode\":\"62701\",\"country\":\"USA\"}},"
+            + "42,"
+            + "{\"businessName\":\"No Address\",\"contactName\":\"Nick\",\"email\":\"nick@example.com\"}"
+            + "]";
+
+        // When
+        CustomerImportResult result = importFile("customers.json", json, null);
+
+        // Then
+        assertThat(result.getFormat()).isEqualTo(CustomerImportFormat.JSON);
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(CustomerImportError::getRowNumber).containsExactly(2, 3);
+        assertThat(customerRepository.findByEmail("alice@acme.example")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should be safe to import the same file twice")
+    void shouldRejectEverythingOnReimport() {
+        String csv = CSV_HEADER + "Acme Corp,Alice Smith,alice@acme.example,,1 Main St,Springfield,IL,62701,USA\n";
+        importFile("customers.csv", csv, null);
+
+        CustomerImportResult again = importFile("customers.csv", csv, null);
+
+        assertThat(again.getImportedCount()).isZero();
+        assertThat(again.getRejectedCount()).isEqualTo(1);
+        assertThat(customerRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should commit the rows read before a structural error and report that error, not a later one")
+    void shouldReportParseErrorOverFlushFailure() {
+        String truncated = "[{\"businessName\":\"%s\",\"contactName\":\"Alice Smith\",\"email\":\"%s\","
+            + "\"billingAddress\":{\"street\":\"1 Main St\",\"city\":\"Springfield\",\"state\":\"IL\","
+            + "\"postalCode\":\"62701\",\"country\":\"USA\"}},";
+
+        assertThatThrownBy(() -> importFile("customers.json", truncated.formatted("Acme Corp", "alice@acme.example"), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Malformed JSON customer file");
+        assertThat(customerRepository.findByEmail("alice@acme.example")).isPresent();
+
+        // When committing those rows fails as well, the parse error is still the one reported
+        jdbcTemplate.execute("ALTER TABLE customers RENAME TO customers_hidden");
+        try {
+            assertThatThrownBy(() -> importFile("customers.json", truncated.formatted("Globex", "bob@globex.example"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Malformed JSON customer file")
+                .satisfies(e -> assertThat(e.getSuppressed()).singleElement().isInstanceOf(DataAccessException.class));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE customers_hidden RENAME TO customers");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files without required columns or with an unknown format")
+    void shouldRejectInvalidFiles() {
+        assertThrows(IllegalArgumentException.class,
+            () -> importFile("customers.csv", "name,phone\nAcme,555\n", null));
+        assertThrows(IllegalArgumentException.class,
+            () -> importFile("customers.xlsx", "", null));
+        assertThrows(IllegalArgumentException.class,
+            () -> importFile("customers.json", "{\"email\":\"a@b.example\"}", null));
+    }
+
+    private CustomerImportResult importFile(String fileName, String content, Integer chunkSize) {
+        return importCustomersHandler.handle(
+            new ImportCustomersCommand(fileName, null, chunkSize),
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
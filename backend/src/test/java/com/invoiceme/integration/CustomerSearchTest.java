@@ -0,0 +1,95 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.customers.GetCustomer.CustomerDto;
+import com.invoiceme.application.customers.ListCustomers.ListCustomersHandler;
+import com.invoiceme.application.customers.ListCustomers.ListCustomersQuery;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for the database-side customer search.
+ * Runs the portable (H2) query; PostgreSQL uses the trigram-ranked native query.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Customer Search Tests")
+class CustomerSearchTest {
+
+    @Autowired
+    private ListCustomersHandler listCustomersHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+        customerRepository.save(TestDataFactory.aCustomer()
+            .withBusinessName("Acme Widgets")
+            .withContactName("Alice Smith")
+            .withEmail("alice@acme.example")
+            .build());
+        customerRepository.save(TestDataFactory.aCustomer()
+            .withBusinessName("Blue Harbor Acme Supply")
+            .withContactName("Bob Jones")
+            .withEmail("bob@blueharbor.example")
+            .build());
+        customerRepository.save(TestDataFactory.aCustomer()
+            .withBusinessName("Coastal 100% Organics")
+            .withContactName("Carol Acheson")
+            .withEmail("carol@coastal.example")
+            .inactive()
+            .build());
+    }
+
+    @Test
+    @DisplayName("Should match name and email case-insensitively, prefix matches first")
+    void shouldRankPrefixMatchesFirst() {
+        List<CustomerDto> results = listCustomersHandler.handle(new ListCustomersQuery(false, "ACME"));
+
+        assertThat(results).extracting(CustomerDto::getBusinessName)
+            .containsExactly("Acme Widgets", "Blue Harbor Acme Supply");
+    }
+
+    @Test
+    @DisplayName("Should honour the active filter and paginate")
+    void shouldFilterAndPaginate() {
+        assertThat(listCustomersHandler.handle(new ListCustomersQuery(false, "ac"))).hasSize(3);
+        assertThat(listCustomersHandler.handle(new ListCustomersQuery(true, "ac"))).hasSize(2);
+
+        ListCustomersQuery secondPage = new ListCustomersQuery(false, "ac");
+        secondPage.setOffset(2);
+        secondPage.setLimit(2);
+        assertThat(listCustomersHandler.handle(secondPage)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should treat LIKE wildcards in the term literally")
+    void shouldEscapeWildcards() {
+        assertThat(listCustomersHandler.handle(new ListCustomersQuery(false, "100%")))
+            .extracting(CustomerDto::getBusinessName)
+            .containsExactly("Coastal 100% Organics");
+        assertThat(listCustomersHandler.handle(new ListCustomersQuery(false, "_"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject an out-of-range limit")
+    void shouldRejectInvalidLimit() {
+        ListCustomersQuery query = new ListCustomersQuery(false, "acme");
+        query.setLimit(0);
+        assertThrows(IllegalArgumentException.class, () -> listCustomersHandler.handle(query));
+    }
+}
@@ -0,0 +1,104 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.application.customers.CreateCustomer.CreateCustomerCommand;
+import com.invoiceme.application.customers.CreateCustomer.CreateCustomerHandler;
+import com.invoiceme.application.customers.DeleteCustomer.DeleteCustomerCommand;
+import com.invoiceme.application.customers.DeleteCustomer.DeleteCustomerHandler;
+import com.invoiceme.application.customers.SuggestCustomers.CustomerSuggestionDto;
+import com.invoiceme.application.customers.SuggestCustomers.CustomerTypeaheadIndex;
+import com.invoiceme.application.customers.SuggestCustomers.SuggestCustomersHandler;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for customer autocomplete.
+ * Not transactional, because the index is updated after the customer handlers commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Customer Suggestion Tests")
+class CustomerSuggestionTest {
+
+    @Autowired
+    private SuggestCustomersHandler suggestCustomersHandler;
+
+    @Autowired
+    private CreateCustomerHandler createCustomerHandler;
+
+    @Autowired
+    private DeleteCustomerHandler deleteCustomerHandler;
+
+    @Autowired
+    private CustomerTypeaheadIndex customerTypeaheadIndex;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        customerRepository.deleteAll();
+        customerTypeaheadIndex.clear();
+    }
+
+    @Test
+    @DisplayName("Should suggest newly created customers by word prefix, business name matches first")
+    void shouldSuggestByPrefix() {
+        createCustomer("Northwind Traders", "Nancy Davolio", "nancy@northwind.example");
+        createCustomer("Contoso North America", "Andrew Fuller", "andrew@contoso.example");
+        createCustomer("Fabrikam", "Janet Leverling", "janet@fabrikam.example");
+
+        assertThat(suggestCustomersHandler.handle("nor", null))
+            .extracting(CustomerSuggestionDto::getBusinessName)
+            .containsExactly("Northwind Traders", "Contoso North America");
+        assertThat(suggestCustomersHandler.handle("janet@fab", null))
+            .extracting(CustomerSuggestionDto::getBusinessName)
+            .containsExactly("Fabrikam");
+        assertThat(suggestCustomersHandler.handle("north andrew", null))
+            .extracting(CustomerSuggestionDto::getBusinessName)
+            .containsExactly("Contoso North America");
+        assertThat(suggestCustomersHandler.handle("nor", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should stop suggesting deactivated customers")
+    void shouldDropDeactivatedCustomers() {
+        UUID id = createCustomer("Tailspin Toys", "Robert King", "robert@tailspin.example");
+        assertThat(suggestCustomersHandler.handle("tail", null)).hasSize(1);
+
+        deleteCustomerHandler.handle(new DeleteCustomerCommand(id));
+
+        assertThat(suggestCustomersHandler.handle("tail", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank input and reject an out-of-range limit")
+    void shouldValidateInput() {
+        assertThat(suggestCustomersHandler.handle(" ", null)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> suggestCustomersHandler.handle("a", 0));
+    }
+
+    private UUID createCustomer(String businessName, String contactName, String email) {
+        CreateCustomerCommand command = new CreateCustomerCommand();
+        command.setBusinessName(businessName);
+        command.setContactName(contactName);
+        command.setEmail(email);
+        command.setBillingAddress(new CreateCustomerCommand.AddressDto("1 Main St", "Springfield", "IL", "62701", "USA"));
+        return createCustomerHandler.handle(command);
+    }
+}
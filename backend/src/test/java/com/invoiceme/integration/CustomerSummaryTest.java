@@ -0,0 +1,141 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.customers.GetCustomerSummary.CustomerSummaryDto;
+import com.invoiceme.application.customers.GetCustomerSummary.GetCustomerSummaryHandler;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for the single-query customer summary.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Customer Summary Tests")
+class CustomerSummaryTest {
+
+    @Autowired
+    private GetCustomerSummaryHandler getCustomerSummaryHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("summary@example.com")
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        paymentRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should aggregate totals, status counts and latest activity")
+    void shouldAggregateCustomerActivity() {
+        // Given
+        saveInvoice("INV-SUM-1", InvoiceStatus.DRAFT, LocalDate.now().plusDays(30), "100.00");
+
+        Invoice overdue = saveInvoice("INV-SUM-2", InvoiceStatus.SENT, LocalDate.now().minusDays(10), "500.00");
+        pay(overdue, "200.00", LocalDate.now().minusDays(3));
+
+        Invoice paid = saveInvoice("INV-SUM-3", InvoiceStatus.SENT, LocalDate.now().plusDays(5), "250.00");
+        pay(paid, "250.00", LocalDate.now().minusDays(1));
+
+        Invoice latest = saveInvoice("INV-SUM-4", InvoiceStatus.SENT, LocalDate.now().plusDays(30), "80.00");
+
+        // When
+        CustomerSummaryDto summary = getCustomerSummaryHandler.handle(customer.getId());
+
+        // Then
+        assertThat(summary.getCustomerId()).isEqualTo(customer.getId());
+        assertThat(summary.getInvoiceCount()).isEqualTo(4);
+        assertThat(summary.getInvoiceCountsByStatus())
+            .containsEntry(InvoiceStatus.DRAFT, 1L)
+            .containsEntry(InvoiceStatus.SENT, 2L)
+            .containsEntry(InvoiceStatus.PAID, 1L)
+            .containsEntry(InvoiceStatus.CANCELLED, 0L);
+        assertThat(summary.getOverdueCount()).isEqualTo(1);
+        assertThat(summary.getTotalInvoiced()).isEqualByComparingTo("830.00");
+        assertThat(summary.getTotalPaid()).isEqualByComparingTo("450.00");
+        assertThat(summary.getTotalOutstanding()).isEqualByComparingTo("380.00");
+        assertThat(summary.getTotalOverdue()).isEqualByComparingTo("300.00");
+
+        assertThat(summary.getLastInvoiceId()).isEqualTo(latest.getId());
+        assertThat(summary.getLastInvoiceNumber()).isEqualTo("INV-SUM-4");
+        assertThat(summary.getLastInvoiceStatus()).isEqualTo(InvoiceStatus.SENT);
+        assertThat(summary.getLastInvoiceTotal()).isEqualByComparingTo("80.00");
+        assertThat(summary.getLastPaymentAmount()).isEqualByComparingTo("250.00");
+        assertThat(summary.getLastPaymentDate()).isEqualTo(LocalDate.now().minusDays(1));
+    }
+
+    @Test
+    @DisplayName("Should return zero totals for a customer without invoices")
+    void shouldSummarizeCustomerWithoutInvoices() {
+        CustomerSummaryDto summary = getCustomerSummaryHandler.handle(customer.getId());
+
+        assertThat(summary.getInvoiceCount()).isZero();
+        assertThat(summary.getTotalInvoiced()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(summary.getTotalOutstanding()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(summary.getLastInvoiceId()).isNull();
+        assertThat(summary.getLastPaymentId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown customer")
+    void shouldRejectUnknownCustomer() {
+        assertThrows(IllegalArgumentException.class,
+            () -> getCustomerSummaryHandler.handle(UUID.randomUUID()));
+    }
+
+    private Invoice saveInvoice(String number, InvoiceStatus status, LocalDate dueDate, String amount) {
+        return invoiceRepository.save(TestDataFactory.anInvoice()
+            .withInvoiceNumber(number)
+            .withCustomer(customer)
+            .withStatus(status)
+            .withDueDate(dueDate)
+            .withLineItem("Service", 1, new BigDecimal(amount))
+            .build());
+    }
+
+    private void pay(Invoice invoice, String amount, LocalDate date) {
+        paymentRepository.save(TestDataFactory.aPayment()
+            .withInvoice(invoice)
+            .withAmount(new BigDecimal(amount))
+            .withPaymentDate(date)
+            .build());
+        invoice.applyPayment(new BigDecimal(amount));
+        invoiceRepository.save(invoice);
+    }
+}
@@ -0,0 +1,150 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceCommand;
+import com.invoiceme.application.invoices.CreateInvoiceBatch.CreateInvoiceBatchCommand;
+import com.invoiceme.application.invoices.CreateInvoiceBatch.CreateInvoiceBatchHandler;
+import com.invoiceme.application.invoices.CreateInvoiceBatch.CreateInvoiceBatchResult;
+import com.invoiceme.application.invoices.CreateInvoiceBatch.InvoiceBatchItemResult;
+import com.invoiceme.application.invoices.GetInvoice.GetInvoiceHandler;
+import com.invoiceme.application.invoices.GetInvoice.GetInvoiceQuery;
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDto;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceNumberCounterRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for batch invoice creation.
+ * Not transactional, because each chunk commits in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Invoice Batch Creation Tests")
+class InvoiceBatchCreationTest {
+
+    @Autowired
+    private CreateInvoiceBatchHandler createInvoiceBatchHandler;
+
+    @Autowired
+    private GetInvoiceHandler getInvoiceHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InvoiceNumberCounterRepository counterRepository;
+
+    private Customer testCustomer;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        testCustomer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("batch@example.com")
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        paymentRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+        counterRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create every valid invoice across several chunks")
+    void shouldCreateAllInvoicesInChunks() {
+        // Given
+        List<CreateInvoiceCommand> invoices = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            invoices.add(createCommand(testCustomer.getId(), LocalDate.of(2025, 7, 1 + i % 28)));
+        }
+
+        // When
+        CreateInvoiceBatchResult result = createInvoiceBatchHandler.handle(new CreateInvoiceBatchCommand(invoices, 10));
+
+        // Then
+        assertThat(result.getCreatedCount()).isEqualTo(25);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(result.getResults()).extracting(InvoiceBatchItemResult::getIndex)
+            .containsExactlyElementsOf(IntStream.range(0, 25).boxed().toList());
+
+        GetInvoiceQuery query = new GetInvoiceQuery();
+        query.setInvoiceId(result.getResults().get(3).getInvoiceId());
+        InvoiceDto stored = getInvoiceHandler.handle(query);
+        assertThat(stored.getInvoiceNumber()).isEqualTo(result.getResults().get(3).getInvoiceNumber());
+        assertThat(stored.getLineItems()).hasSize(2);
+        assertThat(stored.getTotalAmount()).isEqualByComparingTo("350.00");
+        assertThat(invoiceRepository.count()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("Should report invalid items and unknown customers without blocking valid ones")
+    void shouldReportPerItemFailures() {
+        // Given
+        CreateInvoiceCommand valid = createCommand(testCustomer.getId(), LocalDate.of(2025, 8, 1));
+        CreateInvoiceCommand unknownCustomer = createCommand(UUID.randomUUID(), LocalDate.of(2025, 8, 1));
+        CreateInvoiceCommand noLineItems = createCommand(testCustomer.getId(), LocalDate.of(2025, 8, 1));
+        noLineItems.setLineItems(List.of());
+
+        // When
+        CreateInvoiceBatchResult result = createInvoiceBatchHandler.handle(
+            new CreateInvoiceBatchCommand(List.of(valid, unknownCustomer, noLineItems), null));
+
+        // Then
+        assertThat(result.getCreatedCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getResults().get(0).isSuccess()).isTrue();
+        assertThat(result.getResults().get(0).getInvoiceNumber()).isEqualTo("INV-202508-0001");
+        assertThat(result.getResults().get(1).getErrors()).singleElement().asString().contains("does not exist");
+        assertThat(result.getResults().get(2).getErrors()).contains("At least one line item is required");
+        assertThat(invoiceRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch")
+    void shouldRejectEmptyBatch() {
+        assertThrows(IllegalArgumentException.class,
+            () -> createInvoiceBatchHandler.handle(new CreateInvoiceBatchCommand(List.of(), null)));
+    }
+
+    private CreateInvoiceCommand createCommand(UUID customerId, LocalDate issueDate) {
+        return new CreateInvoiceCommand(
+            customerId,
+            issueDate,
+            issueDate.plusDays(30),
+            new BigDecimal("50.00"),
+            null,
+            new ArrayList<>(List.of(
+                new CreateInvoiceCommand.LineItemDto("Consulting", new BigDecimal("2"), new BigDecimal("100.00")),
+                new CreateInvoiceCommand.LineItemDto("Support", BigDecimal.ONE, new BigDecimal("100.00"))
+            ))
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkInvoiceAction;
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkTransitionInvoicesCommand;
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkTransitionInvoicesHandler;
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkTransitionItemResult;
+import com.invoiceme.application.invoices.BulkTransitionInvoices.BulkTransitionResult;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for bulk send and bulk cancel.
+ * Not transactional, because each chunk commits in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Invoice Bulk Transition Tests")
+class InvoiceBulkTransitionTest {
+
+    @Autowired
+    private BulkTransitionInvoicesHandler bulkTransitionInvoicesHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Customer testCustomer;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        testCustomer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("bulk@example.com")
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        paymentRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should send listed invoices and report the ones that cannot be sent")
+    void shouldSendByIdsWithPerInvoiceFailures() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(saveInvoice("INV-BULK-" + i, InvoiceStatus.DRAFT).getId());
+        }
+        UUID alreadySent = saveInvoice("INV-BULK-SENT", InvoiceStatus.SENT).getId();
+        UUID missing = UUID.randomUUID();
+        ids.add(alreadySent);
+        ids.add(missing);
+
+        BulkTransitionInvoicesCommand command = new BulkTransitionInvoicesCommand(BulkInvoiceAction.SEND, ids);
+        command.setChunkSize(2);
+
+        // When
+        BulkTransitionResult result = bulkTransitionInvoicesHandler.handle(command);
+
+        // Then
+        assertThat(result.getSucceededCount()).isEqualTo(5);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(BulkTransitionItemResult::getInvoiceId)
+            .containsExactlyElementsOf(ids);
+        assertThat(result.getResults().get(5).getError()).isEqualTo("Can only send invoices in DRAFT status");
+        assertThat(result.getResults().get(6).getError()).contains("Invoice not found");
+
+        Invoice sent = invoiceRepository.findById(ids.get(0)).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(InvoiceStatus.SENT);
+        assertThat(sent.getPaymentLink()).isNotNull();
+        assertThat(sent.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should cancel every invoice matching the filter")
+    void shouldCancelByFilter() {
+        // Given
+        saveInvoice("INV-BULK-A", InvoiceStatus.SENT);
+        saveInvoice("INV-BULK-B", InvoiceStatus.SENT);
+        saveInvoice("INV-BULK-C", InvoiceStatus.DRAFT);
+
+        BulkTransitionInvoicesCommand command = new BulkTransitionInvoicesCommand();
+        command.setAction(BulkInvoiceAction.CANCEL);
+        command.setStatus(InvoiceStatus.SENT);
+        command.setCustomerId(testCustomer.getId());
+        command.setCancellationReason("Customer closed account");
+
+        // When
+        BulkTransitionResult result = bulkTransitionInvoicesHandler.handle(command);
+
+        // Then
+        assertThat(result.getSucceededCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(invoiceRepository.findByStatus(InvoiceStatus.CANCELLED)).hasSize(2)
+            .allSatisfy(invoice -> assertThat(invoice.getCancellationReason()).isEqualTo("Customer closed account"));
+        assertThat(invoiceRepository.findByStatus(InvoiceStatus.DRAFT)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject combining invoice IDs with a filter and cancelling without a reason")
+    void shouldRejectInvalidCommands() {
+        BulkTransitionInvoicesCommand both = new BulkTransitionInvoicesCommand(
+            BulkInvoiceAction.SEND, List.of(UUID.randomUUID()));
+        both.setCustomerId(testCustomer.getId());
+        assertThrows(IllegalArgumentException.class, () -> bulkTransitionInvoicesHandler.handle(both));
+
+        BulkTransitionInvoicesCommand noReason = new BulkTransitionInvoicesCommand(
+            BulkInvoiceAction.CANCEL, List.of(UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> bulkTransitionInvoicesHandler.handle(noReason));
+    }
+
+    private Invoice saveInvoice(String invoiceNumber, InvoiceStatus status) {
+        return invoiceRepository.save(TestDataFactory.anInvoice()
+            .withInvoiceNumber(invoiceNumber)
+            .withCustomer(testCustomer)
+            .withStatus(status)
+            .withLineItem("Consulting", 1, new BigDecimal("100.00"))
+            .build());
+    }
+}
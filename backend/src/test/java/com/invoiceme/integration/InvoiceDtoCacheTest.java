@@ -0,0 +1,120 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.invoices.GetInvoice.GetInvoiceHandler;
+import com.invoiceme.application.invoices.GetInvoice.GetInvoiceQuery;
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDto;
+import com.invoiceme.application.invoices.GetInvoice.InvoiceDtoCache;
+import com.invoiceme.application.invoices.SendInvoice.SendInvoiceCommand;
+import com.invoiceme.application.invoices.SendInvoice.SendInvoiceHandler;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.infrastructure.cache.CacheStats;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the invoice DTO cache behind GetInvoiceHandler.
+ * Not transactional, so invalidation after commit is exercised as in production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Invoice DTO Cache Tests")
+class InvoiceDtoCacheTest {
+
+    @Autowired
+    private GetInvoiceHandler getInvoiceHandler;
+
+    @Autowired
+    private SendInvoiceHandler sendInvoiceHandler;
+
+    @Autowired
+    private InvoiceDtoCache invoiceDtoCache;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    private Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Customer customer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("cache@example.com")
+            .build());
+        invoice = invoiceRepository.save(TestDataFactory.anInvoice()
+            .withInvoiceNumber("INV-CACHE-1")
+            .withCustomer(customer)
+            .withStatus(InvoiceStatus.DRAFT)
+            .withLineItem("Consulting", 2, new BigDecimal("50.00"))
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads of an unchanged invoice from the cache")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        CacheStats before = invoiceDtoCache.stats();
+
+        // When
+        InvoiceDto first = getInvoiceHandler.handle(new GetInvoiceQuery(invoice.getId()));
+        InvoiceDto second = getInvoiceHandler.handle(new GetInvoiceQuery(invoice.getId()));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getLineItems()).hasSize(1);
+        CacheStats after = invoiceDtoCache.stats();
+        assertThat(after.getMisses() - before.getMisses()).isEqualTo(1);
+        assertThat(after.getHits() - before.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the DTO after a command changes the invoice")
+    void shouldRebuildAfterInvoiceChanges() {
+        // Given
+        InvoiceDto draft = getInvoiceHandler.handle(new GetInvoiceQuery(invoice.getId()));
+        assertThat(draft.getStatus()).isEqualTo(InvoiceStatus.DRAFT);
+
+        // When
+        sendInvoiceHandler.handle(new SendInvoiceCommand(invoice.getId()));
+        InvoiceDto sent = getInvoiceHandler.handle(new GetInvoiceQuery(invoice.getId()));
+
+        // Then
+        assertThat(sent.getStatus()).isEqualTo(InvoiceStatus.SENT);
+        assertThat(sent.getPaymentLink()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not serve a cached DTO whose version is stale")
+    void shouldRejectStaleVersion() {
+        // Given
+        InvoiceDto dto = getInvoiceHandler.handle(new GetInvoiceQuery(invoice.getId()));
+        long version = invoiceRepository.findVersionById(invoice.getId()).orElseThrow();
+
+        // When / Then
+        assertThat(invoiceDtoCache.get(invoice.getId(), version)).isSameAs(dto);
+        assertThat(invoiceDtoCache.get(invoice.getId(), version + 1)).isNull();
+        assertThat(invoiceDtoCache.get(invoice.getId(), version)).isNull();
+    }
+}
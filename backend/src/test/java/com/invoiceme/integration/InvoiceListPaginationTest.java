@@ -0,0 +1,188 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.invoices.GetInvoiceStats.GetInvoiceStatsHandler;
+import com.invoiceme.application.invoices.GetInvoiceStats.InvoiceStatsDto;
+import com.invoiceme.application.invoices.ListInvoices.InvoiceCursor;
+import com.invoiceme.application.invoices.ListInvoices.InvoiceSummaryDto;
+import com.invoiceme.application.invoices.ListInvoices.InvoiceSummaryPage;
+import com.invoiceme.application.invoices.ListInvoices.ListInvoicesHandler;
+import com.invoiceme.application.invoices.ListInvoices.ListInvoicesQuery;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for the keyset-paginated invoice list (GET /api/invoices)
+ * and the per-status statistics that let list views avoid reading every page.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Invoice List Pagination Tests")
+class InvoiceListPaginationTest {
+
+    @Autowired
+    private ListInvoicesHandler listInvoicesHandler;
+
+    @Autowired
+    private GetInvoiceStatsHandler getInvoiceStatsHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private Customer acme;
+    private Customer globex;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        acme = customerRepository.save(TestDataFactory.aCustomer()
+            .withBusinessName("Acme").withEmail("billing@acme.example").build());
+        globex = customerRepository.save(TestDataFactory.aCustomer()
+            .withBusinessName("Globex").withEmail("billing@globex.example").build());
+
+        for (int i = 1; i <= 7; i++) {
+            saveInvoice("INV-LIST-" + i, i % 2 == 0 ? globex : acme, i <= 4 ? InvoiceStatus.SENT : InvoiceStatus.DRAFT,
+                today.plusDays(i * 10L), new BigDecimal(i * 100));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should return every invoice exactly once, newest first, when following cursors")
+    void shouldFollowCursorsAcrossPages() {
+        List<InvoiceSummaryDto> paged = readAll(new ListInvoicesQuery(), 3);
+
+        ListInvoicesQuery unpaged = new ListInvoicesQuery();
+        unpaged.setLimit(ListInvoicesQuery.MAX_LIMIT);
+        List<InvoiceSummaryDto> all = listInvoicesHandler.handle(unpaged).getItems();
+
+        assertThat(all).hasSize(7);
+        assertThat(paged).extracting(InvoiceSummaryDto::getId)
+            .containsExactlyElementsOf(all.stream().map(InvoiceSummaryDto::getId).toList());
+        assertThat(all).extracting(InvoiceSummaryDto::getCreatedAt)
+            .isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    @DisplayName("Should break created_at ties by id without skipping or repeating rows")
+    void shouldPaginateThroughCreatedAtTies() {
+        jdbcTemplate.update("UPDATE invoices SET created_at = ?", LocalDateTime.now().withNano(0));
+
+        List<InvoiceSummaryDto> paged = readAll(new ListInvoicesQuery(), 2);
+
+        assertThat(paged).extracting(InvoiceSummaryDto::getInvoiceNumber)
+            .containsExactlyInAnyOrder("INV-LIST-1", "INV-LIST-2", "INV-LIST-3", "INV-LIST-4",
+                "INV-LIST-5", "INV-LIST-6", "INV-LIST-7");
+    }
+
+    @Test
+    @DisplayName("Should apply status, customer, due date and amount filters on every page")
+    void shouldFilterAcrossPages() {
+        ListInvoicesQuery sentForAcme = new ListInvoicesQuery();
+        sentForAcme.setStatus(InvoiceStatus.SENT);
+        sentForAcme.setCustomerId(acme.getId());
+        assertThat(readAll(sentForAcme, 1)).extracting(InvoiceSummaryDto::getInvoiceNumber)
+            .containsExactlyInAnyOrder("INV-LIST-1", "INV-LIST-3");
+
+        ListInvoicesQuery dueAndAmount = new ListInvoicesQuery();
+        dueAndAmount.setDueDateFrom(today.plusDays(20));
+        dueAndAmount.setDueDateTo(today.plusDays(60));
+        dueAndAmount.setMinAmount(new BigDecimal("300"));
+        dueAndAmount.setMaxAmount(new BigDecimal("500"));
+        assertThat(readAll(dueAndAmount, 2)).extracting(InvoiceSummaryDto::getInvoiceNumber)
+            .containsExactlyInAnyOrder("INV-LIST-3", "INV-LIST-4", "INV-LIST-5");
+    }
+
+    @Test
+    @DisplayName("Should round-trip cursors and reject malformed cursors and limits")
+    void shouldValidateCursorAndLimit() {
+        InvoiceCursor cursor = new InvoiceCursor(LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6000), UUID.randomUUID());
+        assertThat(InvoiceCursor.decode(cursor.encode())).isEqualTo(cursor);
+
+        ListInvoicesQuery lastPage = new ListInvoicesQuery();
+        lastPage.setLimit(7);
+        assertThat(listInvoicesHandler.handle(lastPage).getNextCursor()).isNull();
+
+        ListInvoicesQuery badCursor = new ListInvoicesQuery();
+        badCursor.setCursor("not a cursor");
+        assertThrows(IllegalArgumentException.class, () -> listInvoicesHandler.handle(badCursor));
+
+        ListInvoicesQuery badLimit = new ListInvoicesQuery();
+        badLimit.setLimit(ListInvoicesQuery.MAX_LIMIT + 1);
+        assertThrows(IllegalArgumentException.class, () -> listInvoicesHandler.handle(badLimit));
+    }
+
+    @Test
+    @DisplayName("Should count and total invoices per status, with zero for statuses that have none")
+    void shouldSummarizeInvoicesPerStatus() {
+        InvoiceStatsDto stats = getInvoiceStatsHandler.handle();
+
+        assertThat(stats.getInvoiceCount()).isEqualTo(7);
+        assertThat(stats.getInvoiceCountsByStatus())
+            .containsEntry(InvoiceStatus.SENT, 4L)
+            .containsEntry(InvoiceStatus.DRAFT, 3L)
+            .containsEntry(InvoiceStatus.PAID, 0L)
+            .containsEntry(InvoiceStatus.CANCELLED, 0L);
+        assertThat(stats.getTotalAmountsByStatus().get(InvoiceStatus.SENT)).isEqualByComparingTo("1000");
+        assertThat(stats.getTotalAmountsByStatus().get(InvoiceStatus.DRAFT)).isEqualByComparingTo("1800");
+        assertThat(stats.getTotalAmountsByStatus().get(InvoiceStatus.PAID)).isEqualByComparingTo("0");
+    }
+
+    private List<InvoiceSummaryDto> readAll(ListInvoicesQuery query, int limit) {
+        List<InvoiceSummaryDto> all = new ArrayList<>();
+        query.setLimit(limit);
+        query.setCursor(null);
+        do {
+            InvoiceSummaryPage page = listInvoicesHandler.handle(query);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(limit);
+            all.addAll(page.getItems());
+            query.setCursor(page.getNextCursor());
+        } while (query.getCursor() != null);
+        return all;
+    }
+
+    private Invoice saveInvoice(String number, Customer customer, InvoiceStatus status, LocalDate dueDate,
+                                BigDecimal amount) {
+        return invoiceRepository.save(TestDataFactory.anInvoice()
+            .withInvoiceNumber(number)
+            .withCustomer(customer)
+            .withStatus(status)
+            .withIssueDate(today)
+            .withDueDate(dueDate)
+            .withLineItem("Service", 1, amount)
+            .build());
+    }
+}
@@ -0,0 +1,182 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceCommand;
+import com.invoiceme.application.invoices.CreateInvoice.CreateInvoiceHandler;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceNumberCounterRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import com.invoiceme.infrastructure.services.InvoiceNumberAllocator;
+import com.invoiceme.infrastructure.services.InvoiceNumberBlockReserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency tests for invoice number allocation.
+ *
+ * Not transactional: every thread commits its own invoices, exactly as concurrent
+ * requests would. Thread counts stay below the test connection pool size because a
+ * block reservation briefly needs a second connection next to the caller's transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Invoice Number Allocation Concurrency Tests")
+class InvoiceNumberAllocationConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int INVOICES_PER_THREAD = 250;
+
+    @Autowired
+    private CreateInvoiceHandler createInvoiceHandler;
+
+    @Autowired
+    private InvoiceNumberBlockReserver blockReserver;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InvoiceNumberCounterRepository counterRepository;
+
+    private Customer testCustomer;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        testCustomer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("numbers@example.com")
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        paymentRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+        counterRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should assign unique sequential numbers to invoices created concurrently")
+    void shouldAssignUniqueNumbersUnderConcurrentCreates() throws Exception {
+        // Given
+        LocalDate issueDate = LocalDate.of(2025, 3, 14);
+        int total = THREADS * INVOICES_PER_THREAD;
+
+        // When
+        runConcurrently(() -> {
+            for (int i = 0; i < INVOICES_PER_THREAD; i++) {
+                createInvoiceHandler.handle(createCommand(issueDate));
+            }
+            return null;
+        });
+
+        // Then
+        List<String> numbers = invoiceRepository.findAll().stream()
+            .map(Invoice::getInvoiceNumber)
+            .collect(Collectors.toList());
+
+        assertThat(numbers).hasSize(total);
+        assertThat(numbers).doesNotHaveDuplicates();
+        assertThat(numbers).allMatch(number -> number.matches("INV-202503-\\d{4,}"));
+
+        // A single allocator with no rollbacks leaves no gaps
+        Set<Long> sequence = numbers.stream()
+            .map(number -> Long.parseLong(number.substring("INV-202503-".length())))
+            .collect(Collectors.toSet());
+        assertThat(sequence).containsExactlyInAnyOrderElementsOf(
+            LongStream.rangeClosed(1, total).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should keep separate sequences per month")
+    void shouldNumberEachMonthIndependently() {
+        // When
+        createInvoiceHandler.handle(createCommand(LocalDate.of(2025, 4, 30)));
+        createInvoiceHandler.handle(createCommand(LocalDate.of(2025, 5, 1)));
+        createInvoiceHandler.handle(createCommand(LocalDate.of(2025, 4, 2)));
+
+        // Then
+        List<String> numbers = invoiceRepository.findAll().stream()
+            .map(Invoice::getInvoiceNumber)
+            .collect(Collectors.toList());
+        assertThat(numbers).containsExactlyInAnyOrder("INV-202504-0001", "INV-202504-0002", "INV-202505-0001");
+    }
+
+    @Test
+    @DisplayName("Should never hand out the same number on two nodes")
+    void shouldNotCollideAcrossNodes() throws Exception {
+        // Given - two allocators sharing the counter table, as two application instances would
+        InvoiceNumberAllocator nodeA = new InvoiceNumberAllocator(blockReserver, 7);
+        InvoiceNumberAllocator nodeB = new InvoiceNumberAllocator(blockReserver, 7);
+        LocalDate issueDate = LocalDate.of(2025, 6, 1);
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+
+        // When
+        runConcurrently(() -> {
+            InvoiceNumberAllocator node = Thread.currentThread().threadId() % 2 == 0 ? nodeA : nodeB;
+            for (int i = 0; i < INVOICES_PER_THREAD; i++) {
+                assertThat(numbers.add(node.allocate(issueDate))).isTrue();
+            }
+            return null;
+        });
+
+        // Then
+        assertThat(numbers).hasSize(THREADS * INVOICES_PER_THREAD);
+    }
+
+    private void runConcurrently(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CreateInvoiceCommand createCommand(LocalDate issueDate) {
+        return new CreateInvoiceCommand(
+            testCustomer.getId(),
+            issueDate,
+            issueDate.plusDays(30),
+            BigDecimal.ZERO,
+            null,
+            List.of(new CreateInvoiceCommand.LineItemDto("Consulting", BigDecimal.ONE, new BigDecimal("100.00")))
+        );
+    }
+}
@@ -0,0 +1,194 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentCommand;
+import com.invoiceme.application.payments.RecordPaymentBatch.PaymentBatchItemResult;
+import com.invoiceme.application.payments.RecordPaymentBatch.RecordPaymentBatchCommand;
+import com.invoiceme.application.payments.RecordPaymentBatch.RecordPaymentBatchHandler;
+import com.invoiceme.application.payments.RecordPaymentBatch.RecordPaymentBatchResult;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.payment.PaymentMethod;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for batch payment recording.
+ * Not transactional, because each chunk commits in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Payment Batch Recording Tests")
+class PaymentBatchRecordingTest {
+
+    @Autowired
+    private RecordPaymentBatchHandler recordPaymentBatchHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customer = customerRepository.save(TestDataFactory.aCustomer().build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        paymentRepository.deleteAllInBatch();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should apply several payments to one invoice in request order")
+    void shouldApplyPaymentsInOrder() {
+        // Given: three instalments, the last one more than what is left
+        Invoice invoice = invoiceRepository.save(TestDataFactory.sentInvoice(customer, "1000.00", true)
+            .withInvoiceNumber("INV-202511-0001").build());
+        List<RecordPaymentCommand> payments = List.of(
+            payment(invoice, "400.00"),
+            payment(invoice, "600.00"),
+            payment(invoice, "50.00"));
+
+        // When
+        RecordPaymentBatchResult result = record(payments, null);
+
+        // Then
+        assertThat(result.getRecordedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getResults().get(2).getErrors()).singleElement()
+            .satisfies(error -> assertThat(error).contains("exceeds invoice balance remaining"));
+
+        Invoice reloaded = invoiceRepository.findById(invoice.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(reloaded.getBalanceRemaining()).isEqualByComparingTo("0.00");
+        assertThat(paymentRepository.findByInvoiceId(invoice.getId())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should record many payments across chunks")
+    void shouldRecordAcrossChunks() {
+        // Given: 200 invoices paid in 5 instalments each, interleaved
+        List<Invoice> invoices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            invoices.add(TestDataFactory.sentInvoice(customer, "500.00", true)
+                .withInvoiceNumber("INV-202511-%04d".formatted(i + 1)).build());
+        }
+        invoiceRepository.saveAll(invoices);
+
+        List<RecordPaymentCommand> payments = new ArrayList<>();
+        for (int instalment = 0; instalment < 5; instalment++) {
+            for (Invoice invoice : invoices) {
+                payments.add(payment(invoice, "100.00"));
+            }
+        }
+
+        // When: chunks smaller than the batch, but never splitting one invoice's payments
+        RecordPaymentBatchResult result = record(payments, 37);
+
+        // Then
+        assertThat(result.getRecordedCount()).isEqualTo(1_000);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(paymentRepository.count()).isEqualTo(1_000);
+        assertThat(invoiceRepository.findByStatus(InvoiceStatus.PAID)).hasSize(200);
+    }
+
+    @Test
+    @DisplayName("Should return existing payments when a batch is replayed")
+    void shouldBeIdempotent() {
+        // Given: a batch that repeats one payment ID
+        Invoice invoice = invoiceRepository.save(TestDataFactory.sentInvoice(customer, "1000.00", true)
+            .withInvoiceNumber("INV-202511-0001").build());
+        RecordPaymentCommand first = payment(invoice, "300.00");
+        List<RecordPaymentCommand> payments = List.of(first, payment(invoice, "200.00"), first);
+
+        // When
+        RecordPaymentBatchResult initial = record(payments, null);
+        RecordPaymentBatchResult replay = record(payments, null);
+
+        // Then
+        assertThat(initial.getRecordedCount()).isEqualTo(2);
+        assertThat(initial.getAlreadyRecordedCount()).isEqualTo(1);
+        assertThat(initial.getResults().get(2).isAlreadyRecorded()).isTrue();
+        assertThat(replay.getRecordedCount()).isZero();
+        assertThat(replay.getAlreadyRecordedCount()).isEqualTo(3);
+        assertThat(paymentRepository.findByInvoiceId(invoice.getId())).hasSize(2);
+        assertThat(invoiceRepository.findById(invoice.getId()).orElseThrow().getBalanceRemaining())
+            .isEqualByComparingTo("500.00");
+    }
+
+    @Test
+    @DisplayName("Should report invalid items without failing the rest of the batch")
+    void shouldReportInvalidItems() {
+        // Given
+        Invoice fullPayment = invoiceRepository.save(TestDataFactory.sentInvoice(customer, "250.00", false)
+            .withInvoiceNumber("INV-202511-0001").build());
+        RecordPaymentCommand unknownInvoice = new RecordPaymentCommand(UUID.randomUUID(), UUID.randomUUID(),
+            new BigDecimal("10.00"), LocalDate.now(), PaymentMethod.CREDIT_CARD, null, null);
+        RecordPaymentCommand missingAmount = payment(fullPayment, "1.00");
+        missingAmount.setPaymentAmount(null);
+        List<RecordPaymentCommand> payments = new ArrayList<>();
+        payments.add(payment(fullPayment, "100.00"));
+        payments.add(unknownInvoice);
+        payments.add(missingAmount);
+        payments.add(null);
+        payments.add(payment(fullPayment, "250.00"));
+
+        // When
+        RecordPaymentBatchResult result = record(payments, null);
+
+        // Then
+        List<PaymentBatchItemResult> results = result.getResults();
+        assertThat(results).extracting(PaymentBatchItemResult::isSuccess)
+            .containsExactly(false, false, false, false, true);
+        assertThat(results.get(0).getErrors().get(0)).contains("does not allow partial payments");
+        assertThat(results.get(1).getErrors()).containsExactly(
+            "Invoice with ID " + unknownInvoice.getInvoiceId() + " does not exist");
+        assertThat(results.get(2).getErrors()).containsExactly("Payment amount is required");
+        assertThat(results.get(3).getErrors()).containsExactly("Payment is required");
+        assertThat(invoiceRepository.findById(fullPayment.getId()).orElseThrow().getStatus())
+            .isEqualTo(InvoiceStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("Should reject empty batches")
+    void shouldRejectEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> record(List.of(), null));
+    }
+
+    private RecordPaymentBatchResult record(List<RecordPaymentCommand> payments, Integer chunkSize) {
+        return recordPaymentBatchHandler.handle(new RecordPaymentBatchCommand(payments, chunkSize));
+    }
+
+    private RecordPaymentCommand payment(Invoice invoice, String amount) {
+        return new RecordPaymentCommand(UUID.randomUUID(), invoice.getId(), new BigDecimal(amount),
+            LocalDate.now(), PaymentMethod.BANK_TRANSFER, null, null);
+    }
+}
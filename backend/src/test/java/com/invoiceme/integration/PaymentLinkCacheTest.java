@@ -0,0 +1,138 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.invoices.CancelInvoice.CancelInvoiceCommand;
+import com.invoiceme.application.invoices.CancelInvoice.CancelInvoiceHandler;
+import com.invoiceme.application.invoices.SendInvoice.SendInvoiceCommand;
+import com.invoiceme.application.invoices.SendInvoice.SendInvoiceHandler;
+import com.invoiceme.application.payments.ResolvePaymentLink.PaymentLinkCache;
+import com.invoiceme.application.payments.ResolvePaymentLink.ResolvePaymentLinkHandler;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.infrastructure.cache.CacheStats;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for payment link resolution through the payment link cache.
+ * Not transactional, so cache updates after commit are exercised as in production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Payment Link Cache Tests")
+class PaymentLinkCacheTest {
+
+    @Autowired
+    private ResolvePaymentLinkHandler resolvePaymentLinkHandler;
+
+    @Autowired
+    private SendInvoiceHandler sendInvoiceHandler;
+
+    @Autowired
+    private CancelInvoiceHandler cancelInvoiceHandler;
+
+    @Autowired
+    private PaymentLinkCache paymentLinkCache;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    private Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Customer customer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("links@example.com")
+            .build());
+        invoice = invoiceRepository.save(TestDataFactory.anInvoice()
+            .withInvoiceNumber("INV-LINK-1")
+            .withCustomer(customer)
+            .withStatus(InvoiceStatus.DRAFT)
+            .withLineItem("Consulting", 1, new BigDecimal("100.00"))
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should resolve the link of a sent invoice from the cache warmed on send")
+    void shouldResolveWarmedLink() {
+        // Given
+        sendInvoiceHandler.handle(new SendInvoiceCommand(invoice.getId()));
+        String paymentLink = invoiceRepository.findById(invoice.getId()).orElseThrow().getPaymentLink();
+        CacheStats before = linkStats();
+
+        // When
+        UUID resolved = resolvePaymentLinkHandler.handle(paymentLink);
+
+        // Then
+        assertThat(resolved).isEqualTo(invoice.getId());
+        CacheStats after = linkStats();
+        assertThat(after.getHits() - before.getHits()).isEqualTo(1);
+        assertThat(after.getMisses() - before.getMisses()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep resolving the link from the database after the invoice is cancelled")
+    void shouldEvictLinkOnCancel() {
+        // Given
+        sendInvoiceHandler.handle(new SendInvoiceCommand(invoice.getId()));
+        String paymentLink = invoiceRepository.findById(invoice.getId()).orElseThrow().getPaymentLink();
+
+        // When
+        cancelInvoiceHandler.handle(new CancelInvoiceCommand(invoice.getId(), "Duplicate"));
+        CacheStats before = linkStats();
+        UUID resolved = resolvePaymentLinkHandler.handle(paymentLink);
+
+        // Then
+        assertThat(resolved).isEqualTo(invoice.getId());
+        assertThat(linkStats().getMisses() - before.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should remember unknown links and reject malformed ones")
+    void shouldCacheUnknownLinks() {
+        // Given
+        String unknownLink = UUID.randomUUID().toString();
+        CacheStats before = unknownLinkStats();
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> resolvePaymentLinkHandler.handle(unknownLink));
+        assertThrows(IllegalArgumentException.class, () -> resolvePaymentLinkHandler.handle(unknownLink));
+        assertThrows(IllegalArgumentException.class, () -> resolvePaymentLinkHandler.handle(" "));
+
+        CacheStats after = unknownLinkStats();
+        assertThat(after.getMisses() - before.getMisses()).isEqualTo(1);
+        assertThat(after.getHits() - before.getHits()).isEqualTo(1);
+    }
+
+    private CacheStats linkStats() {
+        return paymentLinkCache.cacheStats().get(0);
+    }
+
+    private CacheStats unknownLinkStats() {
+        return paymentLinkCache.cacheStats().get(1);
+    }
+}
@@ -0,0 +1,335 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.reminder.ReminderEmail;
+import com.invoiceme.domain.reminder.ReminderStatus;
+import com.invoiceme.domain.reminder.ReminderType;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.ReminderCandidate;
+import com.invoiceme.infrastructure.persistence.ReminderEmailRepository;
+import com.invoiceme.infrastructure.persistence.SchedulerLockRepository;
+import com.invoiceme.infrastructure.persistence.SchedulerWatermarkRepository;
+import com.invoiceme.infrastructure.persistence.UuidRange;
+import com.invoiceme.infrastructure.scheduler.ClusterJobLock;
+import com.invoiceme.infrastructure.scheduler.ReminderDispatcher;
+import com.invoiceme.infrastructure.scheduler.ReminderOutboxWorker;
+import com.invoiceme.infrastructure.scheduler.ReminderRunMetrics;
+import com.invoiceme.infrastructure.scheduler.ReminderSchedulerService;
+import com.invoiceme.infrastructure.scheduler.SchedulerWatermark;
+import com.invoiceme.infrastructure.scheduler.SchedulerWatermarks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for the SQL candidate selection and concurrent dispatch behind
+ * the automatic reminder job, and delivery of what it queues.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Reminder Candidate Selection Tests")
+class ReminderCandidateSelectionTest {
+
+    @Autowired
+    private ReminderSchedulerService reminderSchedulerService;
+
+    @Autowired
+    private ReminderDispatcher reminderDispatcher;
+
+    @Autowired
+    private ReminderOutboxWorker reminderOutboxWorker;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private ReminderEmailRepository reminderEmailRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private SchedulerWatermarkRepository schedulerWatermarkRepository;
+
+    @Autowired
+    private SchedulerWatermarks schedulerWatermarks;
+
+    private final LocalDate today = LocalDate.now();
+    private Customer customer;
+    private Invoice beforeDue;
+    private Invoice overdueWeek;
+    private Invoice overdueMonth;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("reminders@example.com")
+            .build());
+
+        beforeDue = saveInvoice("INV-REM-1", InvoiceStatus.SENT, today.plusDays(7));
+        overdueWeek = saveInvoice("INV-REM-2", InvoiceStatus.SENT, today.minusDays(7));
+        overdueMonth = saveInvoice("INV-REM-3", InvoiceStatus.SENT, today.minusDays(30));
+
+        // Not due a reminder today, not SENT, or already reminded
+        saveInvoice("INV-REM-4", InvoiceStatus.SENT, today.plusDays(3));
+        saveInvoice("INV-REM-5", InvoiceStatus.DRAFT, today);
+        Invoice reminded = saveInvoice("INV-REM-6", InvoiceStatus.SENT, today);
+        reminderEmailRepository.save(sentReminder(reminded, ReminderType.ON_DUE_DATE));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        schedulerLockRepository.deleteAll();
+        schedulerWatermarkRepository.deleteAll();
+        reminderEmailRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should select only invoices due a reminder that has not been sent, across pages")
+    void shouldSelectCandidatesInPages() {
+        List<ReminderCandidate> all = new ArrayList<>();
+        UUID afterId = null;
+        List<ReminderCandidate> page;
+        do {
+            page = invoiceRepository.findReminderCandidates(today, afterId, 2);
+            all.addAll(page);
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getInvoiceId();
+        } while (page.size() == 2);
+
+        assertThat(all).extracting(ReminderCandidate::getInvoiceNumber)
+            .containsExactlyInAnyOrder("INV-REM-1", "INV-REM-2", "INV-REM-3");
+        assertThat(all).filteredOn(candidate -> candidate.getInvoiceId().equals(beforeDue.getId()))
+            .extracting(ReminderCandidate::getReminderType).containsExactly(ReminderType.BEFORE_DUE);
+        assertThat(all).filteredOn(candidate -> candidate.getInvoiceId().equals(overdueMonth.getId()))
+            .extracting(ReminderCandidate::getReminderType).containsExactly(ReminderType.OVERDUE_30_DAYS);
+    }
+
+    @Test
+    @DisplayName("Should queue each due reminder once, record the run's metrics, and deliver it")
+    void shouldSendDueRemindersOnce() {
+        reminderSchedulerService.sendAutomaticReminders();
+
+        ReminderRunMetrics run = reminderDispatcher.recentRuns().get(0);
+        assertThat(run.getSentCount()).isEqualTo(3);
+        assertThat(run.getFailedCount()).isZero();
+        assertThat(run.getMaxLatencyMs()).isGreaterThanOrEqualTo(run.getP95LatencyMs());
+
+        assertThat(reminderEmailRepository.findByInvoiceIdOrderBySentAtDesc(overdueWeek.getId()))
+            .extracting(ReminderEmail::getReminderType, ReminderEmail::getStatus)
+            .containsExactly(tuple(ReminderType.OVERDUE_7_DAYS, ReminderStatus.PENDING));
+        // Queued reminders are not candidates again
+        assertThat(invoiceRepository.findReminderCandidates(today, null, 10)).isEmpty();
+
+        long reminders = reminderEmailRepository.count();
+        reminderSchedulerService.sendAutomaticReminders();
+        assertThat(reminderEmailRepository.count()).isEqualTo(reminders);
+
+        assertThat(reminderOutboxWorker.drain()).isEqualTo(3);
+
+        assertThat(reminderEmailRepository.findByInvoiceIdOrderBySentAtDesc(overdueWeek.getId()))
+            .extracting(ReminderEmail::getReminderType, ReminderEmail::getStatus, ReminderEmail::getAttempts)
+            .containsExactly(tuple(ReminderType.OVERDUE_7_DAYS, ReminderStatus.SENT, 1));
+        assertThat(invoiceRepository.findById(overdueWeek.getId()).orElseThrow().getLastReminderSentAt()).isNotNull();
+        assertThat(reminderOutboxWorker.drain()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should select reminders that fell due since the given day, most overdue first")
+    void shouldSelectCandidatesSinceDay() {
+        Invoice overdueTwoWeeks = saveInvoice("INV-REM-7", InvoiceStatus.SENT, today.minusDays(15));
+
+        List<ReminderCandidate> candidates =
+            invoiceRepository.findReminderCandidates(today.minusDays(8), today, UuidRange.all(), null, 10);
+
+        // INV-REM-4 was due its before-due reminder four days ago; INV-REM-7 is past both
+        // its 7- and 14-day reminders and gets the later one only
+        assertThat(candidates).extracting(ReminderCandidate::getInvoiceNumber)
+            .containsExactlyInAnyOrder("INV-REM-1", "INV-REM-2", "INV-REM-3", "INV-REM-4", "INV-REM-7");
+        assertThat(candidates).filteredOn(candidate -> candidate.getInvoiceId().equals(overdueTwoWeeks.getId()))
+            .extracting(ReminderCandidate::getReminderType).containsExactly(ReminderType.OVERDUE_14_DAYS);
+    }
+
+    @Test
+    @DisplayName("Should catch up on reminders due since the last run and advance the watermark")
+    void shouldCatchUpFromWatermark() {
+        schedulerWatermarkRepository.save(
+            new SchedulerWatermark("reminder-sweep", today.minusDays(3), LocalDateTime.now()));
+        Invoice missedOverdue = saveInvoice("INV-REM-7", InvoiceStatus.SENT, today.minusDays(9));
+        Invoice missedBeforeDue = saveInvoice("INV-REM-8", InvoiceStatus.SENT, today.plusDays(5));
+        // Was due its due-date reminder yesterday: too late to send now
+        Invoice missedOnDue = saveInvoice("INV-REM-9", InvoiceStatus.SENT, today.minusDays(1));
+
+        reminderSchedulerService.sendAutomaticReminders();
+
+        assertThat(reminderEmailRepository.findByInvoiceIdOrderBySentAtDesc(missedOverdue.getId()))
+            .extracting(ReminderEmail::getReminderType).containsExactly(ReminderType.OVERDUE_7_DAYS);
+        assertThat(reminderEmailRepository.findByInvoiceIdOrderBySentAtDesc(missedBeforeDue.getId()))
+            .extracting(ReminderEmail::getReminderType).containsExactly(ReminderType.BEFORE_DUE);
+        assertThat(reminderEmailRepository.findByInvoiceIdOrderBySentAtDesc(missedOnDue.getId())).isEmpty();
+        assertThat(reminderEmailRepository.count()).isEqualTo(6);
+        assertThat(schedulerWatermarks.processedThrough("reminder-sweep")).contains(today);
+
+        // The next run only sweeps today, which has nothing left to send
+        reminderSchedulerService.sendAutomaticReminders();
+        assertThat(reminderEmailRepository.count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should leave out suppressed invoices, and not hold the watermark back for rejected candidates")
+    void shouldSkipSuppressedInvoices() throws Exception {
+        Invoice suppressed = TestDataFactory.anInvoice()
+            .withInvoiceNumber("INV-REM-7")
+            .withCustomer(customer)
+            .withStatus(InvoiceStatus.SENT)
+            .withIssueDate(today.minusDays(37))
+            .withDueDate(today.minusDays(7))
+            .withLineItem("Service", 1, new BigDecimal("100.00"))
+            .build();
+        suppressed.setRemindersSuppressed(true);
+        suppressed = invoiceRepository.save(suppressed);
+
+        assertThat(invoiceRepository.findReminderCandidates(today, null, 10))
+            .extracting(ReminderCandidate::getInvoiceNumber)
+            .containsExactlyInAnyOrder("INV-REM-1", "INV-REM-2", "INV-REM-3");
+
+        // A candidate suppressed after the sweep read it is rejected by the handler: skipped, not failed
+        ReminderDispatcher.Run rejected = reminderDispatcher.startRun();
+        rejected.submit(new ReminderCandidate(suppressed.getId(), "INV-REM-7", ReminderType.OVERDUE_7_DAYS));
+        ReminderRunMetrics metrics = rejected.finish();
+        assertThat(metrics.getSkippedCount()).isEqualTo(1);
+        assertThat(metrics.getFailedCount()).isZero();
+
+        schedulerWatermarks.advance("reminder-sweep", today.minusDays(3));
+        reminderSchedulerService.sendAutomaticReminders();
+
+        ReminderRunMetrics run = reminderDispatcher.recentRuns().get(0);
+        assertThat(run.getSentCount()).isEqualTo(3);
+        assertThat(run.getFailedCount()).isZero();
+        assertThat(reminderEmailRepository.findByInvoiceIdOrderBySentAtDesc(suppressed.getId())).isEmpty();
+        assertThat(schedulerWatermarks.processedThrough("reminder-sweep")).contains(today);
+    }
+
+    @Test
+    @DisplayName("Should not move a watermark backwards")
+    void shouldAdvanceWatermarkMonotonically() {
+        schedulerWatermarks.advance("test-job", today);
+        schedulerWatermarks.advance("test-job", today.minusDays(1));
+
+        assertThat(schedulerWatermarks.processedThrough("test-job")).contains(today);
+        assertThat(schedulerWatermarks.processedThrough("unknown-job")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the latest day when several nodes create a watermark at once")
+    void shouldCreateWatermarkOnceAcrossNodes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        // Several rounds, each on a fresh watermark, since nodes racing to create the row is the case that matters
+        for (int round = 0; round < 20; round++) {
+            String name = "test-job-" + round;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> advances = new ArrayList<>();
+            for (int node = 0; node < 8; node++) {
+                LocalDate processedThrough = today.minusDays(node);
+                advances.add(executor.submit(() -> {
+                    start.await();
+                    schedulerWatermarks.advance(name, processedThrough);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> advance : advances) {
+                advance.get();
+            }
+
+            assertThat(schedulerWatermarks.processedThrough(name)).as(name).contains(today);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should cover every candidate exactly once across ID partitions")
+    void shouldPartitionCandidatesById() {
+        List<ReminderCandidate> all = new ArrayList<>();
+        for (int partition = 0; partition < 4; partition++) {
+            all.addAll(invoiceRepository.findReminderCandidates(today, UuidRange.partition(partition, 4), null, 10));
+        }
+
+        assertThat(all).extracting(ReminderCandidate::getInvoiceNumber)
+            .containsExactlyInAnyOrder("INV-REM-1", "INV-REM-2", "INV-REM-3");
+    }
+
+    @Test
+    @DisplayName("Should share a partitioned sweep between nodes without queueing a reminder twice")
+    void shouldShareSweepBetweenNodes() throws Exception {
+        ReminderSchedulerService nodeA = new ReminderSchedulerService(invoiceRepository, reminderDispatcher,
+            new ClusterJobLock(schedulerLockRepository, "node-a"), schedulerWatermarks, 1, 4, 7, 60, 60);
+        ReminderSchedulerService nodeB = new ReminderSchedulerService(invoiceRepository, reminderDispatcher,
+            new ClusterJobLock(schedulerLockRepository, "node-b"), schedulerWatermarks, 1, 4, 7, 60, 60);
+
+        Thread other = Thread.ofPlatform().start(nodeB::sendAutomaticReminders);
+        nodeA.sendAutomaticReminders();
+        other.join();
+
+        assertThat(schedulerLockRepository.count()).isEqualTo(4);
+        assertThat(reminderEmailRepository.findAll())
+            .extracting(reminder -> reminder.getInvoice().getInvoiceNumber())
+            .containsExactlyInAnyOrder("INV-REM-6", "INV-REM-1", "INV-REM-2", "INV-REM-3");
+
+        // Both nodes fire again: every partition is still locked, so nothing is swept
+        nodeA.sendAutomaticReminders();
+        nodeB.sendAutomaticReminders();
+        assertThat(reminderEmailRepository.count()).isEqualTo(4);
+    }
+
+    private Invoice saveInvoice(String number, InvoiceStatus status, LocalDate dueDate) {
+        return invoiceRepository.save(TestDataFactory.anInvoice()
+            .withInvoiceNumber(number)
+            .withCustomer(customer)
+            .withStatus(status)
+            .withIssueDate(dueDate.minusDays(30))
+            .withDueDate(dueDate)
+            .withLineItem("Service", 1, new BigDecimal("100.00"))
+            .build());
+    }
+
+    private ReminderEmail sentReminder(Invoice invoice, ReminderType type) {
+        ReminderEmail reminder = new ReminderEmail();
+        reminder.setInvoice(invoice);
+        reminder.setRecipientEmail(customer.getEmail());
+        reminder.setSubject("Reminder");
+        reminder.setEmailBody("Please pay");
+        reminder.setReminderType(type);
+        reminder.setStatus(ReminderStatus.PENDING);
+        reminder.setScheduledFor(LocalDateTime.now());
+        reminder.markAsSent(LocalDateTime.now());
+        return reminder;
+    }
+}
@@ -0,0 +1,255 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.reminders.DeliverReminderEmails.ReminderOutbox;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.reminder.ReminderEmail;
+import com.invoiceme.domain.reminder.ReminderStatus;
+import com.invoiceme.domain.reminder.ReminderType;
+import com.invoiceme.infrastructure.mail.EmailThrottle;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.ReminderDelivery;
+import com.invoiceme.infrastructure.persistence.ReminderEmailRepository;
+import com.invoiceme.infrastructure.scheduler.ReminderOutboxWorker;
+import com.invoiceme.infrastructure.services.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the reminder outbox: claiming, retries with backoff,
+ * max attempts, and several workers draining the queue at once.
+ *
+ * Not transactional: claims and outcomes are committed exactly as the worker commits them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Reminder Outbox Tests")
+class ReminderOutboxTest {
+
+    private static final int WORKERS = 4;
+    private static final int QUEUED = 60;
+
+    @Autowired
+    private ReminderOutbox reminderOutbox;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private ReminderEmailRepository reminderEmailRepository;
+
+    private Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Customer customer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("outbox@example.com")
+            .build());
+        invoice = invoiceRepository.save(TestDataFactory.anInvoice()
+            .withInvoiceNumber("INV-OUTBOX-1")
+            .withCustomer(customer)
+            .withStatus(InvoiceStatus.SENT)
+            .withDueDate(LocalDate.now().minusDays(7))
+            .withLineItem("Service", 1, new BigDecimal("100.00"))
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reminderEmailRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed delivery only after its backoff")
+    void shouldBackOffAfterFailure() {
+        ReminderEmail reminder = queue("Reminder 1", 5);
+        ReminderOutboxWorker worker = new ReminderOutboxWorker(reminderOutbox, failingEmailService(), unthrottled(), 10, 2);
+
+        LocalDateTime beforeAttempt = LocalDateTime.now();
+        assertThat(worker.drain()).isEqualTo(1);
+
+        ReminderEmail afterFailure = reminderEmailRepository.findById(reminder.getId()).orElseThrow();
+        assertThat(afterFailure.getStatus()).isEqualTo(ReminderStatus.PENDING);
+        assertThat(afterFailure.getAttempts()).isEqualTo(1);
+        assertThat(afterFailure.getErrorMessage()).isEqualTo("SMTP unavailable");
+        assertThat(afterFailure.getScheduledFor()).isAfter(beforeAttempt.plusSeconds(30));
+
+        // Not due again until the backoff has passed
+        assertThat(worker.drain()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should mark a reminder FAILED once its attempts are used up")
+    void shouldFailAfterMaxAttempts() {
+        ReminderEmail reminder = queue("Reminder 1", 2);
+        ReminderOutboxWorker worker = new ReminderOutboxWorker(reminderOutbox, failingEmailService(), unthrottled(), 10, 2);
+
+        worker.drain();
+        assertThat(reminderEmailRepository.findById(reminder.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReminderStatus.PENDING);
+
+        makeDue(reminder);
+        worker.drain();
+        ReminderEmail failed = reminderEmailRepository.findById(reminder.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(ReminderStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+
+        makeDue(failed);
+        assertThat(worker.drain()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reschedule throttled reminders, spaced out, without using up an attempt")
+    void shouldRescheduleThrottledReminders() {
+        for (int i = 0; i < 5; i++) {
+            queue("Reminder " + i, 5);
+        }
+        AtomicInteger sends = new AtomicInteger();
+        EmailService countingEmailService = new EmailService() {
+            @Override
+            public void sendEmail(String to, String subject, String body) {
+                sends.incrementAndGet();
+            }
+        };
+        // two at once to example.com, then one every 10 seconds
+        EmailThrottle throttle = new EmailThrottle(true, 100, 100, 0.1, 2, "");
+        ReminderOutboxWorker worker = new ReminderOutboxWorker(reminderOutbox, countingEmailService, throttle, 10, 1);
+
+        LocalDateTime beforeDrain = LocalDateTime.now();
+        assertThat(worker.drain()).isEqualTo(5);
+
+        assertThat(sends.get()).isEqualTo(2);
+        List<ReminderEmail> throttled = reminderEmailRepository.findAll().stream()
+            .filter(reminder -> reminder.getStatus() == ReminderStatus.PENDING)
+            .sorted(Comparator.comparing(ReminderEmail::getScheduledFor))
+            .toList();
+        assertThat(throttled).hasSize(3);
+        assertThat(throttled).allSatisfy(reminder -> assertThat(reminder.getAttempts()).isZero());
+        assertThat(throttled.get(0).getScheduledFor()).isAfter(beforeDrain.plusSeconds(5));
+        assertThat(throttled.get(2).getScheduledFor()).isAfter(throttled.get(0).getScheduledFor().plusSeconds(15));
+        assertThat(throttle.stats().get(0).getThrottled()).isEqualTo(3);
+
+        // Not due again until the throttle expects a token for them
+        assertThat(worker.drain()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore the outcome of a claim whose lease was taken over")
+    void shouldIgnoreStaleClaim() {
+        ReminderEmail reminder = queue("Reminder 1", 5);
+        ReminderDelivery claim = reminderOutbox.claimDue(10).get(0);
+
+        // Another worker claimed the row after this claim's lease ran out
+        ReminderEmail reclaimed = reminderEmailRepository.findById(reminder.getId()).orElseThrow();
+        reclaimed.setAttempts(claim.getAttempt() + 1);
+        reminderEmailRepository.save(reclaimed);
+
+        reminderOutbox.recordSent(claim, LocalDateTime.now());
+
+        assertThat(reminderEmailRepository.findById(reminder.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReminderStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should deliver each reminder exactly once with several workers draining at once")
+    void shouldNotDoubleSendWithConcurrentWorkers() throws Exception {
+        for (int i = 0; i < QUEUED; i++) {
+            queue("Reminder " + i, 5);
+        }
+
+        Map<String, AtomicInteger> sends = new ConcurrentHashMap<>();
+        EmailService countingEmailService = new EmailService() {
+            @Override
+            public void sendEmail(String to, String subject, String body) {
+                sends.computeIfAbsent(subject, key -> new AtomicInteger()).incrementAndGet();
+            }
+        };
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            ReminderOutboxWorker worker = new ReminderOutboxWorker(reminderOutbox, countingEmailService, unthrottled(), 5, 2);
+            results.add(executor.submit(() -> {
+                start.await();
+                return worker.drain();
+            }));
+        }
+        start.countDown();
+
+        int attempted = 0;
+        for (Future<Integer> result : results) {
+            attempted += result.get();
+        }
+        executor.shutdown();
+
+        assertThat(attempted).isEqualTo(QUEUED);
+        assertThat(sends).hasSize(QUEUED);
+        assertThat(sends.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(reminderEmailRepository.findAll())
+            .allSatisfy(reminder -> assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.SENT));
+        assertThat(invoiceRepository.findById(invoice.getId()).orElseThrow().getLastReminderSentAt()).isNotNull();
+    }
+
+    private ReminderEmail queue(String subject, int maxAttempts) {
+        ReminderEmail reminder = new ReminderEmail();
+        reminder.setInvoice(invoice);
+        reminder.setRecipientEmail("outbox@example.com");
+        reminder.setSubject(subject);
+        reminder.setEmailBody("Please pay");
+        reminder.setReminderType(ReminderType.OVERDUE_7_DAYS);
+        reminder.setStatus(ReminderStatus.PENDING);
+        reminder.setScheduledFor(LocalDateTime.now().minusSeconds(1));
+        reminder.setMaxAttempts(maxAttempts);
+        return reminderEmailRepository.save(reminder);
+    }
+
+    private void makeDue(ReminderEmail reminder) {
+        ReminderEmail current = reminderEmailRepository.findById(reminder.getId()).orElseThrow();
+        current.setScheduledFor(LocalDateTime.now().minusSeconds(1));
+        reminderEmailRepository.save(current);
+    }
+
+    private static EmailThrottle unthrottled() {
+        return new EmailThrottle(false, 1, 1, 1, 1, "");
+    }
+
+    private static EmailService failingEmailService() {
+        return new EmailService() {
+            @Override
+            public void sendEmail(String to, String subject, String body) {
+                throw new RuntimeException("SMTP unavailable");
+            }
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.invoiceme.integration;
+
+import com.invoiceme.TestDataFactory;
+import com.invoiceme.application.invoices.SendInvoice.SendInvoiceCommand;
+import com.invoiceme.application.invoices.SendInvoice.SendInvoiceHandler;
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentCommand;
+import com.invoiceme.application.payments.RecordPayment.RecordPaymentHandler;
+import com.invoiceme.domain.customer.Customer;
+import com.invoiceme.domain.invoice.Invoice;
+import com.invoiceme.domain.invoice.InvoiceStatus;
+import com.invoiceme.domain.payment.PaymentMethod;
+import com.invoiceme.infrastructure.persistence.CustomerRepository;
+import com.invoiceme.infrastructure.persistence.InvoiceRepository;
+import com.invoiceme.infrastructure.persistence.PaymentRepository;
+import com.invoiceme.interfaces.rest.ResourceETags;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the ETags used by conditional GETs.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Resource ETag Tests")
+class ResourceETagsTest {
+
+    @Autowired
+    private ResourceETags resourceETags;
+
+    @Autowired
+    private SendInvoiceHandler sendInvoiceHandler;
+
+    @Autowired
+    private RecordPaymentHandler recordPaymentHandler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Customer customer;
+    private Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customer = customerRepository.save(TestDataFactory.aCustomer()
+            .withEmail("etag@example.com")
+            .build());
+        invoice = invoiceRepository.save(TestDataFactory.anInvoice()
+            .withInvoiceNumber("INV-ETAG-1")
+            .withCustomer(customer)
+            .withStatus(InvoiceStatus.DRAFT)
+            .withLineItem("Consulting", 1, new BigDecimal("100.00"))
+            .allowsPartialPayment()
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        paymentRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should keep the invoice ETag while unchanged and change it when the invoice changes")
+    void invoiceETagFollowsVersion() {
+        String initial = resourceETags.forInvoice(invoice.getId());
+        assertThat(resourceETags.forInvoice(invoice.getId())).isEqualTo(initial);
+
+        sendInvoiceHandler.handle(new SendInvoiceCommand(invoice.getId()));
+
+        assertThat(resourceETags.forInvoice(invoice.getId())).isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("Should change the invoice ETag when its customer is renamed")
+    void invoiceETagFollowsCustomer() {
+        String initialInvoice = resourceETags.forInvoice(invoice.getId());
+        String initialCustomer = resourceETags.forCustomer(customer.getId());
+
+        Customer renamed = customerRepository.findById(customer.getId()).orElseThrow();
+        renamed.setBusinessName("Renamed Company LLC");
+        customerRepository.save(renamed);
+
+        assertThat(resourceETags.forCustomer(customer.getId())).isNotEqualTo(initialCustomer);
+        assertThat(resourceETags.forInvoice(invoice.getId())).isNotEqualTo(initialInvoice);
+    }
+
+    @Test
+    @DisplayName("Should change the payment list ETag when a payment is recorded")
+    void paymentListETagFollowsPayments() {
+        sendInvoiceHandler.handle(new SendInvoiceCommand(invoice.getId()));
+        String before = resourceETags.forInvoicePayments(invoice.getId());
+
+        RecordPaymentCommand command = new RecordPaymentCommand();
+        command.setId(UUID.randomUUID());
+        command.setInvoiceId(invoice.getId());
+        command.setPaymentAmount(new BigDecimal("40.00"));
+        command.setPaymentDate(LocalDate.now());
+        command.setPaymentMethod(PaymentMethod.BANK_TRANSFER);
+        UUID paymentId = recordPaymentHandler.handle(command);
+
+        assertThat(resourceETags.forInvoicePayments(invoice.getId())).isNotEqualTo(before);
+        assertThat(resourceETags.forPayment(paymentId)).isNotNull()
+            .isEqualTo(resourceETags.forPayment(paymentId));
+    }
+
+    @Test
+    @DisplayName("Should return no ETag for missing resources")
+    void missingResourcesHaveNoETag() {
+        UUID unknown = UUID.randomUUID();
+        assertThat(resourceETags.forInvoice(unknown)).isNull();
+        assertThat(resourceETags.forCustomer(unknown)).isNull();
+        assertThat(resourceETags.forPayment(unknown)).isNull();
+        assertThat(resourceETags.forInvoicePayments(unknown)).isNull();
+    }
+}
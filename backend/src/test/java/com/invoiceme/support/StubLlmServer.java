@@ -0,0 +1,148 @@
+package com.invoiceme.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for an OpenAI-compatible chat completions API
+ * ({@code POST /v1/chat/completions}), for tests and load runs of the AI reminder copy.
+ * Every completion is the same reminder body, written with the reminder placeholders;
+ * the latency and whether requests fail can be changed while it runs, and responses can
+ * be held back until a test releases them.
+ * Start it on its own with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.invoiceme.support.StubLlmServer -Dexec.args="8089 250"}
+ * (port, latency in ms) and point {@code REMINDER_AI_BASE_URL} at {@code http://localhost:8089}.
+ */
+public class StubLlmServer implements AutoCloseable {
+
+    public static final String COMPLETION =
+        "Hello {{customerName}},\n\n" +
+        "Invoice #{{invoiceNumber}} for ${{amountDue}} was due on {{dueDate}}. " +
+        "Please pay it at your earliest convenience:\n" +
+        "{{paymentLink}}\n\n" +
+        "Kind regards,\nAccounts Receivable Team";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long latencyMillis;
+    private volatile boolean failing;
+    private volatile CountDownLatch hold;
+
+    public StubLlmServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/chat/completions", this::handle);
+        server.start();
+    }
+
+    /**
+     * Starts a stub on a free port.
+     */
+    public StubLlmServer() throws IOException {
+        this(0);
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    /**
+     * @param failing whether requests are answered with HTTP 500
+     */
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    /**
+     * Holds every response from now on until {@link #releaseResponses()} is called.
+     */
+    public void holdResponses() {
+        hold = new CountDownLatch(1);
+    }
+
+    /**
+     * Sends the held responses, and answers new requests straight away again.
+     */
+    public void releaseResponses() {
+        CountDownLatch held = hold;
+        hold = null;
+        if (held != null) {
+            held.countDown();
+        }
+    }
+
+    @Override
+    public void close() {
+        releaseResponses();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream request = exchange.getRequestBody()) {
+            request.readAllBytes();
+            requestCount.incrementAndGet();
+            CountDownLatch held = hold;
+            if (held != null) {
+                held.await();
+            }
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "{\"error\":{\"message\":\"Method not allowed\"}}");
+            } else if (failing) {
+                respond(exchange, 500, "{\"error\":{\"message\":\"Stub failure\"}}");
+            } else {
+                Map<String, Object> completion = Map.of(
+                    "object", "chat.completion",
+                    "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", COMPLETION),
+                        "finish_reason", "stop")));
+                respond(exchange, 200, objectMapper.writeValueAsString(completion));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        StubLlmServer stub = new StubLlmServer(port);
+        if (args.length > 1) {
+            stub.setLatencyMillis(Long.parseLong(args[1]));
+        }
+        System.out.println("Stub LLM API listening on " + stub.getBaseUrl());
+        new CountDownLatch(1).await();
+    }
+}
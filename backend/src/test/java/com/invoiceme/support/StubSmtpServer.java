@@ -0,0 +1,268 @@
+package com.invoiceme.support;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-JVM SMTP server for tests and local throughput runs of the SMTP transport.
+ * Speaks enough of RFC 5321 for a client (EHLO with PIPELINING and 8BITMIME, MAIL, RCPT,
+ * DATA, RSET, NOOP, QUIT), one virtual thread per connection, and keeps every accepted
+ * message. Recipients whose address starts with "reject" are refused with 550.
+ * Start it on its own with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.invoiceme.support.StubSmtpServer -Dexec.args="2525"}
+ * and set {@code SMTP_HOST=127.0.0.1 SMTP_PORT=2525 SMTP_SECURITY=none}.
+ */
+public class StubSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final boolean pipelining;
+    private final Queue<ReceivedEmail> received = new ConcurrentLinkedQueue<>();
+    private final Set<Socket> open = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger resets = new AtomicInteger();
+    private final AtomicLong messageCount = new AtomicLong();
+    private volatile boolean keepMessages = true;
+
+    public StubSmtpServer(int port, boolean pipelining) throws IOException {
+        this.serverSocket = new ServerSocket(port, 200, InetAddress.getLoopbackAddress());
+        this.pipelining = pipelining;
+        Thread.ofVirtual().name("stub-smtp-accept").start(this::acceptLoop);
+    }
+
+    /**
+     * Starts a server with PIPELINING on a free port.
+     */
+    public StubSmtpServer() throws IOException {
+        this(0, true);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public List<ReceivedEmail> getReceived() {
+        return new ArrayList<>(received);
+    }
+
+    public long getMessageCount() {
+        return messageCount.get();
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    public int getResetCount() {
+        return resets.get();
+    }
+
+    /**
+     * @param keepMessages false to only count messages (for long load runs), not keep them
+     */
+    public void setKeepMessages(boolean keepMessages) {
+        this.keepMessages = keepMessages;
+    }
+
+    /**
+     * Closes every open client connection without a word, as a server's idle timeout does.
+     */
+    public void dropConnections() {
+        for (Socket socket : open) {
+            closeQuietly(socket);
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(serverSocket);
+        dropConnections();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                open.add(socket);
+                Thread.ofVirtual().name("stub-smtp-session").start(() -> session(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void session(Socket socket) {
+        try (socket; InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = socket.getOutputStream()) {
+            reply(out, "220 stub.invoiceme.test ESMTP");
+            String from = null;
+            List<String> recipients = new ArrayList<>();
+            String line;
+            while ((line = readLine(in)) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-stub.invoiceme.test\r\n"
+                        + (pipelining ? "250-PIPELINING\r\n" : "") + "250-8BITMIME\r\n250 SIZE 10485760");
+                    case "HELO" -> reply(out, "250 stub.invoiceme.test");
+                    case "MAIL" -> {
+                        from = address(line);
+                        recipients.clear();
+                        reply(out, "250 OK");
+                    }
+                    case "RCPT" -> {
+                        String recipient = address(line);
+                        if (from == null) {
+                            reply(out, "503 MAIL first");
+                        } else if (recipient.startsWith("reject")) {
+                            reply(out, "550 No such user");
+                        } else {
+                            recipients.add(recipient);
+                            reply(out, "250 OK");
+                        }
+                    }
+                    case "DATA" -> {
+                        if (recipients.isEmpty()) {
+                            reply(out, "554 No valid recipients");
+                        } else {
+                            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                            String data = readData(in);
+                            messageCount.incrementAndGet();
+                            if (keepMessages) {
+                                received.add(new ReceivedEmail(from, List.copyOf(recipients), data));
+                            }
+                            from = null;
+                            recipients.clear();
+                            reply(out, "250 Queued");
+                        }
+                    }
+                    case "RSET" -> {
+                        resets.incrementAndGet();
+                        from = null;
+                        recipients.clear();
+                        reply(out, "250 OK");
+                    }
+                    case "NOOP" -> reply(out, "250 OK");
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // client went away or the connection was dropped
+        } finally {
+            open.remove(socket);
+        }
+    }
+
+    /**
+     * Reads the message up to the lone dot, undoing dot-stuffing.
+     */
+    private static String readData(InputStream in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = readLine(in)) != null) {
+            if (line.equals(".")) {
+                return data.toString();
+            }
+            data.append(line.startsWith(".") ? line.substring(1) : line).append("\r\n");
+        }
+        throw new IOException("Connection closed during DATA");
+    }
+
+    private static String address(String line) {
+        int start = line.indexOf('<');
+        int end = line.indexOf('>', start + 1);
+        return start >= 0 && end > start ? line.substring(start + 1, end) : "";
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                return line.toString(StandardCharsets.UTF_8);
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.size() > 0 ? line.toString(StandardCharsets.UTF_8) : null;
+    }
+
+    private static void reply(OutputStream out, String reply) throws IOException {
+        out.write((reply + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // already closed
+        }
+    }
+
+    /**
+     * A message the server accepted: envelope sender, recipients and the raw DATA.
+     */
+    public static final class ReceivedEmail {
+        private final String from;
+        private final List<String> recipients;
+        private final String data;
+
+        ReceivedEmail(String from, List<String> recipients, String data) {
+            this.from = from;
+            this.recipients = recipients;
+            this.data = data;
+        }
+
+        public String getFrom() {
+            return from;
+        }
+
+        public List<String> getRecipients() {
+            return recipients;
+        }
+
+        public String getData() {
+            return data;
+        }
+
+        /**
+         * @return the message body (everything after the header block)
+         */
+        public String getBody() {
+            int separator = data.indexOf("\r\n\r\n");
+            return separator < 0 ? "" : data.substring(separator + 4);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 2525;
+        StubSmtpServer server = new StubSmtpServer(port, true);
+        server.setKeepMessages(false);
+        System.out.println("Stub SMTP server listening on port " + server.getPort());
+        while (true) {
+            long before = server.getMessageCount();
+            Thread.sleep(10_000);
+            System.out.println("Messages/s over the last 10 s: " + (server.getMessageCount() - before) / 10.0);
+        }
+    }
+}
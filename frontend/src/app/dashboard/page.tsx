@@ -12,17 +12,18 @@ import { Button } from '@/components/ui/Button';
 import { CircularProgress } from '@/components/ui/CircularProgress';
 import { RevenueTrendChart } from '@/components/charts/RevenueTrendChart';
 import { InvoiceStatusDonut } from '@/components/charts/InvoiceStatusDonut';
-import { getAllInvoices } from '@/lib/api/invoices';
+import { getInvoicePage, getInvoiceStats } from '@/lib/api/invoices';
 import { getAllPayments } from '@/lib/api/payments';
 import { getOverdueInvoices } from '@/lib/api/reminders';
-import { InvoiceDto } from '@/types/invoice';
+import { InvoiceDto, InvoiceStatsDto } from '@/types/invoice';
 import { PaymentDto } from '@/types/payment';
 import { OverdueInvoiceDto } from '@/types/reminder';
 import { formatCurrency, formatDate, formatInvoiceStatus } from '@/lib/format';
 
 export default function DashboardPage() {
   const router = useRouter();
-  const [invoices, setInvoices] = useState<InvoiceDto[]>([]);
+  const [invoiceStats, setInvoiceStats] = useState<InvoiceStatsDto | null>(null);
+  const [latestInvoices, setLatestInvoices] = useState<InvoiceDto[]>([]);
   const [payments, setPayments] = useState<PaymentDto[]>([]);
   const [overdueInvoices, setOverdueInvoices] = useState<OverdueInvoiceDto[]>([]);
   const [isLoading, setIsLoading] = useState(true);
@@ -31,12 +32,14 @@ export default function DashboardPage() {
     const fetchData = async () => {
       try {
         setIsLoading(true);
-        const [invoicesData, paymentsData, overdueData] = await Promise.all([
-          getAllInvoices(),
+        const [statsData, latestPage, paymentsData, overdueData] = await Promise.all([
+          getInvoiceStats(),
+          getInvoicePage(undefined, undefined, 5),
           getAllPayments(),
           getOverdueInvoices(),
         ]);
-        setInvoices(invoicesData);
+        setInvoiceStats(statsData);
+        setLatestInvoices(latestPage.invoices);
         setPayments(paymentsData);
         setOverdueInvoices(overdueData);
       } catch (error) {
@@ -57,17 +60,15 @@ export default function DashboardPage() {
     );
   }
 
-  // Calculate metrics
-  const totalRevenue = invoices
-    .filter((inv) => inv.status === 'PAID')
-    .reduce((sum, inv) => sum + inv.totalAmount, 0);
+  // Metrics come from the server-side aggregate rather than from every invoice
+  const totalRevenue = invoiceStats?.totalAmountsByStatus.PAID ?? 0;
 
-  const draftCount = invoices.filter((inv) => inv.status === 'DRAFT').length;
-  const sentCount = invoices.filter((inv) => inv.status === 'SENT').length;
-  const paidCount = invoices.filter((inv) => inv.status === 'PAID').length;
-  const cancelledCount = invoices.filter((inv) => inv.status === 'CANCELLED').length;
+  const draftCount = invoiceStats?.invoiceCountsByStatus.DRAFT ?? 0;
+  const sentCount = invoiceStats?.invoiceCountsByStatus.SENT ?? 0;
+  const paidCount = invoiceStats?.invoiceCountsByStatus.PAID ?? 0;
+  const cancelledCount = invoiceStats?.invoiceCountsByStatus.CANCELLED ?? 0;
 
-  const recentInvoices = [...invoices]
+  const recentInvoices = [...latestInvoices]
     .sort((a, b) => new Date(b.issueDate).getTime() - new Date(a.issueDate).getTime())
     .slice(0, 5);
 
@@ -76,7 +77,7 @@ export default function DashboardPage() {
     .slice(0, 5);
 
   // Calculate percentages for circular progress
-  const totalInvoices = invoices.length;
+  const totalInvoices = invoiceStats?.invoiceCount ?? 0;
   const paidPercentage = totalInvoices > 0 ? (paidCount / totalInvoices) * 100 : 0;
   const sentPercentage = totalInvoices > 0 ? (sentCount / totalInvoices) * 100 : 0;
   const draftPercentage = totalInvoices > 0 ? (draftCount / totalInvoices) * 100 : 0;
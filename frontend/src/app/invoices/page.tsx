@@ -10,24 +10,30 @@ import { Button } from '@/components/ui/Button';
 import { Select } from '@/components/ui/Select';
 import { Loading } from '@/components/ui/Loading';
 import { Badge, getInvoiceStatusBadgeVariant } from '@/components/ui/Badge';
-import { getAllInvoices } from '@/lib/api/invoices';
+import { getInvoicePage, InvoiceFilters } from '@/lib/api/invoices';
 import { InvoiceDto } from '@/types/invoice';
 import { formatDate, formatCurrency, formatInvoiceStatus } from '@/lib/format';
 
 export default function InvoicesPage() {
   const router = useRouter();
   const [invoices, setInvoices] = useState<InvoiceDto[]>([]);
-  const [filteredInvoices, setFilteredInvoices] = useState<InvoiceDto[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
   const [statusFilter, setStatusFilter] = useState('');
   const [isLoading, setIsLoading] = useState(true);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
 
+  const filters: InvoiceFilters = statusFilter
+    ? { status: statusFilter as InvoiceFilters['status'] }
+    : {};
+
+  // Only the first page is fetched up front; further pages load on demand
   useEffect(() => {
     const fetchInvoices = async () => {
       try {
         setIsLoading(true);
-        const data = await getAllInvoices();
-        setInvoices(data);
-        setFilteredInvoices(data);
+        const page = await getInvoicePage(filters);
+        setInvoices(page.invoices);
+        setNextCursor(page.nextCursor);
       } catch (error) {
         console.error('Error fetching invoices:', error);
       } finally {
@@ -36,16 +42,21 @@ export default function InvoicesPage() {
     };
 
     fetchInvoices();
-  }, []);
+  }, [statusFilter]);
 
-  useEffect(() => {
-    if (statusFilter) {
-      const filtered = invoices.filter((invoice) => invoice.status === statusFilter);
-      setFilteredInvoices(filtered);
-    } else {
-      setFilteredInvoices(invoices);
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      setIsLoadingMore(true);
+      const page = await getInvoicePage(filters, nextCursor);
+      setInvoices((current) => [...current, ...page.invoices]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error('Error fetching more invoices:', error);
+    } finally {
+      setIsLoadingMore(false);
     }
-  }, [statusFilter, invoices]);
+  };
 
   if (isLoading) {
     return (
@@ -85,7 +96,7 @@ export default function InvoicesPage() {
           </div>
 
           <Table
-            data={filteredInvoices}
+            data={invoices}
             columns={[
               { header: 'Invoice #', accessor: 'invoiceNumber' },
               { header: 'Customer', accessor: 'customerName' },
@@ -105,6 +116,14 @@ export default function InvoicesPage() {
             onRowClick={(invoice) => router.push(`/invoices/${invoice.id}`)}
             emptyMessage="No invoices found. Create your first invoice!"
           />
+
+          {nextCursor && (
+            <div className="mt-4 flex justify-center">
+              <Button variant="outline" onClick={loadMore} isLoading={isLoadingMore}>
+                Load more
+              </Button>
+            </div>
+          )}
         </Card>
       </div>
     </AppLayout>
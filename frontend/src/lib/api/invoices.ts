@@ -1,5 +1,5 @@
 import axiosInstance from './axios-instance';
-import { InvoiceDto, LineItemDto } from '@/types/invoice';
+import { InvoiceDto, InvoiceStatsDto, LineItemDto } from '@/types/invoice';
 
 export interface CreateInvoiceRequest {
   customerId: string;
@@ -22,26 +22,44 @@ export interface InvoiceFilters {
   toDate?: string;
 }
 
-/**
- * Get all invoices
- */
-export const getAllInvoices = async (): Promise<InvoiceDto[]> => {
-  const response = await axiosInstance.get('/invoices');
-  return response.data;
-};
+/** Default page size for invoice list views */
+export const INVOICE_PAGE_SIZE = 50;
+
+export interface InvoicePage {
+  invoices: InvoiceDto[];
+  /** Cursor for the next page, absent on the last page */
+  nextCursor?: string;
+}
 
 /**
- * Get invoices with filters
+ * Get one page of invoices, newest first, optionally filtered.
+ * Pass the previous page's nextCursor to load the page after it.
  */
-export const getInvoices = async (filters?: InvoiceFilters): Promise<InvoiceDto[]> => {
+export const getInvoicePage = async (
+  filters?: InvoiceFilters,
+  cursor?: string,
+  limit: number = INVOICE_PAGE_SIZE
+): Promise<InvoicePage> => {
   const params = new URLSearchParams();
   if (filters?.status) params.append('status', filters.status);
   if (filters?.customerId) params.append('customerId', filters.customerId);
   if (filters?.fromDate) params.append('fromDate', filters.fromDate);
   if (filters?.toDate) params.append('toDate', filters.toDate);
+  if (cursor) params.append('cursor', cursor);
+  params.append('limit', String(limit));
+
+  const response = await axiosInstance.get(`/invoices?${params.toString()}`);
+  return {
+    invoices: response.data,
+    nextCursor: response.headers['x-next-cursor'] || undefined,
+  };
+};
 
-  const queryString = params.toString();
-  const response = await axiosInstance.get(`/invoices${queryString ? `?${queryString}` : ''}`);
+/**
+ * Get invoice counts and total amounts per status
+ */
+export const getInvoiceStats = async (): Promise<InvoiceStatsDto> => {
+  const response = await axiosInstance.get('/invoices/stats');
   return response.data;
 };
 
@@ -19,6 +19,14 @@ export interface InvoiceDto {
   lineItems: LineItemDto[];
 }
 
+export type InvoiceStatus = InvoiceDto['status'];
+
+export interface InvoiceStatsDto {
+  invoiceCount: number;
+  invoiceCountsByStatus: Record<InvoiceStatus, number>;
+  totalAmountsByStatus: Record<InvoiceStatus, number>;
+}
+
 export interface LineItemDto {
   id: string;
   description: string;